@@ -0,0 +1,96 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import com.iab.gpp.encoder.GppModel;
+import com.iab.gpp.encoder.field.UsNatField;
+import com.iab.gpp.encoder.section.UsNat;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.activity.infrastructure.privacy.usnat.reader.USNationalGppReader;
+import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.JsonLogicProvider;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluation of US custom logic privacy module rules over GPP US National section,
+ * by JsonLogic interpreter over section data map and by predicate compiled with {@link USCustomLogicCompiler}.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar USCustomLogicBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class USCustomLogicBenchmark {
+
+    private static final Map<String, String> RULES = Map.of(
+            "optOut", """
+                    {"or": [
+                      {"==": [{"var": "Gpc"}, true]},
+                      {"==": [{"var": "SaleOptOut"}, 1]},
+                      {"==": [{"var": "SharingOptOut"}, 1]},
+                      {"==": [{"var": "TargetedAdvertisingOptOut"}, 1]}
+                    ]}""",
+            "sensitiveData", """
+                    {"and": [
+                      {"==": [{"var": "MspaServiceProviderMode"}, 2]},
+                      {"or": [
+                        {"in": [{"var": "SensitiveDataProcessing1"}, [1, 2]]},
+                        {"in": [{"var": "SensitiveDataProcessing4"}, [1, 2]]},
+                        {"!=": [{"var": "KnownChildSensitiveDataConsents1"}, 0]},
+                        {"!=": [{"var": "KnownChildSensitiveDataConsents2"}, 0]},
+                        {"==": [{"var": "PersonalDataConsents"}, 2]}
+                      ]}
+                    ]}""");
+
+    @Param({"optOut", "sensitiveData"})
+    private String rule;
+
+    private JsonLogic jsonLogic;
+    private JsonLogicNode jsonLogicNode;
+    private USCustomLogicPredicate predicate;
+    private USCustomLogicGppReader gppReader;
+
+    @Setup
+    public void setUp() {
+        jsonLogic = JsonLogicProvider.jsonLogic();
+        jsonLogicNode = jsonLogic.parse(RULES.get(rule));
+        predicate = new USCustomLogicCompiler(jsonLogic).compile(jsonLogicNode);
+
+        final GppModel gppModel = new GppModel();
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.SALE_OPT_OUT, 2);
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.SHARING_OPT_OUT, 2);
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.TARGETED_ADVERTISING_OPT_OUT, 2);
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.MSPA_SERVICE_PROVIDER_MODE, 2);
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.SENSITIVE_DATA_PROCESSING, Collections.nCopies(16, 0));
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.KNOWN_CHILD_SENSITIVE_DATA_CONSENTS, List.of(0, 0, 0));
+        gppModel.setFieldValue(UsNat.NAME, UsNatField.PERSONAL_DATA_CONSENTS, 1);
+        gppReader = new USNationalGppReader(gppModel);
+    }
+
+    @Benchmark
+    public boolean interpreted() throws JsonLogicEvaluationException {
+        return jsonLogic.evaluate(jsonLogicNode, USCustomLogicDataSupplier.of(gppReader).get());
+    }
+
+    @Benchmark
+    public boolean compiled() throws JsonLogicEvaluationException {
+        return predicate.test(gppReader);
+    }
+}
@@ -0,0 +1,92 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.BidRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of auction requests body into {@link BidRequest} with {@link OrtbTypesResolver} normalization,
+ * as done by {@link org.prebid.server.auction.requestfactory.AuctionRequestFactory}: either through the tree of
+ * the whole request or straight from the body with normalization built into deserialization.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar BidRequestParsingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidRequestParsingBenchmark {
+
+    @Param({"corpus", "large"})
+    private String requests;
+
+    private JacksonMapper mapper;
+    private OrtbTypesResolver ortbTypesResolver;
+    private List<String> bodies;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        ortbTypesResolver = new OrtbTypesResolver(0, mapper, new JsonMerger(mapper));
+
+        bodies = new ArrayList<>();
+        if (requests.equals("large")) {
+            bodies.add(mapper.mapper().writeValueAsString(BenchmarkCorpus.largeAuctionRequest()));
+            return;
+        }
+
+        for (byte[] request : BenchmarkCorpus.auctionRequests()) {
+            final String body = new String(request, StandardCharsets.UTF_8);
+            try {
+                // requests with intentionally malformed fields fail both ways and are not useful here
+                treeParsing(body);
+                bodies.add(body);
+            } catch (Exception e) {
+                // skip
+            }
+        }
+    }
+
+    @Benchmark
+    public void tree(Blackhole blackhole) throws IOException {
+        for (String body : bodies) {
+            blackhole.consume(treeParsing(body));
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) throws IOException {
+        for (String body : bodies) {
+            blackhole.consume(ortbTypesResolver.decodeBidRequest(body, new ArrayList<>(), null));
+        }
+    }
+
+    private BidRequest treeParsing(String body) throws IOException {
+        final JsonNode bidRequestNode = mapper.mapper().readTree(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, new ArrayList<>(), null);
+        return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
+    }
+}
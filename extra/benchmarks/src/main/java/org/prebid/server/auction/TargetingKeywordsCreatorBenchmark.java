@@ -0,0 +1,130 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+import org.prebid.server.settings.model.Account;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures price bucket resolution for hb_pb targeting keyword.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar TargetingKeywordsCreatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private static final int BIDS_COUNT = 1024;
+
+    @Param({"low", "med", "high", "auto", "dense"})
+    private String granularity;
+
+    private PriceGranularity priceGranularity;
+    private TargetingKeywordsCreator targetingKeywordsCreator;
+    private Account account;
+    private BigDecimal[] prices;
+    private Bid[] bids;
+
+    @Setup
+    public void setUp() {
+        priceGranularity = PriceGranularity.createFromString(granularity);
+        targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                ExtPriceGranularity.from(priceGranularity),
+                true,
+                true,
+                false,
+                false,
+                null,
+                0,
+                null,
+                null,
+                null,
+                "hb_");
+        account = Account.builder().id("accountId").build();
+
+        prices = new BigDecimal[BIDS_COUNT];
+        bids = new Bid[BIDS_COUNT];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BIDS_COUNT; i++) {
+            prices[i] = BigDecimal.valueOf(random.nextDouble(0.01, 25)).setScale(4, RoundingMode.HALF_UP);
+            bids[i] = Bid.builder().id("bidId" + i).impid("impId").price(prices[i]).w(300).h(250).build();
+        }
+    }
+
+    @Benchmark
+    public void fromCpm(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(CpmRange.fromCpm(price, priceGranularity, account));
+        }
+    }
+
+    /**
+     * Previous implementation: {@link BigDecimal} range walk and {@link NumberFormat} created per call.
+     */
+    @Benchmark
+    public void fromCpmWithNumberFormat(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            final BigDecimal value = calculate(price);
+            blackhole.consume(value != null ? numberFormat(priceGranularity.getPrecision()).format(value) : "");
+        }
+    }
+
+    @Benchmark
+    public void makeFor(Blackhole blackhole) {
+        for (Bid bid : bids) {
+            final Map<String, String> keywords = targetingKeywordsCreator.makeFor(
+                    bid, "bidder", true, "cacheId", null, null, null, account);
+            blackhole.consume(keywords);
+        }
+    }
+
+    private BigDecimal calculate(BigDecimal cpm) {
+        if (cpm.compareTo(priceGranularity.getRangesMax()) > 0) {
+            return priceGranularity.getRangesMax();
+        }
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (ExtGranularityRange range : priceGranularity.getRanges()) {
+            if (cpm.compareTo(range.getMax()) <= 0) {
+                return cpm.subtract(min)
+                        .divide(range.getIncrement(), 0, RoundingMode.FLOOR)
+                        .multiply(range.getIncrement())
+                        .add(min);
+            }
+            min = range.getMax();
+        }
+        return null;
+    }
+
+    private static NumberFormat numberFormat(int precision) {
+        final NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+        numberFormat.setRoundingMode(RoundingMode.FLOOR);
+        numberFormat.setMaximumFractionDigits(precision);
+        numberFormat.setMinimumFractionDigits(precision);
+        return numberFormat;
+    }
+}
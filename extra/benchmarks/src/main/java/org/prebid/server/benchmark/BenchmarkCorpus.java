@@ -0,0 +1,155 @@
+package org.prebid.server.benchmark;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.BidResponse;
+import org.prebid.server.currency.proto.CurrencyConversionRates;
+import org.prebid.server.floors.model.PriceFloorData;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Loads real-world auction requests, stored requests, currency rates and floor rules (integration and functional
+ * tests fixtures) packaged into benchmarks jar.
+ */
+public class BenchmarkCorpus {
+
+    private static final String AUCTION_REQUESTS_PATTERN = "classpath*:corpus/auction/**/test-auction-*-request.json";
+    private static final String AUCTION_RESPONSES_PATTERN =
+            "classpath*:corpus/auction/**/test-auction-*-response.json";
+    private static final String STORED_REQUESTS_PATTERN = "classpath*:corpus/storedrequests/*.json";
+    private static final String STORED_IMPS_PATTERN = "classpath*:corpus/storedimps/*.json";
+    private static final String LARGE_AUCTION_REQUEST = "corpus/synthetic/large-auction-request.json";
+    private static final String CURRENCY_RATES = "corpus/currency/latest.json";
+    private static final String FLOOR_RULES = "corpus/floors/floor-rules.json";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\"\\{\\{[^}]*}}\"");
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Returns raw bytes of every auction request in corpus, ordered by resource name to keep runs reproducible.
+     */
+    public static List<byte[]> auctionRequests() {
+        return resources(AUCTION_REQUESTS_PATTERN);
+    }
+
+    /**
+     * Returns stored requests from corpus as they are kept in settings storage.
+     */
+    public static List<String> storedRequests() {
+        return resources(STORED_REQUESTS_PATTERN).stream()
+                .map(content -> new String(content, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    /**
+     * Returns stored imps from corpus as they are kept in settings storage.
+     */
+    public static List<String> storedImps() {
+        return resources(STORED_IMPS_PATTERN).stream()
+                .map(content -> new String(content, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    /**
+     * Returns currency rates in format of currency server response conversions.
+     */
+    public static Map<String, Map<String, BigDecimal>> currencyRates() {
+        try (InputStream inputStream = resource(CURRENCY_RATES)) {
+            return ObjectMapperProvider.mapper().readValue(inputStream, CurrencyConversionRates.class).getConversions();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns production-like floor rules with single model group of more than hundred rules.
+     */
+    public static PriceFloorRules floorRules() {
+        try (InputStream inputStream = resource(FLOOR_RULES)) {
+            final PriceFloorData data = ObjectMapperProvider.mapper().readValue(inputStream, PriceFloorData.class);
+            return PriceFloorRules.builder().data(data).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns production-sized auction request with rich site, device, user, regs and source objects, since
+     * integration tests fixtures are minimal.
+     */
+    public static BidRequest largeAuctionRequest() {
+        try (InputStream inputStream = resource(LARGE_AUCTION_REQUEST)) {
+            return ObjectMapperProvider.mapper().readValue(inputStream, BidRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns auction requests from corpus which could be parsed into {@link BidRequest} as is.
+     */
+    public static List<BidRequest> parsedAuctionRequests() {
+        final List<BidRequest> result = new ArrayList<>();
+        for (byte[] request : auctionRequests()) {
+            try {
+                result.add(ObjectMapperProvider.mapper().readValue(request, BidRequest.class));
+            } catch (IOException e) {
+                // requests with intentionally malformed fields are not useful for benchmarks
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns auction responses from corpus which could be parsed into {@link BidResponse}, with integration tests
+     * placeholders (like response time) replaced by zeros.
+     */
+    public static List<BidResponse> parsedAuctionResponses() {
+        final List<BidResponse> result = new ArrayList<>();
+        for (byte[] response : resources(AUCTION_RESPONSES_PATTERN)) {
+            final String content = PLACEHOLDER.matcher(new String(response, StandardCharsets.UTF_8)).replaceAll("0");
+            try {
+                result.add(ObjectMapperProvider.mapper().readValue(content, BidResponse.class));
+            } catch (IOException e) {
+                // responses with intentionally malformed fields are not useful for benchmarks
+            }
+        }
+        return result;
+    }
+
+    private static List<byte[]> resources(String pattern) {
+        try {
+            final List<Resource> sorted = new ArrayList<>(List.of(
+                    new PathMatchingResourcePatternResolver().getResources(pattern)));
+            sorted.sort(Comparator.comparing(Resource::getDescription));
+
+            final List<byte[]> result = new ArrayList<>(sorted.size());
+            for (Resource resource : sorted) {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    result.add(inputStream.readAllBytes());
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream resource(String name) {
+        return BenchmarkCorpus.class.getClassLoader().getResourceAsStream(name);
+    }
+}
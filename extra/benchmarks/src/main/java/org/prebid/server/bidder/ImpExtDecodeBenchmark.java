@@ -0,0 +1,174 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+import org.prebid.server.bidder.appnexus.proto.AppnexusExtImp;
+import org.prebid.server.bidder.grid.model.request.ExtImp;
+import org.prebid.server.bidder.pubmatic.model.request.PubmaticBidderImpExt;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.proto.openrtb.ext.ExtPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
+import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
+import org.prebid.server.proto.openrtb.ext.request.grid.ExtImpGrid;
+import org.prebid.server.proto.openrtb.ext.request.pubmatic.ExtImpPubmatic;
+import org.prebid.server.proto.openrtb.ext.request.rubicon.ExtImpRubicon;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures conversion of bidder {@code imp.ext} into typed parameters of migrated bidders, with plain
+ * {@code convertValue} of the whole ext and with {@link ImpExtDecoder} memoizing {@code imp.ext.bidder}.
+ * <p>
+ * Exts are shaped the way bidders receive them: imps from auction requests corpus with bidder parameters moved to
+ * {@code imp.ext.bidder} and a new {@code imp.ext.tid} per auction, so every invocation sees exts never seen before
+ * while bidder parameters repeat, as parameters of stored imps do.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar ImpExtDecodeBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImpExtDecodeBenchmark {
+
+    private static final int AUCTIONS = 256;
+
+    private JacksonMapper mapper;
+    private Map<String, JavaType> bidderTypes;
+    private Map<String, Function<JsonNode, ?>> bidderDecoders;
+    private List<List<Pair<String, JsonNode>>> auctions;
+    private int auction;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        bidderTypes = new HashMap<>();
+        bidderTypes.put("rubicon", mapper.mapper().constructType(
+                new TypeReference<ExtPrebid<ExtImpPrebid, ExtImpRubicon>>() {
+                }));
+        bidderTypes.put("appnexus", mapper.mapper().constructType(AppnexusExtImp.class));
+        bidderTypes.put("pubmatic", mapper.mapper().constructType(PubmaticBidderImpExt.class));
+        bidderTypes.put("grid", mapper.mapper().constructType(ExtImp.class));
+
+        // the same calls migrated bidders make
+        final ImpExtDecoder<ExtImpRubicon> rubiconDecoder = new ImpExtDecoder<>(mapper, ExtImpRubicon.class);
+        final ImpExtDecoder<ExtImpAppnexus> appnexusDecoder = new ImpExtDecoder<>(mapper, ExtImpAppnexus.class);
+        final ImpExtDecoder<ExtImpPubmatic> pubmaticDecoder = new ImpExtDecoder<>(mapper, ExtImpPubmatic.class);
+        final ImpExtDecoder<ExtImpGrid> gridDecoder = new ImpExtDecoder<>(mapper, ExtImpGrid.class);
+
+        bidderDecoders = new HashMap<>();
+        bidderDecoders.put("rubicon", rubiconDecoder::decode);
+        bidderDecoders.put("appnexus", ext -> appnexusDecoder.decode(ext, AppnexusExtImp.class,
+                (extImp, params) -> AppnexusExtImp.of(params, extImp.getGpid())));
+        bidderDecoders.put("pubmatic", ext -> pubmaticDecoder.decode(ext, PubmaticBidderImpExt.class,
+                (impExt, params) -> PubmaticBidderImpExt.of(params, impExt.getData(), impExt.getAe(),
+                        impExt.getGpId())));
+        bidderDecoders.put("grid", ext -> gridDecoder.decode(ext, ExtImp.class,
+                (extImp, params) -> extImp.toBuilder().bidder(params).build()));
+
+        final List<ObjectNode> imps = new ArrayList<>();
+        for (byte[] request : BenchmarkCorpus.auctionRequests()) {
+            for (JsonNode imp : mapper.mapper().readTree(request).path("imp")) {
+                if (imp.path("ext").isObject()) {
+                    imps.add((ObjectNode) imp.get("ext"));
+                }
+            }
+        }
+
+        auctions = new ArrayList<>(AUCTIONS);
+        for (int i = 0; i < AUCTIONS; i++) {
+            final String tid = UUID.randomUUID().toString();
+            final List<Pair<String, JsonNode>> impExts = new ArrayList<>();
+            for (ObjectNode impExt : imps) {
+                addBidderImpExts(impExt, impExt.fields(), tid, impExts);
+                addBidderImpExts(impExt, impExt.path("prebid").path("bidder").fields(), tid, impExts);
+            }
+            auctions.add(impExts);
+        }
+    }
+
+    private void addBidderImpExts(ObjectNode impExt,
+                                  Iterator<Map.Entry<String, JsonNode>> bidders,
+                                  String tid,
+                                  List<Pair<String, JsonNode>> impExts) {
+
+        while (bidders.hasNext()) {
+            final Map.Entry<String, JsonNode> bidder = bidders.next();
+            if (bidderTypes.containsKey(bidder.getKey())) {
+                impExts.add(Pair.of(bidder.getKey(), bidderImpExt(impExt, bidder.getValue(), tid)));
+            }
+        }
+    }
+
+    /**
+     * Builds ext as ExchangeService prepares it for a bidder: other bidders and imp.ext.prebid.bidder are dropped,
+     * bidder parameters are moved to imp.ext.bidder and transaction id of the auction is set.
+     */
+    private ObjectNode bidderImpExt(ObjectNode impExt, JsonNode params, String tid) {
+        final ObjectNode bidderImpExt = mapper.mapper().createObjectNode();
+        impExt.fields().forEachRemaining(field -> {
+            if (!bidderTypes.containsKey(field.getKey())) {
+                bidderImpExt.set(field.getKey(), field.getValue().deepCopy());
+            }
+        });
+
+        final JsonNode prebid = bidderImpExt.get("prebid");
+        if (prebid != null && prebid.isObject()) {
+            ((ObjectNode) prebid).remove("bidder");
+            if (prebid.isEmpty()) {
+                bidderImpExt.remove("prebid");
+            }
+        }
+
+        bidderImpExt.set("bidder", params.deepCopy());
+        bidderImpExt.put("tid", tid);
+        return bidderImpExt;
+    }
+
+    private List<Pair<String, JsonNode>> nextAuction() {
+        final List<Pair<String, JsonNode>> impExts = auctions.get(auction);
+        auction = (auction + 1) % AUCTIONS;
+        return impExts;
+    }
+
+    @Benchmark
+    public void convertValue(Blackhole blackhole) {
+        for (Pair<String, JsonNode> impExt : nextAuction()) {
+            blackhole.consume(mapper.mapper().convertValue(impExt.getRight(), bidderTypes.get(impExt.getLeft())));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        for (Pair<String, JsonNode> impExt : nextAuction()) {
+            blackhole.consume(bidderDecoders.get(impExt.getLeft()).apply(impExt.getRight()));
+        }
+    }
+}
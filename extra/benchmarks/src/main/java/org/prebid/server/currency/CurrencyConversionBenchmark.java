@@ -0,0 +1,58 @@
+package org.prebid.server.currency;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CurrencyConversionService#convertCurrency} with rates of currency server response, for currency
+ * pairs resolved by direct, reverse and intermediate rate.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar CurrencyConversionBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyConversionBenchmark {
+
+    private CurrencyConversionService currencyConversionService;
+    private Map<String, Map<String, BigDecimal>> rates;
+    private BigDecimal price;
+
+    @Setup
+    public void setUp() {
+        currencyConversionService = new CurrencyConversionService(null);
+        rates = BenchmarkCorpus.currencyRates();
+        price = new BigDecimal("1.2345");
+    }
+
+    @Benchmark
+    public BigDecimal directRate() {
+        return currencyConversionService.convertCurrency(price, rates, "USD", "EUR", false);
+    }
+
+    @Benchmark
+    public BigDecimal reverseRate() {
+        return currencyConversionService.convertCurrency(price, rates, "EUR", "USD", false);
+    }
+
+    @Benchmark
+    public BigDecimal intermediateRate() {
+        return currencyConversionService.convertCurrency(price, rates, "JPY", "EUR", false);
+    }
+}
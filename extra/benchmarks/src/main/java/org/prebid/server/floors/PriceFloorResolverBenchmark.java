@@ -0,0 +1,99 @@
+package org.prebid.server.floors;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BasicPriceFloorResolver#resolve} of every imp of production-sized auction request against
+ * production-like floor rules (domain, media type and GPT slot schema with more than hundred rules).
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar PriceFloorResolverBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceFloorResolverBenchmark {
+
+    private static final String BIDDER = "rubicon";
+
+    private PriceFloorResolver priceFloorResolver;
+    private PriceFloorRules floorRules;
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper(
+                        classpathResource("country-codes.csv"),
+                        classpathResource("mcc-country-codes.csv")),
+                metrics,
+                new JacksonMapper(ObjectMapperProvider.mapper()));
+
+        floorRules = BenchmarkCorpus.floorRules();
+        bidRequest = BenchmarkCorpus.largeAuctionRequest();
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        for (Imp imp : bidRequest.getImp()) {
+            final Banner banner = imp.getBanner();
+            final List<Format> formats = banner != null ? banner.getFormat() : null;
+            blackhole.consume(priceFloorResolver.resolve(
+                    bidRequest,
+                    floorRules,
+                    imp,
+                    banner != null ? ImpMediaType.banner : ImpMediaType.video,
+                    formats != null && !formats.isEmpty() ? formats.getFirst() : null,
+                    BIDDER,
+                    null));
+        }
+    }
+
+    private static String classpathResource(String name) throws IOException {
+        try (InputStream inputStream = PriceFloorResolverBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JacksonMapper#encodeToString} of auction responses: every response of auction responses corpus
+ * one after another, and a large response holding seat bids of all of them, like an auction with many bidders.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar BidResponseEncodingBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidResponseEncodingBenchmark {
+
+    private JacksonMapper mapper;
+    private List<BidResponse> bidResponses;
+    private BidResponse largeBidResponse;
+
+    @Setup
+    public void setUp() {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        bidResponses = BenchmarkCorpus.parsedAuctionResponses();
+
+        final List<SeatBid> seatBids = new ArrayList<>();
+        for (BidResponse bidResponse : bidResponses) {
+            if (bidResponse.getSeatbid() != null) {
+                seatBids.addAll(bidResponse.getSeatbid());
+            }
+        }
+        largeBidResponse = bidResponses.getFirst().toBuilder().seatbid(seatBids).build();
+    }
+
+    @Benchmark
+    public int encodeCorpus() {
+        int result = 0;
+        for (BidResponse bidResponse : bidResponses) {
+            result += mapper.encodeToString(bidResponse).length();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String encodeLarge() {
+        return mapper.encodeToString(largeBidResponse);
+    }
+}
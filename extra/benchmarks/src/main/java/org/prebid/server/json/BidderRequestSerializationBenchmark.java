@@ -0,0 +1,113 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of per-bidder copies of the same auction request, as done by
+ * {@link org.prebid.server.util.BidderUtil#defaultRequest}, with and without {@link SubtreeSerializationCacheModule}.
+ * <p>
+ * Every bidder copy has its own imps and id, while site/app/device/regs/source are shared by identity, like
+ * copies produced by {@link org.prebid.server.auction.ExchangeService}.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar BidderRequestSerializationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidderRequestSerializationBenchmark {
+
+    @Param({"10", "40"})
+    private int bidders;
+
+    @Param({"corpus", "large"})
+    private String requests;
+
+    @Param({"false", "true"})
+    private boolean subtreeCache;
+
+    private JacksonMapper mapper;
+    private List<List<BidRequest>> auctions;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = subtreeCache
+                ? ObjectMapperProvider.mapper().copy().registerModule(new SubtreeSerializationCacheModule())
+                : ObjectMapperProvider.mapper();
+        mapper = new JacksonMapper(objectMapper);
+
+        final List<BidRequest> bidRequests = requests.equals("large")
+                ? List.of(BenchmarkCorpus.largeAuctionRequest(), BenchmarkCorpus.largeAuctionRequest())
+                : BenchmarkCorpus.parsedAuctionRequests();
+
+        auctions = new ArrayList<>();
+        for (BidRequest bidRequest : bidRequests) {
+            auctions.add(bidderRequests(bidRequest));
+        }
+    }
+
+    /**
+     * Encodes bidder requests of each auction in corpus one auction after another, so serialized subtrees could be
+     * reused only within an auction.
+     */
+    @Benchmark
+    public int encodeAuction() {
+        int result = 0;
+        for (List<BidRequest> bidderRequests : auctions) {
+            for (BidRequest bidderRequest : bidderRequests) {
+                result += mapper.encodeToBytes(bidderRequest).length;
+            }
+        }
+        return result;
+    }
+
+    private List<BidRequest> bidderRequests(BidRequest bidRequest) {
+        final BidRequest auctionRequest = bidRequest.toBuilder()
+                .site(bidRequest.getSite() != null ? bidRequest.getSite().toBuilder().build() : null)
+                .app(bidRequest.getApp() != null ? bidRequest.getApp().toBuilder().build() : null)
+                .device(bidRequest.getDevice() != null ? bidRequest.getDevice().toBuilder().build() : null)
+                .regs(bidRequest.getRegs() != null ? bidRequest.getRegs().toBuilder().build() : null)
+                .source(bidRequest.getSource() != null ? bidRequest.getSource().toBuilder().build() : null)
+                .build();
+
+        final List<BidRequest> result = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            result.add(auctionRequest.toBuilder()
+                    .id(auctionRequest.getId() + "-" + i)
+                    .imp(bidderImps(auctionRequest.getImp(), "bidder" + i))
+                    .build());
+        }
+        return result;
+    }
+
+    private static List<Imp> bidderImps(List<Imp> imps, String bidder) {
+        final List<Imp> result = new ArrayList<>(imps.size());
+        for (Imp imp : imps) {
+            final ObjectNode ext = ObjectMapperProvider.mapper().createObjectNode();
+            ext.putObject("bidder").put("name", bidder);
+            result.add(imp.toBuilder().ext(ext).build());
+        }
+        return result;
+    }
+}
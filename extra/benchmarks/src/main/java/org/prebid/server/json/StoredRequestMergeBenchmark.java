@@ -0,0 +1,69 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging of auction requests and imps with stored requests and stored imps by {@link JsonMerger}, as done
+ * by {@link org.prebid.server.auction.StoredRequestProcessor}. Requests are taken from auction requests corpus,
+ * stored data from integration tests fixtures.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar StoredRequestMergeBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoredRequestMergeBenchmark {
+
+    private JsonMerger jsonMerger;
+    private List<BidRequest> bidRequests;
+    private List<String> storedRequests;
+    private List<Imp> imps;
+    private List<String> storedImps;
+
+    @Setup
+    public void setUp() {
+        jsonMerger = new JsonMerger(new JacksonMapper(ObjectMapperProvider.mapper()));
+
+        bidRequests = BenchmarkCorpus.parsedAuctionRequests();
+        storedRequests = BenchmarkCorpus.storedRequests();
+        imps = bidRequests.stream()
+                .flatMap(bidRequest -> bidRequest.getImp().stream())
+                .toList();
+        storedImps = BenchmarkCorpus.storedImps();
+    }
+
+    @Benchmark
+    public void mergeStoredRequests(Blackhole blackhole) {
+        for (int i = 0; i < bidRequests.size(); i++) {
+            final String storedRequest = storedRequests.get(i % storedRequests.size());
+            blackhole.consume(jsonMerger.merge(bidRequests.get(i), storedRequest, "id", BidRequest.class));
+        }
+    }
+
+    @Benchmark
+    public void mergeStoredImps(Blackhole blackhole) {
+        for (int i = 0; i < imps.size(); i++) {
+            final String storedImp = storedImps.get(i % storedImps.size());
+            blackhole.consume(jsonMerger.merge(imps.get(i), storedImp, "id", Imp.class));
+        }
+    }
+}
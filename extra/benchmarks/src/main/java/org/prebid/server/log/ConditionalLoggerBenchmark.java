@@ -0,0 +1,75 @@
+package org.prebid.server.log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures failure storm logging, when one bidder times out on every request: messages formatted before
+ * {@link ConditionalLogger} drops them versus message template with argument suppliers.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar ConditionalLoggerBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ConditionalLoggerBenchmark {
+
+    private static final String MESSAGE =
+            "Error occurred while sending HTTP request to a bidder url: %s with message: %s";
+    private static final String TEMPLATE =
+            "Error occurred while sending HTTP request to a bidder url: {} with message: {}";
+
+    @Param({"0.0001"})
+    private double samplingRate;
+
+    @Param({"10000"})
+    private int limit;
+
+    private ConditionalLogger conditionalLogger;
+    private String uri;
+    private Throwable exception;
+
+    @Setup
+    public void setUp() {
+        conditionalLogger = new ConditionalLogger(LoggerFactory.getLogger(ConditionalLoggerBenchmark.class));
+        uri = "https://bidder.example.com/openrtb2/auction?source=prebid-server&account=1001";
+        exception = new TimeoutException("Timeout period of 250ms has been exceeded while executing POST " + uri);
+    }
+
+    @Benchmark
+    public void sampledFormatted() {
+        conditionalLogger.warn(MESSAGE.formatted(uri, exception.getMessage()), samplingRate);
+    }
+
+    @Benchmark
+    public void sampledTemplate() {
+        conditionalLogger.warn(TEMPLATE, samplingRate, () -> uri, exception::getMessage);
+    }
+
+    @Benchmark
+    public void countedFormatted() {
+        conditionalLogger.warn(MESSAGE.formatted(uri, exception.getMessage()), limit);
+    }
+
+    @Benchmark
+    public void countedTemplate() {
+        conditionalLogger.warn(TEMPLATE, limit, () -> uri, exception::getMessage);
+    }
+}
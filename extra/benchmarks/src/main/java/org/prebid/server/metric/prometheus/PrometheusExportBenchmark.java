@@ -0,0 +1,98 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.DefaultSampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering of a large metric registry in Prometheus text exposition format, with
+ * {@link DropwizardExports} and with {@link PrometheusExporter}. Registry holds per-account and per-adapter like
+ * series: counters and timers.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar PrometheusExportBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrometheusExportBenchmark {
+
+    @Param({"1000"})
+    private int accounts;
+
+    @Param({"20"})
+    private int adapters;
+
+    private Vertx vertx;
+    private CollectorRegistry collectorRegistry;
+    private PrometheusExporter prometheusExporter;
+
+    @Setup
+    public void setUp() {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        for (int account = 0; account < accounts; account++) {
+            for (int adapter = 0; adapter < adapters; adapter++) {
+                final String prefix = "account.account%d.adapter.adapter%d.".formatted(account, adapter);
+                metricRegistry.counter(prefix + "requests.gotbids").inc(account + adapter);
+                metricRegistry.counter(prefix + "requests.nobid").inc(adapter);
+                metricRegistry.timer(prefix + "request_time").update(account % 500, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        collectorRegistry = new CollectorRegistry();
+        collectorRegistry.register(new DropwizardExports(metricRegistry, new DefaultSampleBuilder()));
+
+        vertx = Vertx.vertx();
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        prometheusExporter = new PrometheusExporter(
+                metricRegistry, new DefaultSampleBuilder(), vertx, 0L, metrics, Clock.systemUTC());
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public String dropwizardExports() throws IOException {
+        final StringWriter writer = new StringWriter();
+        TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
+        return writer.toString();
+    }
+
+    @Benchmark
+    public Object prometheusExporter() {
+        return prometheusExporter.render();
+    }
+}
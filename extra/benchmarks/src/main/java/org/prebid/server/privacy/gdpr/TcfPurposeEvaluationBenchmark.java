@@ -0,0 +1,193 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.encoder.TCStringEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose02Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose03Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose04Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose05Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose06Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose07Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose08Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose09Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose10Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.PurposeTwoBasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
+import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
+import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.Purpose;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures TCF purposes evaluation done by {@link Tcf2Service#permissionsFor} for all bidders of an auction:
+ * resolving bidders vendor ids, matching them with GVL and running every purpose strategy with full enforcement.
+ * <p>
+ * Vendor list fetching is not a part of it, GVL is given as already loaded.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar TcfPurposeEvaluationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TcfPurposeEvaluationBenchmark {
+
+    @Param({"10", "50"})
+    private int bidders;
+
+    @Param({"false", "true"})
+    private boolean vendorExceptions;
+
+    private Set<String> bidderNames;
+    private VendorIdResolver vendorIdResolver;
+    private Map<Integer, Vendor> vendorList;
+    private TCString tcString;
+    private List<PurposeStrategy> purposeStrategies;
+    private Purpose purpose;
+
+    @Setup
+    public void setUp() {
+        final List<BidderDeps> bidderDeps = new ArrayList<>(bidders);
+        bidderNames = new LinkedHashSet<>();
+        vendorList = new HashMap<>();
+        final TCStringEncoder.Builder consent = TCStringEncoder.newBuilder()
+                .version(2)
+                .tcfPolicyVersion(4)
+                .vendorListVersion(1);
+
+        for (int vendorId = 1; vendorId <= bidders; vendorId++) {
+            final String bidderName = "bidder" + vendorId;
+            bidderNames.add(bidderName);
+            bidderDeps.add(BidderDeps.of(List.of(BidderInstanceDeps.builder()
+                    .name(bidderName)
+                    .deprecatedNames(Collections.emptyList())
+                    .bidderInfo(bidderInfo(vendorId))
+                    .build())));
+
+            vendorList.put(vendorId, vendor(vendorId));
+            if (vendorId % 2 == 0) {
+                consent.addVendorConsent(vendorId);
+            } else {
+                consent.addVendorLegitimateInterest(vendorId);
+            }
+        }
+        for (PurposeCode purposeCode : EnumSet.range(PurposeCode.ONE, PurposeCode.TEN)) {
+            consent.addPurposesConsent(purposeCode.code()).addPurposesLITransparency(purposeCode.code());
+        }
+
+        vendorIdResolver = VendorIdResolver.of(new BidderCatalog(bidderDeps));
+        tcString = TCString.decode(consent.encode());
+        purposeStrategies = purposeStrategies();
+        purpose = Purpose.of(
+                EnforcePurpose.full,
+                true,
+                vendorExceptions ? List.of("bidder1", "bidder2") : null,
+                null);
+    }
+
+    @Benchmark
+    public int permissionsFor() {
+        final List<VendorPermission> vendorPermissions = new ArrayList<>(bidders);
+        final List<VendorPermissionWithGvl> vendorPermissionsWithGvl = new ArrayList<>(bidders);
+        for (String bidderName : bidderNames) {
+            final Integer vendorId = vendorIdResolver.resolve(bidderName);
+            final VendorPermission vendorPermission = VendorPermission.of(
+                    vendorId, bidderName, PrivacyEnforcementAction.restrictAll());
+
+            vendorPermissions.add(vendorPermission);
+            vendorPermissionsWithGvl.add(VendorPermissionWithGvl.of(vendorPermission, vendorList.get(vendorId)));
+        }
+
+        for (PurposeStrategy purposeStrategy : purposeStrategies) {
+            purposeStrategy.processTypePurposeStrategy(tcString, purpose, vendorPermissionsWithGvl, false);
+        }
+
+        int result = 0;
+        for (VendorPermission vendorPermission : vendorPermissions) {
+            result += vendorPermission.getConsentedPurposes().size();
+        }
+        return result;
+    }
+
+    private static BidderInfo bidderInfo(int vendorId) {
+        return BidderInfo.create(
+                true,
+                null,
+                false,
+                "https://bidder.com",
+                null,
+                "prebid@example.com",
+                null,
+                null,
+                null,
+                null,
+                vendorId,
+                null,
+                false,
+                false,
+                CompressionType.NONE,
+                Ortb.of(false),
+                0L);
+    }
+
+    private static Vendor vendor(int vendorId) {
+        final EnumSet<PurposeCode> purposes = EnumSet.range(PurposeCode.ONE, PurposeCode.TEN);
+        return vendorId % 2 == 0
+                ? Vendor.builder().id(vendorId).purposes(purposes).flexiblePurposes(purposes).build()
+                : Vendor.builder().id(vendorId).legIntPurposes(purposes).build();
+    }
+
+    private static List<PurposeStrategy> purposeStrategies() {
+        final FullEnforcePurposeStrategy full = new FullEnforcePurposeStrategy();
+        final BasicEnforcePurposeStrategy basic = new BasicEnforcePurposeStrategy();
+        final NoEnforcePurposeStrategy no = new NoEnforcePurposeStrategy();
+
+        return List.of(
+                new Purpose01Strategy(full, basic, no),
+                new Purpose02Strategy(full, new PurposeTwoBasicEnforcePurposeStrategy(), no),
+                new Purpose03Strategy(full, basic, no),
+                new Purpose04Strategy(full, basic, no),
+                new Purpose05Strategy(full, basic, no),
+                new Purpose06Strategy(full, basic, no),
+                new Purpose07Strategy(full, basic, no),
+                new Purpose08Strategy(full, basic, no),
+                new Purpose09Strategy(full, basic, no),
+                new Purpose10Strategy(full, basic, no));
+    }
+}
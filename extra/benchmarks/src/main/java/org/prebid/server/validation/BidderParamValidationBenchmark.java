@@ -0,0 +1,108 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.benchmark.BenchmarkCorpus;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BidderParamValidator} over all {@code static/bidder-params} schemas with bidder parameters taken
+ * from auction requests corpus, with and without validation results cache.
+ * <p>
+ * Run with: java -jar extra/benchmarks/target/benchmarks.jar BidderParamValidationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidderParamValidationBenchmark {
+
+    private static final String SCHEMAS_DIRECTORY = "static/bidder-params";
+
+    @Param({"0", "10000"})
+    private int resultCacheSize;
+
+    private BidderParamValidator bidderParamValidator;
+    private List<Pair<String, JsonNode>> bidderParams;
+
+    @Setup
+    public void setUp() throws IOException {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final BidderCatalog bidderCatalog = bidderCatalog();
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, SCHEMAS_DIRECTORY, resultCacheSize, mapper);
+
+        bidderParams = new ArrayList<>();
+        for (byte[] request : BenchmarkCorpus.auctionRequests()) {
+            final JsonNode imps = mapper.mapper().readTree(request).path("imp");
+            for (JsonNode imp : imps) {
+                final JsonNode impExt = imp.path("ext");
+                addBidderParams(impExt.fields(), bidderCatalog);
+                addBidderParams(impExt.path("prebid").path("bidder").fields(), bidderCatalog);
+            }
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        for (Pair<String, JsonNode> params : bidderParams) {
+            blackhole.consume(bidderParamValidator.validate(params.getLeft(), params.getRight()));
+        }
+    }
+
+    /**
+     * Collects params of known bidders, which are passed either as imp.ext.BIDDER or imp.ext.prebid.bidder.BIDDER.
+     */
+    private void addBidderParams(Iterator<Map.Entry<String, JsonNode>> bidders, BidderCatalog bidderCatalog) {
+        while (bidders.hasNext()) {
+            final Map.Entry<String, JsonNode> bidder = bidders.next();
+            if (bidderCatalog.isValidName(bidder.getKey())) {
+                bidderParams.add(Pair.of(bidder.getKey(), bidder.getValue()));
+            }
+        }
+    }
+
+    private static BidderCatalog bidderCatalog() throws IOException {
+        final Resource[] schemas = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:" + SCHEMAS_DIRECTORY + "/*.json");
+
+        final List<BidderInstanceDeps> instances = new ArrayList<>(schemas.length);
+        for (Resource schema : schemas) {
+            instances.add(BidderInstanceDeps.builder()
+                    .name(StringUtils.removeEnd(schema.getFilename(), ".json"))
+                    .deprecatedNames(Collections.emptyList())
+                    .build());
+        }
+
+        return new BidderCatalog(Collections.singletonList(BidderDeps.of(instances)));
+    }
+}
@@ -0,0 +1,32 @@
+package org.prebid.server.loadtest;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Snapshot of JVM-wide allocation and garbage collection counters.
+ */
+public record JvmStats(long allocatedBytes, long gcTimeMs, long gcCount) {
+
+    public static JvmStats snapshot() {
+        long gcTimeMs = 0;
+        long gcCount = 0;
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTimeMs += Math.max(garbageCollector.getCollectionTime(), 0);
+            gcCount += Math.max(garbageCollector.getCollectionCount(), 0);
+        }
+
+        final long allocatedBytes = ((ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+
+        return new JvmStats(allocatedBytes, gcTimeMs, gcCount);
+    }
+
+    public JvmStats minus(JvmStats other) {
+        return new JvmStats(
+                allocatedBytes - other.allocatedBytes,
+                gcTimeMs - other.gcTimeMs,
+                gcCount - other.gcCount);
+    }
+}
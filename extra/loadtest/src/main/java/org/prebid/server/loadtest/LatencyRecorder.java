@@ -0,0 +1,67 @@
+package org.prebid.server.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects latencies and outcomes of a known number of requests, possibly from several event loops.
+ */
+class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AtomicLongArray latencies;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final CountDownLatch completion;
+
+    LatencyRecorder(int requests) {
+        latencies = new AtomicLongArray(requests);
+        completion = new CountDownLatch(requests);
+    }
+
+    void record(long latencyNanos, String outcome) {
+        latencies.set(recorded.getAndIncrement(), latencyNanos);
+        outcomes.computeIfAbsent(outcome, ignored -> new LongAdder()).increment();
+        completion.countDown();
+    }
+
+    boolean await(long timeoutMs) throws InterruptedException {
+        return completion.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    int recorded() {
+        return recorded.get();
+    }
+
+    Map<String, Long> outcomes() {
+        final Map<String, Long> result = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> result.put(outcome, count.sum()));
+        return result;
+    }
+
+    /**
+     * Returns latency percentiles in milliseconds, in order of the given percentiles.
+     */
+    double[] percentilesMs(double... percentiles) {
+        final long[] sorted = new long[recorded()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        final double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            final int index = Math.max((int) Math.ceil(percentiles[i] / 100 * sorted.length) - 1, 0);
+            result[i] = sorted.length > 0 ? sorted[index] / NANOS_PER_MILLI : 0;
+        }
+        return result;
+    }
+}
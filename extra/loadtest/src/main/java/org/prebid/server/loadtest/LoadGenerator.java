@@ -0,0 +1,191 @@
+package org.prebid.server.loadtest;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+import org.prebid.server.loadtest.model.Scenario;
+import org.prebid.server.loadtest.model.ScenarioResult;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends requests to PBS at constant rate regardless of how fast PBS responds (open model), so that latency of
+ * overloaded server is not hidden by the load generator slowing down. Latency is measured from the moment request
+ * was scheduled to be sent.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String HOST = "localhost";
+    private static final int HTTP1_MAX_CONNECTIONS = 1000;
+    private static final int HTTP2_MAX_CONNECTIONS = 4;
+    private static final long TIMEOUT_MARGIN_MS = 1000L;
+    private static final long READINESS_TIMEOUT_MS = 60000L;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final String ERROR_OUTCOME = "error";
+    private static final MultiMap HEADERS = HttpUtil.headers()
+            .add(HttpUtil.REFERER_HEADER, "https://www.example.com/article")
+            .add(HttpUtil.ORIGIN_HEADER, "https://www.example.com")
+            .add(HttpUtil.X_FORWARDED_FOR_HEADER, "193.168.244.1")
+            .add(HttpUtil.USER_AGENT_HEADER, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+
+    private final Vertx vertx;
+    private final int port;
+
+    public LoadGenerator(Vertx vertx, int port) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.port = port;
+    }
+
+    /**
+     * Blocks until PBS responds on status endpoint.
+     */
+    public void awaitReady() throws InterruptedException {
+        final HttpClient client = vertx.createHttpClient();
+        final long deadline = System.currentTimeMillis() + READINESS_TIMEOUT_MS;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                final Integer status = client.request(HttpMethod.GET, port, HOST, Endpoint.status.value())
+                        .compose(request -> request.send())
+                        .map(HttpClientResponse::statusCode)
+                        .otherwise((Integer) null)
+                        .toCompletionStage().toCompletableFuture().join();
+                if (status != null && status < 300) {
+                    return;
+                }
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+        } finally {
+            client.close();
+        }
+
+        throw new IllegalStateException("PBS is not ready after %d ms".formatted(READINESS_TIMEOUT_MS));
+    }
+
+    public ScenarioResult run(Scenario scenario, List<LoadRequest> requests) throws InterruptedException {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("No requests for scenario " + scenario.getName());
+        }
+
+        final HttpClient client = vertx.createHttpClient(
+                new HttpClientOptions()
+                        .setProtocolVersion(scenario.isHttp2() ? HttpVersion.HTTP_2 : HttpVersion.HTTP_1_1)
+                        .setHttp2ClearTextUpgrade(false)
+                        .setKeepAlive(true),
+                new PoolOptions()
+                        .setHttp1MaxSize(HTTP1_MAX_CONNECTIONS)
+                        .setHttp2MaxSize(HTTP2_MAX_CONNECTIONS));
+
+        try {
+            logger.info("Warming up scenario {} for {} seconds", scenario.getName(), scenario.getWarmupSeconds());
+            drive(client, scenario, requests, scenario.getWarmupSeconds());
+
+            logger.info("Running scenario {} for {} seconds", scenario.getName(), scenario.getDurationSeconds());
+            final JvmStats before = JvmStats.snapshot();
+            final long start = System.nanoTime();
+            final LatencyRecorder recorder = drive(client, scenario, requests, scenario.getDurationSeconds());
+            final double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            final JvmStats jvmStats = JvmStats.snapshot().minus(before);
+
+            return toResult(scenario, recorder, elapsedSeconds, jvmStats);
+        } finally {
+            client.close();
+        }
+    }
+
+    private LatencyRecorder drive(HttpClient client, Scenario scenario, List<LoadRequest> requests, int seconds)
+            throws InterruptedException {
+
+        final int total = scenario.getQps() * seconds;
+        final LatencyRecorder recorder = new LatencyRecorder(total);
+        if (total == 0) {
+            return recorder;
+        }
+
+        final long timeoutMs = scenario.getTmaxMs() + TIMEOUT_MARGIN_MS;
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.getQps();
+        final long start = System.nanoTime();
+        final AtomicLong sent = new AtomicLong();
+
+        vertx.setPeriodic(1L, timerId -> {
+            final long due = Math.min((System.nanoTime() - start) / intervalNanos + 1, total);
+            for (long i = sent.get(); i < due; i++) {
+                send(client, requests.get((int) (i % requests.size())), start + i * intervalNanos, timeoutMs,
+                        recorder);
+            }
+            sent.set(due);
+
+            if (due == total) {
+                vertx.cancelTimer(timerId);
+            }
+        });
+
+        if (!recorder.await(TimeUnit.SECONDS.toMillis(seconds) + timeoutMs + TIMEOUT_MARGIN_MS)) {
+            logger.warn("Scenario {} did not complete {} requests in time, {} are not accounted",
+                    scenario.getName(), total, total - recorder.recorded());
+        }
+        return recorder;
+    }
+
+    private void send(HttpClient client, LoadRequest loadRequest, long scheduledNanos, long timeoutMs,
+                      LatencyRecorder recorder) {
+
+        final RequestOptions options = new RequestOptions()
+                .setMethod(loadRequest.method())
+                .setHost(HOST)
+                .setPort(port)
+                .setURI(loadRequest.uri())
+                .setHeaders(HEADERS)
+                .setIdleTimeout(timeoutMs);
+
+        client.request(options)
+                .compose(request -> loadRequest.body() != null ? request.send(loadRequest.body()) : request.send())
+                .compose(response -> response.body().map(ignored -> response.statusCode()))
+                .map(String::valueOf)
+                .otherwise(ERROR_OUTCOME)
+                .onSuccess(outcome -> recorder.record(System.nanoTime() - scheduledNanos, outcome));
+    }
+
+    private static ScenarioResult toResult(Scenario scenario,
+                                           LatencyRecorder recorder,
+                                           double elapsedSeconds,
+                                           JvmStats jvmStats) {
+
+        final double[] percentiles = recorder.percentilesMs(50, 90, 99, 99.9, 100);
+        final long succeeded = recorder.outcomes().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("2"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+        return ScenarioResult.builder()
+                .scenario(scenario.getName())
+                .requests(recorder.recorded())
+                .failed(recorder.recorded() - succeeded)
+                .statuses(recorder.outcomes())
+                .throughput(succeeded / elapsedSeconds)
+                .latencyP50Ms(percentiles[0])
+                .latencyP90Ms(percentiles[1])
+                .latencyP99Ms(percentiles[2])
+                .latencyP999Ms(percentiles[3])
+                .latencyMaxMs(percentiles[4])
+                .allocationRateMbPerSecond(jvmStats.allocatedBytes() / (double) BYTES_PER_MB / elapsedSeconds)
+                .gcTimeMs(jvmStats.gcTimeMs())
+                .gcCount(jvmStats.gcCount())
+                .build();
+    }
+}
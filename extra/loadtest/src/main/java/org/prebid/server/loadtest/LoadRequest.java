@@ -0,0 +1,22 @@
+package org.prebid.server.loadtest;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.model.Endpoint;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+public record LoadRequest(HttpMethod method, String uri, Buffer body) {
+
+    public static LoadRequest auction(byte[] body) {
+        return new LoadRequest(HttpMethod.POST, Endpoint.openrtb2_auction.value(), Buffer.buffer(body));
+    }
+
+    public static LoadRequest amp(String tagId) {
+        return new LoadRequest(
+                HttpMethod.GET,
+                Endpoint.openrtb2_amp.value() + "?tag_id=" + URLEncoder.encode(tagId, StandardCharsets.UTF_8),
+                null);
+    }
+}
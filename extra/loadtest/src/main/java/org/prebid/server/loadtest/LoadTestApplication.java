@@ -0,0 +1,177 @@
+package org.prebid.server.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.vertx.core.Vertx;
+import org.prebid.server.Application;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.loadtest.model.BidderProfile;
+import org.prebid.server.loadtest.model.LoadTestEndpoint;
+import org.prebid.server.loadtest.model.LoadTestScenarios;
+import org.prebid.server.loadtest.model.Scenario;
+import org.prebid.server.loadtest.model.ScenarioResult;
+import org.prebid.server.loadtest.stub.StubServer;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Boots PBS with generated configuration against in-process stub bidders, Prebid Cache and settings source, then
+ * runs load test scenarios one by one and reports latency percentiles, throughput, allocation rate and GC time.
+ * <p>
+ * Options:
+ * <ul>
+ * <li>{@code --scenarios=<file>} - YAML file with scenarios, bundled {@code scenarios.yaml} by default;</li>
+ * <li>{@code --corpus=<directory>} - directory with auction requests to replay, integration tests requests
+ * by default;</li>
+ * <li>{@code --report=<file>} - file to write JSON report to.</li>
+ * </ul>
+ * Any other arguments are passed to PBS, so {@code --spring.config.additional-location=<file>} or individual
+ * properties could be used to adjust the generated configuration.
+ * <p>
+ * Stubs and load generator share JVM with PBS, so allocation rate and GC time include their (comparatively small)
+ * share and are meaningful for comparison between runs rather than as absolute numbers.
+ */
+public class LoadTestApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestApplication.class);
+
+    private static final String SCENARIOS_OPTION = "--scenarios=";
+    private static final String CORPUS_OPTION = "--corpus=";
+    private static final String REPORT_OPTION = "--report=";
+    private static final String DEFAULT_SCENARIOS = "/scenarios.yaml";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            run(args);
+        } catch (Exception e) {
+            logger.error("Load test failed", e);
+            System.exit(1);
+        }
+
+        System.exit(0);
+    }
+
+    private static void run(String[] args) throws IOException, InterruptedException {
+        String scenariosFile = null;
+        String corpusDirectory = null;
+        String reportFile = null;
+        final List<String> pbsArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(SCENARIOS_OPTION)) {
+                scenariosFile = arg.substring(SCENARIOS_OPTION.length());
+            } else if (arg.startsWith(CORPUS_OPTION)) {
+                corpusDirectory = arg.substring(CORPUS_OPTION.length());
+            } else if (arg.startsWith(REPORT_OPTION)) {
+                reportFile = arg.substring(REPORT_OPTION.length());
+            } else {
+                pbsArgs.add(arg);
+            }
+        }
+
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final List<Scenario> scenarios = readScenarios(scenariosFile);
+        final RequestCorpus corpus = RequestCorpus.load(corpusDirectory, mapper);
+
+        final Vertx vertx = Vertx.vertx();
+        final Map<String, ObjectNode> storedRequests = new ConcurrentHashMap<>();
+        final StubServer stubServer = new StubServer(vertx, storedRequests, mapper);
+        final int stubPort = stubServer.start();
+
+        final int port = freePort();
+        final int bidders = scenarios.stream().map(Scenario::getBidders).mapToInt(BidderProfile::getCount).max()
+                .orElse(0);
+        final Path config = PbsConfigGenerator.generate(port, freePort(), stubPort, bidders);
+        logger.info("Starting PBS with generated configuration {}", config);
+        pbsArgs.addFirst("--spring.config.additional-location=file:" + config);
+
+        final ConfigurableApplicationContext context =
+                SpringApplication.run(Application.class, pbsArgs.toArray(String[]::new));
+
+        final List<ScenarioResult> results = new ArrayList<>();
+        try {
+            final LoadGenerator loadGenerator = new LoadGenerator(vertx, port);
+            loadGenerator.awaitReady();
+
+            for (Scenario scenario : scenarios) {
+                stubServer.configureBidders(scenario.getBidders());
+                final ScenarioResult result = loadGenerator.run(
+                        scenario, requests(scenario, corpus, storedRequests));
+                logger.info(format(result));
+                results.add(result);
+            }
+        } finally {
+            SpringApplication.exit(context);
+            stubServer.stop();
+            vertx.close();
+        }
+
+        if (reportFile != null) {
+            Files.write(Path.of(reportFile),
+                    mapper.mapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(results));
+            logger.info("Report is written to {}", reportFile);
+        }
+    }
+
+    private static List<Scenario> readScenarios(String file) throws IOException {
+        final ObjectMapper yamlMapper = new YAMLMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE);
+        try (InputStream inputStream = file != null
+                ? Files.newInputStream(Path.of(file))
+                : LoadTestApplication.class.getResourceAsStream(DEFAULT_SCENARIOS)) {
+
+            return yamlMapper.readValue(inputStream, LoadTestScenarios.class).getScenarios();
+        }
+    }
+
+    private static List<LoadRequest> requests(Scenario scenario,
+                                              RequestCorpus corpus,
+                                              Map<String, ObjectNode> storedRequests) {
+
+        final List<String> bidders = PbsConfigGenerator.bidders(scenario.getBidders().getCount());
+        if (scenario.getEndpoint() == LoadTestEndpoint.amp) {
+            final Map<String, ObjectNode> ampStoredRequests = corpus.ampStoredRequests(scenario, bidders);
+            storedRequests.putAll(ampStoredRequests);
+            return ampStoredRequests.keySet().stream().map(LoadRequest::amp).toList();
+        }
+
+        return corpus.auctionRequests(scenario, bidders).stream().map(LoadRequest::auction).toList();
+    }
+
+    private static String format(ScenarioResult result) {
+        return """
+                Scenario %s: %d requests, %d failed %s
+                  throughput: %.1f rps
+                  latency ms: p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f
+                  allocation rate: %.1f MB/s, GC: %d collections, %d ms"""
+                .formatted(
+                        result.getScenario(), result.getRequests(), result.getFailed(), result.getStatuses(),
+                        result.getThroughput(),
+                        result.getLatencyP50Ms(), result.getLatencyP90Ms(), result.getLatencyP99Ms(),
+                        result.getLatencyP999Ms(), result.getLatencyMaxMs(),
+                        result.getAllocationRateMbPerSecond(), result.getGcCount(), result.getGcTimeMs());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
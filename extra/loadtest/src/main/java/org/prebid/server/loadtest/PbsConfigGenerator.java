@@ -0,0 +1,84 @@
+package org.prebid.server.loadtest;
+
+import org.prebid.server.loadtest.stub.StubServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates PBS configuration pointing bidders, Prebid Cache and settings source to the stub server.
+ * <p>
+ * Stub bidders are aliases of generic bidder, so they go through the full bidder pipeline (privacy enforcement,
+ * request preparation, response validation and so on) without any bidder-specific logic. Features depending on
+ * external data (GDPR vendor lists, currency rates) are disabled, as they can't be downloaded in a closed environment.
+ */
+public class PbsConfigGenerator {
+
+    private static final String BIDDER_PREFIX = "loadbidder";
+
+    private PbsConfigGenerator() {
+    }
+
+    public static List<String> bidders(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> BIDDER_PREFIX + i).toList();
+    }
+
+    /**
+     * Writes configuration to a properties file in a temporary directory and returns path to it.
+     */
+    public static Path generate(int port, int adminPort, int stubPort, int bidders) {
+        final String stubUrl = "http://localhost:" + stubPort;
+
+        final Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("status-response", "ok");
+        properties.put("server.http.port", String.valueOf(port));
+        properties.put("server.http2.enabled", "true");
+        properties.put("admin.port", String.valueOf(adminPort));
+
+        properties.put("adapters.generic.enabled", "true");
+        properties.put("adapters.generic.endpoint", stubUrl + StubServer.BIDDERS_PATH + "generic");
+        for (String bidder : bidders(bidders)) {
+            properties.put("adapters.generic.aliases.%s.enabled".formatted(bidder), "true");
+            properties.put("adapters.generic.aliases.%s.endpoint".formatted(bidder),
+                    stubUrl + StubServer.BIDDERS_PATH + bidder);
+        }
+
+        properties.put("cache.scheme", "http");
+        properties.put("cache.host", "localhost:" + stubPort);
+        properties.put("cache.path", StubServer.CACHE_PATH);
+        properties.put("cache.query", "uuid=");
+
+        properties.put("settings.http.endpoint", stubUrl + StubServer.SETTINGS_PATH);
+        properties.put("settings.http.amp-endpoint", stubUrl + StubServer.AMP_SETTINGS_PATH);
+        properties.put("settings.http.video-endpoint", stubUrl + StubServer.SETTINGS_PATH);
+        properties.put("settings.http.category-endpoint", stubUrl + StubServer.CATEGORIES_PATH);
+        properties.put("settings.in-memory-cache.ttl-seconds", "60");
+        properties.put("settings.in-memory-cache.cache-size", "10000");
+
+        properties.put("currency-converter.external-rates.enabled", "false");
+        properties.put("gdpr.enabled", "false");
+        properties.put("gdpr.default-value", "0");
+
+        try {
+            final Path workDirectory = Files.createTempDirectory("pbs-loadtest-");
+            properties.put("gdpr.vendorlist.v2.cache-dir", workDirectory.resolve("vendorlist-v2").toString());
+            properties.put("gdpr.vendorlist.v3.cache-dir", workDirectory.resolve("vendorlist-v3").toString());
+
+            final Path config = workDirectory.resolve("pbs-loadtest.properties");
+            Files.writeString(config, properties.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining("\n")), StandardCharsets.UTF_8);
+            return config;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.prebid.server.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.loadtest.model.Scenario;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Auction requests replayed by load test, in stable order so that runs are reproducible.
+ * <p>
+ * Requests are adapted to the stub environment: every imp is sent to the stub bidders of scenario, references to
+ * stored data and debug flags are removed.
+ */
+public class RequestCorpus {
+
+    private static final String DEFAULT_CORPUS_PATTERN = "classpath*:corpus/**/*.json";
+    private static final Set<String> MEDIA_TYPES = Set.of("banner", "video", "native", "audio");
+
+    private final List<ObjectNode> requests;
+    private final JacksonMapper mapper;
+
+    private RequestCorpus(List<ObjectNode> requests, JacksonMapper mapper) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("Request corpus is empty");
+        }
+
+        this.requests = requests;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Loads requests from JSON files of the given directory, or bundled integration tests requests when directory
+     * is not specified.
+     */
+    public static RequestCorpus load(String directory, JacksonMapper mapper) {
+        Objects.requireNonNull(mapper);
+
+        final List<ObjectNode> requests = new ArrayList<>();
+        try {
+            if (directory != null) {
+                try (Stream<Path> files = Files.walk(Path.of(directory))) {
+                    for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                        try (InputStream inputStream = Files.newInputStream(file)) {
+                            requests.add(mapper.mapper().readValue(inputStream, ObjectNode.class));
+                        }
+                    }
+                }
+            } else {
+                final Resource[] resources = new PathMatchingResourcePatternResolver()
+                        .getResources(DEFAULT_CORPUS_PATTERN);
+                for (Resource resource : Stream.of(resources)
+                        .sorted(Comparator.comparing(Resource::getDescription))
+                        .toList()) {
+                    try (InputStream inputStream = resource.getInputStream()) {
+                        requests.add(mapper.mapper().readValue(inputStream, ObjectNode.class));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new RequestCorpus(requests, mapper);
+    }
+
+    /**
+     * Returns encoded auction requests adapted to the given scenario.
+     */
+    public List<byte[]> auctionRequests(Scenario scenario, List<String> bidders) {
+        return requests.stream()
+                .map(request -> adapt(request, scenario, bidders))
+                .filter(Objects::nonNull)
+                .map(mapper::encodeToBytes)
+                .toList();
+    }
+
+    /**
+     * Returns AMP stored requests adapted to the given scenario, keyed by ids starting with the scenario name.
+     * Only site requests are used, with their first imp.
+     */
+    public Map<String, ObjectNode> ampStoredRequests(Scenario scenario, List<String> bidders) {
+        final Map<String, ObjectNode> storedRequests = new LinkedHashMap<>();
+        for (ObjectNode request : requests) {
+            final ObjectNode storedRequest = request.has("site") ? adapt(request, scenario, bidders) : null;
+            if (storedRequest == null) {
+                continue;
+            }
+
+            final ArrayNode imps = (ArrayNode) storedRequest.get("imp");
+            while (imps.size() > 1) {
+                imps.remove(imps.size() - 1);
+            }
+            storedRequests.put("%s-%d".formatted(scenario.getName(), storedRequests.size()), storedRequest);
+        }
+        return storedRequests;
+    }
+
+    private ObjectNode adapt(ObjectNode request, Scenario scenario, List<String> bidders) {
+        final ObjectNode bidderParams = mapper.mapper().createObjectNode();
+        bidders.forEach(bidderParams::putObject);
+
+        final ArrayNode imps = mapper.mapper().createArrayNode();
+        for (JsonNode imp : request.path("imp")) {
+            if (MEDIA_TYPES.stream().anyMatch(imp::hasNonNull)) {
+                final ObjectNode adaptedImp = imp.deepCopy();
+                adaptedImp.putObject("ext").putObject("prebid").set("bidder", bidderParams.deepCopy());
+                imps.add(adaptedImp);
+            }
+        }
+        if (imps.isEmpty()) {
+            return null;
+        }
+
+        final ObjectNode adapted = request.deepCopy();
+        adapted.set("imp", imps);
+        adapted.remove("test");
+        adapted.put("tmax", scenario.getTmaxMs());
+
+        final ObjectNode prebid = adapted.withObjectProperty("ext").withObjectProperty("prebid");
+        prebid.remove(List.of("storedrequest", "storedauctionresponse", "debug", "trace"));
+        if (scenario.isCacheBids()) {
+            prebid.putObject("cache").putObject("bids");
+            if (!prebid.has("targeting")) {
+                prebid.putObject("targeting");
+            }
+        }
+
+        return adapted;
+    }
+}
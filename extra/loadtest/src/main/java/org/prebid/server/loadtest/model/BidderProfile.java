@@ -0,0 +1,23 @@
+package org.prebid.server.loadtest.model;
+
+import lombok.Value;
+
+/**
+ * Behaviour of stub bidders: response latency is log-normally distributed with the given median and 99th percentile,
+ * bidders respond with no bid with probability of {@code 1 - bidRate}.
+ */
+@Value
+public class BidderProfile {
+
+    int count;
+
+    long latencyMedianMs;
+
+    long latencyP99Ms;
+
+    double bidRate;
+
+    int bidsPerImp;
+
+    int admSize;
+}
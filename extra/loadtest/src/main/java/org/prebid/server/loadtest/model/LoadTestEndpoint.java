@@ -0,0 +1,6 @@
+package org.prebid.server.loadtest.model;
+
+public enum LoadTestEndpoint {
+
+    auction, amp
+}
@@ -0,0 +1,11 @@
+package org.prebid.server.loadtest.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class LoadTestScenarios {
+
+    List<Scenario> scenarios;
+}
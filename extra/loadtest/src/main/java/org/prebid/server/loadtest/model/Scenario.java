@@ -0,0 +1,25 @@
+package org.prebid.server.loadtest.model;
+
+import lombok.Value;
+
+@Value
+public class Scenario {
+
+    String name;
+
+    LoadTestEndpoint endpoint;
+
+    boolean http2;
+
+    int qps;
+
+    int warmupSeconds;
+
+    int durationSeconds;
+
+    long tmaxMs;
+
+    boolean cacheBids;
+
+    BidderProfile bidders;
+}
@@ -0,0 +1,37 @@
+package org.prebid.server.loadtest.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Builder
+@Value
+public class ScenarioResult {
+
+    String scenario;
+
+    long requests;
+
+    long failed;
+
+    Map<String, Long> statuses;
+
+    double throughput;
+
+    double latencyP50Ms;
+
+    double latencyP90Ms;
+
+    double latencyP99Ms;
+
+    double latencyP999Ms;
+
+    double latencyMaxMs;
+
+    double allocationRateMbPerSecond;
+
+    long gcTimeMs;
+
+    long gcCount;
+}
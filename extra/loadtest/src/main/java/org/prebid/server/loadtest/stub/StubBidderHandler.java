@@ -0,0 +1,117 @@
+package org.prebid.server.loadtest.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.loadtest.model.BidderProfile;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Responds to bidder requests as OpenRTB bidder would, following {@link BidderProfile} of the current scenario.
+ */
+public class StubBidderHandler implements Handler<RoutingContext> {
+
+    private static final double P99_STANDARD_SCORE = 2.3263478740408408;
+    private static final double MIN_PRICE = 0.1;
+    private static final double MAX_PRICE = 5.0;
+
+    private final Vertx vertx;
+    private final JacksonMapper mapper;
+
+    private volatile Behaviour behaviour;
+
+    public StubBidderHandler(Vertx vertx, JacksonMapper mapper) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public void configure(BidderProfile profile) {
+        behaviour = Behaviour.of(profile);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final Behaviour current = Objects.requireNonNull(behaviour, "Stub bidders are not configured");
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        final Buffer response;
+        try {
+            response = random.nextDouble() < current.bidRate
+                    ? bidResponse(routingContext.pathParam("bidder"), routingContext.body().buffer(), current, random)
+                    : null;
+        } catch (DecodeException e) {
+            routingContext.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end(e.getMessage());
+            return;
+        }
+
+        vertx.setTimer(current.nextLatencyMs(random), ignored -> respond(routingContext, response));
+    }
+
+    private Buffer bidResponse(String bidder, Buffer body, Behaviour behaviour, ThreadLocalRandom random) {
+        final JsonNode request = mapper.decodeValue(body, JsonNode.class);
+
+        final ObjectNode response = mapper.mapper().createObjectNode()
+                .put("id", request.path("id").asText())
+                .put("cur", "USD");
+        final ArrayNode bids = response.putArray("seatbid").addObject()
+                .put("seat", bidder)
+                .putArray("bid");
+
+        for (JsonNode imp : request.path("imp")) {
+            final String impId = imp.path("id").asText();
+            for (int i = 0; i < behaviour.bidsPerImp; i++) {
+                bids.addObject()
+                        .put("id", impId + "-" + i)
+                        .put("impid", impId)
+                        .put("price", Math.round(random.nextDouble(MIN_PRICE, MAX_PRICE) * 100) / 100.0)
+                        .put("adm", behaviour.adm)
+                        .put("crid", bidder + "-creative-" + i)
+                        .put("w", 300)
+                        .put("h", 250)
+                        .putArray("adomain").add("advertiser.com");
+            }
+        }
+
+        return Buffer.buffer(mapper.encodeToBytes(response));
+    }
+
+    private static void respond(RoutingContext routingContext, Buffer response) {
+        if (response == null) {
+            routingContext.response().setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+        } else {
+            routingContext.response()
+                    .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                    .end(response);
+        }
+    }
+
+    private record Behaviour(double mu, double sigma, double bidRate, int bidsPerImp, String adm) {
+
+        static Behaviour of(BidderProfile profile) {
+            final double mu = Math.log(Math.max(profile.getLatencyMedianMs(), 1));
+            final double sigma = Math.max(Math.log(Math.max(profile.getLatencyP99Ms(), 1)) - mu, 0)
+                    / P99_STANDARD_SCORE;
+
+            final String adm = "<div>" + StringUtils.repeat('x', Math.max(profile.getAdmSize() - 11, 0)) + "</div>";
+
+            return new Behaviour(mu, sigma, profile.getBidRate(), profile.getBidsPerImp(), adm);
+        }
+
+        long nextLatencyMs(ThreadLocalRandom random) {
+            // timers can't be shorter than one millisecond
+            return Math.max(Math.round(Math.exp(mu + sigma * random.nextGaussian())), 1L);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.prebid.server.loadtest.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Accepts Prebid Cache puts and responds with random UUID for each of them.
+ */
+public class StubCacheHandler implements Handler<RoutingContext> {
+
+    private final JacksonMapper mapper;
+
+    public StubCacheHandler(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final JsonNode request;
+        try {
+            request = mapper.decodeValue(routingContext.body().buffer(), JsonNode.class);
+        } catch (DecodeException e) {
+            routingContext.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end(e.getMessage());
+            return;
+        }
+
+        final ObjectNode response = mapper.mapper().createObjectNode();
+        final ArrayNode responses = response.putArray("responses");
+        for (int i = 0; i < request.path("puts").size(); i++) {
+            responses.addObject().put("uuid", UUID.randomUUID().toString());
+        }
+
+        routingContext.response()
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                .end(Buffer.buffer(mapper.encodeToBytes(response)));
+    }
+}
@@ -0,0 +1,69 @@
+package org.prebid.server.loadtest.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.loadtest.model.BidderProfile;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Single HTTP server standing for bidders, Prebid Cache and settings source PBS is configured to call.
+ */
+public class StubServer {
+
+    public static final String BIDDERS_PATH = "/bidders/";
+    public static final String CACHE_PATH = "/cache";
+    public static final String SETTINGS_PATH = "/settings";
+    public static final String AMP_SETTINGS_PATH = "/settings/amp";
+    public static final String CATEGORIES_PATH = "/categories";
+
+    private final Vertx vertx;
+    private final StubBidderHandler bidderHandler;
+    private final StubCacheHandler cacheHandler;
+    private final StubSettingsHandler settingsHandler;
+
+    private HttpServer server;
+
+    public StubServer(Vertx vertx, Map<String, ObjectNode> storedRequests, JacksonMapper mapper) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.bidderHandler = new StubBidderHandler(vertx, mapper);
+        this.cacheHandler = new StubCacheHandler(mapper);
+        this.settingsHandler = new StubSettingsHandler(storedRequests, mapper);
+    }
+
+    /**
+     * Starts server on a random free port and returns that port.
+     */
+    public int start() {
+        final Router router = Router.router(vertx);
+        router.route().handler(BodyHandler.create());
+        router.post(BIDDERS_PATH + ":bidder").handler(bidderHandler);
+        router.post(CACHE_PATH).handler(cacheHandler);
+        router.get(SETTINGS_PATH).handler(settingsHandler);
+        router.get(AMP_SETTINGS_PATH).handler(settingsHandler);
+
+        server = vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .join();
+
+        return server.actualPort();
+    }
+
+    public void configureBidders(BidderProfile profile) {
+        bidderHandler.configure(profile);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.loadtest.stub;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Serves accounts and stored requests in format of HTTP settings source. Any requested account exists, stored
+ * requests are taken from the given map.
+ */
+public class StubSettingsHandler implements Handler<RoutingContext> {
+
+    private static final String ACCOUNT_IDS_PARAM = "account-ids";
+    private static final String REQUEST_IDS_PARAM = "request-ids";
+
+    private final Map<String, ObjectNode> storedRequests;
+    private final JacksonMapper mapper;
+
+    public StubSettingsHandler(Map<String, ObjectNode> storedRequests, JacksonMapper mapper) {
+        this.storedRequests = Objects.requireNonNull(storedRequests);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final ObjectNode response = mapper.mapper().createObjectNode();
+        try {
+            final ObjectNode accounts = response.putObject("accounts");
+            for (String accountId : ids(routingContext, ACCOUNT_IDS_PARAM)) {
+                accounts.putObject(accountId).put("id", accountId);
+            }
+
+            final ObjectNode requests = response.putObject("requests");
+            for (String requestId : ids(routingContext, REQUEST_IDS_PARAM)) {
+                final ObjectNode storedRequest = storedRequests.get(requestId);
+                if (storedRequest != null) {
+                    requests.set(requestId, storedRequest);
+                }
+            }
+            response.putObject("imps");
+        } catch (DecodeException e) {
+            routingContext.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end(e.getMessage());
+            return;
+        }
+
+        routingContext.response()
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                .end(Buffer.buffer(mapper.encodeToBytes(response)));
+    }
+
+    private List<String> ids(RoutingContext routingContext, String param) {
+        final String value = routingContext.request().getParam(param);
+        return value != null ? List.of(mapper.decodeValue(value, String[].class)) : List.of();
+    }
+}
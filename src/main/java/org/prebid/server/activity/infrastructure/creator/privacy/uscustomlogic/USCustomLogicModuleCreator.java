@@ -2,7 +2,6 @@ package org.prebid.server.activity.infrastructure.creator.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.gpp.encoder.GppModel;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
 import org.apache.commons.collections4.SetUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.creator.PrivacyModuleCreationContext;
@@ -11,8 +10,9 @@ import org.prebid.server.activity.infrastructure.privacy.AndPrivacyModules;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModule;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.activity.infrastructure.privacy.PrivacySection;
-import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicDataSupplier;
+import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicCompiler;
 import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicModule;
+import org.prebid.server.activity.infrastructure.privacy.uscustomlogic.USCustomLogicPredicate;
 import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.json.JsonLogic;
 import org.prebid.server.log.ConditionalLogger;
@@ -45,7 +45,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
 
     private final USCustomLogicGppReaderFactory gppReaderFactory;
     private final JsonLogic jsonLogic;
-    private final Map<String, JsonLogicNode> jsonLogicNodesCache;
+    private final USCustomLogicCompiler compiler;
+    private final Map<String, USCustomLogicPredicate> predicatesCache;
     private final Metrics metrics;
     private final double samplingRate;
 
@@ -61,7 +62,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
         this.metrics = Objects.requireNonNull(metrics);
         this.samplingRate = samplingRate;
 
-        jsonLogicNodesCache = cacheTtl != null && cacheSize != null
+        compiler = new USCustomLogicCompiler(jsonLogic);
+        predicatesCache = cacheTtl != null && cacheSize != null
                 ? SettingsCache.createCache(cacheTtl, cacheSize, 0)
                 : null;
     }
@@ -133,9 +135,8 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
 
         try {
             return new USCustomLogicModule(
-                    jsonLogic,
-                    jsonLogicNode(jsonLogicConfig),
-                    USCustomLogicDataSupplier.of(gppReaderFactory.forSection(sectionId, normalizeSection, gppModel)));
+                    predicate(jsonLogicConfig),
+                    gppReaderFactory.forSection(sectionId, normalizeSection, gppModel));
         } catch (Exception e) {
             conditionalLogger.error(
                     "USCustomLogic creation failed: %s. Config: %s".formatted(e.getMessage(), jsonLogicConfig),
@@ -146,10 +147,14 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
         }
     }
 
-    private JsonLogicNode jsonLogicNode(ObjectNode jsonLogicConfig) {
+    private USCustomLogicPredicate predicate(ObjectNode jsonLogicConfig) {
         final String jsonAsString = jsonLogicConfig.toString();
-        return jsonLogicNodesCache != null
-                ? jsonLogicNodesCache.computeIfAbsent(jsonAsString, jsonLogic::parse)
-                : jsonLogic.parse(jsonAsString);
+        return predicatesCache != null
+                ? predicatesCache.computeIfAbsent(jsonAsString, this::compile)
+                : compile(jsonAsString);
+    }
+
+    private USCustomLogicPredicate compile(String jsonLogicConfig) {
+        return compiler.compile(jsonLogic.parse(jsonLogicConfig));
     }
 }
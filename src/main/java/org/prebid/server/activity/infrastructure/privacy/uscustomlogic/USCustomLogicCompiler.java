@@ -0,0 +1,314 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import io.github.jamsesso.jsonlogic.JsonLogic;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicArray;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNodeType;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicOperation;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicPrimitiveType;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Turns JsonLogic expression into {@link USCustomLogicPredicate} reading GPP US section fields directly,
+ * without building data map and interpreting expression tree for every evaluation.
+ * <p>
+ * Only boolean logic, equality and membership over section fields and literals are compiled, with the same
+ * semantics as {@link org.prebid.server.json.JsonLogic} has. Any other expression is interpreted as before.
+ */
+public class USCustomLogicCompiler {
+
+    private static final Map<String, Function<USCustomLogicGppReader, Object>> FIELDS = Map.ofEntries(
+            Map.entry("Version", USCustomLogicGppReader::getVersion),
+            Map.entry("Gpc", USCustomLogicGppReader::getGpc),
+            Map.entry("GpcSegmentType", USCustomLogicGppReader::getGpcSegmentType),
+            Map.entry("GpcSegmentIncluded", USCustomLogicGppReader::getGpcSegmentIncluded),
+            Map.entry("SaleOptOut", USCustomLogicGppReader::getSaleOptOut),
+            Map.entry("SaleOptOutNotice", USCustomLogicGppReader::getSaleOptOutNotice),
+            Map.entry("SharingNotice", USCustomLogicGppReader::getSharingNotice),
+            Map.entry("SharingOptOut", USCustomLogicGppReader::getSharingOptOut),
+            Map.entry("SharingOptOutNotice", USCustomLogicGppReader::getSharingOptOutNotice),
+            Map.entry("TargetedAdvertisingOptOut", USCustomLogicGppReader::getTargetedAdvertisingOptOut),
+            Map.entry("TargetedAdvertisingOptOutNotice", USCustomLogicGppReader::getTargetedAdvertisingOptOutNotice),
+            Map.entry("SensitiveDataLimitUseNotice", USCustomLogicGppReader::getSensitiveDataLimitUseNotice),
+            Map.entry("SensitiveDataProcessing", USCustomLogicGppReader::getSensitiveDataProcessing),
+            Map.entry("SensitiveDataProcessingOptOutNotice",
+                    USCustomLogicGppReader::getSensitiveDataProcessingOptOutNotice),
+            Map.entry("KnownChildSensitiveDataConsents", USCustomLogicGppReader::getKnownChildSensitiveDataConsents),
+            Map.entry("PersonalDataConsents", USCustomLogicGppReader::getPersonalDataConsents),
+            Map.entry("MspaCoveredTransaction", USCustomLogicGppReader::getMspaCoveredTransaction),
+            Map.entry("MspaServiceProviderMode", USCustomLogicGppReader::getMspaServiceProviderMode),
+            Map.entry("MspaOptOutOptionMode", USCustomLogicGppReader::getMspaOptOutOptionMode));
+
+    private static final int MAX_INDEX_LENGTH = 9;
+
+    private final org.prebid.server.json.JsonLogic jsonLogic;
+
+    public USCustomLogicCompiler(org.prebid.server.json.JsonLogic jsonLogic) {
+        this.jsonLogic = Objects.requireNonNull(jsonLogic);
+    }
+
+    public USCustomLogicPredicate compile(JsonLogicNode jsonLogicNode) {
+        final Operand operand = operand(jsonLogicNode);
+        if (operand == null) {
+            return gppReader -> jsonLogic.evaluate(jsonLogicNode, USCustomLogicDataSupplier.of(gppReader).get());
+        }
+
+        return gppReader -> {
+            if (operand.evaluate(gppReader) instanceof Boolean result) {
+                return result;
+            }
+            throw new JsonLogicEvaluationException("Wrong type was returned.");
+        };
+    }
+
+    /**
+     * Returns null if expression is not supported.
+     */
+    private static Operand operand(JsonLogicNode node) {
+        final JsonLogicNodeType type = node.getType();
+        if (type == JsonLogicNodeType.PRIMITIVE) {
+            final Object value = primitiveValue((JsonLogicPrimitive<?>) node);
+            return gppReader -> value;
+        }
+        if (type == JsonLogicNodeType.VARIABLE) {
+            return variable((JsonLogicVariable) node);
+        }
+        if (type == JsonLogicNodeType.OPERATION) {
+            return operation((JsonLogicOperation) node);
+        }
+
+        return null;
+    }
+
+    private static Object primitiveValue(JsonLogicPrimitive<?> primitive) {
+        return primitive.getValue();
+    }
+
+    private static Operand variable(JsonLogicVariable variable) {
+        if (!(variable.getKey() instanceof JsonLogicPrimitive<?> keyPrimitive)
+                || keyPrimitive.getPrimitiveType() != JsonLogicPrimitiveType.STRING
+                || !(variable.getDefaultValue() instanceof JsonLogicPrimitive<?> defaultPrimitive)) {
+
+            return null;
+        }
+
+        final String key = (String) keyPrimitive.getValue();
+        if (key.isEmpty() || key.contains(".")) {
+            return null;
+        }
+
+        final Object defaultValue = primitiveValue(defaultPrimitive);
+
+        final Function<USCustomLogicGppReader, Object> field = FIELDS.get(key);
+        if (field != null) {
+            // lists are spread to indexed fields, so field itself is absent
+            return gppReader -> field.apply(gppReader) instanceof Object value && !(value instanceof List<?>)
+                    ? value
+                    : defaultValue;
+        }
+
+        return indexedVariable(key, defaultValue);
+    }
+
+    private static Operand indexedVariable(String key, Object defaultValue) {
+        int indexStart = key.length();
+        while (indexStart > 0 && Character.isDigit(key.charAt(indexStart - 1))) {
+            indexStart--;
+        }
+
+        final Function<USCustomLogicGppReader, Object> field = FIELDS.get(key.substring(0, indexStart));
+        final String index = key.substring(indexStart);
+        if (field == null || index.isEmpty() || index.charAt(0) == '0' || index.length() > MAX_INDEX_LENGTH) {
+            return gppReader -> defaultValue;
+        }
+
+        final int position = Integer.parseInt(index) - 1;
+        return gppReader -> field.apply(gppReader) instanceof List<?> list
+                && position < list.size()
+                && list.get(position) instanceof Object value
+                ? value
+                : defaultValue;
+    }
+
+    private static Operand operation(JsonLogicOperation operation) {
+        final List<Operand> arguments = arguments(operation.getArguments());
+        final List<Operand> args = arguments != null ? arguments : List.of();
+        final boolean equality = args.size() == 2;
+
+        return switch (operation.getOperator()) {
+            case "and" -> arguments != null && !args.isEmpty() ? and(args.toArray(Operand[]::new)) : null;
+            case "or" -> arguments != null && !args.isEmpty() ? or(args.toArray(Operand[]::new)) : null;
+            case "!" -> arguments != null ? not(args, false) : null;
+            case "!!" -> arguments != null ? not(args, true) : null;
+            case "==" -> equality ? equal(args.get(0), args.get(1), false, false) : null;
+            case "!=" -> equality ? equal(args.get(0), args.get(1), false, true) : null;
+            case "===" -> equality ? equal(args.get(0), args.get(1), true, false) : null;
+            case "!==" -> equality ? equal(args.get(0), args.get(1), true, true) : null;
+            case "in" -> in(operation.getArguments());
+            default -> null;
+        };
+    }
+
+    private static List<Operand> arguments(JsonLogicArray arguments) {
+        final List<Operand> result = new ArrayList<>(arguments.size());
+        for (JsonLogicNode argument : arguments) {
+            final Operand operand = operand(argument);
+            if (operand == null) {
+                return null;
+            }
+            result.add(operand);
+        }
+        return result;
+    }
+
+    private static Operand and(Operand[] args) {
+        return gppReader -> {
+            Object result = null;
+            for (Operand arg : args) {
+                result = arg.evaluate(gppReader);
+                if (!JsonLogic.truthy(result)) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Operand or(Operand[] args) {
+        return gppReader -> {
+            Object result = null;
+            for (Operand arg : args) {
+                result = arg.evaluate(gppReader);
+                if (JsonLogic.truthy(result)) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Operand not(List<Operand> args, boolean doubleBang) {
+        if (args.isEmpty()) {
+            return gppReader -> doubleBang ? Boolean.FALSE : Boolean.TRUE;
+        }
+
+        final Operand arg = args.getFirst();
+        return gppReader -> JsonLogic.truthy(arg.evaluate(gppReader)) == doubleBang;
+    }
+
+    private static Operand equal(Operand left, Operand right, boolean strict, boolean negate) {
+        return strict
+                ? gppReader -> strictEquals(left.evaluate(gppReader), right.evaluate(gppReader)) != negate
+                : gppReader -> looseEquals(left.evaluate(gppReader), right.evaluate(gppReader)) != negate;
+    }
+
+    private static Operand in(JsonLogicArray arguments) {
+        if (arguments.size() < 2) {
+            return arguments(arguments) != null ? gppReader -> Boolean.FALSE : null;
+        }
+
+        final Operand value = operand(arguments.get(0));
+        final JsonLogicNode container = arguments.get(1);
+        if (value == null || arguments(new JsonLogicArray(arguments.subList(2, arguments.size()))) == null) {
+            return null;
+        }
+
+        if (container instanceof JsonLogicArray array) {
+            final Object[] elements = new Object[array.size()];
+            for (int i = 0; i < elements.length; i++) {
+                if (!(array.get(i) instanceof JsonLogicPrimitive<?> element)) {
+                    return null;
+                }
+                elements[i] = primitiveValue(element);
+            }
+            return gppReader -> contains(elements, value.evaluate(gppReader));
+        }
+
+        final Operand string = operand(container);
+        return string != null
+                ? gppReader -> string.evaluate(gppReader) instanceof String containerString
+                && value.evaluate(gppReader) instanceof Object element
+                && containerString.contains(element instanceof Number number
+                ? Double.toString(number.doubleValue())
+                : element.toString())
+                : null;
+    }
+
+    private static boolean contains(Object[] elements, Object value) {
+        for (Object element : elements) {
+            if (value instanceof Number number && element instanceof Double doubleElement
+                    ? Double.compare(number.doubleValue(), doubleElement) == 0
+                    : Objects.equals(value, element)) {
+
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mirrors {@link io.github.jamsesso.jsonlogic.evaluator.expressions.EqualityExpression}.
+     */
+    private static boolean looseEquals(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == null && right == null;
+        }
+
+        return switch (left) {
+            case Number leftNumber when right instanceof Number rightNumber ->
+                    Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue()) == 0;
+            case Number leftNumber when right instanceof String rightString ->
+                    numberEqualsString(leftNumber, rightString);
+            case Number leftNumber when right instanceof Boolean rightBoolean ->
+                    numberEqualsBoolean(leftNumber, rightBoolean);
+            case String leftString when right instanceof String -> leftString.equals(right);
+            case String leftString when right instanceof Number rightNumber ->
+                    numberEqualsString(rightNumber, leftString);
+            case String leftString when right instanceof Boolean rightBoolean ->
+                    JsonLogic.truthy(leftString) == rightBoolean;
+            case Boolean leftBoolean when right instanceof Boolean rightBoolean ->
+                    leftBoolean.booleanValue() == rightBoolean.booleanValue();
+            case Boolean leftBoolean when right instanceof Number rightNumber ->
+                    numberEqualsBoolean(rightNumber, leftBoolean);
+            case Boolean leftBoolean when right instanceof String rightString ->
+                    JsonLogic.truthy(rightString) == leftBoolean;
+            default -> !JsonLogic.truthy(left) && !JsonLogic.truthy(right);
+        };
+    }
+
+    private static boolean numberEqualsString(Number number, String string) {
+        try {
+            return Double.parseDouble(string.isBlank() ? "0" : string) == number.doubleValue();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean numberEqualsBoolean(Number number, Boolean bool) {
+        return number.doubleValue() == (bool ? 1 : 0);
+    }
+
+    /**
+     * Mirrors {@link io.github.jamsesso.jsonlogic.evaluator.expressions.StrictEqualityExpression}.
+     */
+    private static boolean strictEquals(Object left, Object right) {
+        if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            return leftNumber.doubleValue() == rightNumber.doubleValue();
+        }
+        return left == right || left != null && left.equals(right);
+    }
+
+    @FunctionalInterface
+    private interface Operand {
+
+        Object evaluate(USCustomLogicGppReader gppReader);
+    }
+}
@@ -0,0 +1,9 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+
+@FunctionalInterface
+public interface USCustomLogicPredicate {
+
+    boolean test(USCustomLogicGppReader gppReader) throws JsonLogicEvaluationException;
+}
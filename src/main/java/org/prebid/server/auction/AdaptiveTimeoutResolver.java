@@ -0,0 +1,129 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Limits bidder request timeouts by the latency observed for the bidder.
+ * <p>
+ * Keeps rolling latency distribution per bidder (and optionally per bidder and region) built from actual bidder
+ * responses, and caps bidder request timeout at the configured quantile of the distribution increased by headroom.
+ * Distributions are biased to the last several minutes, so the cap follows bidder latency changes. Requests
+ * timed out by the cap are recorded with the cap latency, and headroom lets the cap grow back in such a case.
+ */
+public class AdaptiveTimeoutResolver {
+
+    private static final long NO_ESTIMATE = -1L;
+    private static final int MAX_SKETCHES = 10_000;
+
+    private final double quantile;
+    private final long minSamples;
+    private final double headroomFactor;
+    private final long minTimeout;
+    private final boolean perRegion;
+    private final long refreshIntervalMs;
+    private final Clock clock;
+
+    private final Cache<String, LatencySketch> sketches;
+
+    public AdaptiveTimeoutResolver(double quantile,
+                                   long minSamples,
+                                   int headroomPercent,
+                                   long minTimeout,
+                                   boolean perRegion,
+                                   long refreshIntervalMs,
+                                   Clock clock) {
+
+        if (quantile <= 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile should be in (0, 1] range: " + quantile);
+        }
+        if (minSamples <= 0 || minTimeout <= 0) {
+            throw new IllegalArgumentException(
+                    "Both min samples and min timeout should be greater than 0: min-samples=%d, min-timeout=%d"
+                            .formatted(minSamples, minTimeout));
+        }
+        if (headroomPercent < 0) {
+            throw new IllegalArgumentException("Headroom percent should not be negative: " + headroomPercent);
+        }
+
+        this.quantile = quantile;
+        this.minSamples = minSamples;
+        this.headroomFactor = 1 + headroomPercent / 100.0;
+        this.minTimeout = minTimeout;
+        this.perRegion = perRegion;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.clock = Objects.requireNonNull(clock);
+
+        sketches = Caffeine.newBuilder()
+                .maximumSize(MAX_SKETCHES)
+                .build();
+    }
+
+    /**
+     * Returns given timeout limited by observed latency of the bidder in the region, or given timeout as is
+     * if there are not enough latency samples yet.
+     */
+    public long resolve(String bidder, String region, long timeout) {
+        final long now = clock.millis();
+
+        long estimate = perRegion && StringUtils.isNotEmpty(region)
+                ? estimate(regionKey(bidder, region), now)
+                : NO_ESTIMATE;
+        if (estimate == NO_ESTIMATE) {
+            estimate = estimate(bidder, now);
+        }
+
+        return estimate != NO_ESTIMATE ? Math.min(timeout, estimate) : timeout;
+    }
+
+    /**
+     * Records bidder response latency observed in the region.
+     */
+    public void recordLatency(String bidder, String region, long latency) {
+        sketches.get(bidder, key -> new LatencySketch()).update(latency);
+        if (perRegion && StringUtils.isNotEmpty(region)) {
+            sketches.get(regionKey(bidder, region), key -> new LatencySketch()).update(latency);
+        }
+    }
+
+    private long estimate(String key, long now) {
+        final LatencySketch sketch = sketches.getIfPresent(key);
+        return sketch != null ? sketch.estimate(now) : NO_ESTIMATE;
+    }
+
+    private static String regionKey(String bidder, String region) {
+        return bidder + ":" + region;
+    }
+
+    private class LatencySketch {
+
+        private final Histogram histogram = new Histogram(new ExponentiallyDecayingReservoir());
+
+        private volatile long estimate = NO_ESTIMATE;
+        private volatile long refreshedAt;
+
+        void update(long latency) {
+            histogram.update(latency);
+        }
+
+        long estimate(long now) {
+            if (histogram.getCount() < minSamples) {
+                return NO_ESTIMATE;
+            }
+
+            if (estimate == NO_ESTIMATE || now - refreshedAt >= refreshIntervalMs) {
+                final double latency = histogram.getSnapshot().getValue(quantile);
+                refreshedAt = now;
+                estimate = Math.max((long) Math.ceil(latency * headroomFactor), minTimeout);
+            }
+
+            return estimate;
+        }
+    }
+}
@@ -79,6 +79,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.proto.openrtb.ext.response.CacheAsset;
 import org.prebid.server.proto.openrtb.ext.response.Events;
+import org.prebid.server.proto.openrtb.ext.response.ExtAdaptiveTimeout;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebid;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidMeta;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidVideo;
@@ -88,6 +89,7 @@ import org.prebid.server.proto.openrtb.ext.response.ExtBidResponsePrebid;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidderError;
 import org.prebid.server.proto.openrtb.ext.response.ExtDebugTrace;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCallBody;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgb;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
@@ -157,6 +159,7 @@ public class BidResponseCreator {
     private final CategoryMappingService categoryMappingService;
     private final int truncateAttrChars;
     private final boolean enforceRandomBidId;
+    private final DebugHttpCallsLimiter debugHttpCallsLimiter;
     private final Clock clock;
     private final JacksonMapper mapper;
     private final Metrics metrics;
@@ -180,6 +183,7 @@ public class BidResponseCreator {
                               CategoryMappingService categoryMappingService,
                               int truncateAttrChars,
                               boolean enforceRandomBidId,
+                              DebugHttpCallsLimiter debugHttpCallsLimiter,
                               Clock clock,
                               JacksonMapper mapper,
                               Metrics metrics,
@@ -198,6 +202,7 @@ public class BidResponseCreator {
         this.categoryMappingService = Objects.requireNonNull(categoryMappingService);
         this.truncateAttrChars = validateTruncateAttrChars(truncateAttrChars);
         this.enforceRandomBidId = enforceRandomBidId;
+        this.debugHttpCallsLimiter = Objects.requireNonNull(debugHttpCallsLimiter);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.mediaTypeCacheTtl = Objects.requireNonNull(mediaTypeCacheTtl);
@@ -1037,20 +1042,26 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static ExtResponseDebug toExtResponseDebug(List<BidderResponseInfo> bidderResponseInfos,
-                                                       AuctionContext auctionContext,
-                                                       CacheServiceResult cacheResult,
-                                                       boolean debugEnabled) {
+    private ExtResponseDebug toExtResponseDebug(List<BidderResponseInfo> bidderResponseInfos,
+                                                AuctionContext auctionContext,
+                                                CacheServiceResult cacheResult,
+                                                boolean debugEnabled) {
 
         final Map<String, List<ExtHttpCall>> httpCalls = debugEnabled
-                ? toExtHttpCalls(bidderResponseInfos, cacheResult, auctionContext.getDebugHttpCalls())
+                ? debugHttpCallsLimiter.limit(
+                        toExtHttpCalls(bidderResponseInfos, cacheResult, auctionContext.getDebugHttpCalls()),
+                        auctionContext.getAccount())
                 : null;
 
         final BidRequest bidRequest = debugEnabled ? auctionContext.getBidRequest() : null;
         final ExtDebugTrace extDebugTrace = toExtDebugTrace(auctionContext);
+        final Map<String, ExtAdaptiveTimeout> adaptiveTimeouts =
+                debugEnabled && MapUtils.isNotEmpty(auctionContext.getAdaptiveTimeouts())
+                        ? auctionContext.getAdaptiveTimeouts()
+                        : null;
 
-        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace)
-                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace)
+        return ObjectUtils.anyNotNull(httpCalls, bidRequest, extDebugTrace, adaptiveTimeouts)
+                ? ExtResponseDebug.of(httpCalls, bidRequest, extDebugTrace, adaptiveTimeouts)
                 : null;
     }
 
@@ -1146,9 +1157,9 @@ public class BidResponseCreator {
     private static ExtHttpCall toExtHttpCall(DebugHttpCall debugHttpCall) {
         return ExtHttpCall.builder()
                 .uri(debugHttpCall.getRequestUri())
-                .requestbody(debugHttpCall.getRequestBody())
+                .requestbody(ExtHttpCallBody.of(debugHttpCall.getRequestBody()))
                 .status(debugHttpCall.getResponseStatus())
-                .responsebody(debugHttpCall.getResponseBody())
+                .responsebody(ExtHttpCallBody.of(debugHttpCall.getResponseBody()))
                 .requestheaders(debugHttpCall.getRequestHeaders())
                 .build();
     }
@@ -0,0 +1,79 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Moves CPU-bound per-bidder preparation of large auctions (building bidder requests and bidder HTTP requests)
+ * from the event loop to a worker pool.
+ * <p>
+ * Results are delivered back on the calling context, so callers continue on the event loop as usual.
+ * Small auctions (bidders × imps below threshold) are expected to stay inline, since handing off to a worker
+ * costs more than it saves for them.
+ */
+public class BidderPreparationExecutor {
+
+    private final WorkerExecutor workerExecutor;
+    private final long threshold;
+    private final Metrics metrics;
+
+    public BidderPreparationExecutor(WorkerExecutor workerExecutor, long threshold, Metrics metrics) {
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.threshold = threshold;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public boolean isParallel(int bidders, int imps) {
+        return bidders > 1 && (long) bidders * imps >= threshold;
+    }
+
+    /**
+     * Applies given task to each of the items on the worker pool and joins results in the items order.
+     * Fails with the first failure of any task.
+     */
+    public <T, R> Future<List<R>> mapAll(List<T> items, Function<T, R> task) {
+        final long startTime = System.nanoTime();
+        final LongAdder tasksTime = new LongAdder();
+
+        final List<Future<R>> results = new ArrayList<>(items.size());
+        for (T item : items) {
+            results.add(workerExecutor.executeBlocking(() -> timed(task, item, tasksTime), false));
+        }
+
+        return Future.all(results)
+                .map(CompositeFuture::<R>list)
+                .onSuccess(ignored -> updateMetrics(System.nanoTime() - startTime, tasksTime.sum()));
+    }
+
+    /**
+     * Runs given task on the worker pool.
+     */
+    public <R> Future<R> execute(Callable<R> task) {
+        return workerExecutor.executeBlocking(task, false);
+    }
+
+    private static <T, R> R timed(Function<T, R> task, T item, LongAdder tasksTime) {
+        final long startTime = System.nanoTime();
+        try {
+            return task.apply(item);
+        } finally {
+            tasksTime.add(System.nanoTime() - startTime);
+        }
+    }
+
+    private void updateMetrics(long wallTimeNanos, long tasksTimeNanos) {
+        metrics.updateBidderPreparationMetrics(
+                TimeUnit.NANOSECONDS.toMillis(wallTimeNanos),
+                TimeUnit.NANOSECONDS.toMillis(Math.max(tasksTimeNanos - wallTimeNanos, 0)));
+    }
+}
@@ -0,0 +1,205 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Suppresses requests to bidders which almost never bid for the same traffic.
+ * <p>
+ * Keeps per bidder × account × media type × country statistics of requests made and requests answered with valid
+ * bids (surviving validations, floors and adjustments). Once there are enough requests for all the statistics of a
+ * bidder request, the request is sent with probability proportional to its valid bids rate, but never lower than
+ * the exploration rate, so bidders which start bidding again are noticed. Statistics are halved once window is
+ * reached, so they follow the recent bidder behaviour.
+ * <p>
+ * Debug requests, requests with stored bid responses and requests with deals are never suppressed.
+ */
+public class BidderTrafficShaper {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final int minRequests;
+    private final double minBidRate;
+    private final double explorationRate;
+    private final int window;
+    private final Metrics metrics;
+
+    private final Cache<String, Stats> stats;
+
+    public BidderTrafficShaper(int minRequests,
+                               double minBidRate,
+                               double explorationRate,
+                               int window,
+                               int maxStats,
+                               Metrics metrics) {
+
+        if (minBidRate <= 0 || minBidRate > 1 || explorationRate < 0 || explorationRate > 1) {
+            throw new IllegalArgumentException(
+                    "Min bid rate should be in (0, 1] range and exploration rate in [0, 1] range: "
+                            + "min-bid-rate=%s, exploration-rate=%s".formatted(minBidRate, explorationRate));
+        }
+        if (window < minRequests * 2) {
+            throw new IllegalArgumentException(
+                    "Window should be at least twice as large as min requests: min-requests=%d, window=%d"
+                            .formatted(minRequests, window));
+        }
+
+        this.minRequests = minRequests;
+        this.minBidRate = minBidRate;
+        this.explorationRate = explorationRate;
+        this.window = window;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        stats = Caffeine.newBuilder()
+                .maximumSize(maxStats)
+                .build();
+    }
+
+    /**
+     * Returns auction participations which requests should be sent, rejecting the others.
+     */
+    public List<AuctionParticipation> shape(AuctionContext auctionContext,
+                                            List<AuctionParticipation> auctionParticipations) {
+
+        if (auctionContext.getDebugContext().isDebugEnabled()) {
+            return auctionParticipations;
+        }
+
+        final List<AuctionParticipation> result = new ArrayList<>(auctionParticipations.size());
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            if (shouldRequest(auctionContext, auctionParticipation.getBidderRequest())) {
+                result.add(auctionParticipation);
+                continue;
+            }
+
+            final String bidder = auctionParticipation.getBidder();
+            auctionContext.getBidRejectionTrackers().get(bidder)
+                    .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED);
+            metrics.updateAdapterRequestShapedMetrics(bidder, auctionContext.getAccount());
+        }
+
+        return result.size() == auctionParticipations.size() ? auctionParticipations : result;
+    }
+
+    private boolean shouldRequest(AuctionContext auctionContext, BidderRequest bidderRequest) {
+        if (isExempt(bidderRequest)) {
+            return true;
+        }
+
+        double sendProbability = 0;
+        for (String key : keys(auctionContext, bidderRequest)) {
+            final Stats keyStats = stats.getIfPresent(key);
+            sendProbability = Math.max(sendProbability, keyStats != null ? keyStats.sendProbability() : 1);
+        }
+
+        return sendProbability >= 1 || ThreadLocalRandom.current().nextDouble() < sendProbability;
+    }
+
+    /**
+     * Records results of the bidder requests sent.
+     */
+    public void recordResults(AuctionContext auctionContext, List<AuctionParticipation> auctionParticipations) {
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            final BidderRequest bidderRequest = auctionParticipation.getBidderRequest();
+            final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+            if (bidderResponse == null || isExempt(bidderRequest)) {
+                continue;
+            }
+
+            final boolean hasBids = CollectionUtils.isNotEmpty(bidderResponse.getSeatBid().getBids());
+            for (String key : keys(auctionContext, bidderRequest)) {
+                stats.get(key, ignored -> new Stats()).record(hasBids);
+            }
+        }
+    }
+
+    private static boolean isExempt(BidderRequest bidderRequest) {
+        return bidderRequest == null
+                || bidderRequest.getStoredResponse() != null
+                || bidderRequest.getBidRequest().getImp().stream().anyMatch(imp -> imp.getPmp() != null);
+    }
+
+    private static Set<String> keys(AuctionContext auctionContext, BidderRequest bidderRequest) {
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final String prefix = "%s|%s|%s|".formatted(
+                bidderRequest.getBidder(), accountId(auctionContext.getAccount()), country(bidRequest));
+
+        final Set<String> keys = new HashSet<>();
+        for (Imp imp : bidRequest.getImp()) {
+            if (imp.getBanner() != null) {
+                keys.add(prefix + "banner");
+            }
+            if (imp.getVideo() != null) {
+                keys.add(prefix + "video");
+            }
+            if (imp.getXNative() != null) {
+                keys.add(prefix + "native");
+            }
+            if (imp.getAudio() != null) {
+                keys.add(prefix + "audio");
+            }
+        }
+        if (keys.isEmpty()) {
+            keys.add(prefix + UNKNOWN);
+        }
+
+        return keys;
+    }
+
+    private static String accountId(Account account) {
+        return account != null ? account.getId() : UNKNOWN;
+    }
+
+    private static String country(BidRequest bidRequest) {
+        final Device device = bidRequest.getDevice();
+        final Geo geo = device != null ? device.getGeo() : null;
+        final String country = geo != null ? geo.getCountry() : null;
+        return country != null ? country : UNKNOWN;
+    }
+
+    private class Stats {
+
+        private int requests;
+        private int bids;
+
+        synchronized void record(boolean hasBids) {
+            if (requests >= window) {
+                requests /= 2;
+                bids /= 2;
+            }
+
+            requests++;
+            if (hasBids) {
+                bids++;
+            }
+        }
+
+        synchronized double sendProbability() {
+            if (requests < minRequests) {
+                return 1;
+            }
+
+            final double bidRate = (double) bids / requests;
+            return Math.max(explorationRate, Math.min(1, bidRate / minBidRate));
+        }
+    }
+}
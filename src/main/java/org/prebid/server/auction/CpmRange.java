@@ -9,8 +9,6 @@ import org.prebid.server.settings.model.AccountAuctionBidRoundingMode;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.NumberFormat;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -19,8 +17,9 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class CpmRange {
 
-    private static final Locale LOCALE = Locale.US;
     private static final int DEFAULT_PRECISION = 2;
+    private static final int GROUPING_SIZE = 3;
+    private static final char GROUPING_SEPARATOR = ',';
 
     private CpmRange() {
     }
@@ -29,23 +28,48 @@ public class CpmRange {
      * Rounding price by specified rules defined in {@link PriceGranularity} object and returns it in string format
      */
     public static String fromCpm(BigDecimal cpm, PriceGranularity priceGranularity, Account account) {
-        final BigDecimal value = fromCpmAsNumber(cpm, priceGranularity, account);
+        if (cpm.compareTo(BigDecimal.ZERO) <= 0) {
+            return StringUtils.EMPTY;
+        }
+
+        final RoundingMode roundingMode = resolveRoundingMode(account);
+        final PriceBuckets buckets = priceGranularity.getBuckets();
+        final String bucket = buckets != null ? buckets.text(cpm, roundingMode) : null;
+        if (bucket != null) {
+            return bucket;
+        }
+
+        final BigDecimal value = calculate(cpm, priceGranularity, roundingMode);
         return value != null ? format(value, priceGranularity.getPrecision()) : StringUtils.EMPTY;
     }
 
     /**
      * Formats {@link BigDecimal} value with a given precision and return its string representation.
+     * <p>
+     * Output is the same as of {@link java.text.NumberFormat} for {@link java.util.Locale#US} with
+     * {@link RoundingMode#FLOOR}, but without creating formatter per call.
      */
     public static String format(BigDecimal value, Integer precision) {
-        return numberFormat(ObjectUtils.defaultIfNull(precision, DEFAULT_PRECISION)).format(value);
-    }
+        final int scale = ObjectUtils.defaultIfNull(precision, DEFAULT_PRECISION);
+        final String plain = value.setScale(scale, RoundingMode.FLOOR).toPlainString();
+
+        final int signLength = plain.charAt(0) == '-' ? 1 : 0;
+        final int pointIndex = plain.indexOf('.');
+        final int integerEnd = pointIndex != -1 ? pointIndex : plain.length();
+        final int integerLength = integerEnd - signLength;
+        if (integerLength <= GROUPING_SIZE) {
+            return plain;
+        }
 
-    private static NumberFormat numberFormat(int precision) {
-        final NumberFormat numberFormat = NumberFormat.getInstance(LOCALE);
-        numberFormat.setRoundingMode(RoundingMode.FLOOR);
-        numberFormat.setMaximumFractionDigits(precision);
-        numberFormat.setMinimumFractionDigits(precision);
-        return numberFormat;
+        final StringBuilder result = new StringBuilder(plain.length() + (integerLength - 1) / GROUPING_SIZE);
+        result.append(plain, 0, signLength);
+        for (int i = signLength; i < integerEnd; i++) {
+            if (i > signLength && (integerEnd - i) % GROUPING_SIZE == 0) {
+                result.append(GROUPING_SEPARATOR);
+            }
+            result.append(plain.charAt(i));
+        }
+        return result.append(plain, integerEnd, plain.length()).toString();
     }
 
     /**
@@ -57,6 +81,13 @@ public class CpmRange {
             return null;
         }
 
+        final RoundingMode roundingMode = resolveRoundingMode(account);
+        final PriceBuckets buckets = priceGranularity.getBuckets();
+        final BigDecimal bucket = buckets != null ? buckets.value(cpm, roundingMode) : null;
+        return bucket != null ? bucket : calculate(cpm, priceGranularity, roundingMode);
+    }
+
+    private static BigDecimal calculate(BigDecimal cpm, PriceGranularity priceGranularity, RoundingMode roundingMode) {
         final BigDecimal rangeMax = priceGranularity.getRangesMax();
         if (cpm.compareTo(rangeMax) > 0) {
             return rangeMax;
@@ -74,7 +105,7 @@ public class CpmRange {
             min = max;
         }
 
-        return increment != null ? calculate(cpm, min, increment, resolveRoundingMode(account)) : null;
+        return increment != null ? calculate(cpm, min, increment, roundingMode) : null;
     }
 
     private static BigDecimal calculate(BigDecimal cpm,
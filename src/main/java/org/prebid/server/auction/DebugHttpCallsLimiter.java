@@ -0,0 +1,99 @@
+package org.prebid.server.auction;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCallBody;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountDebugHttpCallsConfig;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Cuts request and response bodies of HTTP calls in debug output down to per-body and per-auction byte limits.
+ * Account limits take precedence over host ones, non-positive limit means no limit.
+ */
+public class DebugHttpCallsLimiter {
+
+    private final int maxBodyBytes;
+    private final long maxTotalBytes;
+    private final Metrics metrics;
+
+    public DebugHttpCallsLimiter(int maxBodyBytes, long maxTotalBytes, Metrics metrics) {
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxTotalBytes = maxTotalBytes;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Services are visited in name order, so the same bodies are kept within per-auction limit for the same calls.
+     */
+    public Map<String, List<ExtHttpCall>> limit(Map<String, List<ExtHttpCall>> httpCalls, Account account) {
+        if (httpCalls == null) {
+            return null;
+        }
+
+        final AccountDebugHttpCallsConfig accountConfig = Optional.ofNullable(account)
+                .map(Account::getAuction)
+                .map(AccountAuctionConfig::getDebugHttpCalls)
+                .orElse(null);
+        final Integer accountMaxBodyBytes = accountConfig != null ? accountConfig.getMaxBodyBytes() : null;
+        final Long accountMaxTotalBytes = accountConfig != null ? accountConfig.getMaxTotalBytes() : null;
+
+        final Budget budget = new Budget(
+                ObjectUtils.defaultIfNull(accountMaxBodyBytes, maxBodyBytes),
+                ObjectUtils.defaultIfNull(accountMaxTotalBytes, maxTotalBytes));
+
+        final Map<String, List<ExtHttpCall>> limitedHttpCalls = new HashMap<>();
+        for (String service : new TreeSet<>(httpCalls.keySet())) {
+            limitedHttpCalls.put(service, httpCalls.get(service).stream().map(budget::limit).toList());
+        }
+
+        metrics.updateDebugHttpCallsMetrics(budget.capturedBytes, budget.truncatedBytes);
+
+        return limitedHttpCalls;
+    }
+
+    private static class Budget {
+
+        private final int maxBodyBytes;
+        private long remainingBytes;
+        private long capturedBytes;
+        private long truncatedBytes;
+
+        Budget(int maxBodyBytes, long maxTotalBytes) {
+            this.maxBodyBytes = maxBodyBytes > 0 ? maxBodyBytes : Integer.MAX_VALUE;
+            this.remainingBytes = maxTotalBytes > 0 ? maxTotalBytes : Long.MAX_VALUE;
+        }
+
+        ExtHttpCall limit(ExtHttpCall httpCall) {
+            final ExtHttpCallBody requestBody = limit(httpCall.getRequestbody());
+            final ExtHttpCallBody responseBody = limit(httpCall.getResponsebody());
+
+            return requestBody == httpCall.getRequestbody() && responseBody == httpCall.getResponsebody()
+                    ? httpCall
+                    : httpCall.toBuilder().requestbody(requestBody).responsebody(responseBody).build();
+        }
+
+        private ExtHttpCallBody limit(ExtHttpCallBody body) {
+            if (body == null) {
+                return null;
+            }
+
+            final ExtHttpCallBody limitedBody = body.truncate((int) Math.min(maxBodyBytes, remainingBytes));
+            final int bodyCapturedBytes = limitedBody.capturedSize();
+
+            remainingBytes -= bodyCapturedBytes;
+            capturedBytes += bodyCapturedBytes;
+            truncatedBytes += body.size() - bodyCapturedBytes;
+
+            return limitedBody;
+        }
+    }
+}
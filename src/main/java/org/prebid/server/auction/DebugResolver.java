@@ -13,6 +13,7 @@ import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.vertx.AdmissionController;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -24,10 +25,15 @@ public class DebugResolver {
 
     private final BidderCatalog bidderCatalog;
     private final String debugOverrideToken;
+    private final AdmissionController admissionController;
+
+    public DebugResolver(BidderCatalog bidderCatalog,
+                         String debugOverrideToken,
+                         AdmissionController admissionController) {
 
-    public DebugResolver(BidderCatalog bidderCatalog, String debugOverrideToken) {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.debugOverrideToken = debugOverrideToken;
+        this.admissionController = admissionController;
     }
 
     public DebugContext debugContextFrom(AuctionContext auctionContext) {
@@ -50,6 +56,12 @@ public class DebugResolver {
                     .add("Debug turned off for account");
         }
 
+        if (debugEnabledForRequest && !debugOverride && debugAllowedByAccount && isServerDegraded()) {
+            auctionContext.getDebugWarnings()
+                    .add("Debug turned off due to server load");
+            return false;
+        }
+
         return debugOverride || (debugEnabledForRequest && debugAllowedByAccount);
     }
 
@@ -58,6 +70,10 @@ public class DebugResolver {
                 && StringUtils.equals(httpRequest.getHeaders().get(DEBUG_OVERRIDE_HEADER), debugOverrideToken);
     }
 
+    private boolean isServerDegraded() {
+        return admissionController != null && admissionController.isDegraded();
+    }
+
     private boolean isDebugEnabledForRequest(BidRequest bidRequest) {
         return Objects.equals(bidRequest.getTest(), 1)
                 || Objects.equals(ObjectUtil.getIfNotNull(getExtRequestPrebid(bidRequest),
@@ -8,6 +8,7 @@ import com.iab.openrtb.request.Content;
 import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Dooh;
 import com.iab.openrtb.request.Eid;
+import com.iab.openrtb.request.Geo;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
@@ -92,6 +93,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidSchain;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.request.ExtSite;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
+import org.prebid.server.proto.openrtb.ext.response.ExtAdaptiveTimeout;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidMeta;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
@@ -101,6 +103,7 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ListUtil;
 import org.prebid.server.util.PbsUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.vertx.AdmissionController;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.math.BigDecimal;
@@ -116,7 +119,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ExchangeService {
 
@@ -160,6 +165,10 @@ public class ExchangeService {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
+    private final BidderPreparationExecutor bidderPreparationExecutor;
+    private final AdaptiveTimeoutResolver adaptiveTimeoutResolver;
+    private final BidderTrafficShaper bidderTrafficShaper;
+    private final AdmissionController admissionController;
     private final boolean enabledStrictAppSiteDoohValidation;
 
     public ExchangeService(double logSamplingRate,
@@ -187,6 +196,10 @@ public class ExchangeService {
                            Clock clock,
                            JacksonMapper mapper,
                            CriteriaLogManager criteriaLogManager,
+                           BidderPreparationExecutor bidderPreparationExecutor,
+                           AdaptiveTimeoutResolver adaptiveTimeoutResolver,
+                           BidderTrafficShaper bidderTrafficShaper,
+                           AdmissionController admissionController,
                            boolean enabledStrictAppSiteDoohValidation) {
 
         this.logSamplingRate = logSamplingRate;
@@ -214,6 +227,10 @@ public class ExchangeService {
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
+        this.bidderPreparationExecutor = bidderPreparationExecutor;
+        this.adaptiveTimeoutResolver = adaptiveTimeoutResolver;
+        this.bidderTrafficShaper = bidderTrafficShaper;
+        this.admissionController = admissionController;
         this.enabledStrictAppSiteDoohValidation = enabledStrictAppSiteDoohValidation;
     }
 
@@ -256,6 +273,7 @@ public class ExchangeService {
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
                 .compose(storedResponseResult ->
                         extractAuctionParticipations(receivedContext, storedResponseResult, aliases, bidderToMultiBid)
+                                .map(auctionParticipations -> shapeTraffic(receivedContext, auctionParticipations))
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
@@ -281,6 +299,7 @@ public class ExchangeService {
                         .map(auctionParticipations ->
                                 bidsAdjuster.validateAndAdjustBids(auctionParticipations, context, aliases))
                         .map(auctionParticipations -> updateResponsesMetrics(auctionParticipations, account, aliases))
+                        .map(auctionParticipations -> recordTrafficShapingResults(context, auctionParticipations))
                         .map(context::with))
                 // produce response from bidder results
                 .compose(context -> bidResponseCreator.create(context, cacheInfo, bidderToMultiBid)
@@ -475,6 +494,49 @@ public class ExchangeService {
                 bidderToMultiBid);
     }
 
+    private List<AuctionParticipation> shapeTraffic(AuctionContext context,
+                                                    List<AuctionParticipation> auctionParticipations) {
+
+        final List<AuctionParticipation> shapedParticipations = bidderTrafficShaper != null
+                ? bidderTrafficShaper.shape(context, auctionParticipations)
+                : auctionParticipations;
+
+        return admissionController != null
+                ? limitBidders(context, shapedParticipations, admissionController.maxBidders())
+                : shapedParticipations;
+    }
+
+    /**
+     * Keeps only first bidders of (already shuffled) auction participations when server is overloaded.
+     */
+    private List<AuctionParticipation> limitBidders(AuctionContext context,
+                                                    List<AuctionParticipation> auctionParticipations,
+                                                    int maxBidders) {
+
+        if (auctionParticipations.size() <= maxBidders) {
+            return auctionParticipations;
+        }
+
+        for (AuctionParticipation auctionParticipation : auctionParticipations.subList(
+                maxBidders, auctionParticipations.size())) {
+
+            context.getBidRejectionTrackers().get(auctionParticipation.getBidder())
+                    .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_LOAD_SHEDDING);
+            metrics.updateAdmissionMetric(MetricName.shed_bidders);
+        }
+
+        return auctionParticipations.subList(0, maxBidders);
+    }
+
+    private List<AuctionParticipation> recordTrafficShapingResults(AuctionContext context,
+                                                                   List<AuctionParticipation> auctionParticipations) {
+
+        if (bidderTrafficShaper != null) {
+            bidderTrafficShaper.recordResults(context, auctionParticipations);
+        }
+        return auctionParticipations;
+    }
+
     private Set<String> bidderNamesFromImpExt(Imp imp, BidderAliases aliases) {
         return Optional.ofNullable(bidderParamsFromImpExt(imp.getExt())).stream()
                 .flatMap(paramsNode -> StreamUtil.asStream(paramsNode.fieldNames()))
@@ -518,7 +580,7 @@ public class ExchangeService {
                 prepareUsersAndDevices(bidders, context, aliases, biddersToConfigs, eidPermissions);
 
         return privacyEnforcementService.mask(context, bidderToUserAndDevice, aliases)
-                .map(bidderToPrivacyResult -> getAuctionParticipation(
+                .compose(bidderToPrivacyResult -> getAuctionParticipation(
                         bidderToPrivacyResult,
                         bidRequest,
                         impBidderToStoredResponse,
@@ -658,7 +720,7 @@ public class ExchangeService {
                         || EID_ALLOWED_FOR_ALL_BIDDERS.equals(allowedBidder));
     }
 
-    private List<AuctionParticipation> getAuctionParticipation(
+    private Future<List<AuctionParticipation>> getAuctionParticipation(
             List<BidderPrivacyResult> bidderPrivacyResults,
             BidRequest bidRequest,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
@@ -669,25 +731,56 @@ public class ExchangeService {
             AuctionContext context) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
-        final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
-                // for each bidder create a new request that is a copy of original request except buyerid, imp
-                // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
-                // Also, check whether to pass user.ext.data, app.ext.data, dooh.ext.data and site.ext.data or not.
-                .map(bidderPrivacyResult -> createAuctionParticipation(
+        final boolean parallel = isParallelPreparation(bidderPrivacyResults.size(), imps.size());
+
+        final Stream<BidderRequestPreparation> preparations = bidderPrivacyResults.stream()
+                // Can't be removed after we prepare workflow to filter blocked
+                .filter(bidderPrivacyResult -> !isRequestBlocked(bidderPrivacyResult, context))
+                .map(bidderPrivacyResult -> startBidderRequestPreparation(
                         bidderPrivacyResult,
                         impBidderToStoredBidResponse,
                         imps,
+                        aliases,
+                        context,
+                        parallel ? new ArrayList<>() : context.getDebugWarnings()));
+
+        // for each bidder create a new request that is a copy of original request except buyerid, imp
+        // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
+        // Also, check whether to pass user.ext.data, app.ext.data, dooh.ext.data and site.ext.data or not.
+        final Function<BidderRequestPreparation, AuctionParticipation> auctionParticipationCreator =
+                preparation -> createAuctionParticipation(
+                        preparation,
                         bidderToMultiBid,
                         biddersToConfigs,
                         bidderToPrebidBidders,
                         aliases,
-                        context))
-                // Can't be removed after we prepare workflow to filter blocked
-                .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
-                .collect(Collectors.toCollection(ArrayList::new));
+                        context);
+
+        if (!parallel) {
+            return Future.succeededFuture(shuffle(preparations.map(auctionParticipationCreator).toList()));
+        }
+
+        final List<BidderRequestPreparation> startedPreparations = preparations.toList();
+        return bidderPreparationExecutor.mapAll(startedPreparations, auctionParticipationCreator)
+                .onSuccess(ignored -> startedPreparations.forEach(preparation ->
+                        context.getDebugWarnings().addAll(preparation.debugWarnings())))
+                .map(ExchangeService::shuffle);
+    }
 
-        Collections.shuffle(bidderRequests);
-        return bidderRequests;
+    private boolean isParallelPreparation(int bidders, int imps) {
+        return bidderPreparationExecutor != null && bidderPreparationExecutor.isParallel(bidders, imps);
+    }
+
+    private boolean isParallelPreparation(AuctionContext context) {
+        return bidderPreparationExecutor != null && bidderPreparationExecutor.isParallel(
+                context.getAuctionParticipations().size(),
+                context.getBidRequest().getImp().size());
+    }
+
+    private static List<AuctionParticipation> shuffle(List<AuctionParticipation> auctionParticipations) {
+        final List<AuctionParticipation> result = new ArrayList<>(auctionParticipations);
+        Collections.shuffle(result);
+        return result;
     }
 
     /**
@@ -710,31 +803,30 @@ public class ExchangeService {
         return bidderToPrebidParameters;
     }
 
-    private AuctionParticipation createAuctionParticipation(
+    private static boolean isRequestBlocked(BidderPrivacyResult bidderPrivacyResult, AuctionContext context) {
+        if (!bidderPrivacyResult.isBlockedRequestByTcf()) {
+            return false;
+        }
+
+        context.getBidRejectionTrackers()
+                .get(bidderPrivacyResult.getRequestBidder())
+                .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_PRIVACY);
+        return true;
+    }
+
+    /**
+     * Performs part of bidder request preparation which relies on not thread-safe auction state (activities debug
+     * trace, price floors fetching, prebid errors), so it always runs on the event loop.
+     */
+    private BidderRequestPreparation startBidderRequestPreparation(
             BidderPrivacyResult bidderPrivacyResult,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
             List<Imp> imps,
-            Map<String, MultiBidConfig> bidderToMultiBid,
-            Map<String, ExtBidderConfigOrtb> biddersToConfigs,
-            Map<String, JsonNode> bidderToPrebidBidders,
             BidderAliases bidderAliases,
-            AuctionContext context) {
+            AuctionContext context,
+            List<String> debugWarnings) {
 
-        final boolean blockedRequestByTcf = bidderPrivacyResult.isBlockedRequestByTcf();
-        final boolean blockedAnalyticsByTcf = bidderPrivacyResult.isBlockedAnalyticsByTcf();
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        if (blockedRequestByTcf) {
-            context.getBidRejectionTrackers()
-                    .get(bidder)
-                    .rejectAllImps(BidRejectionReason.REQUEST_BLOCKED_PRIVACY);
-
-            return AuctionParticipation.builder()
-                    .bidder(bidder)
-                    .requestBlocked(true)
-                    .analyticsBlocked(blockedAnalyticsByTcf)
-                    .build();
-        }
-
         final OrtbVersion ortbVersion = bidderSupportedOrtbVersion(bidder, bidderAliases);
         // stored bid response supported only for single imp requests
         final String storedBidResponse = impBidderToStoredBidResponse.size() == 1
@@ -748,14 +840,37 @@ public class ExchangeService {
                 context.getPrebidErrors(),
                 context.getDebugWarnings());
 
+        return new BidderRequestPreparation(
+                bidderPrivacyResult,
+                ortbVersion,
+                storedBidResponse,
+                enrichedWithPriceFloors,
+                transmitTransactionId(bidder, context),
+                debugWarnings);
+    }
+
+    private AuctionParticipation createAuctionParticipation(
+            BidderRequestPreparation preparation,
+            Map<String, MultiBidConfig> bidderToMultiBid,
+            Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            Map<String, JsonNode> bidderToPrebidBidders,
+            BidderAliases bidderAliases,
+            AuctionContext context) {
+
+        final BidderPrivacyResult bidderPrivacyResult = preparation.bidderPrivacyResult();
+        final String bidder = bidderPrivacyResult.getRequestBidder();
+        final BidRequest enrichedWithPriceFloors = preparation.bidRequest();
+
         final BidRequest preparedBidRequest = prepareBidRequest(
                 bidderPrivacyResult,
                 enrichedWithPriceFloors,
+                preparation.transmitTid(),
                 bidderToMultiBid,
                 biddersToConfigs,
                 bidderToPrebidBidders,
                 bidderAliases,
-                context);
+                context,
+                preparation.debugWarnings());
 
         final Map<String, Price> originalPriceFloors = enrichedWithPriceFloors.getImp().stream()
                 .filter(imp -> BidderUtil.isValidPrice(imp.getBidfloor())
@@ -764,8 +879,8 @@ public class ExchangeService {
 
         final BidderRequest bidderRequest = BidderRequest.builder()
                 .bidder(bidder)
-                .ortbVersion(ortbVersion)
-                .storedResponse(storedBidResponse)
+                .ortbVersion(preparation.ortbVersion())
+                .storedResponse(preparation.storedBidResponse())
                 .bidRequest(preparedBidRequest)
                 .originalPriceFloors(originalPriceFloors)
                 .build();
@@ -774,7 +889,7 @@ public class ExchangeService {
                 .bidder(bidder)
                 .bidderRequest(bidderRequest)
                 .requestBlocked(false)
-                .analyticsBlocked(blockedAnalyticsByTcf)
+                .analyticsBlocked(bidderPrivacyResult.isBlockedAnalyticsByTcf())
                 .build();
     }
 
@@ -784,14 +899,15 @@ public class ExchangeService {
 
     private BidRequest prepareBidRequest(BidderPrivacyResult bidderPrivacyResult,
                                          BidRequest bidRequest,
+                                         boolean transmitTid,
                                          Map<String, MultiBidConfig> bidderToMultiBid,
                                          Map<String, ExtBidderConfigOrtb> biddersToConfigs,
                                          Map<String, JsonNode> bidderToPrebidBidders,
                                          BidderAliases bidderAliases,
-                                         AuctionContext context) {
+                                         AuctionContext context,
+                                         List<String> debugWarnings) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        final boolean transmitTid = transmitTransactionId(bidder, context);
         final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
         final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
                 .anyMatch(fpdBidder -> StringUtils.equalsIgnoreCase(fpdBidder, bidder));
@@ -824,12 +940,12 @@ public class ExchangeService {
                                 + "but no more than one of site or app or dooh can be defined");
             }
 
-            context.getDebugWarnings().add("BidRequest contains " + String.join(" and ", distributionChannels)
+            debugWarnings.add("BidRequest contains " + String.join(" and ", distributionChannels)
                     + ". Only the first one is applicable, the others are ignored");
-            final String logMessage = String.join(" and ", distributionChannels) + " are present. "
-                    + "Referer: " + context.getHttpRequest().getHeaders().get(HttpUtil.REFERER_HEADER) + ". "
-                    + "Account: " + context.getAccount().getId();
-            conditionalLogger.warn(logMessage, logSamplingRate);
+            conditionalLogger.warn("{} are present. Referer: {}. Account: {}", logSamplingRate,
+                    () -> String.join(" and ", distributionChannels),
+                    () -> context.getHttpRequest().getHeaders().get(HttpUtil.REFERER_HEADER),
+                    () -> context.getAccount().getId());
         }
 
         final boolean isApp = preparedApp != null;
@@ -842,7 +958,7 @@ public class ExchangeService {
                 useFirstPartyData,
                 context.getAccount(),
                 bidderAliases,
-                context.getDebugWarnings());
+                debugWarnings);
 
         return bidRequest.toBuilder()
                 // User was already prepared above
@@ -1252,9 +1368,24 @@ public class ExchangeService {
         final int adjustmentFactor = timeoutContext.getAdjustmentFactor();
         final long bidderRequestStartTime = clock.millis();
 
+        final String region = adaptiveTimeoutResolver != null ? region(auctionContext.getBidRequest()) : null;
+        final long requestTimeout = resolveRequestTimeout(
+                timeout,
+                auctionStartTime,
+                bidderRequestStartTime,
+                bidderName,
+                resolvedBidderName,
+                region,
+                auctionContext);
+
         return Future.succeededFuture(bidderRequest.getBidRequest())
                 .map(bidRequest -> adjustTmax(
-                        bidRequest, auctionStartTime, adjustmentFactor, bidderRequestStartTime, bidderTmaxDeductionMs))
+                        bidRequest,
+                        auctionStartTime,
+                        adjustmentFactor,
+                        bidderRequestStartTime,
+                        bidderTmaxDeductionMs,
+                        requestTimeout))
                 .map(bidRequest -> ortbVersionConversionManager.convertFromAuctionSupportedVersion(
                         bidRequest, bidderRequest.getOrtbVersion()))
                 .map(bidderRequest::with)
@@ -1262,12 +1393,44 @@ public class ExchangeService {
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                        timeoutFactory.create(bidderRequestStartTime, requestTimeout),
                         requestHeaders,
                         aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
+                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName),
+                        isParallelPreparation(auctionContext)))
                 .map(seatBid -> populateBidderCode(seatBid, bidderName, resolvedBidderName))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                .map(seatBid -> toBidderResponse(
+                        seatBid, bidderRequest, resolvedBidderName, region, bidderRequestStartTime));
+    }
+
+    private BidderResponse toBidderResponse(BidderSeatBid seatBid,
+                                            BidderRequest bidderRequest,
+                                            String resolvedBidderName,
+                                            String region,
+                                            long bidderRequestStartTime) {
+
+        final int responseTime = responseTime(bidderRequestStartTime);
+        if (adaptiveTimeoutResolver != null && isBidderRoundTrip(bidderRequest, seatBid)) {
+            adaptiveTimeoutResolver.recordLatency(resolvedBidderName, region, responseTime);
+        }
+
+        return BidderResponse.of(bidderRequest.getBidder(), seatBid, responseTime);
+    }
+
+    /**
+     * Tells if response time reflects actual bidder latency. Stored responses and responses with errors other than
+     * timeouts (there is always one if no HTTP call was made) take almost no time, and counting them would drag
+     * adaptive timeout of a healthy bidder down to its minimum.
+     */
+    private static boolean isBidderRoundTrip(BidderRequest bidderRequest, BidderSeatBid seatBid) {
+        return StringUtils.isBlank(bidderRequest.getStoredResponse())
+                && seatBid.getErrors().stream().allMatch(error -> error.getType() == BidderError.Type.timeout);
+    }
+
+    private static String region(BidRequest bidRequest) {
+        final Device device = bidRequest.getDevice();
+        final Geo geo = device != null ? device.getGeo() : null;
+        return geo != null ? geo.getCountry() : null;
     }
 
     private BidderSeatBid populateBidderCode(BidderSeatBid seatBid, String bidderName, String resolvedBidderName) {
@@ -1307,21 +1470,49 @@ public class ExchangeService {
                                   long startTime,
                                   int adjustmentFactor,
                                   long currentTime,
-                                  long bidderTmaxDeductionMs) {
+                                  long bidderTmaxDeductionMs,
+                                  long requestTimeout) {
 
         final long tmax = timeoutResolver.limitToMax(bidRequest.getTmax());
         final long adjustedTmax = timeoutResolver.adjustForBidder(
                 tmax, adjustmentFactor, currentTime - startTime, bidderTmaxDeductionMs);
+        final long limitedTmax = adaptiveTimeoutResolver != null
+                ? Math.min(adjustedTmax, requestTimeout)
+                : adjustedTmax;
 
-        return tmax != adjustedTmax
-                ? bidRequest.toBuilder().tmax(adjustedTmax).build()
+        return tmax != limitedTmax
+                ? bidRequest.toBuilder().tmax(limitedTmax).build()
                 : bidRequest;
     }
 
-    private Timeout adjustTimeout(Timeout timeout, long startTime, long currentTime) {
+    /**
+     * Resolves bidder request timeout from the remaining auction time, limited by the bidder observed latency
+     * when adaptive timeouts are enabled.
+     */
+    private long resolveRequestTimeout(Timeout timeout,
+                                       long startTime,
+                                       long currentTime,
+                                       String bidderName,
+                                       String resolvedBidderName,
+                                       String region,
+                                       AuctionContext auctionContext) {
+
         final long adjustedTmax = timeoutResolver.adjustForRequest(
                 timeout.getDeadline() - startTime, currentTime - startTime);
-        return timeoutFactory.create(currentTime, adjustedTmax);
+        if (adaptiveTimeoutResolver == null) {
+            return adjustedTmax;
+        }
+
+        final long requestTimeout = adaptiveTimeoutResolver.resolve(resolvedBidderName, region, adjustedTmax);
+        final long saved = adjustedTmax - requestTimeout;
+        metrics.updateAdapterAdaptiveTimeoutMetrics(resolvedBidderName, requestTimeout, saved);
+
+        final Map<String, ExtAdaptiveTimeout> adaptiveTimeouts = auctionContext.getAdaptiveTimeouts();
+        if (adaptiveTimeouts != null) {
+            adaptiveTimeouts.put(bidderName, ExtAdaptiveTimeout.of(requestTimeout, saved));
+        }
+
+        return requestTimeout;
     }
 
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
@@ -1439,4 +1630,12 @@ public class ExchangeService {
             case rejected_ipf, generic -> MetricName.unknown_error;
         };
     }
+
+    private record BidderRequestPreparation(BidderPrivacyResult bidderPrivacyResult,
+                                            OrtbVersion ortbVersion,
+                                            String storedBidResponse,
+                                            BidRequest bidRequest,
+                                            boolean transmitTid,
+                                            List<String> debugWarnings) {
+    }
 }
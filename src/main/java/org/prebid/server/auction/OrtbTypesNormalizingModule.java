@@ -0,0 +1,128 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidBidderConfig;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies {@link OrtbTypesResolver} normalization while {@link com.iab.openrtb.request.BidRequest} is decoded.
+ * <p>
+ * Only {@link User}, {@link App}, {@link Site} and {@link ExtRequestPrebidBidderConfig} are read as trees, normalized
+ * and then decoded from the normalized tree, everything else is decoded straight from the parser.
+ * Normalization is done only when {@link OrtbTypesResolver.NormalizationState} is given as reader attribute.
+ */
+class OrtbTypesNormalizingModule extends SimpleModule {
+
+    private static final Map<Class<?>, String> FPD_NODE_NAMES = Map.of(
+            User.class, "user",
+            App.class, "app",
+            Site.class, "site");
+
+    private static final String NORMALIZED_TO_NULL = "ortbTypesNormalizedToNull";
+
+    OrtbTypesNormalizingModule(OrtbTypesResolver ortbTypesResolver) {
+        setDeserializerModifier(new NormalizingDeserializerModifier(Objects.requireNonNull(ortbTypesResolver)));
+    }
+
+    private static class NormalizingDeserializerModifier extends BeanDeserializerModifier {
+
+        private final OrtbTypesResolver ortbTypesResolver;
+
+        NormalizingDeserializerModifier(OrtbTypesResolver ortbTypesResolver) {
+            this.ortbTypesResolver = ortbTypesResolver;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonDeserializer<?> deserializer) {
+
+            final Class<?> beanClass = beanDesc.getBeanClass();
+            final String fpdNodeName = FPD_NODE_NAMES.get(beanClass);
+            if (fpdNodeName != null) {
+                return new NormalizingDeserializer(deserializer, ortbTypesResolver, fpdNodeName);
+            }
+
+            return beanClass == ExtRequestPrebidBidderConfig.class
+                    ? new NormalizingDeserializer(deserializer, ortbTypesResolver, null)
+                    : deserializer;
+        }
+    }
+
+    private static class NormalizingDeserializer extends DelegatingDeserializer {
+
+        private final OrtbTypesResolver ortbTypesResolver;
+        private final String fpdNodeName;
+
+        NormalizingDeserializer(JsonDeserializer<?> delegate, OrtbTypesResolver ortbTypesResolver, String fpdNodeName) {
+            super(delegate);
+            this.ortbTypesResolver = ortbTypesResolver;
+            this.fpdNodeName = fpdNodeName;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new NormalizingDeserializer(newDelegatee, ortbTypesResolver, fpdNodeName);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            final OrtbTypesResolver.NormalizationState state = state(ctxt);
+            if (state == null) {
+                return super.deserialize(p, ctxt);
+            }
+
+            final JsonNode normalizedNode = normalize(ctxt.readTree(p), state);
+            if (normalizedNode == null) {
+                // null result is followed by getNullValue call, which should not be reported as explicit null
+                ctxt.setAttribute(NORMALIZED_TO_NULL, Boolean.TRUE);
+                return null;
+            }
+
+            try (JsonParser normalizedParser = normalizedNode.traverse(p.getCodec())) {
+                normalizedParser.nextToken();
+                return super.deserialize(normalizedParser, ctxt);
+            }
+        }
+
+        /**
+         * Explicit null is reported by tree normalization as well, so it should be here.
+         */
+        @Override
+        public Object getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+            final OrtbTypesResolver.NormalizationState state = state(ctxt);
+            if (state != null && ctxt.getAttribute(NORMALIZED_TO_NULL) == null) {
+                normalize(NullNode.getInstance(), state);
+            }
+            ctxt.setAttribute(NORMALIZED_TO_NULL, null);
+
+            return super.getNullValue(ctxt);
+        }
+
+        private JsonNode normalize(JsonNode node, OrtbTypesResolver.NormalizationState state) {
+            return fpdNodeName != null
+                    ? ortbTypesResolver.normalizeFpdNode(node, fpdNodeName, state)
+                    : ortbTypesResolver.normalizeBidderConfig(node, state);
+        }
+
+        private static OrtbTypesResolver.NormalizationState state(DeserializationContext ctxt) {
+            return (OrtbTypesResolver.NormalizationState) ctxt.getAttribute(OrtbTypesResolver.NormalizationState.class);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.InvalidRequestException;
@@ -17,8 +19,10 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.util.StreamUtil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +51,7 @@ public class OrtbTypesResolver {
     private static final String ORTB2 = "ortb2";
     private static final String CONTEXT = "context";
     private static final String UNKNOWN_REFERER = "unknown referer";
+    private static final String BIDREQUEST_PREFIX = "bidrequest.";
 
     private static final JsonPointer EXT_PREBID_BIDDER_CONFIG = JsonPointer.valueOf("/ext/prebid/bidderconfig");
     private static final JsonPointer CONFIG_ORTB2 = JsonPointer.valueOf("/config/ortb2");
@@ -72,6 +77,7 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private volatile ObjectReader bidRequestReader;
 
     public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
@@ -82,24 +88,87 @@ public class OrtbTypesResolver {
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
         final List<String> resolverWarnings = new ArrayList<>();
 
-        normalizeFpdFields(bidRequest, "bidrequest.", resolverWarnings);
+        normalizeFpdFields(bidRequest, BIDREQUEST_PREFIX, resolverWarnings);
 
         final String source = source(bidRequest);
         final JsonNode bidderConfigs = bidRequest.at(EXT_PREBID_BIDDER_CONFIG);
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
             for (JsonNode bidderConfig : bidderConfigs) {
-                mergeFpdFieldsToOrtb2(bidderConfig, source);
-
-                final JsonNode ortb2Config = bidderConfig.at(CONFIG_ORTB2);
-                if (!ortb2Config.isMissingNode()) {
-                    normalizeFpdFields(ortb2Config, "bidrequest.ext.prebid.bidderconfig.", resolverWarnings);
-                }
+                normalizeBidderConfig(bidderConfig, source, resolverWarnings);
             }
         }
 
         processWarnings(resolverWarnings, warnings, referer, "bidrequest", getOriginalRowContainerNode(bidRequest));
     }
 
+    /**
+     * Decodes given body straight into {@link BidRequest} with the same normalization and warnings as
+     * {@link #normalizeBidRequest} does for the tree of the whole request.
+     * <p>
+     * Only site, app, user and bidder configs are read as trees to be normalized, the rest of request
+     * (imps first of all) is decoded without building intermediate tree.
+     */
+    public BidRequest decodeBidRequest(String body, List<String> warnings, String referer) throws IOException {
+        final NormalizationState state = new NormalizationState();
+        final BidRequest bidRequest = bidRequestReader()
+                .withAttribute(NormalizationState.class, state)
+                .readValue(body);
+
+        if (state.deprecatedFpdConfig) {
+            logDeprecatedFpdConfig(state.source());
+        }
+        processWarnings(state.warnings(), warnings, referer, "bidrequest", body);
+
+        return bidRequest;
+    }
+
+    /**
+     * Reader is created on first use rather than in constructor, since its normalizing module refers to this resolver.
+     * Concurrent first calls may create it more than once, which is harmless.
+     */
+    private ObjectReader bidRequestReader() {
+        ObjectReader reader = bidRequestReader;
+        if (reader == null) {
+            reader = jacksonMapper.mapper().copy()
+                    .registerModule(new OrtbTypesNormalizingModule(this))
+                    .readerFor(BidRequest.class);
+            bidRequestReader = reader;
+        }
+        return reader;
+    }
+
+    JsonNode normalizeFpdNode(JsonNode node, String nodeName, NormalizationState state) {
+        final JsonNode normalizedNode = normalizeNode(node, nodeName, state.warningsFor(nodeName), BIDREQUEST_PREFIX);
+        if (normalizedNode != null) {
+            state.addSource(nodeName, normalizedNode);
+        }
+
+        return normalizedNode;
+    }
+
+    JsonNode normalizeBidderConfig(JsonNode bidderConfig, NormalizationState state) {
+        // request source could be not known yet at this point, so deprecated config usage is logged after decoding
+        state.deprecatedFpdConfig |= normalizeBidderConfig(bidderConfig, state.bidderConfigWarnings);
+        return bidderConfig;
+    }
+
+    private void normalizeBidderConfig(JsonNode bidderConfig, String source, List<String> warnings) {
+        if (normalizeBidderConfig(bidderConfig, warnings)) {
+            logDeprecatedFpdConfig(source);
+        }
+    }
+
+    private boolean normalizeBidderConfig(JsonNode bidderConfig, List<String> warnings) {
+        final boolean deprecatedFpdConfig = mergeFpdFieldsToOrtb2(bidderConfig);
+
+        final JsonNode ortb2Config = bidderConfig.at(CONFIG_ORTB2);
+        if (!ortb2Config.isMissingNode()) {
+            normalizeFpdFields(ortb2Config, "bidrequest.ext.prebid.bidderconfig.", warnings);
+        }
+
+        return deprecatedFpdConfig;
+    }
+
     private void normalizeFpdFields(JsonNode fpdContainerNode, String prefix, List<String> warnings) {
         if (fpdContainerNode != null && fpdContainerNode.isObject()) {
             final ObjectNode fpdContainerObjectNode = (ObjectNode) fpdContainerNode;
@@ -320,22 +389,23 @@ public class OrtbTypesResolver {
         containerNode.set(EXT, jacksonMapper.mapper().createObjectNode().set(DATA, data));
     }
 
-    private void mergeFpdFieldsToOrtb2(JsonNode bidderConfig, String source) {
+    /**
+     * Returns true if deprecated config.fpd was found in the given bidder config.
+     */
+    private boolean mergeFpdFieldsToOrtb2(JsonNode bidderConfig) {
         final JsonNode config = bidderConfig.path(CONFIG);
         final JsonNode configFpd = config.path(FPD);
 
         if (configFpd.isMissingNode()) {
-            return;
+            return false;
         }
 
-        logDeprecatedFpdConfig(source);
-
         final JsonNode configOrtb = config.path(ORTB2);
         final JsonNode updatedOrtbSite = updatedOrtb2Node(configFpd, CONTEXT, configOrtb, SITE);
         final JsonNode updatedOrtbUser = updatedOrtb2Node(configFpd, USER, configOrtb, USER);
 
         if (updatedOrtbUser == null && updatedOrtbSite == null) {
-            return;
+            return true;
         }
 
         final ObjectNode ortbObjectNode = configOrtb.isMissingNode()
@@ -346,6 +416,7 @@ public class OrtbTypesResolver {
         setIfNotNull(ortbObjectNode, USER, updatedOrtbUser);
 
         ((ObjectNode) config).set(ORTB2, ortbObjectNode);
+        return true;
     }
 
     private void logDeprecatedFpdConfig(String source) {
@@ -404,4 +475,47 @@ public class OrtbTypesResolver {
         normalizeFpdFields(targeting, "targeting.", resolverWarnings);
         processWarnings(resolverWarnings, warnings, referer, "targeting", getOriginalRowContainerNode(targeting));
     }
+
+    /**
+     * Collects warnings and request source while {@link BidRequest} is decoded, so they could be reported
+     * in the same order as for {@link #normalizeBidRequest}, whatever order fields come in.
+     */
+    static class NormalizationState {
+
+        private final Map<String, List<String>> fpdWarnings = new HashMap<>();
+        private final List<String> bidderConfigWarnings = new ArrayList<>();
+        private boolean deprecatedFpdConfig;
+        private String appBundle;
+        private String sitePage;
+
+        private List<String> warningsFor(String nodeName) {
+            return fpdWarnings.computeIfAbsent(nodeName, ignored -> new ArrayList<>());
+        }
+
+        private void addSource(String nodeName, JsonNode node) {
+            final JsonNode source = node.get(nodeName.equals(APP) ? "bundle" : "page");
+            if (source == null || !source.isTextual()) {
+                return;
+            }
+
+            if (nodeName.equals(APP)) {
+                appBundle = source.textValue();
+            } else if (nodeName.equals(SITE)) {
+                sitePage = source.textValue();
+            }
+        }
+
+        private String source() {
+            return appBundle != null ? appBundle : sitePage;
+        }
+
+        private List<String> warnings() {
+            final List<String> warnings = new ArrayList<>();
+            for (String nodeName : List.of(USER, APP, SITE)) {
+                warnings.addAll(fpdWarnings.getOrDefault(nodeName, Collections.emptyList()));
+            }
+            warnings.addAll(bidderConfigWarnings);
+            return warnings;
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Compiled form of {@link PriceGranularity}: range boundaries and increments are kept as integer micro-CPM values
+ * and every reachable price bucket is precomputed both as a number and as a formatted string.
+ * <p>
+ * Resolving a bucket for a CPM is then just integer arithmetic plus table lookup, which gives exactly the same
+ * result as {@link CpmRange} computations on {@link BigDecimal}s.
+ */
+class PriceBuckets {
+
+    private static final int MICROS_SCALE = 6;
+    private static final int MAX_BUCKETS = 10_000;
+
+    private static final long MAX_MICROS = Long.MAX_VALUE >> 2;
+    private static final int NOT_RESOLVED = -1;
+
+    private final long[] rangesMax;
+    private final long[] rangesMin;
+    private final long[] increments;
+    private final int[] offsets;
+    private final long rangesMaxMicros;
+
+    private final BigDecimal[] values;
+    private final String[] texts;
+
+    private PriceBuckets(long[] rangesMax,
+                         long[] rangesMin,
+                         long[] increments,
+                         int[] offsets,
+                         long rangesMaxMicros,
+                         BigDecimal[] values,
+                         String[] texts) {
+
+        this.rangesMax = rangesMax;
+        this.rangesMin = rangesMin;
+        this.increments = increments;
+        this.offsets = offsets;
+        this.rangesMaxMicros = rangesMaxMicros;
+        this.values = values;
+        this.texts = texts;
+    }
+
+    /**
+     * Compiles given ranges into {@link PriceBuckets}.
+     * <p>
+     * Returns null if ranges cannot be represented with integer micro-CPM arithmetic (unsorted ranges, increments
+     * finer than one micro, etc.) or produce too many buckets, in which case {@link CpmRange} falls back to
+     * {@link BigDecimal} computations.
+     */
+    static PriceBuckets compile(List<ExtGranularityRange> ranges, BigDecimal rangesMax, Integer precision) {
+        if (ranges == null || ranges.isEmpty()) {
+            return null;
+        }
+
+        final int size = ranges.size();
+        final long[] maxMicros = new long[size];
+        final long[] minMicros = new long[size];
+        final long[] incrementMicros = new long[size];
+        final int[] offsets = new int[size];
+
+        long previousMax = 0L;
+        long bucketsCount = 0L;
+        for (int i = 0; i < size; i++) {
+            final ExtGranularityRange range = ranges.get(i);
+            final long max = range != null ? toMicros(range.getMax()) : NOT_RESOLVED;
+            final long increment = range != null ? toMicros(range.getIncrement()) : NOT_RESOLVED;
+            if (max < previousMax || increment <= 0) {
+                return null;
+            }
+
+            maxMicros[i] = max;
+            minMicros[i] = previousMax;
+            incrementMicros[i] = increment;
+            offsets[i] = (int) bucketsCount;
+
+            bucketsCount += ceilSteps(max - previousMax, increment) + 1;
+            if (bucketsCount > MAX_BUCKETS) {
+                return null;
+            }
+
+            previousMax = max;
+        }
+
+        final long rangesMaxMicros = toMicros(rangesMax);
+        if (rangesMaxMicros != previousMax) {
+            return null;
+        }
+
+        // last bucket is reserved for CPMs exceeding ranges max
+        final int length = (int) bucketsCount + 1;
+        final BigDecimal[] values = new BigDecimal[length];
+        final String[] texts = new String[length];
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            final ExtGranularityRange range = ranges.get(i);
+            final BigDecimal increment = range.getIncrement();
+            final int steps = (int) ceilSteps(maxMicros[i] - minMicros[i], incrementMicros[i]);
+            for (int step = 0; step <= steps; step++) {
+                final BigDecimal value = BigDecimal.valueOf(step).multiply(increment).add(min);
+                values[offsets[i] + step] = value;
+                texts[offsets[i] + step] = CpmRange.format(value, precision);
+            }
+            min = range.getMax();
+        }
+
+        values[length - 1] = rangesMax;
+        texts[length - 1] = CpmRange.format(rangesMax, precision);
+
+        return new PriceBuckets(maxMicros, minMicros, incrementMicros, offsets, rangesMaxMicros, values, texts);
+    }
+
+    /**
+     * Returns rounded price for the given positive CPM or null if it cannot be resolved from precomputed buckets.
+     */
+    BigDecimal value(BigDecimal cpm, RoundingMode roundingMode) {
+        final int index = index(cpm, roundingMode);
+        return index != NOT_RESOLVED ? values[index] : null;
+    }
+
+    /**
+     * Returns formatted rounded price for the given positive CPM or null if it cannot be resolved from
+     * precomputed buckets.
+     */
+    String text(BigDecimal cpm, RoundingMode roundingMode) {
+        final int index = index(cpm, roundingMode);
+        return index != NOT_RESOLVED ? texts[index] : null;
+    }
+
+    private int index(BigDecimal cpm, RoundingMode roundingMode) {
+        final boolean exact = cpm.scale() <= MICROS_SCALE;
+        if (!exact && roundingMode == RoundingMode.HALF_UP) {
+            return NOT_RESOLVED;
+        }
+
+        // sub-micro fraction never changes the range a CPM belongs to, neither floor nor ceiling of the step
+        final long ceilMicros = toMicros(exact ? cpm : cpm.setScale(MICROS_SCALE, RoundingMode.CEILING));
+        if (ceilMicros == NOT_RESOLVED) {
+            return NOT_RESOLVED;
+        }
+        if (ceilMicros > rangesMaxMicros) {
+            return values.length - 1;
+        }
+
+        final long micros = exact || roundingMode == RoundingMode.CEILING
+                ? ceilMicros
+                : toMicros(cpm.setScale(MICROS_SCALE, RoundingMode.FLOOR));
+
+        for (int i = 0; i < rangesMax.length; i++) {
+            if (ceilMicros <= rangesMax[i]) {
+                final long steps = steps(micros - rangesMin[i], increments[i], roundingMode);
+                return steps != NOT_RESOLVED ? offsets[i] + (int) steps : NOT_RESOLVED;
+            }
+        }
+
+        return NOT_RESOLVED;
+    }
+
+    private static long steps(long delta, long increment, RoundingMode roundingMode) {
+        return switch (roundingMode) {
+            case FLOOR -> delta / increment;
+            case CEILING -> ceilSteps(delta, increment);
+            case HALF_UP -> delta / increment + (2 * (delta % increment) >= increment ? 1 : 0);
+            default -> NOT_RESOLVED;
+        };
+    }
+
+    private static long ceilSteps(long delta, long increment) {
+        return (delta + increment - 1) / increment;
+    }
+
+    private static long toMicros(BigDecimal value) {
+        if (value == null || value.signum() < 0 || value.scale() > MICROS_SCALE) {
+            return NOT_RESOLVED;
+        }
+
+        try {
+            final long micros = value.movePointRight(MICROS_SCALE).longValueExact();
+            return micros <= MAX_MICROS ? micros : NOT_RESOLVED;
+        } catch (ArithmeticException e) {
+            return NOT_RESOLVED;
+        }
+    }
+}
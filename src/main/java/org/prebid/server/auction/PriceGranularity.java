@@ -1,5 +1,6 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.EnumUtils;
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -23,6 +25,13 @@ public class PriceGranularity {
         low, medium, med, high, auto, dense
     }
 
+    private static final int COMPILED_CACHE_SIZE = 1_000;
+
+    private static final Map<ExtPriceGranularity, PriceGranularity> EXT_TO_PRICE_GRANULARITY = Caffeine.newBuilder()
+            .maximumSize(COMPILED_CACHE_SIZE)
+            .<ExtPriceGranularity, PriceGranularity>build()
+            .asMap();
+
     private static final EnumMap<PriceGranularityType, PriceGranularity> STRING_TO_CUSTOM_PRICE_GRANULARITY =
             new EnumMap<>(PriceGranularityType.class);
 
@@ -47,18 +56,24 @@ public class PriceGranularity {
     private List<ExtGranularityRange> ranges;
     private BigDecimal rangesMax;
     private Integer precision;
+    private PriceBuckets buckets;
 
     private PriceGranularity(List<ExtGranularityRange> ranges, BigDecimal rangesMax, Integer precision) {
         this.ranges = ranges;
         this.rangesMax = rangesMax;
         this.precision = precision;
+        this.buckets = PriceBuckets.compile(ranges, rangesMax, precision);
     }
 
     /**
      * Creates {@link PriceGranularity} from {@link ExtPriceGranularity}.
+     * <p>
+     * Compiled instances are cached per distinct {@link ExtPriceGranularity}, since the same few granularities
+     * are sent by publishers over and over.
      */
     public static PriceGranularity createFromExtPriceGranularity(ExtPriceGranularity extPriceGranularity) {
-        return createFromRanges(extPriceGranularity.getPrecision(), extPriceGranularity.getRanges());
+        return EXT_TO_PRICE_GRANULARITY.computeIfAbsent(extPriceGranularity,
+                key -> createFromRanges(key.getPrecision(), key.getRanges()));
     }
 
     /**
@@ -99,6 +114,13 @@ public class PriceGranularity {
         return precision;
     }
 
+    /**
+     * Returns precomputed {@link PriceBuckets} or null if ranges cannot be compiled.
+     */
+    PriceBuckets getBuckets() {
+        return buckets;
+    }
+
     /**
      * Creates {@link PriceGranularity} for string representation and puts it to
      * {@link EnumMap<PriceGranularityType, PriceGranularity>}.
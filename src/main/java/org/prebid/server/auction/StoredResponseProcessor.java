@@ -3,6 +3,8 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -60,11 +62,20 @@ public class StoredResponseProcessor {
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    /**
+     * Parsed seat bids keyed by identity of raw stored response. Caching application settings hand out the same
+     * instance while stored response is cached, so parsing happens once per cached entry and parsed result is
+     * dropped as soon as raw stored response is evicted or invalidated.
+     */
+    private final Cache<String, List<SeatBid>> parsedSeatBidsCache;
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+
+        parsedSeatBidsCache = Caffeine.newBuilder().weakKeys().build();
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -240,8 +251,12 @@ public class StoredResponseProcessor {
     }
 
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        return parsedSeatBidsCache.get(rowSeatBid, key -> doParseSeatBid(id, key));
+    }
+
+    private List<SeatBid> doParseSeatBid(String id, String rowSeatBid) {
         try {
-            return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            return Collections.unmodifiableList(mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE));
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored response with id " + id);
         }
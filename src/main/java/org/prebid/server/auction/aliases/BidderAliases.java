@@ -81,8 +81,7 @@ public class BidderAliases {
     }
 
     private Integer resolveAliasVendorIdViaCatalog(String alias) {
-        final String bidderName = resolveBidder(alias);
-        return bidderCatalog.isActive(bidderName) ? bidderCatalog.vendorIdByName(bidderName) : null;
+        return bidderCatalog.activeVendorIdByName(resolveBidder(alias));
     }
 
     public boolean isAllowedAlternateBidderCode(String bidder, String alternateBidderCode) {
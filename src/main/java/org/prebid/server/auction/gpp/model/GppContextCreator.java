@@ -17,11 +17,15 @@ public class GppContextCreator {
     }
 
     public static GppContextBuilder from(String gpp, List<Integer> gppSid) {
+        return from(gpp, gppSid, null);
+    }
+
+    public static GppContextBuilder from(String gpp, List<Integer> gppSid, GppModelCache gppModelCache) {
         final List<String> errors = new ArrayList<>();
 
         GppModel gppModel;
         try {
-            gppModel = GppContextUtils.gppModel(gpp);
+            gppModel = gppModelCache != null ? gppModelCache.gppModel(gpp) : GppContextUtils.gppModel(gpp);
         } catch (PreBidException e) {
             gppModel = null;
             errors.add(e.getMessage());
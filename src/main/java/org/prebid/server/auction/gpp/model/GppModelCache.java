@@ -0,0 +1,56 @@
+package org.prebid.server.auction.gpp.model;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.gpp.encoder.GppModel;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+
+/**
+ * Keeps decoded GPP models by GPP strings, so the same string sent by many requests is decoded only once.
+ * <p>
+ * Cached models are read-only {@link GppModelWrapper}s with lazily decoded sections, safe to share between
+ * requests. Invalid GPP strings are not cached.
+ */
+public class GppModelCache {
+
+    private final Cache<String, GppModel> cache;
+    private final Metrics metrics;
+
+    public GppModelCache(int size, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = size > 0
+                ? Caffeine.newBuilder().maximumSize(size).build()
+                : null;
+    }
+
+    public GppModel gppModel(String gpp) {
+        if (StringUtils.isEmpty(gpp)) {
+            return null;
+        }
+        if (cache == null) {
+            return decode(gpp);
+        }
+
+        final GppModel cachedGppModel = cache.getIfPresent(gpp);
+        if (cachedGppModel != null) {
+            metrics.updatePrivacyGppCacheMetric(true);
+            return cachedGppModel;
+        }
+
+        metrics.updatePrivacyGppCacheMetric(false);
+        final GppModel gppModel = decode(gpp);
+        cache.put(gpp, gppModel);
+        return gppModel;
+    }
+
+    private GppModel decode(String gpp) {
+        final long startTime = System.nanoTime();
+        final GppModel gppModel = GppContextUtils.gppModel(gpp);
+        metrics.updatePrivacyGppDecodeTimeMetric(System.nanoTime() - startTime);
+        return gppModel;
+    }
+}
@@ -3,34 +3,128 @@ package org.prebid.server.auction.gpp.model;
 import com.iab.gpp.encoder.GppModel;
 import com.iab.gpp.encoder.error.DecodingException;
 import com.iab.gpp.encoder.error.EncodingException;
+import com.iab.gpp.encoder.field.HeaderV1Field;
+import com.iab.gpp.encoder.field.TcfCaV1Field;
+import com.iab.gpp.encoder.field.TcfEuV2Field;
+import com.iab.gpp.encoder.field.UsCaField;
+import com.iab.gpp.encoder.field.UsCoField;
+import com.iab.gpp.encoder.field.UsCtField;
+import com.iab.gpp.encoder.field.UsDeField;
+import com.iab.gpp.encoder.field.UsFlField;
+import com.iab.gpp.encoder.field.UsIaField;
+import com.iab.gpp.encoder.field.UsMtField;
+import com.iab.gpp.encoder.field.UsNatField;
+import com.iab.gpp.encoder.field.UsNeField;
+import com.iab.gpp.encoder.field.UsNhField;
+import com.iab.gpp.encoder.field.UsNjField;
+import com.iab.gpp.encoder.field.UsOrField;
+import com.iab.gpp.encoder.field.UsTnField;
+import com.iab.gpp.encoder.field.UsTxField;
+import com.iab.gpp.encoder.field.UsUtField;
+import com.iab.gpp.encoder.field.UsVaField;
+import com.iab.gpp.encoder.field.UspV1Field;
+import com.iab.gpp.encoder.section.EncodableSection;
 import com.iab.gpp.encoder.section.HeaderV1;
+import com.iab.gpp.encoder.section.TcfCaV1;
+import com.iab.gpp.encoder.section.TcfEuV2;
+import com.iab.gpp.encoder.section.UsCa;
+import com.iab.gpp.encoder.section.UsCo;
+import com.iab.gpp.encoder.section.UsCt;
+import com.iab.gpp.encoder.section.UsDe;
+import com.iab.gpp.encoder.section.UsFl;
+import com.iab.gpp.encoder.section.UsIa;
+import com.iab.gpp.encoder.section.UsMt;
+import com.iab.gpp.encoder.section.UsNat;
+import com.iab.gpp.encoder.section.UsNe;
+import com.iab.gpp.encoder.section.UsNh;
+import com.iab.gpp.encoder.section.UsNj;
+import com.iab.gpp.encoder.section.UsOr;
+import com.iab.gpp.encoder.section.UsTn;
+import com.iab.gpp.encoder.section.UsTx;
+import com.iab.gpp.encoder.section.UsUt;
+import com.iab.gpp.encoder.section.UsVa;
+import com.iab.gpp.encoder.section.UspV1;
 import io.netty.util.collection.IntObjectHashMap;
 import io.netty.util.collection.IntObjectMap;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Read-only {@link GppModel} which can be shared between requests.
+ * <p>
+ * Sections payloads are decoded lazily, on first access to the section, and the whole section is decoded at once
+ * under the model lock, so the returned sections are never decoded concurrently. Any modification of the model
+ * is rejected.
+ */
 public class GppModelWrapper extends GppModel {
 
     private static final int TCF_EU_V2_ID = 2;
     private static final int USP_V1_ID = 6;
 
+    /**
+     * Sections are decoded segment by segment on first field access, so reading one field of each segment
+     * decodes the whole section.
+     */
+    private static final Map<String, List<String>> SECTION_SEGMENTS_FIELDS = Map.ofEntries(
+            segmentsFields(HeaderV1.NAME, HeaderV1Field.HEADER_CORE_SEGMENT_FIELD_NAMES),
+            segmentsFields(TcfCaV1.NAME,
+                    TcfCaV1Field.TCFCAV1_CORE_SEGMENT_FIELD_NAMES,
+                    TcfCaV1Field.TCFCAV1_PUBLISHER_PURPOSES_SEGMENT_FIELD_NAMES,
+                    TcfCaV1Field.TCFCAV1_DISCLOSED_VENDORS_SEGMENT_FIELD_NAMES),
+            segmentsFields(TcfEuV2.NAME,
+                    TcfEuV2Field.TCFEUV2_CORE_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_PUBLISHER_PURPOSES_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_VENDORS_ALLOWED_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_VENDORS_DISCLOSED_SEGMENT_FIELD_NAMES),
+            segmentsFields(UspV1.NAME, UspV1Field.USPV1_CORE_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsNat.NAME,
+                    UsNatField.USNAT_CORE_SEGMENT_FIELD_NAMES, UsNatField.USNAT_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsCa.NAME, UsCaField.USCA_CORE_SEGMENT_FIELD_NAMES, UsCaField.USCA_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsVa.NAME, UsVaField.USVA_CORE_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsCo.NAME, UsCoField.USCO_CORE_SEGMENT_FIELD_NAMES, UsCoField.USCO_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsUt.NAME, UsUtField.USUT_CORE_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsCt.NAME, UsCtField.USCT_CORE_SEGMENT_FIELD_NAMES, UsCtField.USCT_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsFl.NAME, UsFlField.USFL_CORE_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsMt.NAME, UsMtField.USMT_CORE_SEGMENT_FIELD_NAMES, UsMtField.USMT_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsOr.NAME, UsOrField.USOR_CORE_SEGMENT_FIELD_NAMES, UsOrField.USOR_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsTx.NAME, UsTxField.USTX_CORE_SEGMENT_FIELD_NAMES, UsTxField.USTX_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsDe.NAME, UsDeField.USDE_CORE_SEGMENT_FIELD_NAMES, UsDeField.USDE_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsIa.NAME, UsIaField.USIA_CORE_SEGMENT_FIELD_NAMES, UsIaField.USIA_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsNe.NAME, UsNeField.USNE_CORE_SEGMENT_FIELD_NAMES, UsNeField.USNE_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsNh.NAME, UsNhField.USNH_CORE_SEGMENT_FIELD_NAMES, UsNhField.USNH_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsNj.NAME, UsNjField.USNJ_CORE_SEGMENT_FIELD_NAMES, UsNjField.USNJ_GPC_SEGMENT_FIELD_NAMES),
+            segmentsFields(UsTn.NAME, UsTnField.USTN_CORE_SEGMENT_FIELD_NAMES, UsTnField.USTN_GPC_SEGMENT_FIELD_NAMES));
+
     private IntObjectMap<String> sectionIdToEncodedString;
+    private Set<String> decodedSections;
 
     public GppModelWrapper(String encodedString) throws DecodingException {
         super(encodedString);
     }
 
-    private void init() {
-        if (sectionIdToEncodedString == null) {
-            sectionIdToEncodedString = new IntObjectHashMap<>();
+    @SafeVarargs
+    private static Map.Entry<String, List<String>> segmentsFields(String sectionName, List<String>... segments) {
+        final List<String> fields = new ArrayList<>(segments.length);
+        for (List<String> segment : segments) {
+            fields.add(segment.getFirst());
         }
-        sectionIdToEncodedString.clear();
+        return Map.entry(sectionName, Collections.unmodifiableList(fields));
     }
 
     @Override
     public void decode(String str) throws DecodingException {
+        if (sectionIdToEncodedString != null) {
+            throw new UnsupportedOperationException("GPP model is read-only");
+        }
+
         super.decode(str);
-        init();
+        sectionIdToEncodedString = new IntObjectHashMap<>();
+        decodedSections = new HashSet<>();
 
         final String[] encodedSections = str.split("~");
         final List<Integer> sectionIds = ((HeaderV1) getSection(HeaderV1.NAME)).getSectionsIds();
@@ -43,6 +137,37 @@ public class GppModelWrapper extends GppModel {
         }
     }
 
+    @Override
+    public synchronized EncodableSection getSection(String sectionName) {
+        final EncodableSection section = super.getSection(sectionName);
+        if (section != null && decodedSections.add(sectionName)) {
+            decodeSegments(section);
+        }
+        return section;
+    }
+
+    private static void decodeSegments(EncodableSection section) {
+        try {
+            for (String fieldName : SECTION_SEGMENTS_FIELDS.getOrDefault(section.getName(), List.of())) {
+                section.getFieldValue(fieldName);
+            }
+        } catch (RuntimeException e) {
+            // the same error will be thrown on the section field access
+        }
+    }
+
+    @Override
+    public boolean hasField(String sectionName, String fieldName) {
+        final EncodableSection section = getSection(sectionName);
+        return section != null && section.hasField(fieldName);
+    }
+
+    @Override
+    public Object getFieldValue(String sectionName, String fieldName) {
+        final EncodableSection section = getSection(sectionName);
+        return section != null ? section.getFieldValue(fieldName) : null;
+    }
+
     @Override
     public String encodeSection(int sectionId) throws EncodingException {
         final String originalSectionString = sectionIdToEncodedString.get(sectionId);
@@ -50,4 +175,34 @@ public class GppModelWrapper extends GppModel {
                 ? originalSectionString
                 : super.encodeSection(sectionId);
     }
+
+    @Override
+    public synchronized String encodeSection(String sectionName) throws EncodingException {
+        return super.encodeSection(sectionName);
+    }
+
+    @Override
+    public synchronized String encode() throws EncodingException {
+        return super.encode();
+    }
+
+    @Override
+    public void setFieldValue(String sectionName, String fieldName, Object value) {
+        throw new UnsupportedOperationException("GPP model is read-only");
+    }
+
+    @Override
+    public void deleteSection(String sectionName) {
+        throw new UnsupportedOperationException("GPP model is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("GPP model is read-only");
+    }
+
+    @Override
+    public void decodeSection(String sectionName, String encodedString) throws DecodingException {
+        throw new UnsupportedOperationException("GPP model is read-only");
+    }
 }
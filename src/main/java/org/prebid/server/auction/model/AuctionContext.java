@@ -15,6 +15,7 @@ import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.proto.openrtb.ext.response.ExtAdaptiveTimeout;
 import org.prebid.server.settings.model.Account;
 
 import java.util.List;
@@ -47,6 +48,8 @@ public class AuctionContext {
 
     Map<String, List<DebugHttpCall>> debugHttpCalls;
 
+    Map<String, ExtAdaptiveTimeout> adaptiveTimeouts;
+
     Map<String, BidRejectionTracker> bidRejectionTrackers;
 
     @JsonIgnore
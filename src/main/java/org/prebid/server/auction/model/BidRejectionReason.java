@@ -53,6 +53,11 @@ public enum BidRejectionReason {
      */
     REQUEST_BLOCKED_UNSUPPORTED_MEDIA_TYPE(202),
 
+    /**
+     * If the request was not sent to the bidder because of traffic shaping.
+     */
+    REQUEST_BLOCKED_OPTIMIZED(203),
+
     /**
      * If the bidder was not called due to GDPR purpose 2
      */
@@ -63,6 +68,12 @@ public enum BidRejectionReason {
      */
     REQUEST_BLOCKED_UNACCEPTABLE_CURRENCY(205),
 
+    /**
+     * If the request was not sent to the bidder because server was overloaded and admission control limited
+     * the number of bidders called.
+     */
+    REQUEST_BLOCKED_LOAD_SHEDDING(206),
+
     /**
      * The bidder is called, but its response is rejected.
      * Applied if any other RESPONSE_REJECTED reason is not recognized.
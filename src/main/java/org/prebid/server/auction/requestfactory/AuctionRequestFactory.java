@@ -38,6 +38,7 @@ import java.util.Optional;
 public class AuctionRequestFactory {
 
     private final long maxRequestSize;
+    private final boolean streamingRequestParsing;
     private final Ortb2RequestFactory ortb2RequestFactory;
     private final StoredRequestProcessor storedRequestProcessor;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
@@ -56,6 +57,7 @@ public class AuctionRequestFactory {
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
     public AuctionRequestFactory(long maxRequestSize,
+                                 boolean streamingRequestParsing,
                                  Ortb2RequestFactory ortb2RequestFactory,
                                  StoredRequestProcessor storedRequestProcessor,
                                  BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
@@ -72,6 +74,7 @@ public class AuctionRequestFactory {
                                  BidAdjustmentsEnricher bidAdjustmentsEnricher) {
 
         this.maxRequestSize = maxRequestSize;
+        this.streamingRequestParsing = streamingRequestParsing;
         this.ortb2RequestFactory = Objects.requireNonNull(ortb2RequestFactory);
         this.storedRequestProcessor = Objects.requireNonNull(storedRequestProcessor);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
@@ -171,18 +174,31 @@ public class AuctionRequestFactory {
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
-
             final String referer = paramsExtractor.refererFrom(httpRequest);
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            final BidRequest bidRequest = streamingRequestParsing
+                    ? decodeBidRequest(httpRequest.getBody(), errors, referer)
+                    : normalizeAndDecodeBidRequest(httpRequest.getBody(), errors, referer);
 
-            return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode))
-                    .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
+            return Future.succeededFuture(fillWithValuesFromHttpRequest(bidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    private BidRequest decodeBidRequest(String body, List<String> errors, String referer) {
+        try {
+            return ortbTypesResolver.decodeBidRequest(body, errors, referer);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
+        }
+    }
+
+    private BidRequest normalizeAndDecodeBidRequest(String body, List<String> errors, String referer) {
+        final JsonNode bidRequestNode = bodyAsJsonNode(body);
+        ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+        return jsonNodeAsBidRequest(bidRequestNode);
+    }
+
     private JsonNode bodyAsJsonNode(String body) {
         try {
             return mapper.mapper().readTree(body);
@@ -90,6 +90,7 @@ public class Ortb2RequestFactory {
 
     private static final ConditionalLogger emptyAccountLogger = new ConditionalLogger("empty_account", logger);
     private static final ConditionalLogger unknownAccountLogger = new ConditionalLogger("unknown_account", logger);
+    private static final String ACCOUNT_ERROR_MESSAGE = "{}, Url: {} and Referer: {}";
 
     private final int timeoutAdjustmentFactor;
     private final double logSamplingRate;
@@ -150,6 +151,7 @@ public class Ortb2RequestFactory {
                 .debugContext(DebugContext.empty())
                 .requestRejected(false)
                 .debugHttpCalls(new HashMap<>())
+                .adaptiveTimeouts(new HashMap<>())
                 .bidRejectionTrackers(new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
                 .build();
     }
@@ -472,7 +474,8 @@ public class Ortb2RequestFactory {
 
     private Future<Account> loadAccount(Timeout timeout, HttpRequestContext httpRequest, String accountId) {
         if (StringUtils.isBlank(accountId)) {
-            emptyAccountLogger.warn(accountErrorMessage("Account not specified", httpRequest), logSamplingRate);
+            emptyAccountLogger.warn(ACCOUNT_ERROR_MESSAGE, logSamplingRate,
+                    () -> "Account not specified", httpRequest::getAbsoluteUri, () -> refererOf(httpRequest));
         }
 
         return applicationSettings.getAccountById(accountId, timeout)
@@ -528,7 +531,8 @@ public class Ortb2RequestFactory {
         if (exception instanceof UnauthorizedAccountException) {
             return Future.failedFuture(exception);
         } else if (exception instanceof PreBidException) {
-            unknownAccountLogger.warn(accountErrorMessage(exception.getMessage(), httpRequest), 100);
+            unknownAccountLogger.warn(ACCOUNT_ERROR_MESSAGE, 100,
+                    exception::getMessage, httpRequest::getAbsoluteUri, () -> refererOf(httpRequest));
         } else {
             metrics.updateAccountRequestRejectedByFailedFetch(accountId);
             logger.warn("Error occurred while fetching account: {}", exception.getMessage());
@@ -539,11 +543,8 @@ public class Ortb2RequestFactory {
                 new UnauthorizedAccountException("Unauthorized account id: " + accountId, accountId));
     }
 
-    private static String accountErrorMessage(String message, HttpRequestContext httpRequest) {
-        return "%s, Url: %s and Referer: %s".formatted(
-                message,
-                httpRequest.getAbsoluteUri(),
-                httpRequest.getHeaders().get(HttpUtil.REFERER_HEADER));
+    private static String refererOf(HttpRequestContext httpRequest) {
+        return httpRequest.getHeaders().get(HttpUtil.REFERER_HEADER);
     }
 
     private ExtRequest enrichExtRequest(ExtRequest ext, Account account) {
@@ -26,6 +26,7 @@ public class BidderCatalog {
     private final Map<String, BidderInstanceDeps> bidderDepsMap = new CaseInsensitiveMap<>();
     private final Map<String, String> deprecatedNameToError = new CaseInsensitiveMap<>();
     private final Map<Integer, String> vendorIdToBidderName = new HashMap<>();
+    private final Map<String, Integer> activeBidderNameToVendorId = new CaseInsensitiveMap<>();
 
     public BidderCatalog(List<BidderDeps> bidderDeps) {
         Objects.requireNonNull(bidderDeps).stream()
@@ -64,6 +65,12 @@ public class BidderCatalog {
                 .map(BidderInfo.GdprInfo::getVendorId)
                 .filter(vendorId -> vendorId != 0)
                 .ifPresent(vendorId -> vendorIdToBidderName.put(vendorId, bidderName));
+
+        Optional.ofNullable(coreDeps.getBidderInfo())
+                .filter(BidderInfo::isEnabled)
+                .map(BidderInfo::getGdpr)
+                .map(BidderInfo.GdprInfo::getVendorId)
+                .ifPresent(vendorId -> activeBidderNameToVendorId.put(bidderName, vendorId));
     }
 
     /**
@@ -161,6 +168,16 @@ public class BidderCatalog {
                 .orElse(null);
     }
 
+    /**
+     * Returns an VendorId registered by the given name if bidder is active or null otherwise.
+     * <p>
+     * Unlike {@link #isActive(String)} followed by {@link #vendorIdByName(String)}, this is a single lookup
+     * in mapping resolved on startup, so it is cheap enough to be called for every bidder of every request.
+     */
+    public Integer activeVendorIdByName(String name) {
+        return activeBidderNameToVendorId.get(name);
+    }
+
     /**
      * Returns a Bidder name registered by the vendor ID or null if there is none.
      */
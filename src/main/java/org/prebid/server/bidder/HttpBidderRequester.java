@@ -9,6 +9,7 @@ import io.vertx.core.MultiMap;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.aliases.BidderAliases;
+import org.prebid.server.auction.BidderPreparationExecutor;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
@@ -30,6 +31,7 @@ import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCallBody;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
@@ -70,6 +72,7 @@ public class HttpBidderRequester {
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
+    private final BidderPreparationExecutor bidderPreparationExecutor;
     private final double logSamplingRate;
 
     public HttpBidderRequester(HttpClient httpClient,
@@ -77,6 +80,7 @@ public class HttpBidderRequester {
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper,
+                               BidderPreparationExecutor bidderPreparationExecutor,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -84,6 +88,7 @@ public class HttpBidderRequester {
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
+        this.bidderPreparationExecutor = bidderPreparationExecutor;
         this.logSamplingRate = logSamplingRate;
     }
 
@@ -98,13 +103,63 @@ public class HttpBidderRequester {
                                                  BidderAliases aliases,
                                                  boolean debugEnabled) {
 
+        return requestBids(
+                bidder, bidderRequest, bidRejectionTracker, timeout, requestHeaders, aliases, debugEnabled, false);
+    }
+
+    /**
+     * Executes given request to a given bidder.
+     * <p>
+     * If parallel preparation is requested and configured, bidder HTTP requests are created on the worker pool.
+     */
+    public <T> Future<BidderSeatBid> requestBids(Bidder<T> bidder,
+                                                 BidderRequest bidderRequest,
+                                                 BidRejectionTracker bidRejectionTracker,
+                                                 Timeout timeout,
+                                                 CaseInsensitiveMultiMap requestHeaders,
+                                                 BidderAliases aliases,
+                                                 boolean debugEnabled,
+                                                 boolean parallelPreparation) {
+
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
+        if (!parallelPreparation || bidderPreparationExecutor == null) {
+            final HttpRequestsWithErrors<T> httpRequests = makeHttpRequests(
+                    bidder, bidderName, bidRequest, requestHeaders, aliases);
+            return executeHttpRequests(
+                    bidder, bidderRequest, httpRequests, bidRejectionTracker, timeout, debugEnabled);
+        }
+
+        return bidderPreparationExecutor.execute(() -> makeHttpRequests(
+                        bidder, bidderName, bidRequest, requestHeaders, aliases))
+                .compose(httpRequests -> executeHttpRequests(
+                        bidder, bidderRequest, httpRequests, bidRejectionTracker, timeout, debugEnabled));
+    }
+
+    private <T> HttpRequestsWithErrors<T> makeHttpRequests(Bidder<T> bidder,
+                                                           String bidderName,
+                                                           BidRequest bidRequest,
+                                                           CaseInsensitiveMultiMap requestHeaders,
+                                                           BidderAliases aliases) {
+
         final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
-        final List<BidderError> errors = httpRequestsWithErrors.getErrors();
-        final List<HttpRequest<T>> httpRequests = enrichRequests(
-                bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest);
+        return new HttpRequestsWithErrors<>(
+                enrichRequests(bidderName, httpRequestsWithErrors.getValue(), requestHeaders, aliases, bidRequest),
+                httpRequestsWithErrors.getErrors());
+    }
+
+    private <T> Future<BidderSeatBid> executeHttpRequests(Bidder<T> bidder,
+                                                          BidderRequest bidderRequest,
+                                                          HttpRequestsWithErrors<T> httpRequestsWithErrors,
+                                                          BidRejectionTracker bidRejectionTracker,
+                                                          Timeout timeout,
+                                                          boolean debugEnabled) {
+
+        final String bidderName = bidderRequest.getBidder();
+        final BidRequest bidRequest = bidderRequest.getBidRequest();
+        final List<BidderError> errors = httpRequestsWithErrors.errors();
+        final List<HttpRequest<T>> httpRequests = httpRequestsWithErrors.httpRequests();
 
         rejectErrors(bidRejectionTracker, errors, BidRejectionReason.REQUEST_BLOCKED_GENERAL);
 
@@ -247,8 +302,8 @@ public class HttpBidderRequester {
      * Produces {@link Future} with {@link BidderCall} containing request and error description.
      */
     private <T> Future<BidderCall<T>> failResponse(Throwable exception, HttpRequest<T> httpRequest) {
-        conditionalLogger.warn("Error occurred while sending HTTP request to a bidder url: %s with message: %s"
-                .formatted(httpRequest.getUri(), exception.getMessage()), logSamplingRate);
+        conditionalLogger.warn("Error occurred while sending HTTP request to a bidder url: {} with message: {}",
+                logSamplingRate, httpRequest::getUri, exception::getMessage);
         logger.debug("Error occurred while sending HTTP request to a bidder url: {}",
                 exception, httpRequest.getUri());
 
@@ -468,18 +523,29 @@ public class HttpBidderRequester {
             final ExtHttpCall.ExtHttpCallBuilder builder = ExtHttpCall.builder()
                     .uri(request.getUri())
                     .calltype(callType != BidderCallType.HTTP ? callType : null)
-                    .requestbody(mapper.encodeToString(request.getPayload()))
+                    .requestbody(toExtBody(request))
                     .requestheaders(HttpUtil.toDebugHeaders(request.getHeaders()));
 
             final HttpResponse response = httpCall.getResponse();
             if (response != null) {
-                builder.responsebody(response.getBody());
+                builder.responsebody(ExtHttpCallBody.of(response.getBody()));
                 builder.status(response.getStatusCode());
             }
 
             return builder.build();
         }
 
+        /**
+         * Refers to the body sent to bidder rather than encoding the payload once again. Payload is encoded only for
+         * requests without body.
+         */
+        private ExtHttpCallBody toExtBody(HttpRequest<T> request) {
+            final byte[] body = request.getBody();
+            return body != null
+                    ? ExtHttpCallBody.of(body)
+                    : ExtHttpCallBody.of(mapper.encodeToString(request.getPayload()));
+        }
+
         /**
          * Assembles all errors for {@link BidderSeatBid} into the list of {@link BidderError}s.
          */
@@ -516,4 +582,7 @@ public class HttpBidderRequester {
             // no need to process bids for no operation tracker
         }
     }
+
+    private record HttpRequestsWithErrors<T>(List<HttpRequest<T>> httpRequests, List<BidderError> errors) {
+    }
 }
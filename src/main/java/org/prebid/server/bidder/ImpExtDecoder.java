@@ -0,0 +1,84 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Decodes {@code imp.ext.bidder} into typed bidder parameters, declared once per bidder.
+ * <p>
+ * Decoded parameters are memoized in a bounded cache by {@code imp.ext.bidder} content, so identical parameters
+ * (e.g. coming from stored imps) are converted only once. Other {@code imp.ext} fields (tid, gpid, data, etc.) change
+ * from request to request, so they are never part of the cache key and are converted on each call.
+ * Cached values are shared between requests and therefore must not be modified.
+ */
+public class ImpExtDecoder<P> {
+
+    private static final String BIDDER_FIELD = "bidder";
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final ObjectMapper mapper;
+    private final JavaType type;
+    private final Cache<JsonNode, P> cache;
+
+    public ImpExtDecoder(JacksonMapper mapper, Class<P> type) {
+        this(mapper, Objects.requireNonNull(mapper).mapper().constructType(type), DEFAULT_CACHE_SIZE);
+    }
+
+    ImpExtDecoder(JacksonMapper mapper, JavaType type, int cacheSize) {
+        this.mapper = Objects.requireNonNull(mapper).mapper();
+        this.type = Objects.requireNonNull(type);
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Returns typed bidder parameters of the given {@code imp.ext}.
+     *
+     * @throws IllegalArgumentException if {@code imp.ext.bidder} cannot be converted to the declared type
+     */
+    public P decode(JsonNode ext) {
+        final JsonNode params = ext != null ? ext.get(BIDDER_FIELD) : null;
+        if (params == null || !params.isObject()) {
+            return mapper.convertValue(params, type);
+        }
+
+        final P cached = cache.getIfPresent(params);
+        if (cached != null) {
+            return cached;
+        }
+
+        final P decoded = mapper.convertValue(params, type);
+        if (decoded != null) {
+            // ext nodes are mutable, so cache key is detached from the request
+            cache.put(params.deepCopy(), decoded);
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns typed value of the given {@code imp.ext}. Fields other than {@code bidder} are converted to the given
+     * type without caching and then combined with memoized bidder parameters by the given function.
+     *
+     * @throws IllegalArgumentException if ext cannot be converted to the given type
+     */
+    public <T> T decode(JsonNode ext, Class<T> extType, BiFunction<T, P, T> withParams) {
+        if (ext == null || !ext.isObject()) {
+            return mapper.convertValue(ext, extType);
+        }
+
+        final ObjectNode otherFields = mapper.createObjectNode().setAll((ObjectNode) ext);
+        otherFields.remove(BIDDER_FIELD);
+
+        return withParams.apply(mapper.convertValue(otherFields, extType), decode(ext));
+    }
+}
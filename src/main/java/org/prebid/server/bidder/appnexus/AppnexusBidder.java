@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.prebid.server.auction.model.Endpoint;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExt;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtAppnexus;
 import org.prebid.server.bidder.appnexus.proto.AppnexusBidExtCreative;
@@ -87,6 +88,7 @@ public class AppnexusBidder implements Bidder<BidRequest> {
     private final Integer headerBiddingSource;
     private final Map<Integer, String> iabCategories;
     private final JacksonMapper mapper;
+    private final ImpExtDecoder<ExtImpAppnexus> impExtDecoder;
 
     public AppnexusBidder(String endpointUrl,
                           Integer platformId,
@@ -97,6 +99,7 @@ public class AppnexusBidder implements Bidder<BidRequest> {
         this.headerBiddingSource = ObjectUtils.defaultIfNull(platformId, DEFAULT_PLATFORM_ID);
         this.iabCategories = ObjectUtils.defaultIfNull(iabCategories, Collections.emptyMap());
         this.mapper = Objects.requireNonNull(mapper);
+        impExtDecoder = new ImpExtDecoder<>(mapper, ExtImpAppnexus.class);
     }
 
     @Override
@@ -163,7 +166,8 @@ public class AppnexusBidder implements Bidder<BidRequest> {
 
     private AppnexusExtImp parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), AppnexusExtImp.class);
+            return impExtDecoder.decode(imp.getExt(), AppnexusExtImp.class,
+                    (extImp, params) -> AppnexusExtImp.of(params, extImp.getGpid()));
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -14,6 +14,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.grid.model.request.ExtImp;
 import org.prebid.server.bidder.grid.model.request.ExtImpGridData;
 import org.prebid.server.bidder.grid.model.request.ExtImpGridDataAdServer;
@@ -51,11 +52,13 @@ public class GridBidder implements Bidder<BidRequest> {
 
     private final String endpointUrl;
     private final JacksonMapper mapper;
+    private final ImpExtDecoder<ExtImpGrid> impExtDecoder;
     private final GridKeywordsProcessor gridKeywordsProcessor;
 
     public GridBidder(String endpointUrl, JacksonMapper mapper) {
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
         this.mapper = Objects.requireNonNull(mapper);
+        impExtDecoder = new ImpExtDecoder<>(mapper, ExtImpGrid.class);
         this.gridKeywordsProcessor = new GridKeywordsProcessor(mapper);
     }
 
@@ -91,7 +94,8 @@ public class GridBidder implements Bidder<BidRequest> {
     }
 
     private ExtImp parseAndValidateImpExt(Imp imp) {
-        final ExtImp extImp = mapper.mapper().convertValue(imp.getExt(), ExtImp.class);
+        final ExtImp extImp = impExtDecoder.decode(imp.getExt(), ExtImp.class,
+                (ext, params) -> ext.toBuilder().bidder(params).build());
         validateImpExt(extImp, imp.getId());
         return extImp;
     }
@@ -158,7 +162,7 @@ public class GridBidder implements Bidder<BidRequest> {
     }
 
     private ExtImpGrid getExtImpGridBidder(JsonNode extImp) {
-        return mapper.mapper().convertValue(extImp, ExtImp.class).getBidder();
+        return impExtDecoder.decode(extImp);
     }
 
     private BidRequest modifyRequest(BidRequest bidRequest, Keywords firstImpKeywords, List<Imp> imp) {
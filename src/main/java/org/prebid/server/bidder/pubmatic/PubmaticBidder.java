@@ -17,6 +17,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
@@ -81,10 +82,12 @@ public class PubmaticBidder implements Bidder<BidRequest> {
 
     private final String endpointUrl;
     private final JacksonMapper mapper;
+    private final ImpExtDecoder<ExtImpPubmatic> impExtDecoder;
 
     public PubmaticBidder(String endpointUrl, JacksonMapper mapper) {
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
         this.mapper = Objects.requireNonNull(mapper);
+        impExtDecoder = new ImpExtDecoder<>(mapper, ExtImpPubmatic.class);
     }
 
     @Override
@@ -197,7 +200,9 @@ public class PubmaticBidder implements Bidder<BidRequest> {
 
     private PubmaticBidderImpExt parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), PubmaticBidderImpExt.class);
+            return impExtDecoder.decode(imp.getExt(), PubmaticBidderImpExt.class,
+                    (impExt, params) ->
+                            PubmaticBidderImpExt.of(params, impExt.getData(), impExt.getAe(), impExt.getGpId()));
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
         }
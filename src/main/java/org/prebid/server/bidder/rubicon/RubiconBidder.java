@@ -34,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.ImpExtDecoder;
 import org.prebid.server.bidder.ViewabilityVendors;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
@@ -86,7 +87,6 @@ import org.prebid.server.proto.openrtb.ext.request.ExtDeal;
 import org.prebid.server.proto.openrtb.ext.request.ExtDealLine;
 import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpContextDataAdserver;
-import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtPublisher;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegsDsa;
@@ -169,9 +169,6 @@ public class RubiconBidder implements Bidder<BidRequest> {
 
     private static final Set<String> STYPE_TO_REMOVE = new HashSet<>(Arrays.asList(PPUID_STYPE, SHA256EMAIL_STYPE,
             DMP_STYPE));
-    private static final TypeReference<ExtPrebid<ExtImpPrebid, ExtImpRubicon>> RUBICON_EXT_TYPE_REFERENCE =
-            new TypeReference<>() {
-            };
     private static final TypeReference<ExtPrebid<ExtBidPrebid, ObjectNode>> EXT_PREBID_TYPE_REFERENCE =
             new TypeReference<>() {
             };
@@ -189,6 +186,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
     private final PrebidVersionProvider versionProvider;
     private final IdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final ImpExtDecoder<ExtImpRubicon> impExtDecoder;
 
     private final MultiMap headers;
 
@@ -218,6 +216,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
         this.versionProvider = Objects.requireNonNull(versionProvider);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        impExtDecoder = new ImpExtDecoder<>(mapper, ExtImpRubicon.class);
 
         headers = headers(Objects.requireNonNull(xapiUsername), Objects.requireNonNull(xapiPassword));
     }
@@ -403,7 +402,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
 
     private ExtImpRubicon parseRubiconExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), RUBICON_EXT_TYPE_REFERENCE).getBidder();
+            return impExtDecoder.decode(imp.getExt());
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -0,0 +1,276 @@
+package org.prebid.server.cache;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends Prebid Cache puts of concurrent callers (auctions, /vtrack requests, write-behind batches) as one request.
+ * <p>
+ * Puts are collected within the window started by the first of them or until maximum number of puts is reached,
+ * then encoded straight to bytes, compressed if configured and sent together. Each caller gets response with
+ * its own part of Prebid Cache response objects, in the same order as its puts.
+ * <p>
+ * Request is sent with the latest deadline of its callers, so callers with more time left are not failed because
+ * of others, and each caller is failed by its own deadline if response has not come yet.
+ */
+public class CoalescingCacheTransport {
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final MultiMap headers;
+    private final boolean gzip;
+    private final long windowMs;
+    private final int maxPuts;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private int pendingPuts;
+    private long window;
+    private long windowTimerId;
+
+    public CoalescingCacheTransport(Vertx vertx,
+                                    HttpClient httpClient,
+                                    String endpointUrl,
+                                    MultiMap headers,
+                                    boolean gzip,
+                                    long windowMs,
+                                    int maxPuts,
+                                    Metrics metrics,
+                                    Clock clock,
+                                    JacksonMapper mapper) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.headers = gzip
+                ? MultiMap.caseInsensitiveMultiMap()
+                .addAll(headers)
+                .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP)
+                : Objects.requireNonNull(headers);
+        this.gzip = gzip;
+        this.windowMs = windowMs;
+        this.maxPuts = maxPuts;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Puts given objects to Prebid Cache along with puts of other callers.
+     * <p>
+     * Returned response holds status code of the whole Prebid Cache request and, if it succeeded,
+     * the body with response objects for the given puts only.
+     */
+    public Future<HttpClientResponse> put(BidCacheRequest bidCacheRequest, long timeoutMs) {
+        final Promise<HttpClientResponse> promise = Promise.promise();
+        final PendingRequest pendingRequest = new PendingRequest(
+                bidCacheRequest.getPuts(), clock.millis() + timeoutMs, vertx.getOrCreateContext(), promise);
+
+        final List<PendingRequest> readyRequests;
+        synchronized (this) {
+            pendingRequests.add(pendingRequest);
+            pendingPuts += bidCacheRequest.getPuts().size();
+
+            if (pendingPuts >= maxPuts) {
+                if (pendingRequests.size() > 1) {
+                    vertx.cancelTimer(windowTimerId);
+                }
+                readyRequests = takePendingRequests();
+            } else {
+                if (pendingRequests.size() == 1) {
+                    final long currentWindow = window;
+                    windowTimerId = vertx.setTimer(windowMs, ignored -> onWindowEnd(currentWindow));
+                }
+                readyRequests = null;
+            }
+        }
+
+        if (readyRequests != null) {
+            send(readyRequests);
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Sends requests of the given window, unless it was already sent on reaching maximum number of puts.
+     * Timer of such window may fire while being cancelled, so it is ignored by window number.
+     */
+    private void onWindowEnd(long timerWindow) {
+        final List<PendingRequest> readyRequests;
+        synchronized (this) {
+            if (timerWindow != window) {
+                return;
+            }
+            readyRequests = takePendingRequests();
+        }
+
+        if (!readyRequests.isEmpty()) {
+            send(readyRequests);
+        }
+    }
+
+    private List<PendingRequest> takePendingRequests() {
+        final List<PendingRequest> result = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        pendingPuts = 0;
+        window++;
+        return result;
+    }
+
+    private void send(List<PendingRequest> requests) {
+        final long now = clock.millis();
+        final List<PendingRequest> liveRequests = new ArrayList<>(requests.size());
+        final List<BidPutObject> puts = new ArrayList<>();
+        long deadline = Long.MIN_VALUE;
+        for (PendingRequest request : requests) {
+            if (request.deadline() <= now) {
+                request.complete(timeout());
+            } else {
+                liveRequests.add(request);
+                puts.addAll(request.puts());
+                deadline = Math.max(deadline, request.deadline());
+            }
+        }
+
+        if (liveRequests.isEmpty()) {
+            return;
+        }
+
+        final byte[] body;
+        try {
+            body = encode(BidCacheRequest.of(puts));
+        } catch (PreBidException e) {
+            liveRequests.forEach(request -> request.complete(Future.failedFuture(e)));
+            return;
+        }
+
+        metrics.updateCacheTransportMetrics(body.length, liveRequests.size());
+
+        final List<Long> timerIds = new ArrayList<>();
+        for (PendingRequest request : liveRequests) {
+            if (request.deadline() < deadline) {
+                timerIds.add(vertx.setTimer(request.deadline() - now, ignored -> request.complete(timeout())));
+            }
+        }
+
+        httpClient.request(HttpMethod.POST, endpointUrl, headers, body, deadline - now)
+                .onComplete(result -> {
+                    timerIds.forEach(vertx::cancelTimer);
+                    if (result.failed()) {
+                        liveRequests.forEach(request -> request.complete(Future.failedFuture(result.cause())));
+                    } else {
+                        respond(liveRequests, result.result());
+                    }
+                });
+    }
+
+    private static Future<HttpClientResponse> timeout() {
+        return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+    }
+
+    private byte[] encode(BidCacheRequest bidCacheRequest) {
+        final byte[] json = mapper.encodeToBytes(bidCacheRequest);
+        return gzip ? gzip(json) : json;
+    }
+
+    private static byte[] gzip(byte[] value) {
+        try (
+                ByteArrayOutputStream obj = new ByteArrayOutputStream();
+                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
+
+            gzip.write(value);
+            gzip.finish();
+
+            return obj.toByteArray();
+        } catch (IOException e) {
+            throw new PreBidException("Failed to compress request : " + e.getMessage());
+        }
+    }
+
+    private void respond(List<PendingRequest> requests, HttpClientResponse response) {
+        final List<CacheObject> cacheObjects = response.getStatusCode() == 200
+                ? cacheObjects(response.getBody())
+                : null;
+
+        // any inconsistent response is passed to every caller as is to be handled as failed
+        if (requests.size() == 1 || cacheObjects == null || cacheObjects.size() != countPuts(requests)) {
+            requests.forEach(request -> request.complete(Future.succeededFuture(response)));
+            return;
+        }
+
+        int offset = 0;
+        for (PendingRequest request : requests) {
+            final int size = request.puts().size();
+            final String body = mapper.encodeToString(
+                    BidCacheResponse.of(cacheObjects.subList(offset, offset + size)));
+            request.complete(Future.succeededFuture(
+                    HttpClientResponse.of(response.getStatusCode(), response.getHeaders(), body)));
+            offset += size;
+        }
+    }
+
+    private List<CacheObject> cacheObjects(String body) {
+        try {
+            return mapper.decodeValue(body, BidCacheResponse.class).getResponses();
+        } catch (DecodeException e) {
+            return null;
+        }
+    }
+
+    private static int countPuts(List<PendingRequest> requests) {
+        int result = 0;
+        for (PendingRequest request : requests) {
+            result += request.puts().size();
+        }
+        return result;
+    }
+
+    private record PendingRequest(List<BidPutObject> puts,
+                                  long deadline,
+                                  Context context,
+                                  Promise<HttpClientResponse> promise) {
+
+        /**
+         * Completes caller's promise on its own context, since requests of different event loops are sent together.
+         * Promise may be already failed by the caller's deadline, then the result is ignored.
+         */
+        void complete(Future<HttpClientResponse> result) {
+            context.runOnContext(ignored -> {
+                if (result.succeeded()) {
+                    promise.tryComplete(result.result());
+                } else {
+                    promise.tryFail(result.cause());
+                }
+            });
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -78,6 +79,8 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final WriteBehindCacheWriter writeBehindCacheWriter;
+    private final CoalescingCacheTransport cacheTransport;
 
     private final MultiMap cacheHeaders;
     private final Map<String, List<String>> debugHeaders;
@@ -100,7 +103,9 @@ public class CoreCacheService {
             Metrics metrics,
             Clock clock,
             UUIDIdGenerator idGenerator,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            WriteBehindCacheWriter writeBehindCacheWriter,
+            CoalescingCacheTransport cacheTransport) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.externalEndpointUrl = Objects.requireNonNull(externalEndpointUrl);
@@ -113,6 +118,8 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.writeBehindCacheWriter = writeBehindCacheWriter;
+        this.cacheTransport = cacheTransport;
 
         cacheHeaders = isApiKeySecured
                 ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
@@ -181,11 +188,15 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
-        return httpClient.post(
+        final Future<HttpClientResponse> responseFuture = cacheTransport != null
+                ? cacheTransport.put(bidCacheRequest, remainingTimeout)
+                : httpClient.post(
                         ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString(),
                         cacheHeaders,
                         mapper.encodeToString(bidCacheRequest),
-                        remainingTimeout)
+                        remainingTimeout);
+
+        return responseFuture
                 .map(response -> toBidCacheResponse(
                         response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
                 .recover(exception -> failResponse(exception, accountId, startTime));
@@ -307,16 +318,39 @@ public class CoreCacheService {
                     Collections.emptyMap()));
         }
 
+        if (isWriteBehind(auctionContext)) {
+            final List<CachedCreative> keyedCreatives = withAssignedKeys(cachedCreatives);
+            if (writeBehindCacheWriter.enqueue(toBidCacheRequest(keyedCreatives).getPuts())) {
+                updateCreativeMetrics(accountId, keyedCreatives);
+
+                final List<String> uuids = keyedCreatives.stream()
+                        .map(cachedCreative -> cachedCreative.getPayload().getKey())
+                        .toList();
+                return Future.succeededFuture(CacheServiceResult.of(
+                        null, null, toResultMap(bids, videoBids, uuids, hbCacheId)));
+            }
+        }
+
         final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
-        final String url = ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString();
-        final String body = mapper.encodeToString(bidCacheRequest);
-        final CacheHttpRequest httpRequest = CacheHttpRequest.of(externalEndpointUrl.toString(), body);
-
+        final boolean debugEnabled = isDebugEnabled(auctionContext);
+        final CacheHttpRequest httpRequest;
+        final Future<HttpClientResponse> responseFuture;
         final long startTime = clock.millis();
-        return httpClient.post(url, cacheHeaders, body, remainingTimeout)
+        // debug requests are sent separately to have exact Prebid Cache call in debug output
+        if (cacheTransport != null && !debugEnabled) {
+            httpRequest = null;
+            responseFuture = cacheTransport.put(bidCacheRequest, remainingTimeout);
+        } else {
+            final String url = ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString();
+            final String body = mapper.encodeToString(bidCacheRequest);
+            httpRequest = CacheHttpRequest.of(externalEndpointUrl.toString(), body);
+            responseFuture = httpClient.post(url, cacheHeaders, body, remainingTimeout);
+        }
+
+        return responseFuture
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
                         cachedCreatives.size(),
@@ -328,6 +362,31 @@ public class CoreCacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    /**
+     * Debug requests are cached synchronously to have Prebid Cache call in debug output.
+     */
+    private boolean isWriteBehind(AuctionContext auctionContext) {
+        return writeBehindCacheWriter != null && !isDebugEnabled(auctionContext);
+    }
+
+    private static boolean isDebugEnabled(AuctionContext auctionContext) {
+        final DebugContext debugContext = auctionContext.getDebugContext();
+        return debugContext != null && debugContext.isDebugEnabled();
+    }
+
+    private List<CachedCreative> withAssignedKeys(List<CachedCreative> cachedCreatives) {
+        final List<CachedCreative> result = new ArrayList<>(cachedCreatives.size());
+        for (CachedCreative cachedCreative : cachedCreatives) {
+            final BidPutObject payload = cachedCreative.getPayload();
+            result.add(payload.getKey() != null
+                    ? cachedCreative
+                    : CachedCreative.of(
+                            payload.toBuilder().key(idGenerator.generateId()).build(),
+                            cachedCreative.getSize()));
+        }
+        return result;
+    }
+
     private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
                                                       CacheHttpRequest httpRequest,
                                                       int bidCount,
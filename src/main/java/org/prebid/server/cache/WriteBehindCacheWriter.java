@@ -0,0 +1,223 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Puts creatives to Prebid Cache in background, so auctions do not wait for Prebid Cache response.
+ * <p>
+ * Creatives must have keys assigned by caller, so Prebid Cache must allow clients to set keys. They are queued and
+ * flushed periodically in batches of configured size, with limited number of batches in flight. Failed batches are
+ * requeued with exponential backoff until retries are exhausted. Creatives which are still in queue on shutdown are
+ * lost.
+ */
+public class WriteBehindCacheWriter implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindCacheWriter.class);
+    private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String endpointUrl;
+    private final MultiMap headers;
+    private final long flushIntervalMs;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int maxQueueSize;
+    private final int maxRetries;
+    private final long timeoutMs;
+    private final double logSamplingRate;
+    private final Metrics metrics;
+    private final Clock clock;
+    private final JacksonMapper mapper;
+    private final CoalescingCacheTransport cacheTransport;
+
+    private final Queue<PendingPut> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    public WriteBehindCacheWriter(Vertx vertx,
+                                  HttpClient httpClient,
+                                  String endpointUrl,
+                                  MultiMap headers,
+                                  long flushIntervalMs,
+                                  int batchSize,
+                                  int maxInFlightBatches,
+                                  int maxQueueSize,
+                                  int maxRetries,
+                                  long timeoutMs,
+                                  double logSamplingRate,
+                                  Metrics metrics,
+                                  Clock clock,
+                                  JacksonMapper mapper,
+                                  CoalescingCacheTransport cacheTransport) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpointUrl = Objects.requireNonNull(endpointUrl);
+        this.headers = Objects.requireNonNull(headers);
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxQueueSize = maxQueueSize;
+        this.maxRetries = maxRetries;
+        this.timeoutMs = timeoutMs;
+        this.logSamplingRate = logSamplingRate;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.cacheTransport = cacheTransport;
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        vertx.setPeriodic(flushIntervalMs, ignored -> flush());
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Queues all given creatives or none of them, if queue has no room for all of them.
+     * Returns false in the latter case, so caller could put creatives by itself.
+     */
+    public boolean enqueue(List<BidPutObject> putObjects) {
+        if (queueSize.addAndGet(putObjects.size()) > maxQueueSize) {
+            queueSize.addAndGet(-putObjects.size());
+            return false;
+        }
+
+        final long now = clock.millis();
+        for (BidPutObject putObject : putObjects) {
+            queue.offer(new PendingPut(putObject, now, 0));
+        }
+        return true;
+    }
+
+    /**
+     * Sends queued creatives in batches while there is room for more batches in flight. The rest stays in queue
+     * until next flush, so Prebid Cache is not flooded when it slows down or the queue has grown.
+     */
+    void flush() {
+        while (inFlightBatches.get() < maxInFlightBatches) {
+            final List<PendingPut> batch = poll();
+            if (batch.isEmpty()) {
+                return;
+            }
+            send(batch);
+        }
+    }
+
+    private List<PendingPut> poll() {
+        final List<PendingPut> batch = new ArrayList<>(Math.min(batchSize, queueSize.get()));
+        PendingPut pendingPut;
+        while (batch.size() < batchSize && (pendingPut = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(pendingPut);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingPut> batch) {
+        final List<BidPutObject> putObjects = new ArrayList<>(batch.size());
+        // retried creatives are queued behind newer ones, so the first creative is not necessarily the oldest
+        long oldestQueuedAt = Long.MAX_VALUE;
+        for (PendingPut pendingPut : batch) {
+            putObjects.add(pendingPut.putObject());
+            oldestQueuedAt = Math.min(oldestQueuedAt, pendingPut.queuedAt());
+        }
+        final long batchQueuedAt = oldestQueuedAt;
+
+        final BidCacheRequest bidCacheRequest = BidCacheRequest.of(putObjects);
+        final Future<HttpClientResponse> responseFuture = cacheTransport != null
+                ? cacheTransport.put(bidCacheRequest, timeoutMs)
+                : httpClient.post(endpointUrl, headers, mapper.encodeToString(bidCacheRequest), timeoutMs);
+
+        inFlightBatches.incrementAndGet();
+        responseFuture
+                .onComplete(ignored -> inFlightBatches.decrementAndGet())
+                .map(response -> {
+                    if (response.getStatusCode() != 200) {
+                        throw new PreBidException("HTTP status code " + response.getStatusCode());
+                    }
+                    return response;
+                })
+                .onSuccess(ignored -> metrics.updateCacheWriteBehindLag(clock.millis() - batchQueuedAt))
+                .onFailure(exception -> retry(batch, exception));
+    }
+
+    private void retry(List<PendingPut> batch, Throwable exception) {
+        conditionalLogger.warn(
+                "Error occurred while writing behind to cache service: {}", logSamplingRate, exception::getMessage);
+
+        final Map<Integer, List<PendingPut>> retriesByAttempt = new HashMap<>();
+        int retried = 0;
+        int dropped = 0;
+        for (PendingPut pendingPut : batch) {
+            if (reserveRetry(pendingPut)) {
+                final int attempt = pendingPut.attempts() + 1;
+                retriesByAttempt.computeIfAbsent(attempt, key -> new ArrayList<>())
+                        .add(new PendingPut(pendingPut.putObject(), pendingPut.queuedAt(), attempt));
+                retried++;
+            } else {
+                dropped++;
+            }
+        }
+
+        retriesByAttempt.forEach((attempt, pendingPuts) ->
+                vertx.setTimer(retryDelay(attempt), ignored -> queue.addAll(pendingPuts)));
+
+        if (retried > 0) {
+            metrics.updateCacheWriteBehindRetried(retried);
+        }
+        if (dropped > 0) {
+            metrics.updateCacheWriteBehindDropped(dropped);
+        }
+    }
+
+    /**
+     * Takes room in queue for the retry right away, so new creatives can't leave no room for it while it waits.
+     */
+    private boolean reserveRetry(PendingPut pendingPut) {
+        if (pendingPut.attempts() >= maxRetries) {
+            return false;
+        }
+        if (queueSize.incrementAndGet() > maxQueueSize) {
+            queueSize.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Doubles flush interval with each attempt, so a failing Prebid Cache is not hammered by retries.
+     */
+    private long retryDelay(int attempt) {
+        return flushIntervalMs << Math.min(attempt, MAX_BACKOFF_EXPONENT);
+    }
+
+    private record PendingPut(BidPutObject putObject, long queuedAt, int attempts) {
+    }
+}
@@ -0,0 +1,59 @@
+package org.prebid.server.handler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks connections of the application server: number of connections opened per HTTP protocol version and number of
+ * requests (streams, for HTTP/2) served over each connection.
+ */
+public class ConnectionMetricsHandler implements Handler<RoutingContext> {
+
+    private final Metrics metrics;
+
+    // weak keys, so connections closed before close handler was registered do not leak
+    private final Cache<HttpConnection, AtomicLong> connectionRequests;
+
+    public ConnectionMetricsHandler(Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        connectionRequests = Caffeine.newBuilder()
+                .weakKeys()
+                .build();
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final HttpServerRequest request = routingContext.request();
+        final HttpConnection connection = request.connection();
+        if (connection != null) {
+            connectionRequests.get(connection, key -> trackConnection(key, protocol(request))).incrementAndGet();
+        }
+
+        routingContext.next();
+    }
+
+    private AtomicLong trackConnection(HttpConnection connection, String protocol) {
+        final AtomicLong requests = new AtomicLong();
+
+        metrics.updateServerConnectionOpenedMetric(protocol);
+        connection.closeHandler(ignored -> {
+            connectionRequests.invalidate(connection);
+            metrics.updateServerConnectionRequestsMetric(protocol, requests.get());
+        });
+
+        return requests;
+    }
+
+    private static String protocol(HttpServerRequest request) {
+        return request.version().name().toLowerCase();
+    }
+}
@@ -61,6 +61,9 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.save(request.getRequests(), request.getImps());
+        if (request.getResponses() != null) {
+            cacheNotificationListener.saveResponses(request.getResponses());
+        }
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
@@ -83,6 +86,9 @@ public class SettingsCacheNotificationHandler implements Handler<RoutingContext>
         }
 
         cacheNotificationListener.invalidate(request.getRequests(), request.getImps());
+        if (request.getResponses() != null) {
+            cacheNotificationListener.invalidateResponses(request.getResponses());
+        }
         respondWith(routingContext, HttpResponseStatus.OK);
     }
 
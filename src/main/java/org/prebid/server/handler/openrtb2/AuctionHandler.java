@@ -244,8 +244,8 @@ public class AuctionHandler implements ApplicationResource {
                         .map(msg -> "Invalid request format: " + msg)
                         .toList();
                 final String message = String.join("\n", errorMessages);
-                final String referer = routingContext.request().headers().get(HttpUtil.REFERER_HEADER);
-                conditionalLogger.info("%s, Referer: %s".formatted(message, referer), logSamplingRate);
+                conditionalLogger.info("{}, Referer: {}", logSamplingRate,
+                        () -> message, () -> routingContext.request().headers().get(HttpUtil.REFERER_HEADER));
 
                 status = HttpResponseStatus.BAD_REQUEST;
                 body = message;
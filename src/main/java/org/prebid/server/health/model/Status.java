@@ -3,5 +3,7 @@ package org.prebid.server.health.model;
 public enum Status {
 
     UP,
-    DOWN
+    DOWN,
+    DEGRADED,
+    SHEDDING
 }
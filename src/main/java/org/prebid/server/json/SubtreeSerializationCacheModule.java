@@ -0,0 +1,174 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Dooh;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Memoizes JSON of immutable {@link com.iab.openrtb.request.BidRequest} subtrees that are shared by identity
+ * between per-bidder copies of the same auction request ({@link Site}, {@link App}, {@link Dooh}, {@link Device},
+ * {@link Regs} and {@link Source}), so that each bidder payload splices already serialized bytes instead of
+ * walking the same objects again.
+ * <p>
+ * Only the last serialized instance of each type is remembered per thread. It is compared by identity and by
+ * content hash code taken at the time of serialization, so instance modified in place since then (e.g. its ext) is
+ * serialized again. Hash code walks the subtree without writing anything, which is much cheaper than serialization
+ * itself. Serialized form is reused only for plain JSON output (no pretty printing, views or token buffers used by
+ * {@link ObjectMapper#valueToTree} and {@link ObjectMapper#convertValue}) with the same generator features.
+ */
+public class SubtreeSerializationCacheModule extends SimpleModule {
+
+    private static final Set<Class<?>> CACHEABLE_TYPES =
+            Set.of(Site.class, App.class, Dooh.class, Device.class, Regs.class, Source.class);
+
+    private static final int ALL_FEATURES = ~0;
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new CachingSerializerModifier());
+    }
+
+    private static class CachingSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                  BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return CACHEABLE_TYPES.contains(beanDesc.getBeanClass())
+                    ? new CachingSerializer((JsonSerializer<Object>) serializer)
+                    : serializer;
+        }
+    }
+
+    private static class CachingSerializer extends JsonSerializer<Object>
+            implements ResolvableSerializer, ContextualSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        // per-bidder copies of the auction request are encoded one after another on the same thread,
+        // so remembering the last serialized instance is enough to reuse it for the whole auction
+        private final ThreadLocal<SerializedSubtree> lastSerialized = new ThreadLocal<>();
+
+        CachingSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = Objects.requireNonNull(delegate);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (!isCacheable(generator, provider)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            final int features = generator.getFeatureMask();
+            final int hash = value.hashCode();
+            final SerializedSubtree cached = lastSerialized.get();
+            if (cached != null && cached.value() == value && cached.hash() == hash && cached.features() == features) {
+                generator.writeRawValue(cached.json());
+                return;
+            }
+
+            final SerializedString json = serializeStandalone(value, generator, provider);
+            lastSerialized.set(new SerializedSubtree(value, hash, features, json));
+            generator.writeRawValue(json);
+        }
+
+        private static boolean isCacheable(JsonGenerator generator, SerializerProvider provider) {
+            return generator instanceof JsonGeneratorImpl
+                    && generator.getCodec() instanceof ObjectMapper
+                    && generator.getPrettyPrinter() == null
+                    && provider.getActiveView() == null;
+        }
+
+        private SerializedString serializeStandalone(Object value,
+                                                     JsonGenerator generator,
+                                                     SerializerProvider provider) throws IOException {
+
+            final JsonFactory factory = ((ObjectMapper) generator.getCodec()).getFactory();
+            final StringWriter output = new StringWriter();
+            try (JsonGenerator standalone = factory.createGenerator(output)) {
+                standalone.overrideStdFeatures(generator.getFeatureMask(), ALL_FEATURES);
+                standalone.setCharacterEscapes(generator.getCharacterEscapes());
+                delegate.serialize(value, standalone, provider);
+            }
+
+            return new SerializedString(output.toString());
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return delegate.usesObjectId();
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            if (!(delegate instanceof ContextualSerializer contextual)) {
+                return this;
+            }
+
+            final JsonSerializer<?> contextualDelegate = contextual.createContextual(provider, property);
+            return contextualDelegate != delegate
+                    ? new CachingSerializer((JsonSerializer<Object>) contextualDelegate)
+                    : this;
+        }
+    }
+
+    private record SerializedSubtree(Object value, int hash, int features, SerializedString json) {
+    }
+}
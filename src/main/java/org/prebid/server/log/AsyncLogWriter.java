@@ -0,0 +1,132 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Promise;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Renders and writes log messages on a background thread, so that serialization of large messages (like bid
+ * requests) and writing them do not happen on event loop.
+ * <p>
+ * Callers queue suppliers capturing references to objects which are not modified anymore, messages are rendered
+ * from them by the background thread. Messages which do not fit into the bounded queue or exceed the configured
+ * number of bytes per second are dropped. Message size is estimated by number of characters.
+ */
+public class AsyncLogWriter implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogWriter.class);
+
+    private static final String THREAD_NAME = "async-log-writer";
+    private static final long BUDGET_WINDOW_MS = 1000L;
+
+    private final BlockingQueue<LogEntry<?>> queue;
+    private final long maxBytesPerSecond;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    // accessed by the writing thread only
+    private long windowStart;
+    private long windowBytes;
+
+    public AsyncLogWriter(int queueSize, long maxBytesPerSecond, Metrics metrics, Clock clock) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size should be positive");
+        }
+
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        Thread.ofPlatform().name(THREAD_NAME).daemon().start(this::writeContinuously);
+        initializePromise.tryComplete();
+    }
+
+    /**
+     * Queues message to be rendered and passed to the writer in background.
+     */
+    public void write(Supplier<String> message, Consumer<String> writer) {
+        write(message, String::length, writer);
+    }
+
+    /**
+     * Queues message to be rendered and passed to the writer in background. Message rendered as null is skipped.
+     */
+    public <T> void write(Supplier<T> message, ToIntFunction<T> sizeEstimator, Consumer<T> writer) {
+        if (!queue.offer(new LogEntry<>(message, sizeEstimator, writer))) {
+            metrics.updateAsyncLogDroppedMetric(MetricName.async_log_queue_full);
+        }
+    }
+
+    /**
+     * Writes messages queued so far on the calling thread.
+     */
+    void writeQueued() {
+        LogEntry<?> entry;
+        while ((entry = queue.poll()) != null) {
+            writeEntry(entry);
+        }
+    }
+
+    private void writeContinuously() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                writeEntry(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> void writeEntry(LogEntry<T> entry) {
+        try {
+            final T message = entry.message().get();
+            if (message == null) {
+                return;
+            }
+
+            if (!withinBudget(entry.sizeEstimator().applyAsInt(message))) {
+                metrics.updateAsyncLogDroppedMetric(MetricName.async_log_budget_exceeded);
+                return;
+            }
+
+            entry.writer().accept(message);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write log message: {}", e.getMessage());
+        }
+    }
+
+    private boolean withinBudget(int size) {
+        if (maxBytesPerSecond <= 0) {
+            return true;
+        }
+
+        final long now = clock.millis();
+        if (now - windowStart >= BUDGET_WINDOW_MS) {
+            windowStart = now;
+            windowBytes = 0;
+        }
+
+        if (windowBytes + size > maxBytesPerSecond) {
+            return false;
+        }
+
+        windowBytes += size;
+        return true;
+    }
+
+    private record LogEntry<T>(Supplier<T> message, ToIntFunction<T> sizeEstimator, Consumer<T> writer) {
+    }
+}
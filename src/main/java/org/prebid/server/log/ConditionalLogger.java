@@ -10,7 +10,17 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+/**
+ * Logs only part of messages: every n-th one, once per period or sampled.
+ * <p>
+ * Methods accepting message template and argument suppliers decide whether to log by the template (or by the key
+ * of this logger) and resolve arguments only for messages which are going to be logged, so messages dropped on
+ * hot paths cost neither formatting nor separate counters. Templates use <code>{}</code> placeholders.
+ * Note that count and period limits of such methods are shared by all messages of the template, while methods
+ * accepting message count each distinct message separately, unless this logger has a key.
+ */
 public class ConditionalLogger {
 
     private static final int CACHE_MAXIMUM_SIZE = 10_000;
@@ -61,6 +71,24 @@ public class ConditionalLogger {
         }
     }
 
+    public void info(String template, int limit, Supplier<?>... args) {
+        log(template, limit, logger -> logger.info(template, resolve(args)));
+    }
+
+    public void info(String template, long duration, TimeUnit unit, Supplier<?>... args) {
+        log(template, duration, unit, logger -> logger.info(template, resolve(args)));
+    }
+
+    /**
+     * Logs at WARN level, same as {@link #info(String, double)}, so call sites can move to templates without
+     * changing the level of their messages.
+     */
+    public void info(String template, double samplingRate, Supplier<?>... args) {
+        if (isSampled(samplingRate)) {
+            logger.warn(template, resolve(args));
+        }
+    }
+
     public void errorWithKey(String key, String message, int limit) {
         log(key, limit, logger -> logger.error(message));
     }
@@ -79,6 +107,20 @@ public class ConditionalLogger {
         }
     }
 
+    public void error(String template, int limit, Supplier<?>... args) {
+        log(template, limit, logger -> logger.error(template, resolve(args)));
+    }
+
+    public void error(String template, long duration, TimeUnit unit, Supplier<?>... args) {
+        log(template, duration, unit, logger -> logger.error(template, resolve(args)));
+    }
+
+    public void error(String template, double samplingRate, Supplier<?>... args) {
+        if (isSampled(samplingRate)) {
+            logger.error(template, resolve(args));
+        }
+    }
+
     public void debug(String message, int limit) {
         log(message, limit, logger -> logger.debug(message));
     }
@@ -93,6 +135,20 @@ public class ConditionalLogger {
         }
     }
 
+    public void debug(String template, int limit, Supplier<?>... args) {
+        log(template, limit, logger -> logger.debug(template, resolve(args)));
+    }
+
+    public void debug(String template, long duration, TimeUnit unit, Supplier<?>... args) {
+        log(template, duration, unit, logger -> logger.debug(template, resolve(args)));
+    }
+
+    public void debug(String template, double samplingRate, Supplier<?>... args) {
+        if (isSampled(samplingRate)) {
+            logger.debug(template, resolve(args));
+        }
+    }
+
     public void warn(String message, int limit) {
         log(message, limit, logger -> logger.warn(message));
     }
@@ -107,6 +163,20 @@ public class ConditionalLogger {
         }
     }
 
+    public void warn(String template, int limit, Supplier<?>... args) {
+        log(template, limit, logger -> logger.warn(template, resolve(args)));
+    }
+
+    public void warn(String template, long duration, TimeUnit unit, Supplier<?>... args) {
+        log(template, duration, unit, logger -> logger.warn(template, resolve(args)));
+    }
+
+    public void warn(String template, double samplingRate, Supplier<?>... args) {
+        if (isSampled(samplingRate)) {
+            logger.warn(template, resolve(args));
+        }
+    }
+
     /**
      * Calls {@link Consumer} if the given limit for specified key is not exceeded.
      */
@@ -133,6 +203,18 @@ public class ConditionalLogger {
         }
     }
 
+    private static boolean isSampled(double samplingRate) {
+        return samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private static Object[] resolve(Supplier<?>[] args) {
+        final Object[] resolved = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            resolved[i] = args[i].get();
+        }
+        return resolved;
+    }
+
     /**
      * Returns time in millis as current time incremented by specified duration.
      */
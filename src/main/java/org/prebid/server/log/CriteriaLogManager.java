@@ -3,6 +3,7 @@ package org.prebid.server.log;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.impl.ConcurrentHashSet;
+import org.apache.commons.lang3.tuple.Pair;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
 
@@ -16,9 +17,11 @@ public class CriteriaLogManager {
     private final Set<Criteria> criterias = new ConcurrentHashSet<>();
 
     private final JacksonMapper mapper;
+    private final AsyncLogWriter asyncLogWriter;
 
-    public CriteriaLogManager(JacksonMapper mapper) {
+    public CriteriaLogManager(JacksonMapper mapper, AsyncLogWriter asyncLogWriter) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.asyncLogWriter = Objects.requireNonNull(asyncLogWriter);
     }
 
     public BidResponse traceResponse(Logger logger,
@@ -30,23 +33,39 @@ public class CriteriaLogManager {
             return bidResponse;
         }
 
-        final String jsonBidResponse;
-        final String jsonBidRequest;
+        asyncLogWriter.write(
+                () -> encode(bidResponse, debugEnabled ? null : bidRequest),
+                CriteriaLogManager::size,
+                jsonBidResponseAndRequest -> log(jsonBidResponseAndRequest, logger));
+
+        return bidResponse;
+    }
+
+    private Pair<String, String> encode(BidResponse bidResponse, BidRequest bidRequest) {
         try {
-            jsonBidResponse = mapper.encodeToString(bidResponse);
-            jsonBidRequest = debugEnabled ? null : mapper.encodeToString(bidRequest);
+            return Pair.of(
+                    mapper.encodeToString(bidResponse),
+                    bidRequest != null ? mapper.encodeToString(bidRequest) : null);
         } catch (EncodeException e) {
             CriteriaLogManager.logger.warn("Failed to parse bidResponse or bidRequest to json string: {}", e);
-            return bidResponse;
+            return null;
         }
+    }
 
-        if (debugEnabled) {
+    private static int size(Pair<String, String> jsonBidResponseAndRequest) {
+        final String jsonBidRequest = jsonBidResponseAndRequest.getRight();
+        return jsonBidResponseAndRequest.getLeft().length() + (jsonBidRequest != null ? jsonBidRequest.length() : 0);
+    }
+
+    private void log(Pair<String, String> jsonBidResponseAndRequest, Logger logger) {
+        final String jsonBidResponse = jsonBidResponseAndRequest.getLeft();
+        final String jsonBidRequest = jsonBidResponseAndRequest.getRight();
+
+        if (jsonBidRequest == null) {
             criterias.forEach(criteria -> criteria.logResponse(jsonBidResponse, logger));
         } else {
             criterias.forEach(criteria -> criteria.logResponseAndRequest(jsonBidResponse, jsonBidRequest, logger));
         }
-
-        return bidResponse;
     }
 
     public void removeCriteria(Criteria criteria) {
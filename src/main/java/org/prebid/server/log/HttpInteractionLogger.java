@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class HttpInteractionLogger {
 
@@ -27,11 +29,13 @@ public class HttpInteractionLogger {
     private final Logger logger = LoggerFactory.getLogger(HTTP_INTERACTION_LOGGER_NAME);
 
     private final JacksonMapper mapper;
+    private final AsyncLogWriter asyncLogWriter;
 
     private final AtomicReference<SpecWithCounter> specWithCounter = new AtomicReference<>();
 
-    public HttpInteractionLogger(JacksonMapper mapper) {
+    public HttpInteractionLogger(JacksonMapper mapper, AsyncLogWriter asyncLogWriter) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.asyncLogWriter = Objects.requireNonNull(asyncLogWriter);
     }
 
     public void setSpec(HttpLogSpec spec) {
@@ -44,12 +48,10 @@ public class HttpInteractionLogger {
                                         String responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    toOneLineString(routingContext.body().asString()),
-                    statusCode,
-                    responseBody);
+            final String uri = routingContext.request().uri();
+            final Buffer requestBody = routingContext.body().buffer();
+            log("Requested URL: \"{}\", request body: \"{}\", response status: \"{}\", response body: \"{}\"",
+                    () -> new Object[]{uri, toOneLineString(requestBody.toString()), statusCode, responseBody});
 
             incLoggedInteractions();
         }
@@ -69,11 +71,9 @@ public class HttpInteractionLogger {
                                     String responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
-            logger.info(
-                    "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
-                    routingContext.request().uri(),
-                    statusCode,
-                    responseBody);
+            final String uri = routingContext.request().uri();
+            log("Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
+                    () -> new Object[]{uri, statusCode, responseBody});
 
             incLoggedInteractions();
         }
@@ -83,14 +83,29 @@ public class HttpInteractionLogger {
         final String bidder = bidderRequest.getBidder();
         if (interactionSatisfiesSpec(context, bidder)) {
             final BidRequest bidRequest = bidderRequest.getBidRequest();
-            final BidRequest updatedBidRequest = bidRequestWithBidderName(bidder, bidRequest);
-            final String jsonBidRequest = mapper.encodeToString(updatedBidRequest);
-            logger.info("Request body to {}: \"{}\"", bidder, jsonBidRequest);
+            log("Request body to {}: \"{}\"",
+                    () -> new Object[]{bidder, mapper.encodeToString(bidRequestWithBidderName(bidder, bidRequest))});
 
             incLoggedInteractions();
         }
     }
 
+    /**
+     * Resolves arguments and logs the message in background, so that request and response bodies are encoded
+     * off the event loop.
+     */
+    private void log(String template, Supplier<Object[]> args) {
+        asyncLogWriter.write(args, HttpInteractionLogger::size, resolvedArgs -> logger.info(template, resolvedArgs));
+    }
+
+    private static int size(Object[] args) {
+        int size = 0;
+        for (Object arg : args) {
+            size += String.valueOf(arg).length();
+        }
+        return size;
+    }
+
     private boolean interactionSatisfiesSpec(HttpLogSpec.Endpoint requestEndpoint,
                                              int requestStatusCode,
                                              AuctionContext auctionContext) {
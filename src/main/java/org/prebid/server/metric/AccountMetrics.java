@@ -1,17 +1,23 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Account metrics support.
  */
 class AccountMetrics extends UpdatableMetrics {
 
+    private static final String ACCOUNT_PREFIX = "account.";
+
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -39,7 +45,30 @@ class AccountMetrics extends UpdatableMetrics {
     }
 
     private static String createPrefix(String account) {
-        return "account." + account;
+        return ACCOUNT_PREFIX + account;
+    }
+
+    /**
+     * Returns filter matching metrics of any of the given accounts. Account id may contain dots, so every possible
+     * account prefix of the metric name is looked up.
+     */
+    static MetricFilter metricsOf(Collection<String> accounts) {
+        final Set<String> prefixes = accounts.stream()
+                .map(account -> createPrefix(account) + ".")
+                .collect(Collectors.toSet());
+
+        return (name, metric) -> {
+            if (!name.startsWith(ACCOUNT_PREFIX)) {
+                return false;
+            }
+
+            for (int dot = name.indexOf('.', ACCOUNT_PREFIX.length()); dot >= 0; dot = name.indexOf('.', dot + 1)) {
+                if (prefixes.contains(name.substring(0, dot + 1))) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -13,6 +13,8 @@ class CacheMetrics extends UpdatableMetrics {
     private final RequestMetrics requestsMetrics;
     private final CacheCreativeSizeMetrics cacheCreativeSizeMetrics;
     private final CacheCreativeTtlMetrics cacheCreativeTtlMetrics;
+    private final CacheWriteBehindMetrics cacheWriteBehindMetrics;
+    private final CacheTransportMetrics cacheTransportMetrics;
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(
@@ -23,6 +25,8 @@ class CacheMetrics extends UpdatableMetrics {
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(metricRegistry, counterType, createPrefix());
+        cacheWriteBehindMetrics = new CacheWriteBehindMetrics(metricRegistry, counterType, createPrefix());
+        cacheTransportMetrics = new CacheTransportMetrics(metricRegistry, counterType, createPrefix());
     }
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -34,6 +38,8 @@ class CacheMetrics extends UpdatableMetrics {
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheWriteBehindMetrics = new CacheWriteBehindMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheTransportMetrics = new CacheTransportMetrics(metricRegistry, counterType, createPrefix(prefix));
     }
 
     private static String createPrefix(String prefix) {
@@ -59,4 +65,12 @@ class CacheMetrics extends UpdatableMetrics {
     CacheCreativeTtlMetrics creativeTtl() {
         return cacheCreativeTtlMetrics;
     }
+
+    CacheWriteBehindMetrics writeBehind() {
+        return cacheWriteBehindMetrics;
+    }
+
+    CacheTransportMetrics transport() {
+        return cacheTransportMetrics;
+    }
 }
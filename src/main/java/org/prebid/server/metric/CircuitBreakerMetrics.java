@@ -40,16 +40,6 @@ class CircuitBreakerMetrics extends UpdatableMetrics {
         return metricName -> "%s.%s%s".formatted(prefix, metricName, SUFFIX);
     }
 
-    @Override
-    void incCounter(MetricName metricName) {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    void incCounter(MetricName metricName, long value) {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     void updateTimer(MetricName metricName, long millis) {
         throw new UnsupportedOperationException();
@@ -13,10 +13,25 @@ public enum MetricName {
     http,
     opened,
     existing,
+    open_transition,
+    half_open_transition,
+    close_transition,
 
     // database
     db_query_time,
 
+    // account metrics
+    tracked_accounts,
+    tracked_accounts_memory,
+
+    // prometheus
+    prometheus_scrape_time,
+    prometheus_scrape_size,
+
+    // async logging
+    async_log_queue_full,
+    async_log_budget_exceeded,
+
     // geo location
     geolocation_requests,
     geolocation_request_time,
@@ -30,6 +45,8 @@ public enum MetricName {
     no_cookie_requests,
     request_time,
     prices,
+    timeout_chosen,
+    timeout_saved,
     imps_requested,
     imps_banner,
     imps_video,
@@ -75,6 +92,7 @@ public enum MetricName {
     err,
     networkerr,
     buyeruid_scrubbed,
+    shaped,
     seat,
 
     // bids validation
@@ -106,6 +124,7 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    decode_time,
 
     // vendor list
     missing,
@@ -121,6 +140,15 @@ public enum MetricName {
     json,
     xml,
 
+    // cache write-behind
+    lag,
+    dropped,
+    retried,
+
+    // cache transport
+    request_size,
+    coalesced_requests,
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
@@ -130,14 +158,21 @@ public enum MetricName {
     // currency rates
     stale,
 
+    // debug
+    captured_bytes,
+    truncated_bytes,
+
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    stored_response("stored-response"),
     account,
     initialize,
     update,
     hit,
     miss,
+    items,
+    bytes,
 
     // hooks
     call,
@@ -153,6 +188,16 @@ public enum MetricName {
     // price-floors
     price_floors("price-floors"),
 
+    // bidder preparation
+    saved_time,
+
+    // admission control
+    admitted,
+    degraded,
+    shed,
+    shed_bidders,
+    event_loop_lag,
+
     // activity
     disallowed_count("disallowed.count"),
     processed_rules_count("processedrules.count");
@@ -13,15 +13,21 @@ import org.prebid.server.settings.model.Account;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Defines interface for submitting different kinds of metrics.
@@ -31,6 +37,7 @@ public class Metrics extends UpdatableMetrics {
     private static final String ALL_REQUEST_BIDDERS = "all";
 
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
+    private final TopAccountsTracker topAccountsTracker;
     private final Function<MetricName, RequestStatusMetrics> requestMetricsCreator;
     private final Function<String, AccountMetrics> accountMetricsCreator;
     private final Function<String, AdapterTypeMetrics> adapterMetricsCreator;
@@ -39,6 +46,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, ServerConnectionMetrics> serverConnectionMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -59,14 +67,28 @@ public class Metrics extends UpdatableMetrics {
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
     private final HooksMetrics hooksMetrics;
+    private final BidderPreparationMetrics bidderPreparationMetrics;
+    private final AdmissionMetrics admissionMetrics;
+    private final DebugMetrics debugMetrics;
+    private final Map<String, ServerConnectionMetrics> serverConnectionMetrics;
+    private List<String> previouslyEvictedAccounts = Collections.emptyList();
 
     public Metrics(MetricRegistry metricRegistry,
                    CounterType counterType,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
+        this(metricRegistry, counterType, accountMetricsVerbosityResolver, null);
+    }
+
+    public Metrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   AccountMetricsVerbosityResolver accountMetricsVerbosityResolver,
+                   TopAccountsTracker topAccountsTracker) {
+
         super(metricRegistry, counterType, MetricName::toString);
 
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
+        this.topAccountsTracker = topAccountsTracker;
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
         accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
@@ -79,10 +101,13 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        serverConnectionMetricsCreator = protocol -> new ServerConnectionMetrics(
+                metricRegistry, counterType, protocol);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
+        // accounts are removed when top accounts are tracked
+        accountMetrics = new ConcurrentHashMap<>();
         adapterMetrics = new HashMap<>();
         analyticMetrics = new HashMap<>();
         priceFloorsMetrics = new HashMap<>();
@@ -97,6 +122,22 @@ public class Metrics extends UpdatableMetrics {
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
+        bidderPreparationMetrics = new BidderPreparationMetrics(metricRegistry, counterType);
+        admissionMetrics = new AdmissionMetrics(metricRegistry, counterType);
+        debugMetrics = new DebugMetrics(metricRegistry, counterType);
+        serverConnectionMetrics = new HashMap<>();
+
+        if (topAccountsTracker != null) {
+            createTopAccountsGauges(metricRegistry, topAccountsTracker);
+        }
+    }
+
+    private static void createTopAccountsGauges(MetricRegistry metricRegistry, TopAccountsTracker topAccountsTracker) {
+        final LongSupplier trackedAccounts = topAccountsTracker::trackedAccounts;
+        final LongSupplier memoryUsage = topAccountsTracker::memoryUsage;
+
+        metricRegistry.gauge(MetricName.tracked_accounts.toString(), () -> trackedAccounts::getAsLong);
+        metricRegistry.gauge(MetricName.tracked_accounts_memory.toString(), () -> memoryUsage::getAsLong);
     }
 
     RequestsMetrics requests() {
@@ -112,7 +153,8 @@ public class Metrics extends UpdatableMetrics {
     }
 
     AccountMetrics forAccount(String accountId) {
-        return accountMetrics.computeIfAbsent(accountId, accountMetricsCreator);
+        final String metricsAccountId = topAccountsTracker != null ? topAccountsTracker.resolve(accountId) : accountId;
+        return accountMetrics.computeIfAbsent(metricsAccountId, accountMetricsCreator);
     }
 
     AdapterTypeMetrics forAdapter(String adapterType) {
@@ -163,6 +205,22 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    BidderPreparationMetrics bidderPreparation() {
+        return bidderPreparationMetrics;
+    }
+
+    AdmissionMetrics admission() {
+        return admissionMetrics;
+    }
+
+    DebugMetrics debug() {
+        return debugMetrics;
+    }
+
+    ServerConnectionMetrics forServerConnectionProtocol(String protocol) {
+        return serverConnectionMetrics.computeIfAbsent(protocol, serverConnectionMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -236,6 +294,10 @@ public class Metrics extends UpdatableMetrics {
     }
 
     public void updateAccountRequestMetrics(Account account, MetricName requestType) {
+        if (topAccountsTracker != null) {
+            topAccountsTracker.record(account.getId());
+        }
+
         final AccountMetricsVerbosityLevel verbosityLevel = accountMetricsVerbosityResolver.forAccount(account);
         if (verbosityLevel.isAtLeast(AccountMetricsVerbosityLevel.basic)) {
             final AccountMetrics accountMetrics = forAccount(account.getId());
@@ -248,6 +310,32 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    /**
+     * Chooses accounts with own metrics again and removes metrics of accounts which are not tracked anymore, all of
+     * them in one pass over metric registry. Expected to be called periodically apart from request path.
+     * <p>
+     * Requests in flight may still hold metrics of just removed account and recreate some of them, so metrics of
+     * accounts which are not tracked are looked for and removed again on the next rotation.
+     */
+    public void rotateTopAccounts() {
+        if (topAccountsTracker == null) {
+            return;
+        }
+
+        final List<String> evictedAccounts = topAccountsTracker.rotate();
+
+        final Set<String> accountsToRemove = new HashSet<>(evictedAccounts);
+        Stream.concat(previouslyEvictedAccounts.stream(), accountMetrics.keySet().stream())
+                .filter(accountId -> !accountId.equals(topAccountsTracker.resolve(accountId)))
+                .forEach(accountsToRemove::add);
+        previouslyEvictedAccounts = evictedAccounts;
+
+        if (!accountsToRemove.isEmpty()) {
+            accountsToRemove.forEach(accountMetrics::remove);
+            removeMetrics(AccountMetrics.metricsOf(accountsToRemove));
+        }
+    }
+
     public void updateAccountDebugRequestMetrics(Account account, boolean debugEnabled) {
         final AccountMetricsVerbosityLevel verbosityLevel = accountMetricsVerbosityResolver.forAccount(account);
         if (verbosityLevel.isAtLeast(AccountMetricsVerbosityLevel.detailed) && debugEnabled) {
@@ -292,6 +380,13 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterRequestShapedMetrics(String bidder, Account account) {
+        forAdapter(bidder).request().incCounter(MetricName.shaped);
+        if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
+            forAccount(account.getId()).adapter().forAdapter(bidder).request().incCounter(MetricName.shaped);
+        }
+    }
+
     public void updateAdapterResponseTime(String bidder, Account account, int responseTime) {
         final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
         adapterTypeMetrics.updateTimer(MetricName.request_time, responseTime);
@@ -303,6 +398,12 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterAdaptiveTimeoutMetrics(String bidder, long timeout, long saved) {
+        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
+        adapterTypeMetrics.updateHistogram(MetricName.timeout_chosen, timeout);
+        adapterTypeMetrics.updateHistogram(MetricName.timeout_saved, saved);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -549,19 +650,48 @@ public class Metrics extends UpdatableMetrics {
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
     }
 
+    public void updatePrivacyGppCacheMetric(boolean hit) {
+        privacy().gpp().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
+    public void updatePrivacyGppDecodeTimeMetric(long nanos) {
+        privacy().gpp().updateTimer(MetricName.decode_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateConnectionAcceptErrors() {
         incCounter(MetricName.connection_accept_errors);
     }
 
+    public void updateServerConnectionOpenedMetric(String protocol) {
+        forServerConnectionProtocol(protocol).incCounter(MetricName.opened);
+    }
+
+    public void updateServerConnectionRequestsMetric(String protocol, long requests) {
+        forServerConnectionProtocol(protocol).updateHistogram(MetricName.requests, requests);
+    }
+
     public void updateDatabaseQueryTimeMetric(long millis) {
         updateTimer(MetricName.db_query_time, millis);
     }
 
+    public void updatePrometheusScrapeMetrics(long millis, int size) {
+        updateTimer(MetricName.prometheus_scrape_time, millis);
+        updateHistogram(MetricName.prometheus_scrape_size, size);
+    }
+
+    public void updateAsyncLogDroppedMetric(MetricName reason) {
+        incCounter(reason);
+    }
+
     public void createDatabaseCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.db)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
 
+    public void updateDatabaseCircuitBreakerTransitionMetric(MetricName transition) {
+        forCircuitBreakerType(MetricName.db).incCounter(transition);
+    }
+
     public void createHttpClientCircuitBreakerGauge(String name, BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.http)
                 .forName(name)
@@ -576,6 +706,10 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
 
+    public void updateHttpClientCircuitBreakerTransitionMetric(MetricName transition) {
+        forCircuitBreakerType(MetricName.http).incCounter(transition);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -637,6 +771,14 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
 
+    public void updateSettingsCacheRefreshSize(MetricName cacheType, MetricName refreshType, long items) {
+        forSettingsCacheType(cacheType).forRefreshType(refreshType).updateHistogram(MetricName.items, items);
+    }
+
+    public void updateSettingsCacheRefreshBytes(MetricName cacheType, MetricName refreshType, long bytes) {
+        forSettingsCacheType(cacheType).forRefreshType(refreshType).updateHistogram(MetricName.bytes, bytes);
+    }
+
     public void updateSettingsCacheRefreshErrorMetric(MetricName cacheType, MetricName refreshType) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.err);
     }
@@ -645,6 +787,33 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheEventMetric(MetricName cacheType, MetricName event, long count) {
+        forSettingsCacheType(cacheType).incCounter(event, count);
+    }
+
+    public void updateBidderPreparationMetrics(long timeElapsed, long timeSaved) {
+        final BidderPreparationMetrics metrics = bidderPreparation();
+        metrics.incCounter(MetricName.requests);
+        metrics.updateTimer(MetricName.request_time, timeElapsed);
+        metrics.updateTimer(MetricName.saved_time, timeSaved);
+    }
+
+    public void updateAdmissionMetric(MetricName metricName) {
+        admission().incCounter(metricName);
+    }
+
+    public void updateAdmissionLagMetric(long lagMs) {
+        admission().updateTimer(MetricName.event_loop_lag, lagMs);
+    }
+
+    public void updateDebugHttpCallsMetrics(long capturedBytes, long truncatedBytes) {
+        final DebugMetrics metrics = debug();
+        metrics.incCounter(MetricName.captured_bytes, capturedBytes);
+        if (truncatedBytes > 0) {
+            metrics.incCounter(MetricName.truncated_bytes, truncatedBytes);
+        }
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -703,6 +872,24 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeTtl().updateHistogram(creativeType, creativeTtl);
     }
 
+    public void updateCacheWriteBehindLag(long timeElapsed) {
+        cache().writeBehind().updateTimer(MetricName.lag, timeElapsed);
+    }
+
+    public void updateCacheWriteBehindRetried(int count) {
+        cache().writeBehind().incCounter(MetricName.retried, count);
+    }
+
+    public void updateCacheWriteBehindDropped(int count) {
+        cache().writeBehind().incCounter(MetricName.dropped, count);
+    }
+
+    public void updateCacheTransportMetrics(int requestSize, int coalescedRequests) {
+        final CacheTransportMetrics transportMetrics = cache().transport();
+        transportMetrics.updateHistogram(MetricName.request_size, requestSize);
+        transportMetrics.updateHistogram(MetricName.coalesced_requests, coalescedRequests);
+    }
+
     public void updateRequestsActivityDisallowedCount(Activity activity) {
         requests().activities().forActivity(activity).incCounter(MetricName.disallowed_count);
     }
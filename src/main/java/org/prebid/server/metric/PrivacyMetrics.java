@@ -12,12 +12,14 @@ class PrivacyMetrics extends UpdatableMetrics {
 
     private final USPrivacyMetrics usPrivacyMetrics;
     private final TcfMetrics tcfMetrics;
+    private final GppMetrics gppMetrics;
 
     PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 metricName -> "privacy." + metricName);
         usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, "privacy");
         tcfMetrics = new TcfMetrics(metricRegistry, counterType, "privacy");
+        gppMetrics = new GppMetrics(metricRegistry, counterType, "privacy");
     }
 
     USPrivacyMetrics usp() {
@@ -28,6 +30,10 @@ class PrivacyMetrics extends UpdatableMetrics {
         return tcfMetrics;
     }
 
+    GppMetrics gpp() {
+        return gppMetrics;
+    }
+
     static class USPrivacyMetrics extends UpdatableMetrics {
 
         USPrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -39,4 +45,16 @@ class PrivacyMetrics extends UpdatableMetrics {
             return metricName -> "%s.usp.%s".formatted(prefix, metricName);
         }
     }
+
+    static class GppMetrics extends UpdatableMetrics {
+
+        GppMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(Objects.requireNonNull(prefix)));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.gpp.%s".formatted(prefix, metricName);
+        }
+    }
 }
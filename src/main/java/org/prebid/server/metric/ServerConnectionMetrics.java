@@ -0,0 +1,21 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Application server connections metrics support.
+ */
+class ServerConnectionMetrics extends UpdatableMetrics {
+
+    ServerConnectionMetrics(MetricRegistry metricRegistry, CounterType counterType, String protocol) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(protocol)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String protocol) {
+        return metricName -> "server.connections.%s.%s".formatted(protocol, metricName);
+    }
+}
@@ -0,0 +1,47 @@
+package org.prebid.server.metric;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.Objects;
+
+/**
+ * Periodically chooses accounts with own metrics again and removes metrics of accounts which are not tracked anymore.
+ * <p>
+ * Rotation scans the whole metric registry, so it is run on a worker thread rather than on request path.
+ */
+public class TopAccountsRotator implements Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopAccountsRotator.class);
+
+    private final Metrics metrics;
+    private final Vertx vertx;
+    private final long rotationIntervalMs;
+
+    public TopAccountsRotator(Metrics metrics, Vertx vertx, long rotationIntervalMs) {
+        if (rotationIntervalMs < 1) {
+            throw new IllegalArgumentException("Rotation interval should be positive");
+        }
+
+        this.metrics = Objects.requireNonNull(metrics);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.rotationIntervalMs = rotationIntervalMs;
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        // ordered execution, so rotations never overlap
+        vertx.setPeriodic(rotationIntervalMs, ignored -> vertx.executeBlocking(this::rotate)
+                .onFailure(error -> logger.warn("Top accounts rotation failed", error)));
+
+        initializePromise.tryComplete();
+    }
+
+    private Void rotate() {
+        metrics.rotateTopAccounts();
+        return null;
+    }
+}
@@ -0,0 +1,153 @@
+package org.prebid.server.metric;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Tracks accounts with the highest request volume, so that only they get own account metrics and all other accounts
+ * are aggregated into {@link #OTHER_ACCOUNT}.
+ * <p>
+ * Request volume is estimated by count-min sketch. Until the first rotation accounts are tracked as they come, up to
+ * the limit. Accounts whose estimated volume reaches the one of the least active tracked account become candidates,
+ * and on every {@link #rotate} the tracked accounts are chosen again among tracked accounts and candidates by their
+ * estimated volume. Estimates are halved on rotation, so membership follows recent traffic.
+ * <p>
+ * Recording is cheap and safe to be done on request path, while rotation is expected to be run periodically apart
+ * from it.
+ * <p>
+ * Pinned accounts are always tracked and do not count towards the limit.
+ */
+public class TopAccountsTracker {
+
+    public static final String OTHER_ACCOUNT = "other";
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH_PER_ACCOUNT = 16;
+    private static final int CANDIDATES_PER_ACCOUNT = 4;
+    private static final long ACCOUNT_ID_ENTRY_BYTES = 96;
+
+    private final int topAccounts;
+    private final Set<String> pinnedAccounts;
+
+    private final int sketchWidth;
+    private final AtomicLongArray sketch;
+    private final int maxCandidates;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+
+    private volatile Set<String> trackedAccounts = ConcurrentHashMap.newKeySet();
+    private volatile long admissionThreshold;
+
+    public TopAccountsTracker(int topAccounts, Collection<String> pinnedAccounts) {
+        if (topAccounts < 1) {
+            throw new IllegalArgumentException("Top accounts number should be positive");
+        }
+
+        this.topAccounts = topAccounts;
+        this.pinnedAccounts = Set.copyOf(Objects.requireNonNull(pinnedAccounts));
+
+        sketchWidth = topAccounts * SKETCH_WIDTH_PER_ACCOUNT;
+        sketch = new AtomicLongArray(SKETCH_DEPTH * sketchWidth);
+        maxCandidates = topAccounts * CANDIDATES_PER_ACCOUNT;
+    }
+
+    /**
+     * Records request of the given account.
+     */
+    public void record(String accountId) {
+        if (!pinnedAccounts.contains(accountId)) {
+            final long estimate = increment(accountId);
+
+            final Set<String> currentTrackedAccounts = trackedAccounts;
+            if (!currentTrackedAccounts.contains(accountId)) {
+                if (currentTrackedAccounts.size() < topAccounts) {
+                    currentTrackedAccounts.add(accountId);
+                } else if (estimate >= admissionThreshold && candidates.size() < maxCandidates) {
+                    candidates.add(accountId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns account metrics should be reported under: the account itself if it is tracked, otherwise
+     * {@link #OTHER_ACCOUNT}.
+     */
+    public String resolve(String accountId) {
+        return pinnedAccounts.contains(accountId) || trackedAccounts.contains(accountId) ? accountId : OTHER_ACCOUNT;
+    }
+
+    public int trackedAccounts() {
+        return pinnedAccounts.size() + trackedAccounts.size();
+    }
+
+    /**
+     * Returns estimated memory used by the tracker itself, in bytes.
+     */
+    public long memoryUsage() {
+        return (long) sketch.length() * Long.BYTES
+                + (trackedAccounts() + candidates.size()) * ACCOUNT_ID_ENTRY_BYTES;
+    }
+
+    /**
+     * Chooses tracked accounts again. Should not be called concurrently.
+     *
+     * @return accounts which are not tracked anymore
+     */
+    public List<String> rotate() {
+        final Set<String> previousTrackedAccounts = trackedAccounts;
+
+        final List<Map.Entry<String, Long>> ranked = Stream.concat(
+                        previousTrackedAccounts.stream(), candidates.stream())
+                .distinct()
+                .map(accountId -> Map.entry(accountId, estimate(accountId)))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topAccounts)
+                .toList();
+
+        final Set<String> newTrackedAccounts = ConcurrentHashMap.newKeySet();
+        ranked.forEach(entry -> newTrackedAccounts.add(entry.getKey()));
+
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.set(i, sketch.get(i) / 2);
+        }
+        admissionThreshold = ranked.size() < topAccounts ? 0 : ranked.getLast().getValue() / 2;
+        candidates.clear();
+        trackedAccounts = newTrackedAccounts;
+
+        return previousTrackedAccounts.stream()
+                .filter(accountId -> !newTrackedAccounts.contains(accountId))
+                .toList();
+    }
+
+    private long increment(String accountId) {
+        final int hash = accountId.hashCode();
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    private long estimate(String accountId) {
+        final int hash = accountId.hashCode();
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    private int index(int hash, int row) {
+        final int rowHash = (hash ^ (row * 0x9E3779B9)) * 0x85EBCA6B;
+        return row * sketchWidth + Math.floorMod(rowHash ^ (rowHash >>> 16), sketchWidth);
+    }
+}
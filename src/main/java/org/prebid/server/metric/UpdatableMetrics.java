@@ -1,5 +1,6 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 
 import java.util.EnumMap;
@@ -54,6 +55,10 @@ class UpdatableMetrics {
         metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
     }
 
+    void updateTimer(MetricName metricName, long duration, TimeUnit timeUnit) {
+        metricRegistry.timer(name(metricName)).update(duration, timeUnit);
+    }
+
     /**
      * Updates metric's histogram with a given value.
      */
@@ -70,6 +75,10 @@ class UpdatableMetrics {
         metricRegistry.remove(name(metricName));
     }
 
+    void removeMetrics(MetricFilter filter) {
+        metricRegistry.removeMatching(filter);
+    }
+
     private String name(MetricName metricName) {
         return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
     }
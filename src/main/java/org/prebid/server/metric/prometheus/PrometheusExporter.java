@@ -0,0 +1,376 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.prometheus.client.Collector;
+import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.Initializable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves metrics of {@link MetricRegistry} in Prometheus text exposition format.
+ * <p>
+ * Produces the same series as {@link io.prometheus.client.dropwizard.DropwizardExports} with the given
+ * {@link SampleBuilder}, but renders them straight into the response buffer: names and labels of each metric are
+ * encoded once, when metric is registered, and only values are formatted on scrape.
+ * <p>
+ * If snapshot refresh interval is positive, the exposition is rendered periodically on a worker thread and scrapes
+ * are served from the latest snapshot.
+ */
+public class PrometheusExporter implements Handler<RoutingContext>, Initializable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusExporter.class);
+
+    private static final double NANOS_TO_SECONDS = 1.0 / TimeUnit.SECONDS.toNanos(1L);
+    private static final List<String> QUANTILES = List.of("0.5", "0.75", "0.95", "0.98", "0.99", "0.999");
+
+    private final SampleBuilder sampleBuilder;
+    private final Vertx vertx;
+    private final long snapshotRefreshMs;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, ExportedMetric> exportedMetrics = new ConcurrentHashMap<>();
+    private final AtomicLong exportedMetricsVersion = new AtomicLong();
+    private volatile Families families;
+    private volatile int lastSize = 1024;
+    private volatile Buffer snapshot;
+
+    public PrometheusExporter(MetricRegistry metricRegistry,
+                              SampleBuilder sampleBuilder,
+                              Vertx vertx,
+                              long snapshotRefreshMs,
+                              Metrics metrics,
+                              Clock clock) {
+
+        this.sampleBuilder = Objects.requireNonNull(sampleBuilder);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.snapshotRefreshMs = snapshotRefreshMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        Objects.requireNonNull(metricRegistry).addListener(new ExportedMetricsListener());
+    }
+
+    @Override
+    public void initialize(Promise<Void> initializePromise) {
+        if (snapshotRefreshMs > 0) {
+            refreshSnapshot();
+            vertx.setPeriodic(snapshotRefreshMs, ignored -> vertx.executeBlocking(this::refreshSnapshot, false)
+                    .onFailure(error -> logger.warn("Prometheus metrics snapshot refresh failed", error)));
+        }
+
+        initializePromise.tryComplete();
+    }
+
+    private Void refreshSnapshot() {
+        snapshot = render();
+        return null;
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final Buffer currentSnapshot = snapshot;
+        final Buffer body = currentSnapshot != null ? currentSnapshot : render();
+
+        routingContext.response()
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, TextFormat.CONTENT_TYPE_004)
+                .end(body);
+    }
+
+    /**
+     * Renders all registered metrics in Prometheus text exposition format.
+     */
+    public Buffer render() {
+        final long startTime = clock.millis();
+
+        final int expectedSize = lastSize;
+        final Buffer buffer = Buffer.buffer(expectedSize + expectedSize / 8);
+        for (Family family : families()) {
+            family.writeTo(buffer);
+        }
+
+        lastSize = buffer.length();
+        metrics.updatePrometheusScrapeMetrics(clock.millis() - startTime, buffer.length());
+
+        return buffer;
+    }
+
+    private List<Family> families() {
+        final Families currentFamilies = families;
+        return currentFamilies != null && currentFamilies.version == exportedMetricsVersion.get()
+                ? currentFamilies.families
+                : groupFamilies();
+    }
+
+    /**
+     * Groups exported metrics by family name, since samples of a family should be rendered together.
+     */
+    private List<Family> groupFamilies() {
+        final long version = exportedMetricsVersion.get();
+
+        final Map<String, Family> familyByName = new LinkedHashMap<>();
+        for (ExportedMetric exportedMetric : exportedMetrics.values()) {
+            familyByName.computeIfAbsent(exportedMetric.familyName, name -> new Family(exportedMetric.header))
+                    .metrics.add(exportedMetric);
+        }
+
+        final List<Family> groupedFamilies = List.copyOf(familyByName.values());
+        families = new Families(version, groupedFamilies);
+        return groupedFamilies;
+    }
+
+    private void register(String name, Metric metric, MetricType type) {
+        exportedMetrics.put(name, encode(name, metric, type));
+        exportedMetricsVersion.incrementAndGet();
+    }
+
+    private void unregister(String name) {
+        exportedMetrics.remove(name);
+        exportedMetricsVersion.incrementAndGet();
+    }
+
+    private ExportedMetric encode(String name, Metric metric, MetricType type) {
+        final List<Collector.MetricFamilySamples.Sample> samples = new ArrayList<>();
+        if (type == MetricType.TIMER || type == MetricType.HISTOGRAM) {
+            for (String quantile : QUANTILES) {
+                // sample builders may add labels, so lists should be mutable
+                samples.add(sampleBuilder.createSample(
+                        name, "", new ArrayList<>(List.of("quantile")), new ArrayList<>(List.of(quantile)), 0));
+            }
+            samples.add(sampleBuilder.createSample(name, "_count", new ArrayList<>(), new ArrayList<>(), 0));
+        } else {
+            final String suffix = type == MetricType.METER ? "_total" : "";
+            samples.add(sampleBuilder.createSample(name, suffix, new ArrayList<>(), new ArrayList<>(), 0));
+        }
+
+        final String familyName = samples.getFirst().name;
+        final String help = "Generated from Dropwizard metric import (metric=%s, type=%s)"
+                .formatted(name, metric.getClass().getName());
+        final String header = "# HELP %s %s\n# TYPE %s %s\n"
+                .formatted(familyName, escapeHelp(help), familyName, type.prometheusType);
+
+        return new ExportedMetric(
+                metric,
+                type,
+                familyName,
+                header.getBytes(StandardCharsets.UTF_8),
+                samples.stream().map(PrometheusExporter::encodeSamplePrefix).toArray(byte[][]::new));
+    }
+
+    private static byte[] encodeSamplePrefix(Collector.MetricFamilySamples.Sample sample) {
+        final StringBuilder prefix = new StringBuilder(sample.name);
+        if (!sample.labelNames.isEmpty()) {
+            prefix.append('{');
+            for (int i = 0; i < sample.labelNames.size(); i++) {
+                prefix.append(sample.labelNames.get(i))
+                        .append("=\"")
+                        .append(escapeLabelValue(sample.labelValues.get(i)))
+                        .append("\",");
+            }
+            prefix.append('}');
+        }
+        prefix.append(' ');
+
+        return prefix.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Dropwizard metric types with Prometheus types they are exposed as by {@code DropwizardExports}.
+     */
+    private enum MetricType {
+
+        GAUGE("gauge"),
+        COUNTER("gauge"),
+        HISTOGRAM("summary"),
+        TIMER("summary"),
+        METER("counter");
+
+        private final String prometheusType;
+
+        MetricType(String prometheusType) {
+            this.prometheusType = prometheusType;
+        }
+    }
+
+    private record ExportedMetric(Metric metric,
+                                  MetricType type,
+                                  String familyName,
+                                  byte[] header,
+                                  byte[][] samplePrefixes) {
+
+        /**
+         * Writes samples of this metric, preceded by the family header if it was not written yet.
+         *
+         * @return whether header was written before or by this call
+         */
+        boolean writeTo(Buffer buffer, boolean headerWritten) {
+            switch (type) {
+                case GAUGE -> {
+                    final Double value = gaugeValue(((Gauge<?>) metric).getValue());
+                    if (value == null) {
+                        return headerWritten;
+                    }
+                    writeHeader(buffer, headerWritten);
+                    writeSample(buffer, 0, value);
+                }
+                case COUNTER -> {
+                    writeHeader(buffer, headerWritten);
+                    writeSample(buffer, 0, ((Counter) metric).getCount());
+                }
+                case METER -> {
+                    writeHeader(buffer, headerWritten);
+                    writeSample(buffer, 0, ((Meter) metric).getCount());
+                }
+                case HISTOGRAM -> {
+                    final Histogram histogram = (Histogram) metric;
+                    writeHeader(buffer, headerWritten);
+                    writeSummary(buffer, histogram.getSnapshot(), histogram.getCount(), 1.0);
+                }
+                case TIMER -> {
+                    final Timer timer = (Timer) metric;
+                    writeHeader(buffer, headerWritten);
+                    writeSummary(buffer, timer.getSnapshot(), timer.getCount(), NANOS_TO_SECONDS);
+                }
+            }
+            return true;
+        }
+
+        private void writeHeader(Buffer buffer, boolean headerWritten) {
+            if (!headerWritten) {
+                buffer.appendBytes(header);
+            }
+        }
+
+        private void writeSummary(Buffer buffer, Snapshot snapshot, long count, double factor) {
+            writeSample(buffer, 0, snapshot.getMedian() * factor);
+            writeSample(buffer, 1, snapshot.get75thPercentile() * factor);
+            writeSample(buffer, 2, snapshot.get95thPercentile() * factor);
+            writeSample(buffer, 3, snapshot.get98thPercentile() * factor);
+            writeSample(buffer, 4, snapshot.get99thPercentile() * factor);
+            writeSample(buffer, 5, snapshot.get999thPercentile() * factor);
+            writeSample(buffer, 6, count);
+        }
+
+        private void writeSample(Buffer buffer, int index, double value) {
+            buffer.appendBytes(samplePrefixes[index])
+                    .appendString(Collector.doubleToGoString(value))
+                    .appendByte((byte) '\n');
+        }
+
+        private static Double gaugeValue(Object value) {
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            if (value instanceof Boolean bool) {
+                return bool ? 1.0 : 0.0;
+            }
+            return null;
+        }
+    }
+
+    private record Families(long version, List<Family> families) {
+    }
+
+    private record Family(byte[] header, List<ExportedMetric> metrics) {
+
+        Family(byte[] header) {
+            this(header, new ArrayList<>());
+        }
+
+        void writeTo(Buffer buffer) {
+            boolean headerWritten = false;
+            for (ExportedMetric metric : metrics) {
+                headerWritten = metric.writeTo(buffer, headerWritten);
+            }
+        }
+    }
+
+    private class ExportedMetricsListener implements MetricRegistryListener {
+
+        @Override
+        public void onGaugeAdded(String name, Gauge<?> gauge) {
+            register(name, gauge, MetricType.GAUGE);
+        }
+
+        @Override
+        public void onGaugeRemoved(String name) {
+            unregister(name);
+        }
+
+        @Override
+        public void onCounterAdded(String name, Counter counter) {
+            register(name, counter, MetricType.COUNTER);
+        }
+
+        @Override
+        public void onCounterRemoved(String name) {
+            unregister(name);
+        }
+
+        @Override
+        public void onHistogramAdded(String name, Histogram histogram) {
+            register(name, histogram, MetricType.HISTOGRAM);
+        }
+
+        @Override
+        public void onHistogramRemoved(String name) {
+            unregister(name);
+        }
+
+        @Override
+        public void onMeterAdded(String name, Meter meter) {
+            register(name, meter, MetricType.METER);
+        }
+
+        @Override
+        public void onMeterRemoved(String name) {
+            unregister(name);
+        }
+
+        @Override
+        public void onTimerAdded(String name, Timer timer) {
+            register(name, timer, MetricType.TIMER);
+        }
+
+        @Override
+        public void onTimerRemoved(String name) {
+            unregister(name);
+        }
+    }
+}
@@ -34,6 +34,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Evaluates TCF purposes and special features for vendors or bidders of a request.
+ * <p>
+ * Evaluation runs on the calling event loop thread and is not offloaded to a worker: it never blocks. Vendor lists
+ * are taken from in-memory cache, a missing version is fetched asynchronously while the request is evaluated with
+ * downgraded strategies right away. Bidder to vendor id mapping is resolved at startup, so the rest is pure CPU work
+ * over decoded consent and in-memory GVL data, bounded by number of bidders times number of purposes. Moving it to
+ * a worker pool would cost more on thread hand-off than the evaluation itself.
+ */
 public class Tcf2Service {
 
     private final Purposes defaultPurposes;
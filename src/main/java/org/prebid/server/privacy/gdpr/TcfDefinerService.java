@@ -55,6 +55,9 @@ public class TcfDefinerService {
     private static final ConditionalLogger undefinedCorruptConsentLogger =
             new ConditionalLogger("undefined_corrupt_consent", logger);
 
+    private static final String CORRUPT_CONSENT_MESSAGE =
+            "Parsing consent string: \"{}\" failed for: {} type for account id: {} with ref: {} with exception: {}";
+
     private static final String GDPR_ENABLED = "1";
 
     private final boolean gdprEnabled;
@@ -388,29 +391,34 @@ public class TcfDefinerService {
 
     private static void logWarn(String consent, String message, RequestLogInfo requestLogInfo) {
         if (requestLogInfo == null || requestLogInfo.getRequestType() == null) {
-            final String exceptionMessage = "Parsing consent string:\"%s\" failed for undefined type with exception %s"
-                    .formatted(consent, message);
-            undefinedCorruptConsentLogger.info(exceptionMessage, 100);
+            undefinedCorruptConsentLogger.info(
+                    "Parsing consent string:\"{}\" failed for undefined type with exception {}", 100,
+                    () -> consent, () -> message);
             return;
         }
 
         switch (requestLogInfo.getRequestType()) {
-            case amp -> ampCorruptConsentLogger.info(
-                    logMessage(consent, MetricName.amp.toString(), requestLogInfo, message), 100);
-            case openrtb2app -> appCorruptConsentLogger.info(
-                    logMessage(consent, MetricName.openrtb2app.toString(), requestLogInfo, message), 100);
-            case openrtb2dooh -> doohCorruptConsentLogger.info(
-                    logMessage(consent, MetricName.openrtb2dooh.toString(), requestLogInfo, message), 100);
-            case openrtb2web -> siteCorruptConsentLogger.info(
-                    logMessage(consent, MetricName.openrtb2web.toString(), requestLogInfo, message), 100);
-            default -> undefinedCorruptConsentLogger.info(
-                    logMessage(consent, "video or sync or setuid", requestLogInfo, message), 100);
+            case amp -> logWarn(
+                    ampCorruptConsentLogger, consent, MetricName.amp.toString(), requestLogInfo, message);
+            case openrtb2app -> logWarn(
+                    appCorruptConsentLogger, consent, MetricName.openrtb2app.toString(), requestLogInfo, message);
+            case openrtb2dooh -> logWarn(
+                    doohCorruptConsentLogger, consent, MetricName.openrtb2dooh.toString(), requestLogInfo, message);
+            case openrtb2web -> logWarn(
+                    siteCorruptConsentLogger, consent, MetricName.openrtb2web.toString(), requestLogInfo, message);
+            default -> logWarn(
+                    undefinedCorruptConsentLogger, consent, "video or sync or setuid", requestLogInfo, message);
         }
     }
 
-    private static String logMessage(String consent, String type, RequestLogInfo requestLogInfo, String message) {
-        return "Parsing consent string: \"%s\" failed for: %s type for account id: %s with ref: %s with exception: %s"
-                .formatted(consent, type, requestLogInfo.getAccountId(), requestLogInfo.getRefUrl(), message);
+    private static void logWarn(ConditionalLogger conditionalLogger,
+                                String consent,
+                                String type,
+                                RequestLogInfo requestLogInfo,
+                                String message) {
+
+        conditionalLogger.info(CORRUPT_CONSENT_MESSAGE, 100,
+                () -> consent, () -> type, requestLogInfo::getAccountId, requestLogInfo::getRefUrl, () -> message);
     }
 
     private static boolean isConsentValid(TCString consent) {
@@ -13,9 +13,12 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.Purpose;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 public abstract class PurposeStrategy {
@@ -61,10 +64,18 @@ public abstract class PurposeStrategy {
                                            Collection<VendorPermissionWithGvl> vendorPermissions,
                                            boolean wasDowngraded) {
 
-        final Collection<VendorPermissionWithGvl> excludedVendors = excludedVendors(vendorPermissions, purpose);
-        final Collection<VendorPermissionWithGvl> vendorForPurpose = vendorPermissions.stream()
-                .filter(vendorPermission -> !excludedVendors.contains(vendorPermission))
-                .toList();
+        final List<String> bidderNameExceptions = purpose.getVendorExceptions();
+        final Collection<VendorPermissionWithGvl> vendorForPurpose;
+        final Collection<VendorPermissionWithGvl> excludedVendors;
+        if (CollectionUtils.isEmpty(bidderNameExceptions)) {
+            vendorForPurpose = vendorPermissions;
+            excludedVendors = Collections.emptyList();
+        } else {
+            vendorForPurpose = new ArrayList<>(vendorPermissions.size());
+            excludedVendors = new ArrayList<>();
+            final Set<String> exceptions = new HashSet<>(bidderNameExceptions);
+            splitByExceptions(vendorPermissions, exceptions, vendorForPurpose, excludedVendors);
+        }
 
         allowedByTypeStrategy(vendorConsent, purpose, vendorForPurpose, excludedVendors)
                 .forEach(this::allow);
@@ -76,15 +87,23 @@ public abstract class PurposeStrategy {
         naturalVendorPermission.forEach(this::allowNaturally);
     }
 
-    private Collection<VendorPermissionWithGvl> excludedVendors(Collection<VendorPermissionWithGvl> vendorPermissions,
-                                                                Purpose purpose) {
-
-        final List<String> bidderNameExceptions = purpose.getVendorExceptions();
-
-        return CollectionUtils.isEmpty(bidderNameExceptions)
-                ? Collections.emptyList()
-                : CollectionUtils.select(vendorPermissions, vendorPermission ->
-                bidderNameExceptions.contains(vendorPermission.getVendorPermission().getBidderName()));
+    /**
+     * Splits permissions into ones of vendors enforced for purpose and ones of excepted vendors in a single pass,
+     * keeping the original order in both.
+     */
+    private static void splitByExceptions(Collection<VendorPermissionWithGvl> vendorPermissions,
+                                          Set<String> bidderNameExceptions,
+                                          Collection<VendorPermissionWithGvl> vendorForPurpose,
+                                          Collection<VendorPermissionWithGvl> excludedVendors) {
+
+        for (VendorPermissionWithGvl vendorPermission : vendorPermissions) {
+            final String bidderName = vendorPermission.getVendorPermission().getBidderName();
+            if (bidderNameExceptions.contains(bidderName)) {
+                excludedVendors.add(vendorPermission);
+            } else {
+                vendorForPurpose.add(vendorPermission);
+            }
+        }
     }
 
     private Stream<VendorPermission> allowedByTypeStrategy(TCString vendorConsent,
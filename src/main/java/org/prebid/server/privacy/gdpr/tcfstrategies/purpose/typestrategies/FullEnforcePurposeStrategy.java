@@ -1,6 +1,7 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
+import com.iabtcf.v2.PublisherRestriction;
 import com.iabtcf.v2.RestrictionType;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.DefaultedMap;
@@ -10,8 +11,10 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -19,6 +22,9 @@ import java.util.stream.Stream;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
 
+    private static final Map<Integer, RestrictionType> NO_RESTRICTIONS =
+            DefaultedMap.defaultedMap(Collections.emptyMap(), RestrictionType.UNDEFINED);
+
     public Stream<VendorPermission> allowedByTypeStrategy(PurposeCode purpose,
                                                           TCString vendorConsent,
                                                           Collection<VendorPermissionWithGvl> vendorsForPurpose,
@@ -49,6 +55,13 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
             Collection<VendorPermissionWithGvl> vendorsForPurpose,
             Collection<VendorPermissionWithGvl> excludedVendors) {
 
+        final List<PublisherRestriction> purposeRestrictions = vendorConsent.getPublisherRestrictions().stream()
+                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
+                .toList();
+        if (purposeRestrictions.isEmpty()) {
+            return NO_RESTRICTIONS;
+        }
+
         final Set<Integer> participatingVendorsIds =
                 Stream.concat(vendorsForPurpose.stream(), excludedVendors.stream())
                         .map(VendorPermissionWithGvl::getVendorPermission)
@@ -56,14 +69,12 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                         .collect(Collectors.toSet());
 
         final Map<Integer, RestrictionType> publisherRestrictions = new HashMap<>();
-        vendorConsent.getPublisherRestrictions().stream()
-                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
-                .forEach(publisherRestriction -> publisherRestriction.getVendorIds().toStream()
-                        .filter(participatingVendorsIds::contains)
-                        .forEach(vendorId -> publisherRestrictions.merge(
-                                vendorId,
-                                publisherRestriction.getRestrictionType(),
-                                (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first)));
+        purposeRestrictions.forEach(publisherRestriction -> publisherRestriction.getVendorIds().toStream()
+                .filter(participatingVendorsIds::contains)
+                .forEach(vendorId -> publisherRestrictions.merge(
+                        vendorId,
+                        publisherRestriction.getRestrictionType(),
+                        (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first)));
 
         return DefaultedMap.defaultedMap(publisherRestrictions, RestrictionType.UNDEFINED);
     }
@@ -0,0 +1,20 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import lombok.Value;
+
+/**
+ * Defines the contract for bidresponse.ext.debug.adaptivetimeouts.{bidder}
+ */
+@Value(staticConstructor = "of")
+public class ExtAdaptiveTimeout {
+
+    /**
+     * Timeout chosen for the bidder request
+     */
+    Long timeout;
+
+    /**
+     * Difference between the remaining auction time and the chosen timeout
+     */
+    Long saved;
+}
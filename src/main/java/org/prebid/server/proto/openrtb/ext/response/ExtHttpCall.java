@@ -10,15 +10,15 @@ import java.util.Map;
 /**
  * Defines the contract for a bidresponse.ext.debug.httpcalls.{bidder}[i]
  */
-@Builder
+@Builder(toBuilder = true)
 @Value
 public class ExtHttpCall {
 
     String uri;
 
-    String requestbody;
+    ExtHttpCallBody requestbody;
 
-    String responsebody;
+    ExtHttpCallBody responsebody;
 
     BidderCallType calltype;
 
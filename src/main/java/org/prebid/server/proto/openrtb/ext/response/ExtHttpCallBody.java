@@ -0,0 +1,229 @@
+package org.prebid.server.proto.openrtb.ext.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Defines the contract for a bidresponse.ext.debug.httpcalls.{bidder}[i].requestbody and responsebody.
+ * <p>
+ * Keeps reference to the body that was actually sent or received (bytes or string) instead of a copy and renders
+ * it only when the response is serialized, cut down to the size limit if one was applied. Size of a string body is
+ * measured in bytes of its UTF-8 encoding, the same way as the size of a bytes body.
+ */
+public final class ExtHttpCallBody {
+
+    private static final int NO_LIMIT = -1;
+
+    private final byte[] bytes;
+    private final String string;
+    private final int size;
+    private final int limit;
+    // exclusive end of the rendered part: index in bytes or in chars of the string
+    private final int end;
+
+    private ExtHttpCallBody(byte[] bytes, String string, int size, int limit, int end) {
+        this.bytes = bytes;
+        this.string = string;
+        this.size = size;
+        this.limit = limit;
+        this.end = end;
+    }
+
+    @JsonCreator
+    public static ExtHttpCallBody of(String body) {
+        return body != null
+                ? new ExtHttpCallBody(null, body, utf8Length(body), NO_LIMIT, body.length())
+                : null;
+    }
+
+    public static ExtHttpCallBody of(byte[] body) {
+        return body != null ? new ExtHttpCallBody(body, null, body.length, NO_LIMIT, body.length) : null;
+    }
+
+    /**
+     * Returns full size of the body in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns size of the body in bytes that will be rendered.
+     */
+    public int capturedSize() {
+        return limit == NO_LIMIT ? size : Math.min(limit, size);
+    }
+
+    /**
+     * Returns body which renders at most given number of bytes.
+     */
+    public ExtHttpCallBody truncate(int maxSize) {
+        if (maxSize >= capturedSize()) {
+            return this;
+        }
+
+        final int newLimit = Math.max(maxSize, 0);
+        final int newEnd = bytes != null ? utf8Boundary(bytes, newLimit) : charBoundary(string, newLimit);
+        return new ExtHttpCallBody(bytes, string, size, newLimit, newEnd);
+    }
+
+    @JsonValue
+    public String render() {
+        return bytes != null
+                ? new String(bytes, 0, end, StandardCharsets.UTF_8)
+                : string.substring(0, end);
+    }
+
+    /**
+     * Moves given length back to the start of a UTF-8 sequence, so truncation doesn't produce a malformed character.
+     */
+    private static int utf8Boundary(byte[] bytes, int length) {
+        int boundary = length;
+        while (boundary > 0 && boundary < bytes.length && (bytes[boundary] & 0xC0) == 0x80) {
+            boundary--;
+        }
+        return boundary;
+    }
+
+    /**
+     * Returns index of the first char of the string which UTF-8 encoding doesn't fit into given number of bytes.
+     */
+    private static int charBoundary(String string, int length) {
+        int bytesCount = 0;
+        int index = 0;
+        while (index < string.length()) {
+            final int codePoint = codePointAt(string, index);
+            bytesCount += utf8Length(codePoint);
+            if (bytesCount > length) {
+                break;
+            }
+            index += Character.charCount(codePoint);
+        }
+        return index;
+    }
+
+    private static int utf8Length(String string) {
+        int length = 0;
+        for (int i = 0; i < string.length(); ) {
+            final int codePoint = codePointAt(string, i);
+            length += utf8Length(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return length;
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+
+    /**
+     * Returns code point at given index, unpaired surrogate is replaced with '?' as {@link String#getBytes} does.
+     */
+    private static int codePointAt(String string, int index) {
+        final int codePoint = string.codePointAt(index);
+        return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE ? '?' : codePoint;
+    }
+
+    private static int utf8Encode(int codePoint, byte[] buffer) {
+        final int length = utf8Length(codePoint);
+        switch (length) {
+            case 1 -> buffer[0] = (byte) codePoint;
+            case 2 -> {
+                buffer[0] = (byte) (0xC0 | codePoint >> 6);
+                buffer[1] = (byte) (0x80 | codePoint & 0x3F);
+            }
+            case 3 -> {
+                buffer[0] = (byte) (0xE0 | codePoint >> 12);
+                buffer[1] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[2] = (byte) (0x80 | codePoint & 0x3F);
+            }
+            default -> {
+                buffer[0] = (byte) (0xF0 | codePoint >> 18);
+                buffer[1] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[2] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[3] = (byte) (0x80 | codePoint & 0x3F);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Compares rendered parts of bodies without rendering them: bytes are compared to UTF-8 encoding of a string.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final ExtHttpCallBody that = (ExtHttpCallBody) o;
+        if (bytes != null && that.bytes != null) {
+            return Arrays.equals(bytes, 0, end, that.bytes, 0, that.end);
+        }
+        if (string != null && that.string != null) {
+            return end == that.end && string.regionMatches(0, that.string, 0, end);
+        }
+        return bytes != null
+                ? utf8Equals(that.string, that.end, bytes, end)
+                : utf8Equals(string, end, that.bytes, that.end);
+    }
+
+    private static boolean utf8Equals(String string, int stringEnd, byte[] bytes, int bytesEnd) {
+        final byte[] buffer = new byte[4];
+        int bytesIndex = 0;
+        for (int i = 0; i < stringEnd; ) {
+            final int codePoint = codePointAt(string, i);
+            final int length = utf8Encode(codePoint, buffer);
+            if (bytesIndex + length > bytesEnd
+                    || !Arrays.equals(buffer, 0, length, bytes, bytesIndex, bytesIndex + length)) {
+                return false;
+            }
+            bytesIndex += length;
+            i += Character.charCount(codePoint);
+        }
+        return bytesIndex == bytesEnd;
+    }
+
+    /**
+     * Hashes rendered part of the body as UTF-8 bytes, so equal bytes and string bodies have the same hash.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        if (bytes != null) {
+            for (int i = 0; i < end; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash;
+        }
+
+        final byte[] buffer = new byte[4];
+        for (int i = 0; i < end; ) {
+            final int codePoint = codePointAt(string, i);
+            final int length = utf8Encode(codePoint, buffer);
+            for (int j = 0; j < length; j++) {
+                hash = 31 * hash + buffer[j];
+            }
+            i += Character.charCount(codePoint);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
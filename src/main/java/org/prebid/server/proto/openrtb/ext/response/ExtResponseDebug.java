@@ -26,4 +26,9 @@ public class ExtResponseDebug {
      * Defines the contract for bidresponse.ext.debug.trace
      */
     ExtDebugTrace trace;
+
+    /**
+     * Defines the contract for bidresponse.ext.debug.adaptivetimeouts
+     */
+    Map<String, ExtAdaptiveTimeout> adaptivetimeouts;
 }
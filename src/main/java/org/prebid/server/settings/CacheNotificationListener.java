@@ -8,4 +8,22 @@ public interface CacheNotificationListener {
     void save(Map<String, String> requests, Map<String, String> imps);
 
     void invalidate(List<String> requests, List<String> imps);
+
+    /**
+     * Applies changes of one refresh: saves given stored requests and imps and invalidates removed ones.
+     */
+    default void update(Map<String, String> requests,
+                        Map<String, String> imps,
+                        List<String> invalidatedRequests,
+                        List<String> invalidatedImps) {
+
+        invalidate(invalidatedRequests, invalidatedImps);
+        save(requests, imps);
+    }
+
+    default void saveResponses(Map<String, String> responses) {
+    }
+
+    default void invalidateResponses(List<String> responses) {
+    }
 }
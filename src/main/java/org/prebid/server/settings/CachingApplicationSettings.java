@@ -2,6 +2,7 @@ package org.prebid.server.settings;
 
 import io.vertx.core.Future;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.log.Logger;
@@ -41,6 +42,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
     private final Metrics metrics;
+    private final boolean cacheStoredResponses;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
@@ -49,7 +51,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       Metrics metrics,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      boolean cacheStoredResponses) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -67,6 +70,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.cacheStoredResponses = cacheStoredResponses;
     }
 
     /**
@@ -117,11 +121,47 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache and delegates look up of absent ones to original fetcher.
+     * <p>
+     * Stored responses are cached only if they can be updated and invalidated in cache (by HTTP periodic refresh or
+     * notification endpoint), otherwise they are always retrieved from original fetcher.
+     * <p>
+     * Cached values are returned as the same instances for every call, so consumers may keep derived data
+     * (e.g. parsed seat bids) for as long as the stored response stays in cache.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        if (!cacheStoredResponses) {
+            return delegate.getStoredResponses(responseIds, timeout);
+        }
+
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedIds = new HashSet<>();
+        for (String id : responseIds) {
+            final String storedResponse = responseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponse.put(id, storedResponse);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit, idToStoredResponse.size());
+        metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss, missedIds.size());
+
+        if (missedIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        return delegate.getStoredResponses(missedIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponseFromDelegate = result.getIdToStoredResponses();
+            cache.saveResponses(idToStoredResponseFromDelegate);
+            idToStoredResponse.putAll(idToStoredResponseFromDelegate);
+
+            return StoredResponseDataResult.of(idToStoredResponse, result.getErrors());
+        });
     }
 
     @Override
@@ -181,17 +221,19 @@ public class CachingApplicationSettings implements ApplicationSettings {
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
 
-        // search in cache
+        // search in cache, consistently with changes applied by periodic refresh
         final Map<String, Set<StoredItem>> requestCache = cache.getRequestCache();
         final Map<String, Set<StoredItem>> impCache = cache.getImpCache();
 
-        final Set<String> missedRequestIds = new HashSet<>();
-        final Map<String, String> storedIdToRequest = getFromCacheOrAddMissedIds(normalizedAccountId, requestIds,
-                requestCache, missedRequestIds);
+        final Tuple2<Map<String, String>, Map<String, String>> cached = cache.read(() -> Tuple2.of(
+                getFromCache(normalizedAccountId, requestIds, requestCache),
+                getFromCache(normalizedAccountId, impIds, impCache)));
+
+        final Map<String, String> storedIdToRequest = cached.getLeft();
+        final Set<String> missedRequestIds = getMissedIds(requestIds, storedIdToRequest);
 
-        final Set<String> missedImpIds = new HashSet<>();
-        final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds, impCache,
-                missedImpIds);
+        final Map<String, String> storedIdToImp = cached.getRight();
+        final Set<String> missedImpIds = getMissedIds(impIds, storedIdToImp);
 
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
             return Future.succeededFuture(
@@ -227,10 +269,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return Future.failedFuture(throwable);
     }
 
-    private static Map<String, String> getFromCacheOrAddMissedIds(String accountId,
-                                                                  Set<String> ids,
-                                                                  Map<String, Set<StoredItem>> cache,
-                                                                  Set<String> missedIds) {
+    private static Map<String, String> getFromCache(String accountId,
+                                                    Set<String> ids,
+                                                    Map<String, Set<StoredItem>> cache) {
 
         final Map<String, String> idToStoredItem = new HashMap<>(ids.size());
 
@@ -239,13 +280,23 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 final StoredItem resolvedStoredItem = StoredItemResolver.resolve(null, accountId, id, cache.get(id));
                 idToStoredItem.put(id, resolvedStoredItem.getData());
             } catch (PreBidException e) {
-                missedIds.add(id);
+                // missed in cache, will be fetched from delegate
             }
         }
 
         return idToStoredItem;
     }
 
+    private static Set<String> getMissedIds(Set<String> ids, Map<String, String> idToStoredItem) {
+        final Set<String> missedIds = new HashSet<>();
+        for (String id : ids) {
+            if (!idToStoredItem.containsKey(id)) {
+                missedIds.add(id);
+            }
+        }
+        return missedIds;
+    }
+
     public void invalidateAccountCache(String accountId) {
         accountCache.remove(accountId);
         accountToErrorCache.remove(accountId);
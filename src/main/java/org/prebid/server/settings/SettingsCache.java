@@ -13,14 +13,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and stored responses.
  */
 public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final Map<String, String> responseCache;
+    private final StampedLock updateLock = new StampedLock();
 
     public SettingsCache(int ttl, int size, int jitter) {
         if (ttl <= 0 || size <= 0) {
@@ -32,6 +36,7 @@ public class SettingsCache implements CacheNotificationListener {
 
         requestCache = createCache(ttl, size, jitter);
         impCache = createCache(ttl, size, jitter);
+        responseCache = createCache(ttl, size, jitter);
     }
 
     public static <T> Map<String, T> createCache(int ttlSeconds, int size, int jitterSeconds) {
@@ -55,6 +60,30 @@ public class SettingsCache implements CacheNotificationListener {
         return impCache;
     }
 
+    Map<String, String> getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Runs given lookup of stored requests and imps so that it observes either all or none of the changes applied by
+     * one {@link #update} call. Lookup is run optimistically and repeated under read lock only if an update happened
+     * meanwhile, so it must not have side effects.
+     */
+    <T> T read(Supplier<T> lookup) {
+        final long optimisticStamp = updateLock.tryOptimisticRead();
+        final T result = lookup.get();
+        if (updateLock.validate(optimisticStamp)) {
+            return result;
+        }
+
+        final long stamp = updateLock.readLock();
+        try {
+            return lookup.get();
+        } finally {
+            updateLock.unlockRead(stamp);
+        }
+    }
+
     void saveRequestCache(String accountId, String requestId, String requestValue) {
         saveCachedValue(requestCache, accountId, requestId, requestValue);
     }
@@ -94,6 +123,37 @@ public class SettingsCache implements CacheNotificationListener {
         imps.forEach(impCache.keySet()::remove);
     }
 
+    /**
+     * Saves changed and invalidates removed stored requests and imps as one step, so {@link #read} never observes
+     * only a part of them.
+     */
+    @Override
+    public void update(Map<String, String> requests,
+                       Map<String, String> imps,
+                       List<String> invalidatedRequests,
+                       List<String> invalidatedImps) {
+
+        final long stamp = updateLock.writeLock();
+        try {
+            invalidate(invalidatedRequests, invalidatedImps);
+            save(requests, imps);
+        } finally {
+            updateLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        responses.forEach(responseCache.keySet()::remove);
+    }
+
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
 
         private final long expireAfterNanos;
@@ -32,6 +32,9 @@ public class AccountAuctionConfig {
     @JsonAlias("debug-allow")
     Boolean debugAllow;
 
+    @JsonAlias("debug-http-calls")
+    AccountDebugHttpCallsConfig debugHttpCalls;
+
     @JsonAlias("bid-validations")
     AccountBidValidationConfig bidValidations;
 
@@ -0,0 +1,14 @@
+package org.prebid.server.settings.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class AccountDebugHttpCallsConfig {
+
+    @JsonAlias("max-body-bytes")
+    Integer maxBodyBytes;
+
+    @JsonAlias("max-total-bytes")
+    Long maxTotalBytes;
+}
@@ -10,4 +10,6 @@ public class InvalidateSettingsCacheRequest {
     List<String> requests;
 
     List<String> imps;
+
+    List<String> responses;
 }
@@ -10,4 +10,6 @@ public class UpdateSettingsCacheRequest {
     Map<String, String> requests;
 
     Map<String, String> imps;
+
+    Map<String, String> responses;
 }
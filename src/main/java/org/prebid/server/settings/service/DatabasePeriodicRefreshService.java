@@ -20,10 +20,10 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -120,12 +120,17 @@ public class DatabasePeriodicRefreshService implements Initializable {
                         Collections.emptyList(),
                         DatabaseStoredDataResultMapper::map,
                         createTimeout())
-                .map(storedDataResult ->
-                        handleResult(storedDataResult, Instant.now(clock), startTime, MetricName.initialize))
+                .map(storedDataResult -> handleResult(
+                        storedDataResult, size(storedDataResult), Instant.now(clock), startTime, MetricName.initialize))
                 .recover(exception -> handleFailure(exception, startTime, MetricName.initialize));
     }
 
+    private static int size(StoredDataResult storedDataResult) {
+        return storedDataResult.getStoredIdToRequest().size() + storedDataResult.getStoredIdToImp().size();
+    }
+
     private Void handleResult(StoredDataResult storedDataResult,
+                              int size,
                               Instant updateTime,
                               long startTime,
                               MetricName refreshType) {
@@ -134,6 +139,7 @@ public class DatabasePeriodicRefreshService implements Initializable {
         lastUpdate = updateTime;
 
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshSize(cacheType, refreshType, size);
 
         return null;
     }
@@ -156,8 +162,8 @@ public class DatabasePeriodicRefreshService implements Initializable {
                         Collections.singletonList(Date.from(lastUpdate)),
                         DatabaseStoredDataResultMapper::map,
                         createTimeout())
-                .map(storedDataResult ->
-                        handleResult(invalidate(storedDataResult), updateTime, startTime, MetricName.update))
+                .map(storedDataResult -> handleResult(
+                        invalidate(storedDataResult), size(storedDataResult), updateTime, startTime, MetricName.update))
                 .recover(exception -> handleFailure(exception, startTime, MetricName.update));
     }
 
@@ -185,9 +191,13 @@ public class DatabasePeriodicRefreshService implements Initializable {
     }
 
     private static Map<String, String> removeFromMap(Map<String, String> map, List<String> invalidatedKeys) {
-        return map.entrySet().stream()
-                .filter(entry -> !invalidatedKeys.contains(entry.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (invalidatedKeys.isEmpty()) {
+            return map;
+        }
+
+        final Map<String, String> result = new HashMap<>(map);
+        invalidatedKeys.forEach(result::remove);
+        return result;
     }
 
     private Timeout createTimeout() {
@@ -21,6 +21,7 @@ import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,10 +35,10 @@ import java.util.Objects;
  * It expects the following endpoint to exist remotely:
  * <p>
  * GET {endpoint}
- * -- Returns all the known Stored Requests and Stored Imps.
+ * -- Returns all the known Stored Requests, Stored Imps and, optionally, Stored Responses.
  * <p>
  * GET {endpoint}?last-modified={timestamp}
- * -- Returns the Stored Requests and Stored Imps which have been updated since the last timestamp.
+ * -- Returns the Stored Requests, Stored Imps and Stored Responses which have been updated since the last timestamp.
  * This timestamp will be sent in the rfc3339 format, using UTC and no timezone shift.
  * For more info, see: https://tools.ietf.org/html/rfc3339
  * <p>
@@ -52,6 +53,9 @@ import java.util.Objects;
  *   "imps": {
  *     "imp1": { ... stored data for imp1 ... },
  *     "imp2": { ... stored data for imp2 ... },
+ *   },
+ *   "responses": {
+ *     "response1": [ ... stored seatbids ... ],
  *   }
  * }
  * </pre>
@@ -111,8 +115,12 @@ public class HttpPeriodicRefreshService implements Initializable {
     private Void save(HttpRefreshResponse refreshResponse) {
         final Map<String, String> requests = parseStoredData(refreshResponse.getRequests(), StoredDataType.request);
         final Map<String, String> imps = parseStoredData(refreshResponse.getImps(), StoredDataType.imp);
+        final Map<String, String> responses = parseStoredData(responses(refreshResponse), StoredDataType.seatbid);
 
         cacheNotificationListener.save(requests, imps);
+        if (!responses.isEmpty()) {
+            cacheNotificationListener.saveResponses(responses);
+        }
 
         return null;
     }
@@ -147,11 +155,16 @@ public class HttpPeriodicRefreshService implements Initializable {
         return refreshResponse;
     }
 
-    private Map<String, String> parseStoredData(Map<String, ObjectNode> refreshResponse,
+    private static Map<String, JsonNode> responses(HttpRefreshResponse refreshResponse) {
+        final Map<String, JsonNode> responses = refreshResponse.getResponses();
+        return responses != null ? responses : Collections.emptyMap();
+    }
+
+    private Map<String, String> parseStoredData(Map<String, ? extends JsonNode> refreshResponse,
                                                 StoredDataType type) {
         final Map<String, String> result = new HashMap<>();
 
-        for (Map.Entry<String, ObjectNode> entry : refreshResponse.entrySet()) {
+        for (Map.Entry<String, ? extends JsonNode> entry : refreshResponse.entrySet()) {
             final String id = entry.getKey();
 
             final String jsonAsString;
@@ -184,23 +197,28 @@ public class HttpPeriodicRefreshService implements Initializable {
     private HttpRefreshResponse invalidate(HttpRefreshResponse refreshResponse) {
         final List<String> invalidatedRequests = getInvalidatedKeys(refreshResponse.getRequests());
         final List<String> invalidatedImps = getInvalidatedKeys(refreshResponse.getImps());
+        final List<String> invalidatedResponses = getInvalidatedKeys(responses(refreshResponse));
 
         if (!invalidatedRequests.isEmpty() || !invalidatedImps.isEmpty()) {
             cacheNotificationListener.invalidate(invalidatedRequests, invalidatedImps);
         }
+        if (!invalidatedResponses.isEmpty()) {
+            cacheNotificationListener.invalidateResponses(invalidatedResponses);
+        }
 
         final Map<String, ObjectNode> requestsToSave = removeFromMap(refreshResponse.getRequests(),
                 invalidatedRequests);
         final Map<String, ObjectNode> impsToSave = removeFromMap(refreshResponse.getImps(), invalidatedImps);
+        final Map<String, JsonNode> responsesToSave = removeFromMap(responses(refreshResponse), invalidatedResponses);
 
-        return HttpRefreshResponse.of(requestsToSave, impsToSave);
+        return HttpRefreshResponse.of(requestsToSave, impsToSave, responsesToSave);
     }
 
-    private static List<String> getInvalidatedKeys(Map<String, ObjectNode> changes) {
+    private static List<String> getInvalidatedKeys(Map<String, ? extends JsonNode> changes) {
         final List<String> result = new ArrayList<>();
 
-        for (Map.Entry<String, ObjectNode> entry : changes.entrySet()) {
-            final ObjectNode jsonNodes = entry.getValue();
+        for (Map.Entry<String, ? extends JsonNode> entry : changes.entrySet()) {
+            final JsonNode jsonNodes = entry.getValue();
             final JsonNode deleted = jsonNodes.get("deleted");
             if (deleted != null && deleted.asBoolean()) {
                 result.add(entry.getKey());
@@ -209,8 +227,9 @@ public class HttpPeriodicRefreshService implements Initializable {
         return result;
     }
 
-    private static Map<String, ObjectNode> removeFromMap(Map<String, ObjectNode> map, List<String> invalidatedKeys) {
-        final Map<String, ObjectNode> result = new HashMap<>(map);
+    private static <T extends JsonNode> Map<String, T> removeFromMap(Map<String, T> map,
+                                                                     List<String> invalidatedKeys) {
+        final Map<String, T> result = new HashMap<>(map);
         for (String key : invalidatedKeys) {
             result.remove(key);
         }
@@ -4,13 +4,14 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.model.Tuple2;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
-import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.vertx.Initializable;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -18,19 +19,23 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * <p>
  * Service that periodically calls s3 for stored request updates.
  * If refreshRate is negative, then the data will never be refreshed.
  * <p>
- * Fetches all files from the specified folders/prefixes in s3 and downloads all files.
+ * Lists all files from the specified folders/prefixes in s3 and downloads only files added or changed (by ETag)
+ * since the previous refresh. Changed files are saved and files that disappeared from s3 are invalidated in cache
+ * in one step. Entries expired or evicted from cache are fetched from s3 again on the next request for them.
  */
 public class S3PeriodicRefreshService implements Initializable {
 
@@ -49,6 +54,9 @@ public class S3PeriodicRefreshService implements Initializable {
     private final Metrics metrics;
     private final Vertx vertx;
 
+    private volatile Map<String, String> requestVersions = Collections.emptyMap();
+    private volatile Map<String, String> impVersions = Collections.emptyMap();
+
     public S3PeriodicRefreshService(S3AsyncClient asyncClient,
                                     String bucket,
                                     String storedRequestsDirectory,
@@ -84,46 +92,97 @@ public class S3PeriodicRefreshService implements Initializable {
         }
     }
 
-    private Future<StoredDataResult> fetchStoredDataResult(long startTime, MetricName metricName) {
+    private Future<Void> fetchStoredDataResult(long startTime, MetricName metricName) {
         return Future.all(
-                        getFileContentsForDirectory(storedRequestsDirectory),
-                        getFileContentsForDirectory(storedImpressionsDirectory))
-                .map(CompositeFuture::<Map<String, String>>list)
-                .map(results -> StoredDataResult.of(results.getFirst(), results.get(1), Collections.emptyList()))
-                .onSuccess(storedDataResult -> handleResult(storedDataResult, startTime, metricName))
-                .onFailure(exception -> handleFailure(exception, startTime, metricName));
+                        fetchChanges(storedRequestsDirectory, requestVersions),
+                        fetchChanges(storedImpressionsDirectory, impVersions))
+                .map(CompositeFuture::<DirectoryChanges>list)
+                .onSuccess(changes -> handleResult(changes.getFirst(), changes.get(1), startTime, metricName))
+                .onFailure(exception -> handleFailure(exception, startTime, metricName))
+                .mapEmpty();
     }
 
-    private Future<Map<String, String>> getFileContentsForDirectory(String directory) {
-        return listFiles(directory)
-                .map(files -> files.stream().map(this::downloadFile).toList())
-                .compose(Future::all)
-                .map(CompositeFuture::<Tuple2<String, String>>list)
-                .map(fileNameToContent -> fileNameToContent.stream()
-                        .collect(Collectors.toMap(
-                                entry -> stripFileName(directory, entry.getLeft()),
-                                Tuple2::getRight)));
+    /**
+     * Lists given directory and downloads only files which are new or whose version differs from known one.
+     * Files known before but not listed anymore are reported as deleted.
+     */
+    private Future<DirectoryChanges> fetchChanges(String directory, Map<String, String> knownVersions) {
+        return listFiles(directory, null, new HashMap<>())
+                .compose(versions -> downloadChangedFiles(directory, knownVersions, versions));
     }
 
-    private Future<List<String>> listFiles(String prefix) {
+    private Future<Map<String, String>> listFiles(String prefix, String marker, Map<String, String> keyToVersion) {
         final ListObjectsRequest listObjectsRequest = ListObjectsRequest.builder()
                 .bucket(bucket)
                 .prefix(prefix)
+                .marker(marker)
                 .build();
 
         return Future.fromCompletionStage(asyncClient.listObjects(listObjectsRequest), vertx.getOrCreateContext())
-                .map(response -> response.contents().stream()
-                        .map(S3Object::key)
-                        .collect(Collectors.toList()));
+                .compose(response -> {
+                    final List<S3Object> objects = response.contents();
+                    objects.forEach(object -> keyToVersion.put(object.key(), version(object)));
+
+                    return BooleanUtils.isTrue(response.isTruncated()) && !objects.isEmpty()
+                            ? listFiles(prefix, objects.getLast().key(), keyToVersion)
+                            : Future.succeededFuture(keyToVersion);
+                });
+    }
+
+    /**
+     * Returns ETag of the object, falling back to last modified time. Objects without both are always downloaded.
+     */
+    private static String version(S3Object object) {
+        return ObjectUtils.firstNonNull(
+                object.eTag(),
+                object.lastModified() != null ? object.lastModified().toString() : null);
+    }
+
+    private Future<DirectoryChanges> downloadChangedFiles(String directory,
+                                                          Map<String, String> knownVersions,
+                                                          Map<String, String> versions) {
+
+        final List<Future<Tuple2<String, byte[]>>> downloads = new ArrayList<>();
+        versions.forEach((key, version) -> {
+            if (version == null || !version.equals(knownVersions.get(key))) {
+                downloads.add(downloadFile(key));
+            }
+        });
+
+        final List<String> deleted = new ArrayList<>();
+        for (String key : knownVersions.keySet()) {
+            if (!versions.containsKey(key)) {
+                deleted.add(stripFileName(directory, key));
+            }
+        }
+
+        return Future.all(downloads)
+                .map(CompositeFuture::<Tuple2<String, byte[]>>list)
+                .map(files -> toDirectoryChanges(directory, files, deleted, versions));
     }
 
-    private Future<Tuple2<String, String>> downloadFile(String key) {
+    private Future<Tuple2<String, byte[]>> downloadFile(String key) {
         final GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(key).build();
 
         return Future.fromCompletionStage(
                         asyncClient.getObject(request, AsyncResponseTransformer.toBytes()),
                         vertx.getOrCreateContext())
-                .map(content -> Tuple2.of(key, content.asUtf8String()));
+                .map(content -> Tuple2.of(key, content.asByteArray()));
+    }
+
+    private static DirectoryChanges toDirectoryChanges(String directory,
+                                                       List<Tuple2<String, byte[]>> files,
+                                                       List<String> deleted,
+                                                       Map<String, String> versions) {
+
+        final Map<String, String> updated = new HashMap<>();
+        long bytes = 0;
+        for (Tuple2<String, byte[]> file : files) {
+            updated.put(stripFileName(directory, file.getLeft()), new String(file.getRight(), StandardCharsets.UTF_8));
+            bytes += file.getRight().length;
+        }
+
+        return new DirectoryChanges(updated, deleted, versions, bytes);
     }
 
     private static String stripFileName(String directory, String name) {
@@ -132,9 +191,23 @@ public class S3PeriodicRefreshService implements Initializable {
                 .replace(JSON_SUFFIX, "");
     }
 
-    private void handleResult(StoredDataResult storedDataResult, long startTime, MetricName refreshType) {
-        cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+    private void handleResult(DirectoryChanges requests,
+                              DirectoryChanges imps,
+                              long startTime,
+                              MetricName refreshType) {
+
+        if (requests.size() > 0 || imps.size() > 0) {
+            cacheNotificationListener.update(
+                    requests.updated(), imps.updated(), requests.deleted(), imps.deleted());
+        }
+
+        // known versions advance only when all changes are applied, so failed refresh is retried next time as a whole
+        requestVersions = requests.versions();
+        impVersions = imps.versions();
+
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshSize(cacheType, refreshType, requests.size() + imps.size());
+        metrics.updateSettingsCacheRefreshBytes(cacheType, refreshType, requests.bytes() + imps.bytes());
     }
 
     private void handleFailure(Throwable exception, long startTime, MetricName refreshType) {
@@ -143,4 +216,14 @@ public class S3PeriodicRefreshService implements Initializable {
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
         metrics.updateSettingsCacheRefreshErrorMetric(cacheType, refreshType);
     }
+
+    private record DirectoryChanges(Map<String, String> updated,
+                                    List<String> deleted,
+                                    Map<String, String> versions,
+                                    long bytes) {
+
+        int size() {
+            return updated.size() + deleted.size();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.spring.config;
 
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
@@ -11,10 +12,14 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
+import org.prebid.server.auction.AdaptiveTimeoutResolver;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderPreparationExecutor;
+import org.prebid.server.auction.BidderTrafficShaper;
 import org.prebid.server.auction.BidsAdjuster;
+import org.prebid.server.auction.DebugHttpCallsLimiter;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.DsaEnforcer;
 import org.prebid.server.auction.ExchangeService;
@@ -44,6 +49,7 @@ import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.gpp.CookieSyncGppService;
 import org.prebid.server.auction.gpp.GppService;
 import org.prebid.server.auction.gpp.SetuidGppService;
+import org.prebid.server.auction.gpp.model.GppModelCache;
 import org.prebid.server.auction.gpp.processor.GppContextProcessor;
 import org.prebid.server.auction.gpp.processor.tcfeuv2.TcfEuV2ContextProcessor;
 import org.prebid.server.auction.gpp.processor.uspv1.UspV1ContextProcessor;
@@ -76,8 +82,10 @@ import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
+import org.prebid.server.cache.CoalescingCacheTransport;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
+import org.prebid.server.cache.WriteBehindCacheWriter;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.cookie.CookieDeprecationService;
@@ -99,6 +107,7 @@ import org.prebid.server.identity.NoneIdGenerator;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.log.AsyncLogWriter;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
@@ -114,6 +123,7 @@ import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
@@ -123,6 +133,7 @@ import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.AdmissionController;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -138,12 +149,14 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import jakarta.validation.constraints.Min;
 import java.io.IOException;
+import java.net.URL;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -168,7 +181,9 @@ public class ServiceConfiguration {
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) WriteBehindCacheWriter writeBehindCacheWriter,
+            @Autowired(required = false) CoalescingCacheTransport cacheTransport) {
 
         final String scheme = cacheConfigurationProperties.getScheme();
         final String host = cacheConfigurationProperties.getHost();
@@ -195,9 +210,96 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
+                mapper,
+                writeBehindCacheWriter,
+                cacheTransport);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.write-behind", name = "enabled", havingValue = "true")
+    WriteBehindCacheWriter writeBehindCacheWriter(
+            CacheConfigurationProperties cacheConfigurationProperties,
+            @Value("${pbc.api.key:#{null}}") String apiKey,
+            @Value("${cache.write-behind.flush-interval-ms}") long flushIntervalMs,
+            @Value("${cache.write-behind.batch-size}") int batchSize,
+            @Value("${cache.write-behind.max-in-flight-batches}") int maxInFlightBatches,
+            @Value("${cache.write-behind.max-queue-size}") int maxQueueSize,
+            @Value("${cache.write-behind.max-retries}") int maxRetries,
+            @Value("${cache.write-behind.timeout-ms}") long timeoutMs,
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper,
+            @Autowired(required = false) CoalescingCacheTransport cacheTransport) {
+
+        return new WriteBehindCacheWriter(
+                vertx,
+                httpClient,
+                cacheEndpointUrl(cacheConfigurationProperties),
+                cacheHeaders(cacheConfigurationProperties, apiKey),
+                flushIntervalMs,
+                batchSize,
+                maxInFlightBatches,
+                maxQueueSize,
+                maxRetries,
+                timeoutMs,
+                logSamplingRate,
+                metrics,
+                clock,
+                mapper,
+                cacheTransport);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.transport", name = "enabled", havingValue = "true")
+    CoalescingCacheTransport coalescingCacheTransport(
+            CacheConfigurationProperties cacheConfigurationProperties,
+            @Value("${pbc.api.key:#{null}}") String apiKey,
+            @Value("${cache.transport.gzip}") boolean gzip,
+            @Value("${cache.transport.window-ms}") long windowMs,
+            @Value("${cache.transport.max-puts}") int maxPuts,
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            Clock clock,
+            JacksonMapper mapper) {
+
+        return new CoalescingCacheTransport(
+                vertx,
+                httpClient,
+                cacheEndpointUrl(cacheConfigurationProperties),
+                cacheHeaders(cacheConfigurationProperties, apiKey),
+                gzip,
+                windowMs,
+                maxPuts,
+                metrics,
+                clock,
                 mapper);
     }
 
+    private static String cacheEndpointUrl(CacheConfigurationProperties cacheConfigurationProperties) {
+        final CacheConfigurationProperties.InternalCacheConfigurationProperties internalProperties =
+                cacheConfigurationProperties.getInternal();
+        final URL endpointUrl = internalProperties == null
+                ? CacheServiceUtil.getCacheEndpointUrl(
+                        cacheConfigurationProperties.getScheme(),
+                        cacheConfigurationProperties.getHost(),
+                        cacheConfigurationProperties.getPath())
+                : CacheServiceUtil.getCacheEndpointUrl(
+                        internalProperties.getScheme(),
+                        internalProperties.getHost(),
+                        internalProperties.getPath());
+
+        return endpointUrl.toString();
+    }
+
+    private static MultiMap cacheHeaders(CacheConfigurationProperties cacheConfigurationProperties, String apiKey) {
+        return cacheConfigurationProperties.isApiKeySecured()
+                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
+                : HttpUtil.headers();
+    }
+
     @Bean
     @ConfigurationProperties(prefix = "cache")
     CacheConfigurationProperties cacheConfigurationProperties() {
@@ -329,8 +431,19 @@ public class ServiceConfiguration {
 
     @Bean
     DebugResolver debugResolver(@Value("${debug.override-token:#{null}}") String debugOverrideToken,
-                                BidderCatalog bidderCatalog) {
-        return new DebugResolver(bidderCatalog, debugOverrideToken);
+                                BidderCatalog bidderCatalog,
+                                @Autowired(required = false) AdmissionController admissionController) {
+
+        return new DebugResolver(bidderCatalog, debugOverrideToken, admissionController);
+    }
+
+    @Bean
+    DebugHttpCallsLimiter debugHttpCallsLimiter(
+            @Value("${debug.http-calls.max-body-bytes:0}") int maxBodyBytes,
+            @Value("${debug.http-calls.max-total-bytes:0}") long maxTotalBytes,
+            Metrics metrics) {
+
+        return new DebugHttpCallsLimiter(maxBodyBytes, maxTotalBytes, metrics);
     }
 
     @Bean
@@ -398,29 +511,34 @@ public class ServiceConfiguration {
         return new UspV1ContextProcessor();
     }
 
+    @Bean
+    GppModelCache gppModelCache(@Value("${gpp.cache-size}") int cacheSize, Metrics metrics) {
+        return new GppModelCache(cacheSize, metrics);
+    }
+
     @Bean
     GppService gppService(List<GppContextProcessor> processors) {
         return new GppService(processors);
     }
 
     @Bean
-    AuctionGppService auctionGppProcessor(GppService gppService) {
-        return new AuctionGppService(gppService);
+    AuctionGppService auctionGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AuctionGppService(gppService, gppModelCache);
     }
 
     @Bean
-    AmpGppService ampGppProcessor(GppService gppService) {
-        return new AmpGppService(gppService);
+    AmpGppService ampGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AmpGppService(gppService, gppModelCache);
     }
 
     @Bean
-    CookieSyncGppService cookieSyncGppProcessor(GppService gppService) {
-        return new CookieSyncGppService(gppService);
+    CookieSyncGppService cookieSyncGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new CookieSyncGppService(gppService, gppModelCache);
     }
 
     @Bean
-    SetuidGppService setuidGppService(GppService gppService) {
-        return new SetuidGppService(gppService);
+    SetuidGppService setuidGppService(GppService gppService, GppModelCache gppModelCache) {
+        return new SetuidGppService(gppService, gppModelCache);
     }
 
     @Bean
@@ -461,6 +579,7 @@ public class ServiceConfiguration {
     @Bean
     AuctionRequestFactory auctionRequestFactory(
             @Value("${auction.max-request-size}") @Min(0) int maxRequestSize,
+            @Value("${auction.streaming-request-parsing}") boolean streamingRequestParsing,
             Ortb2RequestFactory ortb2RequestFactory,
             StoredRequestProcessor storedRequestProcessor,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
@@ -477,6 +596,7 @@ public class ServiceConfiguration {
 
         return new AuctionRequestFactory(
                 maxRequestSize,
+                streamingRequestParsing,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 bidRequestOrtbVersionConversionManager,
@@ -658,6 +778,10 @@ public class ServiceConfiguration {
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
+                circuitBreakerProperties.getHalfOpenProbes(),
+                circuitBreakerProperties.getErrorRatePercent(),
+                circuitBreakerProperties.getSlowCallDurationMs(),
+                circuitBreakerProperties.getSlowCallRatePercent(),
                 circuitBreakerProperties.getIdleExpireHours(),
                 clock);
     }
@@ -802,7 +926,8 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) BidderPreparationExecutor bidderPreparationExecutor) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -810,9 +935,24 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
+                bidderPreparationExecutor,
                 logSamplingRate);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.parallel-bidder-preparation", name = "enabled", havingValue = "true")
+    BidderPreparationExecutor bidderPreparationExecutor(
+            Vertx vertx,
+            @Value("${auction.parallel-bidder-preparation.pool-size}") int poolSize,
+            @Value("${auction.parallel-bidder-preparation.threshold}") long threshold,
+            Metrics metrics) {
+
+        return new BidderPreparationExecutor(
+                vertx.createSharedWorkerExecutor("bidder-preparation", poolSize),
+                threshold,
+                metrics);
+    }
+
     @Bean
     PrebidVersionProvider prebidVersionProvider(VersionInfo versionInfo) {
         return new PrebidVersionProvider(versionInfo.getVersion());
@@ -867,6 +1007,7 @@ public class ServiceConfiguration {
             CategoryMappingService categoryMappingService,
             @Value("${settings.targeting.truncate-attr-chars}") int truncateAttrChars,
             @Value("${auction.enforce-random-bid-id:false}") boolean enforceRandomBidId,
+            DebugHttpCallsLimiter debugHttpCallsLimiter,
             Clock clock,
             JacksonMapper mapper,
             Metrics metrics,
@@ -888,6 +1029,7 @@ public class ServiceConfiguration {
                 categoryMappingService,
                 truncateAttrChars,
                 enforceRandomBidId,
+                debugHttpCallsLimiter,
                 clock,
                 mapper,
                 metrics,
@@ -922,6 +1064,10 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             CriteriaLogManager criteriaLogManager,
+            @Autowired(required = false) BidderPreparationExecutor bidderPreparationExecutor,
+            @Autowired(required = false) AdaptiveTimeoutResolver adaptiveTimeoutResolver,
+            @Autowired(required = false) BidderTrafficShaper bidderTrafficShaper,
+            @Autowired(required = false) AdmissionController admissionController,
             @Value("${auction.strict-app-site-dooh:false}") boolean enabledStrictAppSiteDoohValidation) {
 
         return new ExchangeService(
@@ -950,9 +1096,41 @@ public class ServiceConfiguration {
                 clock,
                 mapper,
                 criteriaLogManager,
+                bidderPreparationExecutor,
+                adaptiveTimeoutResolver,
+                bidderTrafficShaper,
+                admissionController,
                 enabledStrictAppSiteDoohValidation);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.adaptive-timeouts", name = "enabled", havingValue = "true")
+    AdaptiveTimeoutResolver adaptiveTimeoutResolver(
+            @Value("${auction.adaptive-timeouts.quantile}") double quantile,
+            @Value("${auction.adaptive-timeouts.min-samples}") long minSamples,
+            @Value("${auction.adaptive-timeouts.headroom-percent}") int headroomPercent,
+            @Value("${auction.adaptive-timeouts.min-timeout-ms}") long minTimeoutMs,
+            @Value("${auction.adaptive-timeouts.per-region}") boolean perRegion,
+            @Value("${auction.adaptive-timeouts.refresh-interval-ms}") long refreshIntervalMs,
+            Clock clock) {
+
+        return new AdaptiveTimeoutResolver(
+                quantile, minSamples, headroomPercent, minTimeoutMs, perRegion, refreshIntervalMs, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.traffic-shaping", name = "enabled", havingValue = "true")
+    BidderTrafficShaper bidderTrafficShaper(
+            @Value("${auction.traffic-shaping.min-requests}") int minRequests,
+            @Value("${auction.traffic-shaping.min-bid-rate}") double minBidRate,
+            @Value("${auction.traffic-shaping.exploration-rate}") double explorationRate,
+            @Value("${auction.traffic-shaping.window}") int window,
+            @Value("${auction.traffic-shaping.max-stats}") int maxStats,
+            Metrics metrics) {
+
+        return new BidderTrafficShaper(minRequests, minBidRate, explorationRate, window, maxStats, metrics);
+    }
+
     @Bean
     BidsAdjuster bidsAdjuster(ResponseBidValidator responseBidValidator,
                               PriceFloorEnforcer priceFloorEnforcer,
@@ -1109,8 +1287,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.validations.bidder-params-cache-size}") int resultCacheSize,
+            JacksonMapper mapper) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", resultCacheSize, mapper);
     }
 
     @Bean
@@ -1127,8 +1309,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    CriteriaLogManager criteriaLogManager(JacksonMapper mapper) {
-        return new CriteriaLogManager(mapper);
+    CriteriaLogManager criteriaLogManager(JacksonMapper mapper, AsyncLogWriter asyncLogWriter) {
+        return new CriteriaLogManager(mapper, asyncLogWriter);
     }
 
     @Bean
@@ -1213,8 +1395,17 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper) {
-        return new HttpInteractionLogger(mapper);
+    AsyncLogWriter asyncLogWriter(@Value("${logging.async.queue-size}") int queueSize,
+                                  @Value("${logging.async.max-bytes-per-second}") long maxBytesPerSecond,
+                                  Metrics metrics,
+                                  Clock clock) {
+
+        return new AsyncLogWriter(queueSize, maxBytesPerSecond, metrics, clock);
+    }
+
+    @Bean
+    HttpInteractionLogger httpInteractionLogger(JacksonMapper mapper, AsyncLogWriter asyncLogWriter) {
+        return new HttpInteractionLogger(mapper, asyncLogWriter);
     }
 
     @Bean
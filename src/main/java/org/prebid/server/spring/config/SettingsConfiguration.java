@@ -8,6 +8,7 @@ import io.vertx.core.file.FileSystem;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
 import org.prebid.server.execution.timeout.TimeoutFactory;
@@ -427,7 +428,14 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
-                Metrics metrics) {
+                Metrics metrics,
+                @Value("${settings.in-memory-cache.notification-endpoints-enabled:false}")
+                boolean notificationEndpointsEnabled,
+                @Autowired(required = false) List<HttpPeriodicRefreshService> httpPeriodicRefreshServices) {
+
+            // database and S3 refreshes don't carry stored responses, so they can't be invalidated in cache otherwise
+            final boolean cacheStoredResponses = notificationEndpointsEnabled
+                    || CollectionUtils.isNotEmpty(httpPeriodicRefreshServices);
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -437,7 +445,8 @@ public class SettingsConfiguration {
                     metrics,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheStoredResponses);
         }
     }
 
@@ -165,6 +165,10 @@ public class DatabaseConfiguration {
                 circuitBreakerProperties.getOpeningThreshold(),
                 circuitBreakerProperties.getOpeningIntervalMs(),
                 circuitBreakerProperties.getClosingIntervalMs(),
+                circuitBreakerProperties.getHalfOpenProbes(),
+                circuitBreakerProperties.getErrorRatePercent(),
+                circuitBreakerProperties.getSlowCallDurationMs(),
+                circuitBreakerProperties.getSlowCallRatePercent(),
                 clock);
     }
 
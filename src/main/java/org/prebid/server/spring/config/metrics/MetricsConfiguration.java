@@ -12,6 +12,7 @@ import com.codahale.metrics.jvm.MemoryUsageGaugeSet;
 import com.izettle.metrics.influxdb.InfluxDbHttpSender;
 import com.izettle.metrics.influxdb.InfluxDbReporter;
 import com.izettle.metrics.influxdb.InfluxDbSender;
+import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
@@ -19,9 +20,12 @@ import org.prebid.server.auction.HooksMetricsService;
 import org.prebid.server.metric.AccountMetricsVerbosityResolver;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.TopAccountsRotator;
+import org.prebid.server.metric.TopAccountsTracker;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -109,9 +113,31 @@ public class MetricsConfiguration {
     @Bean
     Metrics metrics(@Value("${metrics.metricType}") CounterType counterType,
                     MetricRegistry metricRegistry,
-                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
+                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver,
+                    @Autowired(required = false) TopAccountsTracker topAccountsTracker) {
 
-        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver);
+        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver, topAccountsTracker);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.accounts.top-accounts", name = "enabled", havingValue = "true")
+    TopAccountsTracker topAccountsTracker(@Value("${metrics.accounts.top-accounts.limit}") int limit,
+                                          AccountsProperties accountsProperties) {
+
+        final List<String> pinnedAccounts = new ArrayList<>(accountsProperties.getBasicVerbosity());
+        pinnedAccounts.addAll(accountsProperties.getDetailedVerbosity());
+
+        return new TopAccountsTracker(limit, pinnedAccounts);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.accounts.top-accounts", name = "enabled", havingValue = "true")
+    TopAccountsRotator topAccountsRotator(@Value("${metrics.accounts.top-accounts.rotation-interval-ms}")
+                                          long rotationIntervalMs,
+                                          Metrics metrics,
+                                          Vertx vertx) {
+
+        return new TopAccountsRotator(metrics, vertx, rotationIntervalMs);
     }
 
     @Bean
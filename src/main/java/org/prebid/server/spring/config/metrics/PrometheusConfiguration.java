@@ -1,11 +1,8 @@
 package org.prebid.server.spring.config.metrics;
 
 import com.codahale.metrics.MetricRegistry;
-import io.prometheus.client.CollectorRegistry;
-import io.prometheus.client.dropwizard.DropwizardExports;
 import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
 import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
-import io.prometheus.client.vertx.MetricsHandler;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.Router;
@@ -16,6 +13,7 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.prometheus.NamespaceSubsystemSampleBuilder;
+import org.prebid.server.metric.prometheus.PrometheusExporter;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,7 +23,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.List;
 
 @Configuration
@@ -38,10 +38,7 @@ public class PrometheusConfiguration {
     @Bean
     public VerticleDefinition prometheusHttpServerVerticleDefinition(
             PrometheusConfigurationProperties prometheusConfigurationProperties,
-            Router prometheusRouter,
-            DropwizardExports dropwizardExports) {
-
-        CollectorRegistry.defaultRegistry.register(dropwizardExports);
+            Router prometheusRouter) {
 
         return VerticleDefinition.ofSingleInstance(
                 () -> new ServerVerticle(
@@ -61,18 +58,30 @@ public class PrometheusConfiguration {
     }
 
     @Bean
-    DropwizardExports dropwizardExports(Metrics metrics, MetricRegistry metricRegistry, SampleBuilder sampleBuilder) {
+    PrometheusExporter prometheusExporter(PrometheusConfigurationProperties prometheusConfigurationProperties,
+                                          Metrics metrics,
+                                          MetricRegistry metricRegistry,
+                                          SampleBuilder sampleBuilder,
+                                          Vertx vertx,
+                                          Clock clock) {
+
         if (metrics.getCounterType() == CounterType.flushingCounter) {
             logger.warn("Prometheus metric system: Metric type is flushingCounter.");
         }
 
-        return new DropwizardExports(metricRegistry, sampleBuilder);
+        return new PrometheusExporter(
+                metricRegistry,
+                sampleBuilder,
+                vertx,
+                prometheusConfigurationProperties.getSnapshotRefreshMs(),
+                metrics,
+                clock);
     }
 
     @Bean
-    Router prometheusRouter(Vertx vertx) {
+    Router prometheusRouter(Vertx vertx, PrometheusExporter prometheusExporter) {
         final Router router = Router.router(vertx);
-        router.route("/metrics").handler(new MetricsHandler());
+        router.route("/metrics").handler(prometheusExporter);
         return router;
     }
 
@@ -90,5 +99,9 @@ public class PrometheusConfiguration {
         String namespace;
 
         String subsystem;
+
+        @NotNull
+        @Min(0)
+        Long snapshotRefreshMs;
     }
 }
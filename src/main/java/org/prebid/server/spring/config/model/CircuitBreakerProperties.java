@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -23,4 +24,22 @@ public class CircuitBreakerProperties {
     @NotNull
     @Min(1)
     private Long closingIntervalMs;
+
+    @NotNull
+    @Min(1)
+    private Integer halfOpenProbes = 1;
+
+    @NotNull
+    @Min(0)
+    @Max(100)
+    private Integer errorRatePercent = 0;
+
+    @NotNull
+    @Min(0)
+    private Long slowCallDurationMs = 0L;
+
+    @NotNull
+    @Min(0)
+    @Max(100)
+    private Integer slowCallRatePercent = 100;
 }
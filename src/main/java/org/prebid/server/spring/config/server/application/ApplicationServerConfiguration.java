@@ -1,6 +1,7 @@
 package org.prebid.server.spring.config.server.application;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.net.JksOptions;
@@ -32,6 +33,7 @@ import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.handler.BidderParamHandler;
+import org.prebid.server.handler.ConnectionMetricsHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
@@ -55,6 +57,7 @@ import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
@@ -62,9 +65,11 @@ import org.prebid.server.spring.config.server.admin.AdminResourcesBinder;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.AdmissionController;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.prebid.server.vertx.verticles.server.ServerVerticle;
 import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -79,6 +84,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Configuration
 public class ApplicationServerConfiguration {
@@ -133,7 +139,11 @@ public class ApplicationServerConfiguration {
             @Value("${server.jks-password}") String jksPassword,
             @Value("${server.idle-timeout}") int idleTimeout,
             @Value("${server.enable-quickack:#{null}}") Optional<Boolean> enableQuickAck,
-            @Value("${server.enable-reuseport:#{null}}") Optional<Boolean> enableReusePort) {
+            @Value("${server.enable-reuseport:#{null}}") Optional<Boolean> enableReusePort,
+            @Value("${server.http2.enabled}") boolean http2Enabled,
+            @Value("${server.http2.max-concurrent-streams}") long maxConcurrentStreams,
+            @Value("${server.http2.initial-window-size}") int initialWindowSize,
+            @Value("${server.http2.connection-window-size}") int connectionWindowSize) {
 
         final HttpServerOptions httpServerOptions = new HttpServerOptions()
                 .setHandle100ContinueAutomatically(true)
@@ -154,6 +164,17 @@ public class ApplicationServerConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
+        // HTTP/2 is negotiated by ALPN over TLS or used over cleartext (h2c) by prior knowledge or upgrade
+        httpServerOptions.setHttp2ClearTextEnabled(http2Enabled);
+        if (http2Enabled) {
+            httpServerOptions
+                    .setUseAlpn(ssl)
+                    .setInitialSettings(new Http2Settings()
+                            .setMaxConcurrentStreams(maxConcurrentStreams)
+                            .setInitialWindowSize(initialWindowSize))
+                    .setHttp2ConnectionWindowSize(connectionWindowSize);
+        }
+
         return httpServerOptions;
     }
 
@@ -169,9 +190,16 @@ public class ApplicationServerConfiguration {
                                    CorsHandler corsHandler,
                                    List<ApplicationResource> resources,
                                    AdminResourcesBinder applicationPortAdminResourcesBinder,
-                                   StaticHandler staticHandler) {
+                                   StaticHandler staticHandler,
+                                   ConnectionMetricsHandler connectionMetricsHandler,
+                                   @Autowired(required = false) AdmissionController admissionController) {
 
         final Router router = Router.router(vertx);
+        router.route().handler(connectionMetricsHandler);
+        if (admissionController != null) {
+            Stream.of(Endpoint.openrtb2_auction, Endpoint.openrtb2_amp, Endpoint.openrtb2_video).forEach(endpoint ->
+                    router.route(endpoint.value()).handler(ctx -> admissionController.handle(ctx, endpoint)));
+        }
         router.route().handler(bodyHandler);
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
@@ -188,6 +216,38 @@ public class ApplicationServerConfiguration {
         return router;
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "admission-control", name = "enabled", havingValue = "true")
+    AdmissionController admissionController(
+            Vertx vertx,
+            @Value("${admission-control.lag-check-interval-ms}") long lagCheckIntervalMs,
+            @Value("${admission-control.degrade.event-loop-lag-ms}") long degradeLagMs,
+            @Value("${admission-control.degrade.in-flight-auctions}") int degradeInFlight,
+            @Value("${admission-control.degrade.max-bidders}") int degradeMaxBidders,
+            @Value("${admission-control.shed.event-loop-lag-ms}") long shedLagMs,
+            @Value("${admission-control.shed.in-flight-auctions}") int shedInFlight,
+            @Value("${admission-control.shed-status-code}") int shedStatusCode,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AdmissionController(
+                vertx,
+                lagCheckIntervalMs,
+                degradeLagMs,
+                degradeInFlight,
+                degradeMaxBidders,
+                shedLagMs,
+                shedInFlight,
+                shedStatusCode,
+                metrics,
+                clock);
+    }
+
+    @Bean
+    ConnectionMetricsHandler connectionMetricsHandler(Metrics metrics) {
+        return new ConnectionMetricsHandler(metrics);
+    }
+
     @Bean
     NoCacheHandler noCacheHandler() {
         return NoCacheHandler.create();
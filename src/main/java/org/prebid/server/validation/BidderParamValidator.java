@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -14,6 +16,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,17 +35,41 @@ public class BidderParamValidator {
 
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Cache<ValidationKey, Set<String>> validationResults;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas, int resultCacheSize) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationResults = resultCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(resultCacheSize).build()
+                : null;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * <p>
+     * Results are cached by the structural equality of the parameters, if enabled, since the same parameters
+     * usually come with every request of the same ad unit.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final JsonSchema schema = bidderSchemas.get(bidder);
+        if (validationResults == null) {
+            return validate(schema, jsonNode);
+        }
+
+        final Set<String> cachedResult = validationResults.getIfPresent(new ValidationKey(schema, jsonNode));
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Set<String> result = Collections.unmodifiableSet(validate(schema, jsonNode));
+        // the copy protects cached key from changes made to the request afterward
+        validationResults.put(new ValidationKey(schema, jsonNode.deepCopy()), result);
+        return result;
+    }
+
+    private static Set<String> validate(JsonSchema schema, JsonNode jsonNode) {
+        return schema.validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
     }
@@ -80,6 +107,18 @@ public class BidderParamValidator {
                                               String schemaDirectory,
                                               JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, 0, mapper);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} as {@link #create(BidderCatalog, String, JacksonMapper)}
+     * does, with validation results cache of the given size. Non-positive size disables caching.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              int resultCacheSize,
+                                              JacksonMapper mapper) {
+
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -89,7 +128,8 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper), resultCacheSize);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -163,4 +203,10 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    /**
+     * Schema is compared by identity, parameters - by value.
+     */
+    private record ValidationKey(JsonSchema schema, JsonNode params) {
+    }
 }
@@ -194,9 +194,9 @@ public class RequestValidator {
                     throw new ValidationException(String.join(" and ", channels) + " are present, "
                             + "but no more than one of request.site or request.app or request.dooh can be defined");
                 }
-                final String logMessage = String.join(" and ", channels) + " are present. "
-                        + "Referer: " + httpRequestContext.getHeaders().get(HttpUtil.REFERER_HEADER);
-                conditionalLogger.warn(logMessage, logSamplingRate);
+                conditionalLogger.warn("{} are present. Referer: {}", logSamplingRate,
+                        () -> String.join(" and ", channels),
+                        () -> httpRequestContext.getHeaders().get(HttpUtil.REFERER_HEADER));
             }
 
             if (isDooh) {
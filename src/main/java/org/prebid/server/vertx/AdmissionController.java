@@ -0,0 +1,197 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.health.HealthChecker;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits auction requests depending on the load of the event loop handling them.
+ * <p>
+ * Load of each event loop context is measured by event loop lag (how late a periodic timer fires) and number of
+ * auctions in flight. Once degrade thresholds are crossed, requests are still admitted but auctions are degraded:
+ * debug is turned off and number of bidders is limited. Once shed thresholds are crossed, requests are rejected
+ * right away, without reading the body.
+ * <p>
+ * The worst state of all event loops is reported as {@code admission-control} status.
+ */
+public class AdmissionController implements HealthChecker {
+
+    private static final String NAME = "admission-control";
+
+    private final Vertx vertx;
+    private final long lagCheckIntervalMs;
+    private final long degradeLagMs;
+    private final int degradeInFlight;
+    private final int degradeMaxBidders;
+    private final long shedLagMs;
+    private final int shedInFlight;
+    private final int shedStatusCode;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final List<LoadState> loadStates = new CopyOnWriteArrayList<>();
+
+    public AdmissionController(Vertx vertx,
+                               long lagCheckIntervalMs,
+                               long degradeLagMs,
+                               int degradeInFlight,
+                               int degradeMaxBidders,
+                               long shedLagMs,
+                               int shedInFlight,
+                               int shedStatusCode,
+                               Metrics metrics,
+                               Clock clock) {
+
+        if (shedLagMs < degradeLagMs || shedInFlight < degradeInFlight) {
+            throw new IllegalArgumentException(
+                    "Shed thresholds cannot be less than degrade thresholds: "
+                            + "degrade=(%dms, %d), shed=(%dms, %d)"
+                            .formatted(degradeLagMs, degradeInFlight, shedLagMs, shedInFlight));
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+        this.degradeLagMs = degradeLagMs;
+        this.degradeInFlight = degradeInFlight;
+        this.degradeMaxBidders = degradeMaxBidders;
+        this.shedLagMs = shedLagMs;
+        this.shedInFlight = shedInFlight;
+        this.shedStatusCode = shedStatusCode;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Admits the request to the given endpoint by passing it to the next handler, or responds right away if the
+     * event loop is overloaded.
+     */
+    public void handle(RoutingContext routingContext, Endpoint endpoint) {
+        final LoadState loadState = loadState(true);
+        final Mode mode = loadState != null ? loadState.mode() : Mode.NORMAL;
+
+        if (mode == Mode.SHEDDING) {
+            metrics.updateAdmissionMetric(MetricName.shed);
+            HttpUtil.executeSafely(routingContext, endpoint,
+                    response -> response
+                            .setStatusCode(shedStatusCode)
+                            .end());
+            return;
+        }
+
+        metrics.updateAdmissionMetric(mode == Mode.DEGRADED ? MetricName.degraded : MetricName.admitted);
+        if (loadState != null) {
+            loadState.inFlight++;
+            routingContext.addEndHandler(ignored -> loadState.inFlight--);
+        }
+
+        routingContext.next();
+    }
+
+    /**
+     * Returns whether auctions processed by the current event loop should be degraded.
+     */
+    public boolean isDegraded() {
+        final LoadState loadState = loadState(false);
+        return loadState != null && loadState.mode() != Mode.NORMAL;
+    }
+
+    /**
+     * Returns maximal number of bidders to call in auctions processed by the current event loop.
+     */
+    public int maxBidders() {
+        return isDegraded() ? degradeMaxBidders : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns load state of the current event loop context, creating it if requested.
+     */
+    private LoadState loadState(boolean create) {
+        final Context context = Vertx.currentContext();
+        if (context == null || !context.isEventLoopContext()) {
+            return null;
+        }
+
+        final LoadState existingLoadState = context.get(this);
+        if (existingLoadState != null || !create) {
+            return existingLoadState;
+        }
+
+        final LoadState loadState = new LoadState();
+        context.put(this, loadState);
+        loadStates.add(loadState);
+        vertx.setPeriodic(lagCheckIntervalMs, ignored -> loadState.checkLag());
+
+        return loadState;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        Mode worstMode = Mode.NORMAL;
+        for (LoadState loadState : loadStates) {
+            final Mode mode = loadState.mode();
+            if (mode.ordinal() > worstMode.ordinal()) {
+                worstMode = mode;
+            }
+        }
+
+        return StatusResponse.of(worstMode.status.name(), ZonedDateTime.now(clock));
+    }
+
+    private enum Mode {
+
+        NORMAL(Status.UP),
+        DEGRADED(Status.DEGRADED),
+        SHEDDING(Status.SHEDDING);
+
+        private final Status status;
+
+        Mode(Status status) {
+            this.status = status;
+        }
+    }
+
+    private class LoadState {
+
+        // updated on the event loop only, read by status checks
+        private volatile int inFlight;
+        private volatile long lagMs;
+        private long lastCheckTime = System.nanoTime();
+
+        void checkLag() {
+            final long now = System.nanoTime();
+            lagMs = Math.max(0, TimeUnit.NANOSECONDS.toMillis(now - lastCheckTime) - lagCheckIntervalMs);
+            lastCheckTime = now;
+
+            metrics.updateAdmissionLagMetric(lagMs);
+        }
+
+        Mode mode() {
+            if (lagMs >= shedLagMs || inFlight >= shedInFlight) {
+                return Mode.SHEDDING;
+            }
+            if (lagMs >= degradeLagMs || inFlight >= degradeInFlight) {
+                return Mode.DEGRADED;
+            }
+            return Mode.NORMAL;
+        }
+    }
+}
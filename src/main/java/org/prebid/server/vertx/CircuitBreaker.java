@@ -1,121 +1,230 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
-import io.vertx.circuitbreaker.CircuitBreakerState;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import org.prebid.server.log.Logger;
-import org.prebid.server.log.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Non-blocking circuit breaker.
+ * <p>
+ * Results of operations are counted in a sliding window of opening interval length, split into buckets updated with
+ * atomic operations only. The circuit opens when, within the window:
+ * <ul>
+ * <li>number of failures reaches opening threshold, or</li>
+ * <li>error rate percent is configured, at least opening threshold operations were executed and rate of failures
+ * reaches it, or</li>
+ * <li>slow call duration is configured, at least opening threshold operations were executed and rate of operations
+ * lasting longer than that reaches slow call rate percent.</li>
+ * </ul>
+ * Open circuit fails operations right away. After closing interval the circuit becomes half-open and lets the
+ * configured number of probe operations through: the circuit closes once all of them succeed and opens again on the
+ * first failure.
  */
 public class CircuitBreaker {
 
-    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final int BUCKETS = 10;
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
     private final Vertx vertx;
-    private final long openingIntervalMs;
+    private final int openingThreshold;
+    private final long closingIntervalMs;
+    private final int halfOpenProbes;
+    private final int errorRatePercent;
+    private final long slowCallDurationMs;
+    private final int slowCallRatePercent;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final long bucketIntervalMs;
+    private final Bucket[] buckets;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger probesLeft = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+
+    private volatile Handler<Void> openHandler;
+    private volatile Handler<Void> halfOpenHandler;
+    private volatile Handler<Void> closeHandler;
+
+    public CircuitBreaker(String name,
+                          Vertx vertx,
+                          int openingThreshold,
+                          long openingIntervalMs,
+                          long closingIntervalMs,
+                          Clock clock) {
+
+        this(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, 1, 0, 0L, 100, clock);
+    }
 
     public CircuitBreaker(String name,
                           Vertx vertx,
                           int openingThreshold,
                           long openingIntervalMs,
                           long closingIntervalMs,
+                          int halfOpenProbes,
+                          int errorRatePercent,
+                          long slowCallDurationMs,
+                          int slowCallRatePercent,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
+        Objects.requireNonNull(name);
+        if (openingThreshold < 1 || halfOpenProbes < 1) {
+            throw new IllegalArgumentException(
+                    "Circuit breaker %s opening threshold and half-open probes should be positive".formatted(name));
+        }
 
-        this.vertx = vertx;
-        this.openingIntervalMs = openingIntervalMs;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.openingThreshold = openingThreshold;
+        this.closingIntervalMs = closingIntervalMs;
+        this.halfOpenProbes = halfOpenProbes;
+        this.errorRatePercent = errorRatePercent;
+        this.slowCallDurationMs = slowCallDurationMs;
+        this.slowCallRatePercent = slowCallRatePercent;
         this.clock = Objects.requireNonNull(clock);
+
+        bucketIntervalMs = Math.max(1, openingIntervalMs / BUCKETS);
+        buckets = new Bucket[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
+        final State currentState = state.get();
+        final boolean probe = currentState == State.HALF_OPEN && acquireProbe();
+        if (currentState == State.OPEN || (currentState == State.HALF_OPEN && !probe)) {
+            return Future.failedFuture(new RuntimeException("open circuit"));
+        }
+
+        final long startTime = clock.millis();
+        final Promise<T> promise = Promise.promise();
+        try {
+            command.handle(promise);
+        } catch (Exception e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onComplete(result -> onResult(result.succeeded(), clock.millis() - startTime, probe));
     }
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+    private boolean acquireProbe() {
+        int probes = probesLeft.get();
+        while (probes > 0) {
+            if (probesLeft.compareAndSet(probes, probes - 1)) {
+                return true;
+            }
+            probes = probesLeft.get();
+        }
+        return false;
+    }
+
+    private void onResult(boolean succeeded, long durationMs, boolean probe) {
+        if (probe) {
+            onProbeResult(succeeded);
+            return;
+        }
+
+        final Bucket bucket = currentBucket();
+        bucket.calls.incrementAndGet();
+        if (!succeeded) {
+            bucket.failures.incrementAndGet();
+        }
+        if (slowCallDurationMs > 0 && durationMs >= slowCallDurationMs) {
+            bucket.slowCalls.incrementAndGet();
+        }
+
+        if (state.get() == State.CLOSED && shouldOpen()) {
+            transition(State.CLOSED, State.OPEN);
+        }
+    }
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+    private void onProbeResult(boolean succeeded) {
+        if (!succeeded) {
+            transition(State.HALF_OPEN, State.OPEN);
+        } else if (probesSucceeded.incrementAndGet() >= halfOpenProbes) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
     }
 
-    /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private Bucket currentBucket() {
+        final long epoch = clock.millis() / bucketIntervalMs;
+        final Bucket bucket = buckets[(int) (epoch % BUCKETS)];
+
+        final long bucketEpoch = bucket.epoch.get();
+        if (bucketEpoch != epoch && bucket.epoch.compareAndSet(bucketEpoch, epoch)) {
+            bucket.reset();
+        }
+        return bucket;
     }
 
-    /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private boolean shouldOpen() {
+        final long oldestEpoch = clock.millis() / bucketIntervalMs - BUCKETS + 1;
+
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch.get() >= oldestEpoch) {
+                calls += bucket.calls.get();
+                failures += bucket.failures.get();
+                slowCalls += bucket.slowCalls.get();
+            }
+        }
+
+        if (failures >= openingThreshold) {
+            return true;
+        }
+        if (calls < openingThreshold) {
+            return false;
+        }
+        return (errorRatePercent > 0 && failures * 100 >= errorRatePercent * calls)
+                || (slowCallDurationMs > 0 && slowCalls * 100 >= slowCallRatePercent * calls);
     }
 
-    /**
-     * Resets failure counter to adjust open-circuit time frame.
-     * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
-     */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
-        final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+    private void transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return;
         }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+        switch (to) {
+            case OPEN -> {
+                vertx.setTimer(closingIntervalMs, ignored -> transition(State.OPEN, State.HALF_OPEN));
+                notify(openHandler);
+            }
+            case HALF_OPEN -> {
+                probesSucceeded.set(0);
+                probesLeft.set(halfOpenProbes);
+                notify(halfOpenHandler);
+            }
+            case CLOSED -> {
+                for (Bucket bucket : buckets) {
+                    bucket.reset();
+                }
+                notify(closeHandler);
+            }
+        }
+    }
+
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = handler;
         return this;
     }
 
@@ -123,7 +232,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = handler;
         return this;
     }
 
@@ -131,14 +240,30 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = handler;
         return this;
     }
 
     public boolean isOpen() {
-        return switch (breaker.state()) {
-            case OPEN, HALF_OPEN -> true;
-            case CLOSED -> false;
-        };
+        return state.get() != State.CLOSED;
+    }
+
+    private enum State {
+
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static class Bucket {
+
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong slowCalls = new AtomicLong();
+
+        void reset() {
+            calls.set(0);
+            failures.set(0);
+            slowCalls.set(0);
+        }
     }
 }
@@ -8,6 +8,7 @@ import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.CircuitBreaker;
 
@@ -27,6 +28,7 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
     private static final int LOG_PERIOD_SECONDS = 5;
 
     private final DatabaseClient databaseClient;
+    private final Metrics metrics;
     private final CircuitBreaker breaker;
 
     public CircuitBreakerSecuredDatabaseClient(Vertx vertx,
@@ -37,7 +39,24 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
                                                long closingIntervalMs,
                                                Clock clock) {
 
+        this(vertx, databaseClient, metrics, openingThreshold, openingIntervalMs, closingIntervalMs, 1, 0, 0L, 100,
+                clock);
+    }
+
+    public CircuitBreakerSecuredDatabaseClient(Vertx vertx,
+                                               DatabaseClient databaseClient,
+                                               Metrics metrics,
+                                               int openingThreshold,
+                                               long openingIntervalMs,
+                                               long closingIntervalMs,
+                                               int halfOpenProbes,
+                                               int errorRatePercent,
+                                               long slowCallDurationMs,
+                                               int slowCallRatePercent,
+                                               Clock clock) {
+
         this.databaseClient = Objects.requireNonNull(databaseClient);
+        this.metrics = Objects.requireNonNull(metrics);
 
         breaker = new CircuitBreaker(
                 "db_cb",
@@ -45,6 +64,10 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
+                halfOpenProbes,
+                errorRatePercent,
+                slowCallDurationMs,
+                slowCallRatePercent,
                 Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
@@ -66,14 +89,17 @@ public class CircuitBreakerSecuredDatabaseClient implements DatabaseClient {
     }
 
     private void circuitOpened() {
+        metrics.updateDatabaseCircuitBreakerTransitionMetric(MetricName.open_transition);
         conditionalLogger.warn("Database is unavailable, circuit opened.", LOG_PERIOD_SECONDS, TimeUnit.SECONDS);
     }
 
     private void circuitHalfOpened() {
+        metrics.updateDatabaseCircuitBreakerTransitionMetric(MetricName.half_open_transition);
         logger.warn("Database is ready to try again, circuit half-opened.");
     }
 
     private void circuitClosed() {
+        metrics.updateDatabaseCircuitBreakerTransitionMetric(MetricName.close_transition);
         logger.warn("Database becomes working, circuit closed.");
     }
 }
@@ -9,6 +9,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.CircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -30,8 +31,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
 
+    private static final int URL_PREFIX_CACHE_SIZE = 10_000;
+
     private final Function<String, CircuitBreaker> circuitBreakerCreator;
     private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Map<String, String> nameByUrlPrefix;
 
     private final HttpClient httpClient;
 
@@ -44,10 +48,37 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                            int idleExpireHours,
                                            Clock clock) {
 
+        this(vertx, httpClient, metrics, openingThreshold, openingIntervalMs, closingIntervalMs, 1, 0, 0L, 100,
+                idleExpireHours, clock);
+    }
+
+    public CircuitBreakerSecuredHttpClient(Vertx vertx,
+                                           HttpClient httpClient,
+                                           Metrics metrics,
+                                           int openingThreshold,
+                                           long openingIntervalMs,
+                                           long closingIntervalMs,
+                                           int halfOpenProbes,
+                                           int errorRatePercent,
+                                           long slowCallDurationMs,
+                                           int slowCallRatePercent,
+                                           int idleExpireHours,
+                                           Clock clock) {
+
         this.httpClient = Objects.requireNonNull(httpClient);
 
         circuitBreakerCreator = name -> createCircuitBreaker(
-                name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock, metrics);
+                name,
+                vertx,
+                openingThreshold,
+                openingIntervalMs,
+                closingIntervalMs,
+                halfOpenProbes,
+                errorRatePercent,
+                slowCallDurationMs,
+                slowCallRatePercent,
+                clock,
+                metrics);
 
         circuitBreakerByName = Caffeine.newBuilder()
                 .expireAfterAccess(idleExpireHours, TimeUnit.HOURS)
@@ -55,6 +86,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .build()
                 .asMap();
 
+        nameByUrlPrefix = Caffeine.newBuilder()
+                .maximumSize(URL_PREFIX_CACHE_SIZE)
+                .<String, String>build()
+                .asMap();
+
         metrics.createHttpClientCircuitBreakerNumberGauge(circuitBreakerByName::size);
 
         logger.info("Initialized HTTP client with Circuit Breaker");
@@ -92,6 +128,10 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                                 int openingThreshold,
                                                 long openingIntervalMs,
                                                 long closingIntervalMs,
+                                                int halfOpenProbes,
+                                                int errorRatePercent,
+                                                long slowCallDurationMs,
+                                                int slowCallRatePercent,
                                                 Clock clock,
                                                 Metrics metrics) {
 
@@ -101,10 +141,14 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
+                halfOpenProbes,
+                errorRatePercent,
+                slowCallDurationMs,
+                slowCallRatePercent,
                 Objects.requireNonNull(clock))
-                .openHandler(ignored -> circuitOpened(name))
-                .halfOpenHandler(ignored -> circuitHalfOpened(name))
-                .closeHandler(ignored -> circuitClosed(name));
+                .openHandler(ignored -> circuitOpened(name, metrics))
+                .halfOpenHandler(ignored -> circuitHalfOpened(name, metrics))
+                .closeHandler(ignored -> circuitClosed(name, metrics));
 
         createCircuitBreakerGauge(name, circuitBreaker, metrics);
 
@@ -119,22 +163,55 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         metrics.removeHttpClientCircuitBreakerGauge(idFrom(name));
     }
 
-    private void circuitOpened(String name) {
+    private void circuitOpened(String name, Metrics metrics) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(MetricName.open_transition);
         conditionalLogger.warn(
                 "Http client request to %s is failed, circuit opened.".formatted(name),
                 LOG_PERIOD_SECONDS,
                 TimeUnit.SECONDS);
     }
 
-    private void circuitHalfOpened(String name) {
+    private void circuitHalfOpened(String name, Metrics metrics) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(MetricName.half_open_transition);
         logger.warn("Http client request to {} will try again, circuit half-opened.", name);
     }
 
-    private void circuitClosed(String name) {
+    private void circuitClosed(String name, Metrics metrics) {
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(MetricName.close_transition);
         logger.warn("Http client request to {} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
+    /**
+     * Returns circuit breaker name for the given url, resolving it once per scheme and authority of the url.
+     */
+    private String nameFrom(String url) {
+        final String urlPrefix = urlPrefix(url);
+        final String cachedName = nameByUrlPrefix.get(urlPrefix);
+        if (cachedName != null) {
+            return cachedName;
+        }
+
+        final String name = parseName(url);
+        nameByUrlPrefix.put(urlPrefix, name);
+        return name;
+    }
+
+    private static String urlPrefix(String url) {
+        final int schemeEnd = url.indexOf("://");
+        if (schemeEnd < 0) {
+            return url;
+        }
+
+        for (int i = schemeEnd + 3; i < url.length(); i++) {
+            final char character = url.charAt(i);
+            if (character == '/' || character == '?' || character == '#') {
+                return url.substring(0, i);
+            }
+        }
+        return url;
+    }
+
+    private static String parseName(String urlAsString) {
         final URL url = parseUrl(urlAsString);
         return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
     }
@@ -2,7 +2,6 @@ package org.prebid.server.activity.infrastructure.creator.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicBoolean;
-import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -123,7 +122,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
     }
 
     @Test
-    public void fromShouldShouldSkipNotSupportedSectionsIds() throws JsonLogicEvaluationException {
+    public void fromShouldShouldSkipNotSupportedSectionsIds() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 asList(6, 7, 8, 9, 10, 11, 12, 13),
@@ -142,13 +141,12 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic, times(6)).parse(eq("{}"));
-        verify(jsonLogic, times(6)).evaluate(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
 
     @Test
-    public void fromShouldShouldSkipNotConfiguredSectionsIds() throws JsonLogicEvaluationException {
+    public void fromShouldShouldSkipNotConfiguredSectionsIds() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 asList(7, 8, 9),
@@ -162,7 +160,6 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
@@ -202,7 +199,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
     }
 
     @Test
-    public void fromShouldUseDefaultValueForNormalizeSectionsIfItWasNull() throws JsonLogicEvaluationException {
+    public void fromShouldUseDefaultValueForNormalizeSectionsIfItWasNull() {
         // given
         final PrivacyModuleCreationContext creationContext = givenCreationContext(
                 singletonList(7),
@@ -216,7 +213,28 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
-        verify(jsonLogic).evaluate(any(), any());
+        verifyNoMoreInteractions(jsonLogic);
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void fromShouldCompileJsonLogicConfigOnceWhenCacheIsConfigured() {
+        // given
+        target = new USCustomLogicModuleCreator(gppReaderFactory, jsonLogic, 60, 100, metrics, 0);
+
+        final PrivacyModuleCreationContext creationContext = givenCreationContext(
+                asList(7, 8),
+                givenConfig(Set.of(7, 8), true, Activity.CALL_BIDDER, mapper.createObjectNode()));
+
+        // when
+        final PrivacyModule firstPrivacyModule = target.from(creationContext);
+        final PrivacyModule secondPrivacyModule = target.from(creationContext);
+
+        // then
+        assertThat(firstPrivacyModule.proceed(null)).isEqualTo(Rule.Result.DISALLOW);
+        assertThat(secondPrivacyModule.proceed(null)).isEqualTo(Rule.Result.DISALLOW);
+
+        verify(jsonLogic).parse(eq("{}"));
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
     }
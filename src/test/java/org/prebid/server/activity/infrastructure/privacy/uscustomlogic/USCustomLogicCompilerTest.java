@@ -0,0 +1,190 @@
+package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
+
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.JsonLogicProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class USCustomLogicCompilerTest {
+
+    private static final List<Map<String, Object>> SECTIONS = List.of(
+            Map.of(),
+            Map.of(
+                    "Version", 1,
+                    "Gpc", true,
+                    "SaleOptOut", 1,
+                    "SharingNotice", 2,
+                    "MspaServiceProviderMode", 0,
+                    "SensitiveDataProcessing", asList(0, 1, 2, null),
+                    "KnownChildSensitiveDataConsents", asList(1, 1)),
+            Map.of(
+                    "Version", 1,
+                    "Gpc", false,
+                    "SaleOptOut", 2,
+                    "SharingNotice", 1,
+                    "MspaServiceProviderMode", 2,
+                    "SensitiveDataProcessing", asList(2, 2, 0),
+                    "KnownChildSensitiveDataConsents", asList(0, 2)));
+
+    private final JsonLogic jsonLogic = JsonLogicProvider.jsonLogic();
+
+    private final JsonLogic fallbackJsonLogic = spy(jsonLogic);
+
+    private final USCustomLogicCompiler target = new USCustomLogicCompiler(fallbackJsonLogic);
+
+    @Test
+    public void compileShouldMatchInterpreterForBooleanLogicOverSectionFields() {
+        assertCompiledMatchesInterpreter("""
+                {"or": [
+                  {"==": [{"var": "SaleOptOut"}, 1]},
+                  {"and": [{"==": [{"var": "SharingNotice"}, 2]}, {"!=": [{"var": "MspaServiceProviderMode"}, 1]}]}
+                ]}""");
+        assertCompiledMatchesInterpreter("{\"!\": [{\"var\": \"Gpc\"}]}");
+        assertCompiledMatchesInterpreter("{\"!!\": {\"var\": \"Version\"}}");
+        assertCompiledMatchesInterpreter("{\"!\": []}");
+        assertCompiledMatchesInterpreter("{\"and\": [true, {\"var\": \"Gpc\"}]}");
+        assertCompiledMatchesInterpreter("{\"or\": [false, {\"var\": [\"Gpc\", false]}]}");
+    }
+
+    @Test
+    public void compileShouldMatchInterpreterForListFieldsSpreadToIndexedVariables() {
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SensitiveDataProcessing1\"}, 0]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SensitiveDataProcessing3\"}, 2]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SensitiveDataProcessing4\"}, null]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"SensitiveDataProcessing9\", 5]}, 5]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"SensitiveDataProcessing0\", 5]}, 5]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"SensitiveDataProcessing01\", 5]}, 5]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"SensitiveDataProcessing\", 5]}, 5]}");
+        assertCompiledMatchesInterpreter("{\"===\": [{\"var\": \"KnownChildSensitiveDataConsents2\"}, 2]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"Version2\", \"none\"]}, \"none\"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"Unknown\"}, null]}");
+    }
+
+    @Test
+    public void compileShouldMatchInterpreterForEqualityOfDifferentTypes() {
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SaleOptOut\"}, \"1\"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SaleOptOut\"}, \" 2.0 \"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": [\"SaleOptOut\", 0]}, \"\"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SaleOptOut\"}, \"abc\"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"SaleOptOut\"}, true]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"Gpc\"}, 1]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"Gpc\"}, \"\"]}");
+        assertCompiledMatchesInterpreter("{\"==\": [{\"var\": \"Gpc\"}, false]}");
+        assertCompiledMatchesInterpreter("{\"===\": [{\"var\": \"SaleOptOut\"}, 1.0]}");
+        assertCompiledMatchesInterpreter("{\"===\": [{\"var\": \"Gpc\"}, true]}");
+        assertCompiledMatchesInterpreter("{\"!==\": [{\"var\": \"SaleOptOut\"}, \"1\"]}");
+    }
+
+    @Test
+    public void compileShouldMatchInterpreterForMembership() {
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, [1, 2]]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, [\"1\", true]]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"Gpc\"}, [true]]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, \"1.0,2.0\"]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"Gpc\"}, \"true\"]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, {\"var\": [\"Version2\", \"1.0\"]}]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, {\"var\": \"Version\"}]}");
+        assertCompiledMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}]}");
+    }
+
+    @Test
+    public void compileShouldMatchInterpreterWhenResultIsNotBoolean() {
+        assertCompiledMatchesInterpreter("{\"var\": \"SaleOptOut\"}");
+        assertCompiledMatchesInterpreter("{\"or\": [{\"var\": \"SaleOptOut\"}, {\"var\": \"SharingNotice\"}]}");
+    }
+
+    @Test
+    public void compileShouldNotCallInterpreterForSupportedExpression() throws JsonLogicEvaluationException {
+        // given
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse("{\"==\": [{\"var\": \"SaleOptOut\"}, 1]}");
+
+        // when
+        final boolean result = target.compile(jsonLogicNode).test(reader(SECTIONS.get(1)));
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(fallbackJsonLogic);
+    }
+
+    @Test
+    public void compileShouldFallbackToInterpreterForNotSupportedExpression() throws JsonLogicEvaluationException {
+        // given
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse("{\">\": [{\"var\": \"SaleOptOut\"}, 0]}");
+        final USCustomLogicGppReader gppReader = reader(SECTIONS.get(1));
+
+        // when
+        final boolean result = target.compile(jsonLogicNode).test(gppReader);
+
+        // then
+        assertThat(result).isTrue();
+        verify(fallbackJsonLogic).evaluate(jsonLogicNode, USCustomLogicDataSupplier.of(gppReader).get());
+    }
+
+    @Test
+    public void compileShouldFallbackToInterpreterForNotSupportedArguments() {
+        assertMatchesInterpreter("{\"==\": [{\"var\": \"SaleOptOut\"}]}");
+        assertMatchesInterpreter("{\"and\": []}");
+        assertMatchesInterpreter("{\"==\": [{\"var\": \"Sale.OptOut\"}, null]}");
+        assertMatchesInterpreter("{\"in\": [{\"var\": \"SaleOptOut\"}, [{\"var\": \"SharingNotice\"}]]}");
+        assertMatchesInterpreter("{\"==\": [{\"+\": [{\"var\": \"SaleOptOut\"}, 1]}, 2]}");
+    }
+
+    private void assertCompiledMatchesInterpreter(String rule) {
+        assertMatchesInterpreter(rule);
+        verifyNoInteractions(fallbackJsonLogic);
+    }
+
+    private void assertMatchesInterpreter(String rule) {
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse(rule);
+        final USCustomLogicPredicate predicate = target.compile(jsonLogicNode);
+
+        for (Map<String, Object> section : SECTIONS) {
+            final USCustomLogicGppReader gppReader = reader(section);
+            final Map<String, Object> data = USCustomLogicDataSupplier.of(gppReader).get();
+
+            final boolean expected;
+            try {
+                expected = jsonLogic.evaluate(jsonLogicNode, data);
+            } catch (JsonLogicEvaluationException e) {
+                assertThatExceptionOfType(JsonLogicEvaluationException.class)
+                        .as("Rule %s over %s", rule, section)
+                        .isThrownBy(() -> predicate.test(gppReader))
+                        .withMessage(e.getMessage());
+                continue;
+            }
+
+            assertThat(test(predicate, gppReader))
+                    .as("Rule %s over %s", rule, section)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static boolean test(USCustomLogicPredicate predicate, USCustomLogicGppReader gppReader) {
+        try {
+            return predicate.test(gppReader);
+        } catch (JsonLogicEvaluationException e) {
+            throw new AssertionError("Unexpected evaluation failure: " + e.getMessage(), e);
+        }
+    }
+
+    private static USCustomLogicGppReader reader(Map<String, Object> section) {
+        final Map<String, Object> values = new HashMap<>(section);
+        values.replaceAll((key, value) -> value instanceof List<?> list ? new ArrayList<>(list) : value);
+        return mock(USCustomLogicGppReader.class,
+                invocation -> values.get(invocation.getMethod().getName().substring("get".length())));
+    }
+}
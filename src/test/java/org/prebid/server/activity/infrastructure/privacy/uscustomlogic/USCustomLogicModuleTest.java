@@ -2,22 +2,17 @@ package org.prebid.server.activity.infrastructure.privacy.uscustomlogic;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
-import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
-import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.activity.infrastructure.rule.Rule;
-import org.prebid.server.json.JsonLogic;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.prebid.server.exception.PreBidException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 
@@ -25,21 +20,17 @@ import static org.mockito.BDDMockito.given;
 public class USCustomLogicModuleTest extends VertxTest {
 
     @Mock
-    private USCustomLogicDataSupplier dataSupplier;
+    private USCustomLogicPredicate predicate;
 
     @Mock
-    private JsonLogic jsonLogic;
+    private USCustomLogicGppReader gppReader;
 
     @Test
     public void proceedShouldReturnDisallow() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
-
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(true);
+        given(predicate.test(same(gppReader))).willReturn(true);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(predicate, gppReader);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -51,13 +42,9 @@ public class USCustomLogicModuleTest extends VertxTest {
     @Test
     public void proceedShouldReturnAllow() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
-
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
+        given(predicate.test(same(gppReader))).willReturn(false);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(predicate, gppReader);
 
         // when
         final Rule.Result result = target.proceed(null);
@@ -67,15 +54,22 @@ public class USCustomLogicModuleTest extends VertxTest {
     }
 
     @Test
-    public void asLogEntryShouldReturnExpectedResult() throws JsonLogicEvaluationException {
+    public void creationShouldFailWhenPredicateFails() throws JsonLogicEvaluationException {
         // given
-        final JsonLogicNode jsonLogicNode = new JsonLogicString(StringUtils.EMPTY);
-        final Map<String, Object> data = new HashMap<>();
+        given(predicate.test(same(gppReader))).willThrow(new JsonLogicEvaluationException("Wrong type was returned."));
 
-        given(dataSupplier.get()).willReturn(data);
-        given(jsonLogic.evaluate(same(jsonLogicNode), same(data))).willReturn(false);
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> new USCustomLogicModule(predicate, gppReader))
+                .withMessage("An error occurred while evaluating the JsonLogic expression: Wrong type was returned.");
+    }
+
+    @Test
+    public void asLogEntryShouldReturnExpectedResult() throws JsonLogicEvaluationException {
+        // given
+        given(predicate.test(same(gppReader))).willReturn(false);
 
-        final USCustomLogicModule target = new USCustomLogicModule(jsonLogic, jsonLogicNode, dataSupplier);
+        final USCustomLogicModule target = new USCustomLogicModule(predicate, gppReader);
 
         // when
         final JsonNode logEntry = target.asLogEntry(mapper);
@@ -0,0 +1,109 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveTimeoutResolverTest {
+
+    @Mock
+    private Clock clock;
+
+    private AdaptiveTimeoutResolver target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new AdaptiveTimeoutResolver(0.95, 10L, 20, 50L, true, 1000L, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidQuantile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveTimeoutResolver(1.5, 10L, 20, 50L, false, 1000L, clock))
+                .withMessage("Quantile should be in (0, 1] range: 1.5");
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMinSamples() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveTimeoutResolver(0.95, 0L, 20, 50L, false, 1000L, clock))
+                .withMessage("Both min samples and min timeout should be greater than 0: "
+                        + "min-samples=0, min-timeout=50");
+    }
+
+    @Test
+    public void resolveShouldReturnGivenTimeoutWhenNotEnoughSamples() {
+        // given
+        givenLatencies("bidder", null, 9, 100L);
+
+        // when and then
+        assertThat(target.resolve("bidder", null, 500L)).isEqualTo(500L);
+    }
+
+    @Test
+    public void resolveShouldLimitTimeoutByLatencyQuantileWithHeadroom() {
+        // given
+        givenLatencies("bidder", null, 10, 100L);
+
+        // when and then
+        assertThat(target.resolve("bidder", null, 500L)).isEqualTo(120L);
+        assertThat(target.resolve("bidder", null, 110L)).isEqualTo(110L);
+        assertThat(target.resolve("otherBidder", null, 500L)).isEqualTo(500L);
+    }
+
+    @Test
+    public void resolveShouldNotLimitTimeoutBelowMinTimeout() {
+        // given
+        givenLatencies("bidder", null, 10, 10L);
+
+        // when and then
+        assertThat(target.resolve("bidder", null, 500L)).isEqualTo(50L);
+    }
+
+    @Test
+    public void resolveShouldUseRegionLatencyAndFallbackToBidderLatency() {
+        // given
+        givenLatencies("bidder", "USA", 10, 100L);
+        givenLatencies("bidder", "DEU", 10, 300L);
+        givenLatencies("bidder", "FRA", 5, 100L);
+
+        // when and then
+        assertThat(target.resolve("bidder", "USA", 500L)).isEqualTo(120L);
+        assertThat(target.resolve("bidder", "DEU", 500L)).isEqualTo(360L);
+        assertThat(target.resolve("bidder", "FRA", 500L)).isEqualTo(360L);
+        assertThat(target.resolve("bidder", null, 500L)).isEqualTo(360L);
+    }
+
+    @Test
+    public void resolveShouldRecalculateLatencyQuantileOnlyAfterRefreshInterval() {
+        // given
+        given(clock.millis()).willReturn(0L, 999L, 1000L);
+        givenLatencies("bidder", null, 10, 100L);
+
+        // when
+        final long initialTimeout = target.resolve("bidder", null, 500L);
+        givenLatencies("bidder", null, 100, 200L);
+        final long notRefreshedTimeout = target.resolve("bidder", null, 500L);
+        final long refreshedTimeout = target.resolve("bidder", null, 500L);
+
+        // then
+        assertThat(initialTimeout).isEqualTo(120L);
+        assertThat(notRefreshedTimeout).isEqualTo(120L);
+        assertThat(refreshedTimeout).isEqualTo(240L);
+    }
+
+    private void givenLatencies(String bidder, String region, int count, long latency) {
+        for (int i = 0; i < count; i++) {
+            target.recordLatency(bidder, region, latency);
+        }
+    }
+}
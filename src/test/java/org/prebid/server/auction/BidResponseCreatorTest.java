@@ -90,6 +90,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
 import org.prebid.server.proto.openrtb.ext.response.CacheAsset;
 import org.prebid.server.proto.openrtb.ext.response.Events;
+import org.prebid.server.proto.openrtb.ext.response.ExtAdaptiveTimeout;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebid;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidMeta;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebidVideo;
@@ -1979,6 +1980,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 categoryMappingService,
                 20,
                 false,
+                new DebugHttpCallsLimiter(0, 0L, metrics),
                 clock,
                 jacksonMapper,
                 metrics,
@@ -3394,6 +3396,36 @@ public class BidResponseCreatorTest extends VertxTest {
         verify(coreCacheService).cacheBidsOpenrtb(anyList(), any(), any(), any());
     }
 
+    @Test
+    public void shouldPopulateResponseDebugExtensionWithAdaptiveTimeoutsOnlyIfDebugIsEnabled() {
+        // given
+        final Bid bid = Bid.builder().id("bidId1").impid(IMP_ID).price(BigDecimal.valueOf(5.67)).build();
+        final List<BidderResponse> bidderResponses = singletonList(
+                BidderResponse.of("bidder1", givenSeatBid(BidderBid.of(bid, banner, "seat", "USD")), 100));
+        final Map<String, ExtAdaptiveTimeout> adaptiveTimeouts = singletonMap(
+                "bidder1", ExtAdaptiveTimeout.of(300L, 150L));
+
+        final AuctionContext debugAuctionContext = givenAuctionContext(
+                givenBidRequest(givenImp()),
+                builder -> builder
+                        .adaptiveTimeouts(adaptiveTimeouts)
+                        .debugContext(DebugContext.of(true, false, null))
+                        .auctionParticipations(toAuctionParticipant(bidderResponses)));
+        final AuctionContext auctionContext = givenAuctionContext(
+                givenBidRequest(givenImp()),
+                builder -> builder
+                        .adaptiveTimeouts(adaptiveTimeouts)
+                        .auctionParticipations(toAuctionParticipant(bidderResponses)));
+
+        // when
+        final BidResponse debugBidResponse = target.create(debugAuctionContext, CACHE_INFO, MULTI_BIDS).result();
+        final BidResponse bidResponse = target.create(auctionContext, CACHE_INFO, MULTI_BIDS).result();
+
+        // then
+        assertThat(debugBidResponse.getExt().getDebug().getAdaptivetimeouts()).isEqualTo(adaptiveTimeouts);
+        assertThat(bidResponse.getExt().getDebug()).isNull();
+    }
+
     @Test
     public void shouldPassIntegrationToCacheServiceAndBidEvents() {
         // given
@@ -5775,6 +5807,7 @@ public class BidResponseCreatorTest extends VertxTest {
                 categoryMappingService,
                 truncateAttrChars,
                 enforcedRandomBidId,
+                new DebugHttpCallsLimiter(0, 0L, metrics),
                 clock,
                 jacksonMapper,
                 metrics,
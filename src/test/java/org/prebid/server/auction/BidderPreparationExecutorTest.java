@@ -0,0 +1,108 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class BidderPreparationExecutorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private BidderPreparationExecutor target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        target = new BidderPreparationExecutor(vertx.createSharedWorkerExecutor("test", 2), 10, metrics);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void isParallelShouldReturnFalseWhenBiddersMultipliedByImpsIsLessThanThreshold() {
+        // when and then
+        assertThat(target.isParallel(3, 3)).isFalse();
+    }
+
+    @Test
+    public void isParallelShouldReturnFalseForSingleBidder() {
+        // when and then
+        assertThat(target.isParallel(1, 100)).isFalse();
+    }
+
+    @Test
+    public void isParallelShouldReturnTrueWhenBiddersMultipliedByImpsReachesThreshold() {
+        // when and then
+        assertThat(target.isParallel(5, 2)).isTrue();
+    }
+
+    @Test
+    public void mapAllShouldReturnResultsInItemsOrderAndUpdateMetrics() throws Exception {
+        // when
+        final Future<List<String>> result = target.mapAll(List.of(1, 2, 3), item -> "item" + item);
+
+        // then
+        assertThat(await(result)).containsExactly("item1", "item2", "item3");
+        verify(metrics, timeout(1000)).updateBidderPreparationMetrics(anyLong(), anyLong());
+    }
+
+    @Test
+    public void mapAllShouldFailWhenAnyTaskFails() {
+        // when
+        final Future<List<String>> result = target.mapAll(List.of(1, 2), item -> {
+            if (item == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return "item" + item;
+        });
+
+        // then
+        assertThatThrownBy(() -> await(result))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("failed");
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void executeShouldReturnTaskResult() throws Exception {
+        // when
+        final Future<String> result = target.execute(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(await(result)).startsWith("test");
+    }
+
+    private static <T> T await(Future<T> future)
+            throws ExecutionException, InterruptedException, TimeoutException {
+
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
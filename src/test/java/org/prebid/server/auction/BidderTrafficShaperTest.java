@@ -0,0 +1,228 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Deal;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.request.Video;
+import com.iab.openrtb.response.Bid;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderTrafficShaperTest {
+
+    private static final Account ACCOUNT = Account.empty("accountId");
+
+    @Mock
+    private Metrics metrics;
+
+    private BidderTrafficShaper target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new BidderTrafficShaper(10, 0.1, 0.0, 20, 1000, metrics);
+    }
+
+    @Test
+    public void creationShouldFailWhenWindowIsTooSmall() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderTrafficShaper(10, 0.1, 0.0, 15, 1000, metrics))
+                .withMessage("Window should be at least twice as large as min requests: min-requests=10, window=15");
+    }
+
+    @Test
+    public void shapeShouldKeepBidderWithoutEnoughStatistics() {
+        // given
+        final AuctionParticipation participation = givenParticipation("bidder", identity());
+        givenResults("bidder", identity(), 9, 0);
+        final AuctionContext auctionContext = givenAuctionContext(false, "bidder");
+
+        // when
+        final List<AuctionParticipation> result = target.shape(auctionContext, singletonList(participation));
+
+        // then
+        assertThat(result).containsExactly(participation);
+        verify(metrics, never()).updateAdapterRequestShapedMetrics(anyString(), any());
+    }
+
+    @Test
+    public void shapeShouldKeepBidderWithHighEnoughBidRate() {
+        // given
+        final AuctionParticipation participation = givenParticipation("bidder", identity());
+        givenResults("bidder", identity(), 9, 1);
+        final AuctionContext auctionContext = givenAuctionContext(false, "bidder");
+
+        // when
+        final List<AuctionParticipation> result = target.shape(auctionContext, singletonList(participation));
+
+        // then
+        assertThat(result).containsExactly(participation);
+    }
+
+    @Test
+    public void shapeShouldRejectBidderWhichDoesNotBid() {
+        // given
+        final AuctionParticipation participation = givenParticipation("bidder", identity());
+        final AuctionParticipation otherParticipation = givenParticipation("otherBidder", identity());
+        givenResults("bidder", identity(), 10, 0);
+        final AuctionContext auctionContext = givenAuctionContext(false, "bidder", "otherBidder");
+
+        // when
+        final List<AuctionParticipation> result = target.shape(
+                auctionContext, List.of(participation, otherParticipation));
+
+        // then
+        assertThat(result).containsExactly(otherParticipation);
+        assertThat(auctionContext.getBidRejectionTrackers().get("bidder").getRejectedImps())
+                .containsOnly(Map.entry("impId", Pair.of("bidder", BidRejectionReason.REQUEST_BLOCKED_OPTIMIZED)));
+        verify(metrics).updateAdapterRequestShapedMetrics("bidder", ACCOUNT);
+    }
+
+    @Test
+    public void shapeShouldTrackStatisticsPerCountryAndMediaType() {
+        // given
+        givenResults("bidder", identity(), 10, 0);
+        final AuctionContext auctionContext = givenAuctionContext(false, "bidder");
+
+        final AuctionParticipation otherCountry = givenParticipation("bidder", request -> request.toBuilder()
+                .device(Device.builder().geo(Geo.builder().country("DEU").build()).build())
+                .build());
+        final AuctionParticipation otherMediaType = givenParticipation("bidder", request -> request.toBuilder()
+                .imp(singletonList(Imp.builder().id("impId").video(Video.builder().build()).build()))
+                .build());
+
+        // when
+        final List<AuctionParticipation> result = target.shape(auctionContext, List.of(otherCountry, otherMediaType));
+
+        // then
+        assertThat(result).containsExactly(otherCountry, otherMediaType);
+    }
+
+    @Test
+    public void shapeShouldKeepBidderWithDeals() {
+        // given
+        givenResults("bidder", identity(), 10, 0);
+        final AuctionParticipation participation = givenParticipation("bidder", request -> request.toBuilder()
+                .imp(singletonList(request.getImp().getFirst().toBuilder()
+                        .pmp(Pmp.builder().deals(singletonList(Deal.builder().id("dealId").build())).build())
+                        .build()))
+                .build());
+
+        // when
+        final List<AuctionParticipation> result = target.shape(
+                givenAuctionContext(false, "bidder"), singletonList(participation));
+
+        // then
+        assertThat(result).containsExactly(participation);
+    }
+
+    @Test
+    public void shapeShouldNotRejectAnyBidderWhenDebugEnabled() {
+        // given
+        final AuctionParticipation participation = givenParticipation("bidder", identity());
+        givenResults("bidder", identity(), 10, 0);
+
+        // when
+        final List<AuctionParticipation> result = target.shape(
+                givenAuctionContext(true, "bidder"), singletonList(participation));
+
+        // then
+        assertThat(result).containsExactly(participation);
+    }
+
+    @Test
+    public void recordResultsShouldHalveStatisticsWhenWindowReached() {
+        // given
+        givenResults("bidder", identity(), 19, 1);
+        givenResults("bidder", identity(), 1, 0);
+        final AuctionParticipation participation = givenParticipation("bidder", identity());
+
+        // when
+        final List<AuctionParticipation> result = target.shape(
+                givenAuctionContext(false, "bidder"), singletonList(participation));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private void givenResults(String bidder, UnaryOperator<BidRequest> requestCustomizer, int noBids, int bids) {
+        final AuctionContext auctionContext = givenAuctionContext(false, bidder);
+        for (int i = 0; i < noBids + bids; i++) {
+            final BidderSeatBid seatBid = i < bids
+                    ? BidderSeatBid.of(singletonList(BidderBid.of(Bid.builder().build(), BidType.banner, "USD")))
+                    : BidderSeatBid.empty();
+            final AuctionParticipation participation = givenParticipation(bidder, requestCustomizer)
+                    .with(BidderResponse.of(bidder, seatBid, 100));
+
+            target.recordResults(auctionContext, singletonList(participation));
+        }
+    }
+
+    private static AuctionParticipation givenParticipation(String bidder,
+                                                           UnaryOperator<BidRequest> requestCustomizer) {
+
+        final BidRequest bidRequest = BidRequest.builder()
+                .imp(singletonList(Imp.builder().id("impId").banner(Banner.builder().build()).build()))
+                .device(Device.builder().geo(Geo.builder().country("USA").build()).build())
+                .build();
+
+        return AuctionParticipation.builder()
+                .bidder(bidder)
+                .bidderRequest(BidderRequest.builder()
+                        .bidder(bidder)
+                        .bidRequest(requestCustomizer.apply(bidRequest))
+                        .build())
+                .build();
+    }
+
+    private static AuctionContext givenAuctionContext(boolean debugEnabled, String... bidders) {
+        final Map<String, BidRejectionTracker> bidRejectionTrackers = new HashMap<>();
+        for (String bidder : bidders) {
+            bidRejectionTrackers.put(bidder, new BidRejectionTracker(bidder, Set.of("impId"), 0));
+        }
+
+        return AuctionContext.builder()
+                .account(ACCOUNT)
+                .debugContext(DebugContext.of(debugEnabled, false, null))
+                .bidRejectionTrackers(bidRejectionTrackers)
+                .build();
+    }
+
+    private static UnaryOperator<BidRequest> identity() {
+        return UnaryOperator.identity();
+    }
+}
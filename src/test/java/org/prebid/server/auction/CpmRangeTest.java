@@ -262,6 +262,26 @@ public class CpmRangeTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    public void fromCpmShouldReturnSameResultAsBigDecimalCalculationWhenRangesCannotBeCompiled() {
+        // given
+        final PriceGranularity priceGranularity = createFromExtPriceGranularity(
+                ExtPriceGranularity.of(2, singletonList(
+                        ExtGranularityRange.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(0.01)))));
+
+        // when and then
+        assertThat(priceGranularity.getBuckets()).isNull();
+        assertThat(CpmRange.fromCpm(BigDecimal.valueOf(999.999), priceGranularity, givenAccount()))
+                .isEqualTo("999.99");
+    }
+
+    @Test
+    public void formatShouldGroupIntegerDigits() {
+        assertThat(CpmRange.format(BigDecimal.valueOf(1234567.891), 2)).isEqualTo("1,234,567.89");
+        assertThat(CpmRange.format(BigDecimal.valueOf(-1234.5), 0)).isEqualTo("-1,235");
+        assertThat(CpmRange.format(BigDecimal.valueOf(123.4), null)).isEqualTo("123.40");
+    }
+
     private static Account givenAccount(AccountAuctionBidRoundingMode mode) {
         return Account.builder().auction(AccountAuctionConfig.builder().bidRounding(mode).build()).build();
     }
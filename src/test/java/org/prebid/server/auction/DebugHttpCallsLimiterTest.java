@@ -0,0 +1,185 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCallBody;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountDebugHttpCallsConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DebugHttpCallsLimiterTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private DebugHttpCallsLimiter target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new DebugHttpCallsLimiter(0, 0L, metrics);
+    }
+
+    @Test
+    public void limitShouldReturnNullForNullHttpCalls() {
+        // when and then
+        assertThat(target.limit(null, Account.empty("accountId"))).isNull();
+    }
+
+    @Test
+    public void limitShouldKeepBodiesAsIsWhenThereAreNoLimits() {
+        // given
+        final ExtHttpCall httpCall = givenHttpCall("request", "response");
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(httpCall)), Account.empty("accountId"));
+
+        // then
+        assertThat(result).containsOnly(entry("bidder", singletonList(httpCall)));
+        assertThat(result.get("bidder").getFirst()).isSameAs(httpCall);
+        verify(metrics).updateDebugHttpCallsMetrics(15L, 0L);
+    }
+
+    @Test
+    public void limitShouldApplyHostLimits() {
+        // given
+        target = new DebugHttpCallsLimiter(4, 0L, metrics);
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(givenHttpCall("request", "response"))), Account.empty("accountId"));
+
+        // then
+        assertThat(result).containsOnly(entry("bidder", singletonList(givenHttpCall("requ", "resp"))));
+        verify(metrics).updateDebugHttpCallsMetrics(8L, 7L);
+    }
+
+    @Test
+    public void limitShouldPreferAccountLimitsAndSpendTotalLimitInServiceNameOrder() {
+        // given
+        target = new DebugHttpCallsLimiter(100, 100L, metrics);
+
+        final Account account = Account.builder()
+                .id("accountId")
+                .auction(AccountAuctionConfig.builder()
+                        .debugHttpCalls(AccountDebugHttpCallsConfig.of(7, 20L))
+                        .build())
+                .build();
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of(
+                        "bidder2", singletonList(givenHttpCall("request3", "response3")),
+                        "bidder1", asList(
+                                givenHttpCall("request1", "response1"),
+                                givenHttpCall("request2", "response2"))),
+                account);
+
+        // then
+        assertThat(result).containsOnly(
+                entry("bidder1", asList(givenHttpCall("request", "respons"), givenHttpCall("reques", ""))),
+                entry("bidder2", singletonList(givenHttpCall("", ""))));
+        verify(metrics).updateDebugHttpCallsMetrics(20L, 31L);
+    }
+
+    @Test
+    public void limitShouldNotCutMultiByteCharacterInHalf() {
+        // given
+        target = new DebugHttpCallsLimiter(2, 0L, metrics);
+
+        final ExtHttpCall httpCall = ExtHttpCall.builder()
+                .requestbody(ExtHttpCallBody.of("aé".getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(httpCall)), Account.empty("accountId"));
+
+        // then
+        assertThat(result.get("bidder").getFirst().getRequestbody().render()).isEqualTo("a");
+    }
+
+    @Test
+    public void limitShouldMeasureStringBodyInUtf8Bytes() {
+        // given
+        target = new DebugHttpCallsLimiter(4, 0L, metrics);
+
+        final ExtHttpCall httpCall = ExtHttpCall.builder()
+                .responsebody(ExtHttpCallBody.of("aé\uD83D\uDE00"))
+                .build();
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(httpCall)), Account.empty("accountId"));
+
+        // then
+        assertThat(result.get("bidder").getFirst().getResponsebody().render()).isEqualTo("aé");
+        verify(metrics).updateDebugHttpCallsMetrics(4L, 3L);
+    }
+
+    @Test
+    public void limitShouldNotCutSurrogatePairOfStringBodyInHalf() {
+        // given
+        target = new DebugHttpCallsLimiter(4, 0L, metrics);
+
+        final ExtHttpCall httpCall = ExtHttpCall.builder()
+                .responsebody(ExtHttpCallBody.of("a\uD83D\uDE00"))
+                .build();
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(httpCall)), Account.empty("accountId"));
+
+        // then
+        assertThat(result.get("bidder").getFirst().getResponsebody().render()).isEqualTo("a");
+    }
+
+    @Test
+    public void limitShouldKeepBodiesComparableRegardlessOfTheirKind() {
+        // given
+        target = new DebugHttpCallsLimiter(3, 0L, metrics);
+
+        final ExtHttpCall httpCall = ExtHttpCall.builder()
+                .requestbody(ExtHttpCallBody.of("aéb".getBytes(StandardCharsets.UTF_8)))
+                .responsebody(ExtHttpCallBody.of("aéb"))
+                .build();
+
+        // when
+        final Map<String, List<ExtHttpCall>> result = target.limit(
+                Map.of("bidder", singletonList(httpCall)), Account.empty("accountId"));
+
+        // then
+        final ExtHttpCall limitedHttpCall = result.get("bidder").getFirst();
+        assertThat(limitedHttpCall.getRequestbody())
+                .isEqualTo(limitedHttpCall.getResponsebody())
+                .isEqualTo(ExtHttpCallBody.of("aé"))
+                .isEqualTo(ExtHttpCallBody.of("aé".getBytes(StandardCharsets.UTF_8)))
+                .hasSameHashCodeAs(ExtHttpCallBody.of("aé"))
+                .isNotEqualTo(ExtHttpCallBody.of("aéb"));
+    }
+
+    private static ExtHttpCall givenHttpCall(String requestBody, String responseBody) {
+        return ExtHttpCall.builder()
+                .uri("uri")
+                .requestbody(ExtHttpCallBody.of(requestBody.getBytes(StandardCharsets.UTF_8)))
+                .responsebody(ExtHttpCallBody.of(responseBody))
+                .status(200)
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.vertx.AdmissionController;
 
 import java.util.ArrayList;
 import java.util.function.UnaryOperator;
@@ -23,6 +24,7 @@ import java.util.function.UnaryOperator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 public class DebugResolverTest {
@@ -39,13 +41,13 @@ public class DebugResolverTest {
 
     @BeforeEach
     public void setUp() {
-        debugResolver = new DebugResolver(bidderCatalog, null);
+        debugResolver = new DebugResolver(bidderCatalog, null, null);
     }
 
     @Test
     public void debugContextFromShouldSetDebugEnabledAndDebugOverrideIfDebugOverrideTokenHeaderPresentInHttpRequest() {
         // given
-        debugResolver = new DebugResolver(bidderCatalog, DEBUG_OVERRIDE_TOKEN);
+        debugResolver = new DebugResolver(bidderCatalog, DEBUG_OVERRIDE_TOKEN, null);
 
         final AuctionContext auctionContext = givenAuctionContext(builder -> builder
                 .bidRequest(givenBidRequest(extPrebid -> extPrebid.debug(0))) // will be ignored
@@ -104,6 +106,25 @@ public class DebugResolverTest {
         assertThat(auctionContext.getDebugWarnings()).isEmpty();
     }
 
+    @Test
+    public void debugContextFromShouldSetDebugDisabledIfServerIsDegraded() {
+        // given
+        final AdmissionController admissionController = mock(AdmissionController.class);
+        given(admissionController.isDegraded()).willReturn(true);
+        debugResolver = new DebugResolver(bidderCatalog, null, admissionController);
+
+        final AuctionContext auctionContext = givenAuctionContext(builder -> builder
+                .bidRequest(givenBidRequest(extPrebid -> extPrebid.debug(1)))
+                .account(givenAccount(true)));
+
+        // when
+        final DebugContext result = debugResolver.debugContextFrom(auctionContext);
+
+        // then
+        assertThat(result.isDebugEnabled()).isFalse();
+        assertThat(auctionContext.getDebugWarnings()).containsExactly("Debug turned off due to server load");
+    }
+
     @Test
     public void debugContextFromShouldSetReturnAllBidStatusFlagToTrueWhenSetToTrueInBidRequestExt() {
         // given
@@ -182,7 +203,7 @@ public class DebugResolverTest {
     @Test
     public void resolveDebugForBidderShouldReturnTrueIfDebugOverridden() {
         // given
-        debugResolver = new DebugResolver(bidderCatalog, DEBUG_OVERRIDE_TOKEN);
+        debugResolver = new DebugResolver(bidderCatalog, DEBUG_OVERRIDE_TOKEN, null);
 
         final AuctionContext auctionContext = givenAuctionContext(false, true);
 
@@ -126,6 +126,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 import org.prebid.server.proto.openrtb.ext.request.ExtUserPrebid;
 import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.proto.openrtb.ext.response.ExtAdaptiveTimeout;
 import org.prebid.server.proto.openrtb.ext.response.ExtAnalytics;
 import org.prebid.server.proto.openrtb.ext.response.ExtAnalyticsTags;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebid;
@@ -155,6 +156,7 @@ import org.prebid.server.settings.model.AccountCacheConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.vertx.AdmissionController;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -202,6 +204,7 @@ import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -589,21 +592,77 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidderRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         assertThat(capturedBidRequest1.getBidRequest().getImp()).hasSize(2)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .containsOnly(1, 3);
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidderRequest capturedBidRequest2 = bidRequest2Captor.getValue();
         assertThat(capturedBidRequest2.getBidRequest().getImp()).hasSize(1)
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
     }
 
+    @Test
+    public void shouldPrepareBidderRequestsInParallelWhenAuctionIsLargeEnough() {
+        // given
+        final BidderPreparationExecutor bidderPreparationExecutor = givenParallelBidderPreparationExecutor();
+        givenTarget(false, bidderPreparationExecutor);
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(Map.of("bidder1", 1, "bidder2", 2), identity()),
+                givenImp(singletonMap("bidder1", 3), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderPreparationExecutor).mapAll(argThat(preparations -> preparations.size() == 2), any());
+
+        final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester).requestBids(
+                same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), eq(true));
+        assertThat(bidRequest1Captor.getValue().getBidRequest().getImp()).hasSize(2)
+                .extracting(imp -> imp.getExt().get("bidder").asInt())
+                .containsOnly(1, 3);
+
+        final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester).requestBids(
+                same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), eq(true));
+        assertThat(bidRequest2Captor.getValue().getBidRequest().getImp()).hasSize(1)
+                .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
+    }
+
+    @Test
+    public void shouldAddDebugWarningsOfBidderRequestsPreparedInParallel() {
+        // given
+        givenTarget(false, givenParallelBidderPreparationExecutor());
+        givenBidder(givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp(singletonMap("someBidder", 1)),
+                bidRequestBuilder -> bidRequestBuilder
+                        .site(Site.builder().build())
+                        .app(App.builder().build()));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest);
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        assertThat(auctionContext.getDebugWarnings()).containsExactly(
+                "BidRequest contains app and site. Only the first one is applicable, the others are ignored");
+    }
+
     @Test
     public void shouldSkipBidderWhenRejectedByBidderRequestHooks() {
         // given
@@ -728,8 +787,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidderRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         final ExtRequestPrebid prebid1 = capturedBidRequest1.getBidRequest().getExt().getPrebid();
@@ -740,8 +799,8 @@ public class ExchangeServiceTest extends VertxTest {
                 .containsOnly(entry("bidder", mapper.createObjectNode().put("test1", "test1")));
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue().getBidRequest();
         final ExtRequestPrebid prebid2 = capturedBidRequest2.getExt().getPrebid();
         assertThat(prebid2).isNotNull();
@@ -794,8 +853,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidRequest capturedBidRequest1 = bidRequest1Captor.getValue().getBidRequest();
         final SupplyChain requestSchain1 = capturedBidRequest1.getSource().getSchain();
         assertThat(requestSchain1).isNotNull();
@@ -803,8 +862,8 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest1.getExt().getPrebid().getSchains()).isNull();
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue().getBidRequest();
         final SupplyChain requestSchain2 = capturedBidRequest2.getSource().getSchain();
         assertThat(requestSchain2).isNotNull();
@@ -812,8 +871,8 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest2.getExt().getPrebid().getSchains()).isNull();
 
         final ArgumentCaptor<BidderRequest> bidRequest3Captor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder3), bidRequest3Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder3), bidRequest3Captor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final BidRequest capturedBidRequest3 = bidRequest3Captor.getValue().getBidRequest();
         final SupplyChain requestSchain3 = capturedBidRequest3.getSource().getSchain();
         assertThat(requestSchain3).isNotNull();
@@ -844,8 +903,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -881,8 +940,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -926,8 +985,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -962,8 +1021,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -996,8 +1055,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -1088,8 +1147,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidRequestCaptor.getValue().getStoredResponse())
                 .contains("test-second-value");
     }
@@ -1114,8 +1173,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidRequestCaptor.getValue().getBidRequest().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .contains(1);
@@ -1139,8 +1198,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidRequestCaptor.getValue().getBidRequest().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .contains(1);
@@ -1166,8 +1225,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidderRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidderRequests).hasSize(2)
@@ -1196,10 +1255,10 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
-        verify(httpBidderRequester)
-                .requestBids(same(bidderAlias), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                same(bidderAlias), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         final List<BidderRequest> capturedBidderRequests = bidRequestCaptor.getAllValues();
 
@@ -1247,6 +1306,7 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
+                anyBoolean(),
                 anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("1").price(BigDecimal.ONE).build())))));
@@ -1270,6 +1330,7 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
+                anyBoolean(),
                 anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("1").price(BigDecimal.ONE).build())))));
@@ -1293,7 +1354,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(result.getBidResponse().getSeatbid()).hasSize(2)
                 .extracting(seatBid -> seatBid.getBid().size())
                 .containsOnly(1, 1);
@@ -1303,7 +1364,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldPropagateFledgeResponseWithBidderAlias() {
         // given
         final FledgeAuctionConfig fledgeAuctionConfig = givenFledgeAuctionConfig("impId");
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenEmptySeatBid()
                         .toBuilder()
                         .fledgeAuctionConfigs(List.of(fledgeAuctionConfig))
@@ -1324,7 +1385,7 @@ public class ExchangeServiceTest extends VertxTest {
         target.holdAuction(givenRequestContext(bidRequest));
 
         verify(httpBidderRequester, times(1))
-                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         // then
         final BidRequest capturedBidRequest = captureBidRequest();
@@ -1357,7 +1418,7 @@ public class ExchangeServiceTest extends VertxTest {
         given(debugResolver.resolveDebugForBidder(any(), eq("bidder")))
                 .willReturn(true);
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true), anyBoolean()))
                 .willReturn(Future.succeededFuture(BidderSeatBid.builder()
                         .httpCalls(singletonList(ExtHttpCall.builder().build()))
                         .build()));
@@ -1366,7 +1427,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1374,7 +1435,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true), anyBoolean());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), anyMap());
@@ -1389,14 +1450,14 @@ public class ExchangeServiceTest extends VertxTest {
         final BidderSeatBid bidderSeatBid = BidderSeatBid.builder()
                 .httpCalls(singletonList(ExtHttpCall.builder().build()))
                 .build();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true), anyBoolean()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         given(bidResponseCreator.create(any(), any(), any()))
                 .willReturn(Future.succeededFuture(
                         BidResponse.builder()
                                 .ext(ExtBidResponse.builder()
-                                        .debug(ExtResponseDebug.of(null, null, null))
+                                        .debug(ExtResponseDebug.of(null, null, null, null))
                                         .build())
                                 .build()));
 
@@ -1411,7 +1472,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true), anyBoolean());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), anyMap());
@@ -1425,7 +1486,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldNotAddDebugInfoIfPublisherIsNotAllowedToDebug() {
         // given
         final BidderSeatBid bidderSeatBid = BidderSeatBid.empty();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false), anyBoolean()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -1442,7 +1503,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false), anyBoolean());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), anyMap());
@@ -1456,7 +1517,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldNotAddDebugInfoIfBidderDisabledDebug() {
         // given
         final BidderSeatBid bidderSeatBid = BidderSeatBid.empty();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false), anyBoolean()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -1473,7 +1534,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false), anyBoolean());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), anyMap());
@@ -1967,7 +2028,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                         .data(ExtRequestPrebidData.of(singletonList("someBidder"), null))
                         .build())));
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -1984,8 +2045,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidderRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -2016,7 +2077,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                         .data(ExtRequestPrebidData.of(singletonList("someBidder"), null))
                         .build())));
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -2025,8 +2086,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidderRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -2052,7 +2113,7 @@ public class ExchangeServiceTest extends VertxTest {
                         .ext(impExt)
                         .build()),
                 identity());
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -2062,7 +2123,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         assertThat(bidRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -2208,8 +2269,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2296,8 +2357,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2332,8 +2393,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2368,8 +2429,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2404,8 +2465,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2444,8 +2505,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2486,7 +2547,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2530,8 +2591,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2583,8 +2644,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2634,8 +2695,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2679,8 +2740,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2716,8 +2777,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2766,8 +2827,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2814,8 +2875,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2863,8 +2924,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2906,8 +2967,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2944,8 +3005,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -3124,7 +3185,7 @@ public class ExchangeServiceTest extends VertxTest {
         // given
         given(bidderCatalog.isValidName("someAlias")).willReturn(false);
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("impId").price(TEN).build())))));
 
@@ -3154,7 +3215,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldValidateBidsWithExtRequestPrebidAlternateBidderCodes() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSingleSeatBid(
                         givenBidderBid(Bid.builder().impid("impId").price(TEN).build()))));
 
@@ -3190,7 +3251,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldValidateBidsWithAccountAlternateBidderCodesWhenRequestOnesAreAbsent() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("impId").price(TEN).build())))));
 
@@ -3222,7 +3283,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldPopulateSoftAliasToSeatAndHardAliasToAdapterCodeWhenBidDoesNotHaveSeat() {
         // given
         given(bidderCatalog.isValidName("softAlias")).willReturn(false);
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSingleSeatBid(
                         givenBidderBid(Bid.builder().impid("impId").price(TEN).build()))));
 
@@ -3249,7 +3310,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldPopulateSeatToSeatAndActualBidderToAdapterCodeWhenBidHasSeat() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSingleSeatBid(BidderBid.of(
                         Bid.builder().impid("impId").price(TEN).build(), banner, "seat", null))));
 
@@ -3286,7 +3347,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldUseEmptyStringIfPublisherIdIsEmpty() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -3302,7 +3363,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementNoBidRequestsMetric() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -3317,7 +3378,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementGotBidsAndErrorMetricsIfBidderReturnsBidAndDifferentErrors() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(BidderSeatBid.builder()
                         .bids(singletonList(givenBidderBid(Bid.builder().impid("impId").price(TEN).build())))
                         .errors(asList(
@@ -3369,7 +3430,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseModifiedByAuctionResponseHooks() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         doAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
@@ -3412,7 +3473,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksDebugInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3480,7 +3541,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksBasicTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3574,7 +3635,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksVerboseTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3626,7 +3687,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .debugContext(DebugContext.of(false, false, TraceLevel.verbose))
                 .build();
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         // when
@@ -3659,7 +3720,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseAppliedToRequestNullIfResultImplAppliedToIsNull() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3697,7 +3758,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksDebugAndTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3746,7 +3807,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithoutHooksTraceInfoWhenNoHooksExecuted() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3770,7 +3831,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithAnalyticsTagsWhenRequested() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final ObjectNode analyticsNode = mapper.createObjectNode();
@@ -3814,7 +3875,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithWarningWhenAnalyticsTagsDisabledAndRequested() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final ObjectNode analyticsNode = mapper.createObjectNode();
@@ -4089,7 +4150,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> argumentCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), argumentCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), argumentCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
 
         assertThat(argumentCaptor.getValue())
                 .extracting(BidderRequest::getBidRequest)
@@ -4140,12 +4201,126 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
+                anyBoolean(),
                 anyBoolean());
         verify(timeoutFactory).create(anyLong(), timeoutCaptor.capture());
         assertThat(bidderRequestCaptor.getValue().getBidRequest().getTmax()).isEqualTo(400L);
         assertThat(timeoutCaptor.getAllValues()).containsExactly(450L);
     }
 
+    @Test
+    public void shouldLimitBidderTimeoutByAdaptiveTimeoutResolverWhenPresent() {
+        // given
+        final AdaptiveTimeoutResolver adaptiveTimeoutResolver = mock(AdaptiveTimeoutResolver.class);
+        given(adaptiveTimeoutResolver.resolve(eq("bidderName"), eq("USA"), eq(450L))).willReturn(300L);
+        givenTarget(false, null, adaptiveTimeoutResolver, null, null);
+
+        given(timeoutResolver.adjustForBidder(anyLong(), eq(90), anyLong(), anyLong())).willReturn(400L);
+        given(timeoutResolver.adjustForRequest(anyLong(), anyLong())).willReturn(450L);
+
+        final Bidder<?> bidder = mock(Bidder.class);
+        givenBidder("bidderName", bidder, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(
+                givenSingleImp(singletonMap("bidderName", 1)),
+                request -> request.device(Device.builder().geo(Geo.builder().country("USA").build()).build()));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest).toBuilder()
+                .adaptiveTimeouts(new HashMap<>())
+                .build();
+
+        // when
+        target.holdAuction(auctionContext);
+
+        // then
+        verify(timeoutFactory).create(anyLong(), eq(300L));
+        assertThat(captureBidRequest().getTmax()).isEqualTo(300L);
+        assertThat(auctionContext.getAdaptiveTimeouts())
+                .containsOnly(entry("bidderName", ExtAdaptiveTimeout.of(300L, 150L)));
+        verify(metrics).updateAdapterAdaptiveTimeoutMetrics("bidderName", 300L, 150L);
+        verify(adaptiveTimeoutResolver).recordLatency(eq("bidderName"), eq("USA"), anyLong());
+    }
+
+    @Test
+    public void shouldNotLetStoredResponsesAndFailedBidderRequestsChangeAdaptiveTimeout() {
+        // given
+        final AdaptiveTimeoutResolver adaptiveTimeoutResolver =
+                new AdaptiveTimeoutResolver(0.9, 1, 0, 50L, false, 0L, clock);
+        givenTarget(false, null, adaptiveTimeoutResolver, null, null);
+
+        given(timeoutResolver.adjustForBidder(anyLong(), eq(90), anyLong(), anyLong())).willReturn(400L);
+        given(timeoutResolver.adjustForRequest(anyLong(), anyLong())).willReturn(450L);
+
+        givenBidder("bidder1", mock(Bidder.class), BidderSeatBid.builder()
+                .errors(singletonList(BidderError.badInput("Invalid imp")))
+                .build());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final List<Imp> imps = givenSingleImp("impId", Map.of("bidder1", 1, "bidder2", 2));
+        given(storedResponseProcessor.getStoredResponseResult(anyList(), any()))
+                .willReturn(Future.succeededFuture(StoredResponseResult.of(
+                        imps, emptyList(), singletonMap("impId", singletonMap("bidder2", "storedResponse")))));
+
+        // when
+        target.holdAuction(givenRequestContext(givenBidRequest(imps, identity())));
+
+        // then
+        assertThat(adaptiveTimeoutResolver.resolve("bidder1", null, 450L)).isEqualTo(450L);
+        assertThat(adaptiveTimeoutResolver.resolve("bidder2", null, 450L)).isEqualTo(450L);
+    }
+
+    @Test
+    public void shouldRequestOnlyBiddersLeftByTrafficShaperAndRecordTheirResults() {
+        // given
+        final BidderTrafficShaper bidderTrafficShaper = mock(BidderTrafficShaper.class);
+        given(bidderTrafficShaper.shape(any(), anyList())).willAnswer(invocation ->
+                invocation.<List<AuctionParticipation>>getArgument(1).stream()
+                        .filter(participation -> participation.getBidder().equals("bidder2"))
+                        .toList());
+        givenTarget(false, null, null, bidderTrafficShaper, null);
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(Map.of("bidder1", 1, "bidder2", 2)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpBidderRequester, never())
+                .requestBids(same(bidder1), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+        verify(httpBidderRequester)
+                .requestBids(same(bidder2), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+        verify(bidderTrafficShaper).recordResults(
+                any(),
+                argThat(participations -> participations.size() == 1
+                        && participations.getFirst().getBidder().equals("bidder2")));
+    }
+
+    @Test
+    public void shouldLimitNumberOfBiddersWhenServerIsDegraded() {
+        // given
+        final AdmissionController admissionController = mock(AdmissionController.class);
+        given(admissionController.maxBidders()).willReturn(1);
+        givenTarget(false, null, null, null, admissionController);
+
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(Map.of("bidder1", 1, "bidder2", 2)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpBidderRequester)
+                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
+        verify(metrics).updateAdmissionMetric(MetricName.shed_bidders);
+        verify(metrics, never()).updateAdapterRequestShapedMetrics(anyString(), any());
+    }
+
     @Test
     public void shouldDropBidsWithInvalidPrice() {
         // given
@@ -4207,6 +4382,21 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenTarget(boolean enabledStrictAppSiteDoohValidation) {
+        givenTarget(enabledStrictAppSiteDoohValidation, null);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation,
+                             BidderPreparationExecutor bidderPreparationExecutor) {
+
+        givenTarget(enabledStrictAppSiteDoohValidation, bidderPreparationExecutor, null, null, null);
+    }
+
+    private void givenTarget(boolean enabledStrictAppSiteDoohValidation,
+                             BidderPreparationExecutor bidderPreparationExecutor,
+                             AdaptiveTimeoutResolver adaptiveTimeoutResolver,
+                             BidderTrafficShaper bidderTrafficShaper,
+                             AdmissionController admissionController) {
+
         target = new ExchangeService(
                 0,
                 bidderCatalog,
@@ -4232,9 +4422,25 @@ public class ExchangeServiceTest extends VertxTest {
                 clock,
                 jacksonMapper,
                 criteriaLogManager,
+                bidderPreparationExecutor,
+                adaptiveTimeoutResolver,
+                bidderTrafficShaper,
+                admissionController,
                 enabledStrictAppSiteDoohValidation);
     }
 
+    @SuppressWarnings("unchecked")
+    private static BidderPreparationExecutor givenParallelBidderPreparationExecutor() {
+        final BidderPreparationExecutor bidderPreparationExecutor = mock(BidderPreparationExecutor.class);
+        given(bidderPreparationExecutor.isParallel(anyInt(), anyInt())).willReturn(true);
+        given(bidderPreparationExecutor.mapAll(anyList(), any())).willAnswer(invocation -> {
+            final List<Object> items = invocation.getArgument(0);
+            final Function<Object, Object> task = invocation.getArgument(1);
+            return Future.succeededFuture(items.stream().map(task).toList());
+        });
+        return bidderPreparationExecutor;
+    }
+
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
         return givenRequestContext(
                 bidRequest,
@@ -4266,7 +4472,7 @@ public class ExchangeServiceTest extends VertxTest {
     private BidRequest captureBidRequest() {
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         return bidRequestCaptor.getValue().getBidRequest();
     }
 
@@ -4305,13 +4511,14 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenBidder(BidderSeatBid response) {
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(response));
     }
 
     private void givenBidder(String bidderName, Bidder<?> bidder, BidderSeatBid response) {
         doReturn(bidder).when(bidderCatalog).bidderByName(eq(bidderName));
-        given(httpBidderRequester.requestBids(same(bidder), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(
+                same(bidder), any(), any(), any(), any(), any(), anyBoolean(), anyBoolean()))
                 .willReturn(Future.succeededFuture(response));
     }
 
@@ -4425,8 +4632,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
-        verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(
+                any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), anyBoolean());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
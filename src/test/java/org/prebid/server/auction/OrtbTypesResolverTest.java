@@ -4,10 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -560,6 +562,66 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void decodeBidRequestShouldReturnSameRequestAndWarningsAsNormalizeBidRequest() throws IOException {
+        // given
+        final ObjectNode fpdUser = mapper.createObjectNode();
+        fpdUser.set("gender", array("gender1", "gender2"));
+        fpdUser.set("data", obj("fpdData", "data_value"));
+
+        final ObjectNode configNode = mapper.createObjectNode();
+        configNode.set("fpd", obj("user", fpdUser));
+        configNode.set("ortb2", obj("site", obj("keywords", array("ortb_keyword1", "ortb_keyword2"))));
+
+        final ObjectNode user = mapper.createObjectNode();
+        user.set("gender", array("male", "female"));
+        user.set("keywords", array("keyword1", "keyword2"));
+        user.set("data", obj("dataKey", "dataValue"));
+
+        final ObjectNode site = mapper.createObjectNode();
+        site.set("page", array("page1", "page2"));
+        site.set("ext", obj("data", obj("extDataKey", "extDataValue")));
+        site.set("data", obj("dataKey", "dataValue"));
+
+        // bidder configs go first to check warnings order does not depend on fields order
+        final ObjectNode requestNode = obj("ext", obj("prebid", obj("bidderconfig", array(obj("config", configNode)))));
+        requestNode.put("id", "requestId");
+        requestNode.set("imp", array(obj("id", "impId")));
+        requestNode.set("site", site);
+        requestNode.put("app", "app");
+        requestNode.set("user", user);
+
+        final String body = mapper.writeValueAsString(requestNode);
+        final List<String> treeWarnings = new ArrayList<>();
+        ortbTypesResolver.normalizeBidRequest(requestNode, treeWarnings, "referer");
+
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest(body, warnings, "referer");
+
+        // then
+        assertThat(result).isEqualTo(mapper.treeToValue(requestNode, BidRequest.class));
+        assertThat(result.getUser().getGender()).isEqualTo("male");
+        assertThat(result.getSite().getPage()).isEqualTo("page1");
+        assertThat(result.getApp()).isNull();
+        assertThat(warnings).hasSize(6).isEqualTo(treeWarnings);
+    }
+
+    @Test
+    public void decodeBidRequestShouldWarnAboutNullUser() throws IOException {
+        // given
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        final BidRequest result = ortbTypesResolver.decodeBidRequest("{\"id\":\"id\",\"user\":null}", warnings, null);
+
+        // then
+        assertThat(result).isEqualTo(BidRequest.builder().id("id").build());
+        assertThat(warnings).containsExactly(
+                "WARNING: bidrequest.user field ignored. Expected type is object, but was `NULL`.");
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
@@ -0,0 +1,93 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceBucketsTest {
+
+    @Test
+    public void compileShouldReturnNullIfRangesAreNotSorted() {
+        // given
+        final List<ExtGranularityRange> ranges = asList(
+                ExtGranularityRange.of(BigDecimal.valueOf(10), BigDecimal.valueOf(0.1)),
+                ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.05)));
+
+        // when and then
+        assertThat(PriceBuckets.compile(ranges, BigDecimal.valueOf(10), 2)).isNull();
+    }
+
+    @Test
+    public void compileShouldReturnNullIfIncrementIsFinerThanMicro() {
+        // given
+        final List<ExtGranularityRange> ranges = singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(5), new BigDecimal("0.0000001")));
+
+        // when and then
+        assertThat(PriceBuckets.compile(ranges, BigDecimal.valueOf(5), 2)).isNull();
+    }
+
+    @Test
+    public void compileShouldReturnNullIfTooManyBuckets() {
+        // given
+        final List<ExtGranularityRange> ranges = singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(0.01)));
+
+        // when and then
+        assertThat(PriceBuckets.compile(ranges, BigDecimal.valueOf(1000), 2)).isNull();
+    }
+
+    @Test
+    public void textShouldReturnBucketForEachRoundingMode() {
+        // given
+        final PriceBuckets buckets = PriceGranularity.createFromString("dense").getBuckets();
+
+        // when and then
+        assertThat(buckets.text(BigDecimal.valueOf(3.07), RoundingMode.FLOOR)).isEqualTo("3.05");
+        assertThat(buckets.text(BigDecimal.valueOf(3.07), RoundingMode.CEILING)).isEqualTo("3.10");
+        assertThat(buckets.text(BigDecimal.valueOf(3.07), RoundingMode.HALF_UP)).isEqualTo("3.05");
+        assertThat(buckets.text(BigDecimal.valueOf(3.075), RoundingMode.HALF_UP)).isEqualTo("3.10");
+    }
+
+    @Test
+    public void textShouldReturnRangesMaxIfCpmExceedsIt() {
+        // given
+        final PriceBuckets buckets = PriceGranularity.createFromString("auto").getBuckets();
+
+        // when and then
+        assertThat(buckets.text(BigDecimal.valueOf(25), RoundingMode.FLOOR)).isEqualTo("20.00");
+    }
+
+    @Test
+    public void textShouldResolveCpmWithSubMicroFraction() {
+        // given
+        final PriceBuckets buckets = PriceGranularity.createFromString("auto").getBuckets();
+
+        // when and then
+        assertThat(buckets.text(new BigDecimal("5.00000001"), RoundingMode.FLOOR)).isEqualTo("5.00");
+        assertThat(buckets.text(new BigDecimal("5.00000001"), RoundingMode.CEILING)).isEqualTo("5.10");
+        assertThat(buckets.text(new BigDecimal("5.00000001"), RoundingMode.HALF_UP)).isNull();
+    }
+
+    @Test
+    public void valueShouldMatchBigDecimalCalculationForCustomRanges() {
+        // given
+        final List<ExtGranularityRange> ranges = asList(
+                ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.3)),
+                ExtGranularityRange.of(BigDecimal.valueOf(10), BigDecimal.valueOf(1)));
+        final PriceBuckets buckets = PriceBuckets.compile(ranges, BigDecimal.valueOf(10), 2);
+
+        // when and then
+        assertThat(buckets.value(BigDecimal.valueOf(4.95), RoundingMode.CEILING))
+                .isEqualTo(new BigDecimal("5.1"));
+        assertThat(buckets.value(BigDecimal.valueOf(7.5), RoundingMode.FLOOR))
+                .isEqualTo(BigDecimal.valueOf(7));
+    }
+}
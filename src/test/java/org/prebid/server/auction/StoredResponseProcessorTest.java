@@ -862,6 +862,26 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldReuseParsedSeatBidsForSameStoredResponseInstance()
+            throws JsonProcessingException {
+
+        // given
+        final Map<String, String> storedResponse = singletonMap("id", mapper.writeValueAsString(singletonList(
+                SeatBid.builder().seat("seat").bid(singletonList(Bid.builder().id("id1").build())).build())));
+
+        given(applicationSettings.getStoredResponses(any(), any())).willReturn(
+                Future.succeededFuture(StoredResponseDataResult.of(storedResponse, emptyList())));
+
+        // when
+        final Future<StoredResponseResult> first = target.getStoredResponseResult("id", timeout);
+        final Future<StoredResponseResult> second = target.getStoredResponseResult("id", timeout);
+
+        // then
+        assertThat(second.result().getAuctionStoredResponse().getFirst().getBid().getFirst())
+                .isSameAs(first.result().getAuctionStoredResponse().getFirst().getBid().getFirst());
+    }
+
     @Test
     public void getStoredResponseResultShouldFailWhenReturnNullableStoredResponse() {
         // given
@@ -27,7 +27,7 @@ public class BidderAliasesTest {
     @BeforeEach
     public void before() {
         given(bidderCatalog.isValidName(any())).willReturn(false);
-        given(bidderCatalog.isActive(any())).willReturn(false);
+        given(bidderCatalog.activeVendorIdByName(any())).willReturn(null);
     }
 
     @Test
@@ -156,8 +156,7 @@ public class BidderAliasesTest {
     @Test
     public void resolveAliasVendorIdShouldReturnVendorIdFromBidderCatalogWhenNoVendorIdsInRequest() {
         // given
-        given(bidderCatalog.isActive("alias")).willReturn(true);
-        given(bidderCatalog.vendorIdByName("alias")).willReturn(3);
+        given(bidderCatalog.activeVendorIdByName("alias")).willReturn(3);
         final BidderAliases aliases = BidderAliases.of(null, null, bidderCatalog);
 
         // when and then
@@ -176,8 +175,7 @@ public class BidderAliasesTest {
     @Test
     public void resolveAliasVendorIdShouldReturnVendorIdFromBidderCatalogWhenVendorIdIsNotDefinedInRequest() {
         // given
-        given(bidderCatalog.isActive("alias")).willReturn(true);
-        given(bidderCatalog.vendorIdByName("alias")).willReturn(3);
+        given(bidderCatalog.activeVendorIdByName("alias")).willReturn(3);
         final BidderAliases aliases = BidderAliases.of(null, singletonMap("anotherAlias", 2), bidderCatalog);
 
         // when and then
@@ -187,8 +185,7 @@ public class BidderAliasesTest {
     @Test
     public void resolveAliasVendorIdShouldReturnVendorIdFromBidderCatalogWhenVendorIdIsInRequest() {
         // given
-        given(bidderCatalog.isActive("alias")).willReturn(true);
-        given(bidderCatalog.vendorIdByName("alias")).willReturn(3);
+        given(bidderCatalog.activeVendorIdByName("alias")).willReturn(3);
         final BidderAliases aliases = BidderAliases.of(null, singletonMap("alias", 2), bidderCatalog);
 
         // when and then
@@ -0,0 +1,83 @@
+package org.prebid.server.auction.gpp.model;
+
+import com.iab.gpp.encoder.GppModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class GppModelCacheTest {
+
+    private static final String GPP_STRING = "DBABMA~CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA";
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void gppModelShouldReturnSameDecodedModelForSameGppString() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+
+        // when
+        final GppModel first = target.gppModel(GPP_STRING);
+        final GppModel second = target.gppModel(GPP_STRING);
+
+        // then
+        assertThat(first).isInstanceOf(GppModelWrapper.class).isSameAs(second);
+        assertThat(first.getSectionIds()).containsExactly(2);
+
+        verify(metrics).updatePrivacyGppCacheMetric(false);
+        verify(metrics).updatePrivacyGppCacheMetric(true);
+        verify(metrics).updatePrivacyGppDecodeTimeMetric(anyLong());
+    }
+
+    @Test
+    public void gppModelShouldDecodeGppStringEveryTimeWhenCacheIsDisabled() {
+        // given
+        final GppModelCache target = new GppModelCache(0, metrics);
+
+        // when
+        final GppModel first = target.gppModel(GPP_STRING);
+        final GppModel second = target.gppModel(GPP_STRING);
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        verify(metrics, times(2)).updatePrivacyGppDecodeTimeMetric(anyLong());
+    }
+
+    @Test
+    public void gppModelShouldReturnNullForEmptyGppString() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+
+        // when and then
+        assertThat(target.gppModel("")).isNull();
+        assertThat(target.gppModel(null)).isNull();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void gppModelShouldNotCacheInvalidGppString() {
+        // given
+        final GppModelCache target = new GppModelCache(10, metrics);
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.gppModel("invalid"))
+                .withMessage("GPP string invalid: Unable to decode 'invalid'");
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> target.gppModel("invalid"));
+
+        verify(metrics, times(2)).updatePrivacyGppCacheMetric(false);
+    }
+}
@@ -3,14 +3,18 @@ package org.prebid.server.auction.gpp.model;
 import com.iab.gpp.encoder.GppModel;
 import com.iab.gpp.encoder.error.DecodingException;
 import com.iab.gpp.encoder.error.EncodingException;
+import com.iab.gpp.encoder.field.UsNatField;
 import com.iab.gpp.encoder.section.HeaderV1;
 import com.iab.gpp.encoder.section.TcfEuV2;
+import com.iab.gpp.encoder.section.UsNat;
 import com.iab.gpp.encoder.section.UspV1;
 import org.junit.jupiter.api.Test;
 
 import java.util.Comparator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class GppModelWrapperTest {
 
@@ -48,6 +52,42 @@ public class GppModelWrapperTest {
         assertThat(wrappedGpp.encodeSection(UspV1.ID)).isEqualTo(originalGpp.encodeSection(UspV1.ID));
     }
 
+    @Test
+    public void getSectionShouldReturnDecodedSection() {
+        // given
+        final GppModel originalGpp = new GppModel();
+        originalGpp.setFieldValue(UsNat.NAME, UsNatField.SALE_OPT_OUT, 1);
+        originalGpp.setFieldValue(UsNat.NAME, UsNatField.SENSITIVE_DATA_PROCESSING, List.of(
+                0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0));
+        originalGpp.setFieldValue(UsNat.NAME, UsNatField.GPC, true);
+
+        // when
+        final GppModel wrappedGpp = new GppModelWrapper(originalGpp.encode());
+
+        // then
+        final UsNat usNat = wrappedGpp.getUsNatSection();
+        assertThat(usNat.getSaleOptOut()).isEqualTo(1);
+        assertThat(usNat.getSensitiveDataProcessing()).containsExactly(0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0);
+        assertThat(usNat.getGpc()).isTrue();
+        assertThat(wrappedGpp.getFieldValue(UsNat.NAME, UsNatField.SALE_OPT_OUT)).isEqualTo(1);
+        assertThat(wrappedGpp.getTcfEuV2Section()).isNull();
+    }
+
+    @Test
+    public void modificationShouldBeRejected() {
+        // given
+        final GppModel wrappedGpp = new GppModelWrapper(GPP_STRING);
+
+        // when and then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> wrappedGpp.setFieldValue(UspV1.ID, "OptOutSale", 1));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> wrappedGpp.deleteSection(UspV1.ID));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> wrappedGpp.decode(GPP_STRING));
+        assertThat(wrappedGpp.encodeSection(UspV1.ID)).isEqualTo("1YN-");
+    }
+
     public static String normalizeEncodedTcfEuV2Section(String encodedSection) {
         try {
             final GppModel normalizer = new GppModel();
@@ -58,6 +58,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidData;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidDataEidPermissions;
 import org.prebid.server.settings.model.Account;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +77,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -203,6 +205,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
         target = new AuctionRequestFactory(
                 Integer.MAX_VALUE,
+                false,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 ortbVersionConversionManager,
@@ -239,6 +242,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         // given
         target = new AuctionRequestFactory(
                 1,
+                false,
                 ortb2RequestFactory,
                 storedRequestProcessor,
                 ortbVersionConversionManager,
@@ -566,6 +570,41 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldDecodeBidRequestByOrtbFieldsResolverWhenStreamingRequestParsingEnabled() throws IOException {
+        // given
+        givenStreamingRequestParsing();
+
+        final BidRequest bidRequest = BidRequest.builder().id("id").build();
+        givenValidBidRequest(bidRequest);
+        given(ortbTypesResolver.decodeBidRequest(any(), any(), any())).willReturn(bidRequest);
+
+        // when
+        target.parseRequest(routingContext, 0L).result();
+
+        // then
+        verify(ortbTypesResolver).decodeBidRequest(eq(bidRequestToString(bidRequest)), any(), any());
+        verify(ortbTypesResolver, never()).normalizeBidRequest(any(), any(), any());
+    }
+
+    @Test
+    public void shouldReturnFailedFutureIfOrtbFieldsResolverCouldNotDecodeBidRequest() throws IOException {
+        // given
+        givenStreamingRequestParsing();
+
+        given(requestBody.asString()).willReturn("body");
+        given(ortbTypesResolver.decodeBidRequest(any(), any(), any())).willThrow(new IOException("error"));
+
+        // when
+        final Future<?> future = target.parseRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Error decoding bidRequest: error");
+    }
+
     @Test
     public void shouldReturnFailedFutureIfOrtb2RequestFactoryReturnedFailedFuture() {
         // given
@@ -802,6 +841,26 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .isEqualTo(10000L);
     }
 
+    private void givenStreamingRequestParsing() {
+        target = new AuctionRequestFactory(
+                Integer.MAX_VALUE,
+                true,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                ortbVersionConversionManager,
+                auctionGppService,
+                cookieDeprecationService,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                auctionPrivacyContextFactory,
+                debugResolver,
+                jacksonMapper,
+                geoLocationServiceWrapper,
+                bidAdjustmentsEnricher);
+    }
+
     private void givenBidRequest(BidRequest bidRequest) {
         try {
             given(requestBody.asString()).willReturn(mapper.writeValueAsString(bidRequest));
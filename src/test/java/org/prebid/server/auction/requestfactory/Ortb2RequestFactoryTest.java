@@ -587,6 +587,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 .debugContext(DebugContext.empty())
                 .requestRejected(false)
                 .debugHttpCalls(emptyMap())
+                .adaptiveTimeouts(emptyMap())
                 .bidRejectionTrackers(new HashMap<>())
                 .build());
     }
@@ -387,6 +387,74 @@ public class BidderCatalogTest {
         assertThat(target.nameByVendorId(99)).isEqualTo("BIDder");
     }
 
+    @Test
+    public void activeVendorIdByNameShouldReturnVendorIdForActiveBidderIgnoringCase() {
+        // given
+        final BidderInfo bidderInfo = BidderInfo.create(
+                true,
+                null,
+                true,
+                null,
+                null,
+                "test@email.com",
+                singletonList(MediaType.BANNER),
+                singletonList(MediaType.VIDEO),
+                singletonList(MediaType.AUDIO),
+                null,
+                99,
+                null,
+                true,
+                false,
+                CompressionType.NONE,
+                Ortb.of(false),
+                0L);
+
+        final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("BIDder")
+                .deprecatedNames(emptyList())
+                .bidder(bidder)
+                .bidderInfo(bidderInfo)
+                .build()));
+        target = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(target.activeVendorIdByName("bidDER")).isEqualTo(99);
+    }
+
+    @Test
+    public void activeVendorIdByNameShouldReturnNullForDisabledBidder() {
+        // given
+        final BidderInfo bidderInfo = BidderInfo.create(
+                false,
+                null,
+                true,
+                null,
+                null,
+                "test@email.com",
+                singletonList(MediaType.BANNER),
+                singletonList(MediaType.VIDEO),
+                singletonList(MediaType.AUDIO),
+                null,
+                99,
+                null,
+                true,
+                false,
+                CompressionType.NONE,
+                Ortb.of(false),
+                0L);
+
+        final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("BIDder")
+                .deprecatedNames(emptyList())
+                .bidder(bidder)
+                .bidderInfo(bidderInfo)
+                .build()));
+        target = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(target.activeVendorIdByName("bidDER")).isNull();
+    }
+
     @Test
     public void bidderByNameShouldReturnNullForUnknownBidder() {
         // given
@@ -21,6 +21,7 @@ import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.BidderPreparationExecutor;
 import org.prebid.server.auction.aliases.BidderAliases;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
@@ -37,6 +38,7 @@ import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
+import org.prebid.server.proto.openrtb.ext.response.ExtHttpCallBody;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
@@ -49,6 +51,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
@@ -72,6 +75,7 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -119,7 +123,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, null, 0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -155,6 +159,41 @@ public class HttpBidderRequesterTest extends VertxTest {
         verifyNoInteractions(bidRejectionTracker);
     }
 
+    @Test
+    public void shouldMakeHttpRequestsOnBidderPreparationExecutorWhenParallelPreparationRequested() {
+        // given
+        final BidderPreparationExecutor bidderPreparationExecutor = mock(BidderPreparationExecutor.class);
+        given(bidderPreparationExecutor.execute(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.<Callable<?>>getArgument(0).call()));
+        target = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, bidderPreparationExecutor, 0.0);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(emptyList(),
+                singletonList(BidderError.badInput("error"))));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                target.requestBids(
+                                bidder,
+                                bidderRequest,
+                                bidRejectionTracker,
+                                timeout,
+                                CaseInsensitiveMultiMap.empty(),
+                                bidderAliases,
+                                false,
+                                true)
+                        .result();
+
+        // then
+        verify(bidderPreparationExecutor).execute(any());
+        assertThat(bidderSeatBid.getErrors()).containsOnly(BidderError.badInput("error"));
+    }
+
     @Test
     public void shouldTolerateBidderReturningErrorsAndNoHttpRequests() {
         // given
@@ -558,6 +597,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 bidderErrorNotifier,
                 requestEnricher,
                 jacksonMapper,
+                null,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
@@ -730,15 +770,15 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).containsExactlyInAnyOrder(
                 ExtHttpCall.builder()
                         .uri("uri1")
-                        .requestbody(mapper.writeValueAsString(firstBidRequest))
-                        .responsebody("responseBody1")
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(firstBidRequest)))
+                        .responsebody(ExtHttpCallBody.of("responseBody1"))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .status(200)
                         .build(),
                 ExtHttpCall.builder()
                         .uri("uri2")
-                        .requestbody(mapper.writeValueAsString(secondBidRequest))
-                        .responsebody("responseBody2")
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(secondBidRequest)))
+                        .responsebody(ExtHttpCallBody.of("responseBody2"))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .status(200)
                         .build());
@@ -897,7 +937,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).containsExactly(
                 ExtHttpCall.builder()
                         .uri("uri1")
-                        .requestbody(mapper.writeValueAsString(givenBidRequest))
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(givenBidRequest)))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .build());
 
@@ -945,7 +985,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).containsExactly(
                 ExtHttpCall.builder()
                         .uri("uri1")
-                        .requestbody(mapper.writeValueAsString(givenBidRequest))
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(givenBidRequest)))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .build());
 
@@ -993,8 +1033,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).containsExactly(
                 ExtHttpCall.builder()
                         .uri("uri1")
-                        .requestbody(mapper.writeValueAsString(givenBidRequest))
-                        .responsebody("responseBody1")
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(givenBidRequest)))
+                        .responsebody(ExtHttpCallBody.of("responseBody1"))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .status(500).build());
 
@@ -1046,8 +1086,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         assertThat(bidderSeatBid.getHttpCalls()).containsExactly(
                 ExtHttpCall.builder()
                         .uri("uri1")
-                        .requestbody(mapper.writeValueAsString(givenBidRequest))
-                        .responsebody("responseBody1")
+                        .requestbody(ExtHttpCallBody.of(mapper.writeValueAsString(givenBidRequest)))
+                        .responsebody(ExtHttpCallBody.of("responseBody1"))
                         .requestheaders(singletonMap("headerKey", singletonList("headerValue")))
                         .status(503).build());
 
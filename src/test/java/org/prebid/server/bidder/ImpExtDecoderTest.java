@@ -0,0 +1,103 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.grid.model.request.ExtImp;
+import org.prebid.server.proto.openrtb.ext.request.grid.ExtImpGrid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class ImpExtDecoderTest extends VertxTest {
+
+    private ImpExtDecoder<ExtImpGrid> target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ImpExtDecoder<>(jacksonMapper, ExtImpGrid.class);
+    }
+
+    @Test
+    public void decodeShouldReturnTypedBidderParams() {
+        // when
+        final ExtImpGrid result = target.decode(givenExt(1, "tid1"));
+
+        // then
+        assertThat(result).isEqualTo(ExtImpGrid.of(1, null));
+    }
+
+    @Test
+    public void decodeShouldReturnSameParamsForEqualBidderNodesRegardlessOfOtherFields() {
+        // when
+        final ExtImpGrid first = target.decode(givenExt(1, "tid1"));
+        final ExtImpGrid second = target.decode(givenExt(1, "tid2"));
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void decodeShouldNotBeAffectedByModificationOfDecodedExt() {
+        // given
+        final ObjectNode ext = givenExt(1, "tid");
+        final ExtImpGrid first = target.decode(ext);
+
+        // when
+        ((ObjectNode) ext.get("bidder")).put("uid", 2);
+        final ExtImpGrid modified = target.decode(ext);
+        final ExtImpGrid original = target.decode(givenExt(1, "tid"));
+
+        // then
+        assertThat(modified).isEqualTo(ExtImpGrid.of(2, null));
+        assertThat(original).isSameAs(first);
+    }
+
+    @Test
+    public void decodeShouldReturnNullForNullExtOrAbsentBidder() {
+        // when and then
+        assertThat(target.decode(null)).isNull();
+        assertThat(target.decode(mapper.createObjectNode().put("tid", "tid"))).isNull();
+    }
+
+    @Test
+    public void decodeShouldFailWhenBidderCannotBeConverted() {
+        // given
+        final ObjectNode ext = mapper.createObjectNode().put("bidder", "invalid");
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(ext));
+    }
+
+    @Test
+    public void decodeShouldCombineOtherFieldsWithCachedBidderParams() {
+        // given
+        final ExtImpGrid params = target.decode(givenExt(1, "tid1"));
+
+        // when
+        final ExtImp result = target.decode(givenExt(1, "tid2").put("gpid", "gpid"), ExtImp.class,
+                (extImp, bidder) -> extImp.toBuilder().bidder(bidder).build());
+
+        // then
+        assertThat(result).isEqualTo(ExtImp.builder().bidder(params).gpid("gpid").build());
+        assertThat(result.getBidder()).isSameAs(params);
+    }
+
+    @Test
+    public void decodeShouldFailWhenOtherFieldsCannotBeConverted() {
+        // given
+        final ObjectNode ext = givenExt(1, "tid");
+        ext.putArray("gpid").add(1);
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> target.decode(ext, ExtImp.class,
+                (extImp, bidder) -> extImp.toBuilder().bidder(bidder).build()));
+    }
+
+    private static ObjectNode givenExt(Integer uid, String tid) {
+        final ObjectNode ext = mapper.createObjectNode().put("tid", tid);
+        ext.putObject("bidder").put("uid", uid);
+        return ext;
+    }
+}
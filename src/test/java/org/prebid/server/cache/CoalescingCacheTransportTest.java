@@ -0,0 +1,271 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class CoalescingCacheTransportTest extends VertxTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Context context;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private CoalescingCacheTransport target;
+
+    @BeforeEach
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        willAnswer(invocation -> {
+            invocation.<Handler<Void>>getArgument(0).handle(null);
+            return null;
+        }).given(context).runOnContext(any());
+
+        target = new CoalescingCacheTransport(
+                vertx,
+                httpClient,
+                "http://cache-service/cache",
+                HttpUtil.headers(),
+                true,
+                5L,
+                3,
+                metrics,
+                Clock.fixed(Instant.now(), ZoneId.systemDefault()),
+                jacksonMapper);
+    }
+
+    @Test
+    public void putShouldSendCompressedRequestWhenWindowEnds() throws IOException {
+        // given
+        givenHttpClientReturnsResponse(200, givenCacheResponse("uuid1"));
+
+        // when
+        final Future<HttpClientResponse> result = target.put(givenCacheRequest("key1"), 100L);
+        endWindow();
+
+        // then
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(
+                eq(HttpMethod.POST),
+                eq("http://cache-service/cache"),
+                headersCaptor.capture(),
+                bodyCaptor.capture(),
+                eq(100L));
+
+        assertThat(headersCaptor.getValue().get(HttpUtil.CONTENT_ENCODING_HEADER)).isEqualTo("gzip");
+        assertThat(gunzip(bodyCaptor.getValue()).getPuts())
+                .extracting(BidPutObject::getKey)
+                .containsExactly("key1");
+        assertThat(result.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+        verify(metrics).updateCacheTransportMetrics(bodyCaptor.getValue().length, 1);
+    }
+
+    @Test
+    public void putShouldSendPutsOfAllCallersAsOneRequestAndSplitResponseBetweenThem() throws IOException {
+        // given
+        givenHttpClientReturnsResponse(200, givenCacheResponse("uuid1", "uuid2"));
+
+        // when
+        final Future<HttpClientResponse> firstResult = target.put(givenCacheRequest("key1"), 100L);
+        final Future<HttpClientResponse> secondResult = target.put(givenCacheRequest("key2"), 50L);
+        endWindow();
+
+        // then
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(any(), any(), any(), bodyCaptor.capture(), eq(100L));
+        assertThat(gunzip(bodyCaptor.getValue()).getPuts())
+                .extracting(BidPutObject::getKey)
+                .containsExactly("key1", "key2");
+
+        assertThat(firstResult.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+        assertThat(secondResult.result().getBody()).isEqualTo(givenCacheResponse("uuid2"));
+        verify(metrics).updateCacheTransportMetrics(bodyCaptor.getValue().length, 2);
+    }
+
+    @Test
+    public void putShouldPassResponseAsIsToAllCallersWhenResponseDoesNotMatchPuts() {
+        // given
+        givenHttpClientReturnsResponse(200, givenCacheResponse("uuid1"));
+
+        // when
+        final Future<HttpClientResponse> firstResult = target.put(givenCacheRequest("key1"), 100L);
+        final Future<HttpClientResponse> secondResult = target.put(givenCacheRequest("key2"), 100L);
+        endWindow();
+
+        // then
+        assertThat(firstResult.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+        assertThat(secondResult.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+    }
+
+    @Test
+    public void putShouldSendRequestBeforeWindowEndsWhenMaxPutsReached() {
+        // given
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+        givenHttpClientReturnsResponse(200, givenCacheResponse("uuid1", "uuid2", "uuid3"));
+
+        // when
+        target.put(givenCacheRequest("key1"), 100L);
+        final Future<HttpClientResponse> result = target.put(givenCacheRequest("key2", "key3"), 100L);
+
+        // then
+        verify(vertx).cancelTimer(1L);
+        assertThat(result.result().getBody()).isEqualTo(givenCacheResponse("uuid2", "uuid3"));
+    }
+
+    @Test
+    public void putShouldFailCallerByItsOwnDeadlineWhileOthersWaitForResponse() {
+        // given
+        final Promise<HttpClientResponse> responsePromise = Promise.promise();
+        given(httpClient.request(any(), any(), any(), any(byte[].class), anyLong()))
+                .willReturn(responsePromise.future());
+        given(vertx.setTimer(anyLong(), any())).willReturn(2L);
+
+        // when
+        final Future<HttpClientResponse> firstResult = target.put(givenCacheRequest("key1"), 100L);
+        final Future<HttpClientResponse> secondResult = target.put(givenCacheRequest("key2"), 50L);
+        endWindow();
+        fireTimer(50L);
+        responsePromise.complete(HttpClientResponse.of(200, null, givenCacheResponse("uuid1", "uuid2")));
+
+        // then
+        verify(httpClient).request(any(), any(), any(), any(byte[].class), eq(100L));
+        assertThat(secondResult.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(firstResult.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+        verify(vertx).cancelTimer(2L);
+    }
+
+    @Test
+    public void putShouldIgnoreTimerOfWindowAlreadySentOnMaxPuts() {
+        // given
+        givenHttpClientReturnsResponse(200, givenCacheResponse("uuid1"));
+
+        // when
+        target.put(givenCacheRequest("key1"), 100L);
+        target.put(givenCacheRequest("key2", "key3"), 100L);
+        final Future<HttpClientResponse> result = target.put(givenCacheRequest("key4"), 100L);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> handlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, times(2)).setTimer(eq(5L), handlerCaptor.capture());
+        handlerCaptor.getAllValues().getFirst().handle(1L);
+
+        // then
+        verify(httpClient).request(any(), any(), any(), any(byte[].class), anyLong());
+        assertThat(result.isComplete()).isFalse();
+
+        // when
+        handlerCaptor.getAllValues().getLast().handle(2L);
+
+        // then
+        verify(httpClient, times(2)).request(any(), any(), any(), any(byte[].class), anyLong());
+        assertThat(result.result().getBody()).isEqualTo(givenCacheResponse("uuid1"));
+    }
+
+    @Test
+    public void putShouldFailWithoutSendingRequestWhenTimeoutExceeded() {
+        // when
+        final Future<HttpClientResponse> result = target.put(givenCacheRequest("key1"), 0L);
+        endWindow();
+
+        // then
+        assertThat(result.cause()).isInstanceOf(TimeoutException.class);
+        verifyNoInteractions(httpClient);
+        verify(metrics, never()).updateCacheTransportMetrics(anyInt(), anyInt());
+    }
+
+    @Test
+    public void putShouldFailAllCallersWhenRequestFails() {
+        // given
+        given(httpClient.request(any(), any(), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("Request exception")));
+
+        // when
+        final Future<HttpClientResponse> firstResult = target.put(givenCacheRequest("key1"), 100L);
+        final Future<HttpClientResponse> secondResult = target.put(givenCacheRequest("key2"), 100L);
+        endWindow();
+
+        // then
+        assertThat(firstResult.cause()).hasMessage("Request exception");
+        assertThat(secondResult.cause()).hasMessage("Request exception");
+    }
+
+    private void endWindow() {
+        fireTimer(5L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer(long delay) {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(delay), handlerCaptor.capture());
+        handlerCaptor.getValue().handle(1L);
+    }
+
+    private void givenHttpClientReturnsResponse(int statusCode, String body) {
+        given(httpClient.request(any(), any(), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, body)));
+    }
+
+    private static BidCacheRequest givenCacheRequest(String... keys) {
+        return BidCacheRequest.of(List.of(keys).stream()
+                .map(key -> BidPutObject.builder().type("json").key(key).build())
+                .toList());
+    }
+
+    private static String givenCacheResponse(String... uuids) {
+        return jacksonMapper.encodeToString(BidCacheResponse.of(List.of(uuids).stream()
+                .map(CacheObject::of)
+                .toList()));
+    }
+
+    private static BidCacheRequest gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return mapper.readValue(gzip.readAllBytes(), BidCacheRequest.class);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
@@ -90,6 +91,10 @@ public class CoreCacheServiceTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
+    @Mock
+    private WriteBehindCacheWriter writeBehindCacheWriter;
+    @Mock
+    private CoalescingCacheTransport cacheTransport;
 
     private Clock clock;
 
@@ -120,7 +125,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
@@ -271,7 +278,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         givenHttpClientProducesException(new RuntimeException("Response exception"));
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
@@ -451,7 +460,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
 
         // when
@@ -892,7 +903,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -944,7 +957,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -986,7 +1001,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId())
                 .willReturn("1-high-entropy-cache-id")
@@ -1056,7 +1073,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId())
                 .willReturn("1-high-entropy-cache-id-foo-bar-")
@@ -1126,7 +1145,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("low-entropy");
 
@@ -1177,7 +1198,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("high-entropy-cache-id");
 
@@ -1225,7 +1248,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("high-entropy-cache-id-foo-bar");
 
@@ -1273,7 +1298,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject bidPutObject = BidPutObject.builder()
                 .type("text")
@@ -1356,6 +1383,209 @@ public class CoreCacheServiceTest extends VertxTest {
         verify(metrics, never()).updateCacheCreativeTtl(any(), any(), any());
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldQueuePutsWithGeneratedKeysWhenWriteBehindEnabled() throws MalformedURLException {
+        // given
+        target = givenWriteBehindCoreCacheService();
+        given(writeBehindCacheWriter.enqueue(any())).willReturn(true);
+        given(idGenerator.generateId()).willReturn("generatedUuid1", "generatedUuid2");
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1").adm("adm1"), BidType.video, "bidder");
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .shouldCacheVideoBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("generatedUuid1", "generatedUuid2", null, null)));
+        assertThat(future.result().getHttpCall()).isNull();
+
+        final ArgumentCaptor<List<BidPutObject>> putsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(writeBehindCacheWriter).enqueue(putsCaptor.capture());
+        assertThat(putsCaptor.getValue())
+                .extracting(BidPutObject::getKey)
+                .containsExactly("generatedUuid1", "generatedUuid2");
+
+        verifyNoInteractions(httpClient);
+        verify(metrics).updateCacheCreativeSize(eq("accountId"), eq(4), eq(MetricName.xml));
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldCallCacheServiceWhenWriteBehindQueueIsFull() throws MalformedURLException {
+        // given
+        target = givenWriteBehindCoreCacheService();
+        given(writeBehindCacheWriter.enqueue(any())).willReturn(false);
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null)));
+        verify(httpClient).post(anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotQueuePutsForDebugRequest() throws MalformedURLException {
+        // given
+        target = givenWriteBehindCoreCacheService();
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+        final AuctionContext auctionContext = givenAuctionContext().toBuilder()
+                .debugContext(DebugContext.of(true, false, null))
+                .build();
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                auctionContext,
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getHttpCall()).isNotNull();
+        verifyNoInteractions(writeBehindCacheWriter);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldPutBidsThroughTransportWhenTransportEnabled() throws MalformedURLException {
+        // given
+        target = givenTransportCoreCacheService();
+        given(cacheTransport.put(any(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, jacksonMapper.encodeToString(
+                        BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))))));
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null)));
+        verify(cacheTransport).put(any(), eq(500L));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotPutBidsThroughTransportForDebugRequest() throws MalformedURLException {
+        // given
+        target = givenTransportCoreCacheService();
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+        final AuctionContext auctionContext = givenAuctionContext().toBuilder()
+                .debugContext(DebugContext.of(true, false, null))
+                .build();
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                auctionContext,
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getHttpCall().getRequestBody()).isNotNull();
+        verifyNoInteractions(cacheTransport);
+    }
+
+    @Test
+    public void cachePutObjectsShouldPutObjectsThroughTransportWhenTransportEnabled() throws MalformedURLException {
+        // given
+        target = givenTransportCoreCacheService();
+        given(cacheTransport.put(any(), anyLong())).willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, jacksonMapper.encodeToString(
+                        BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))))));
+
+        final BidPutObject bidPutObject = BidPutObject.builder()
+                .type("json")
+                .value(new TextNode("vast"))
+                .build();
+
+        // when
+        final Future<BidCacheResponse> future = target.cachePutObjects(
+                singletonList(bidPutObject),
+                true,
+                emptySet(),
+                "account",
+                "pbjs",
+                timeout);
+
+        // then
+        assertThat(future.result().getResponses()).containsExactly(CacheObject.of("uuid1"));
+        final ArgumentCaptor<BidCacheRequest> requestCaptor = ArgumentCaptor.forClass(BidCacheRequest.class);
+        verify(cacheTransport).put(requestCaptor.capture(), eq(500L));
+        assertThat(requestCaptor.getValue().getPuts()).hasSize(1);
+        verifyNoInteractions(httpClient);
+    }
+
+    private CoreCacheService givenTransportCoreCacheService() throws MalformedURLException {
+        return new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                null,
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                null,
+                cacheTransport);
+    }
+
+    private CoreCacheService givenWriteBehindCoreCacheService() throws MalformedURLException {
+        return new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                null,
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                writeBehindCacheWriter,
+                null);
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
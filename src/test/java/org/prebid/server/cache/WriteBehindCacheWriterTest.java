@@ -0,0 +1,221 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class WriteBehindCacheWriterTest extends VertxTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private WriteBehindCacheWriter target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new WriteBehindCacheWriter(
+                vertx,
+                httpClient,
+                "http://cache-service/cache",
+                HttpUtil.headers(),
+                50L,
+                2,
+                1,
+                3,
+                1,
+                100L,
+                0.01,
+                metrics,
+                Clock.fixed(Instant.now(), ZoneId.systemDefault()),
+                jacksonMapper,
+                null);
+    }
+
+    @Test
+    public void enqueueShouldRejectAllPutsWhenQueueHasNoRoomForThem() {
+        // given
+        target.enqueue(List.of(givenPutObject("key1"), givenPutObject("key2")));
+
+        // when
+        final boolean result = target.enqueue(List.of(givenPutObject("key3"), givenPutObject("key4")));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(target.enqueue(singletonList(givenPutObject("key3")))).isTrue();
+    }
+
+    @Test
+    public void flushShouldPutQueuedObjectsInBatchesAndUpdateLagMetric() throws IOException {
+        // given
+        givenHttpClientReturnsStatus(200);
+        target.enqueue(List.of(givenPutObject("key1"), givenPutObject("key2"), givenPutObject("key3")));
+
+        // when
+        target.flush();
+
+        // then
+        final ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(httpClient, times(2)).post(eq("http://cache-service/cache"), any(), bodyCaptor.capture(), eq(100L));
+        assertThat(bodyCaptor.getAllValues())
+                .extracting(body -> mapper.readValue(body, BidCacheRequest.class).getPuts().size())
+                .containsExactly(2, 1);
+        verify(metrics, times(2)).updateCacheWriteBehindLag(0L);
+    }
+
+    @Test
+    public void flushShouldNotSendMoreBatchesThanAllowedInFlight() {
+        // given
+        final Promise<HttpClientResponse> responsePromise = Promise.promise();
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(responsePromise.future());
+        target.enqueue(List.of(givenPutObject("key1"), givenPutObject("key2"), givenPutObject("key3")));
+
+        // when
+        target.flush();
+        target.flush();
+
+        // then
+        verify(httpClient).post(anyString(), any(), anyString(), anyLong());
+
+        // when
+        responsePromise.complete(HttpClientResponse.of(200, null, "{}"));
+        target.flush();
+
+        // then
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void flushShouldRequeueFailedPutsAfterBackoff() {
+        // given
+        givenHttpClientReturnsStatus(500);
+        target.enqueue(singletonList(givenPutObject("key1")));
+
+        // when
+        target.flush();
+        target.flush();
+
+        // then
+        verify(httpClient).post(anyString(), any(), anyString(), anyLong());
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(100L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(0L);
+        target.flush();
+
+        // then
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void flushShouldRetryFailedPutsAndDropThemWhenRetriesAreExhausted() {
+        // given
+        givenHttpClientReturnsStatus(500);
+        givenVertxFiresTimersImmediately();
+        target.enqueue(singletonList(givenPutObject("key1")));
+
+        // when
+        target.flush();
+        target.flush();
+        target.flush();
+
+        // then
+        verify(httpClient, times(2)).post(anyString(), any(), anyString(), anyLong());
+        verify(metrics).updateCacheWriteBehindRetried(1);
+        verify(metrics).updateCacheWriteBehindDropped(1);
+        verify(metrics, never()).updateCacheWriteBehindLag(anyLong());
+    }
+
+    @Test
+    public void flushShouldUpdateLagMetricByOldestPutInBatch() {
+        // given
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L, 10L, 30L);
+        target = new WriteBehindCacheWriter(vertx, httpClient, "http://cache-service/cache", HttpUtil.headers(),
+                50L, 2, 1, 3, 1, 100L, 0.01, metrics, clock, jacksonMapper, null);
+
+        given(httpClient.post(anyString(), any(), anyString(), anyLong())).willReturn(
+                Future.succeededFuture(HttpClientResponse.of(500, null, "{}")),
+                Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+        target.enqueue(singletonList(givenPutObject("key1")));
+        target.flush();
+        target.enqueue(singletonList(givenPutObject("key2")));
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(anyLong(), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(0L);
+
+        // when
+        target.flush();
+
+        // then
+        verify(metrics).updateCacheWriteBehindLag(30L);
+    }
+
+    @Test
+    public void flushShouldNotCallCacheServiceWhenQueueIsEmpty() {
+        // when
+        target.flush();
+
+        // then
+        verifyNoInteractions(httpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenVertxFiresTimersImmediately() {
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(0L);
+            return 0L;
+        });
+    }
+
+    private void givenHttpClientReturnsStatus(int statusCode) {
+        given(httpClient.post(anyString(), any(), anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, "{}")));
+    }
+
+    private static BidPutObject givenPutObject(String key) {
+        return BidPutObject.builder().type("json").key(key).build();
+    }
+}
@@ -0,0 +1,103 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionMetricsHandlerTest {
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private HttpConnection connection;
+
+    private ConnectionMetricsHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new ConnectionMetricsHandler(metrics);
+    }
+
+    @Test
+    public void handleShouldCountConnectionOnceAndPassRequestToNextHandler() {
+        // given
+        final RoutingContext firstRoutingContext = givenRoutingContext(HttpVersion.HTTP_2);
+        final RoutingContext secondRoutingContext = givenRoutingContext(null);
+
+        // when
+        target.handle(firstRoutingContext);
+        target.handle(secondRoutingContext);
+
+        // then
+        verify(metrics).updateServerConnectionOpenedMetric("http_2");
+        verify(connection).closeHandler(any());
+        verify(firstRoutingContext).next();
+        verify(secondRoutingContext).next();
+    }
+
+    @Test
+    public void handleShouldRecordNumberOfRequestsServedWhenConnectionClosed() {
+        // given
+        target.handle(givenRoutingContext(HttpVersion.HTTP_1_1));
+        target.handle(givenRoutingContext(null));
+        target.handle(givenRoutingContext(null));
+
+        final ArgumentCaptor<Handler<Void>> closeHandlerCaptor = captureCloseHandler();
+
+        // when
+        closeHandlerCaptor.getValue().handle(null);
+
+        // then
+        verify(metrics).updateServerConnectionRequestsMetric("http_1_1", 3L);
+    }
+
+    @Test
+    public void handleShouldTrackConnectionAgainWhenItWasClosed() {
+        // given
+        target.handle(givenRoutingContext(HttpVersion.HTTP_1_1));
+
+        final ArgumentCaptor<Handler<Void>> closeHandlerCaptor = captureCloseHandler();
+        closeHandlerCaptor.getValue().handle(null);
+
+        // when
+        target.handle(givenRoutingContext(HttpVersion.HTTP_1_1));
+
+        // then
+        verify(metrics, times(2)).updateServerConnectionOpenedMetric("http_1_1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Handler<Void>> captureCloseHandler() {
+        final ArgumentCaptor<Handler<Void>> closeHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(connection).closeHandler(closeHandlerCaptor.capture());
+        return closeHandlerCaptor;
+    }
+
+    private RoutingContext givenRoutingContext(HttpVersion version) {
+        final RoutingContext routingContext = mock(RoutingContext.class);
+        final HttpServerRequest request = mock(HttpServerRequest.class);
+        given(routingContext.request()).willReturn(request);
+        given(request.connection()).willReturn(connection);
+        if (version != null) {
+            // version is looked up only for not yet tracked connections
+            given(request.version()).willReturn(version);
+        }
+        return routingContext;
+    }
+}
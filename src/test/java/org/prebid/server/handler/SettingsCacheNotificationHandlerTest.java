@@ -18,6 +18,8 @@ import org.prebid.server.settings.CacheNotificationListener;
 import org.prebid.server.settings.proto.request.InvalidateSettingsCacheRequest;
 import org.prebid.server.settings.proto.request.UpdateSettingsCacheRequest;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -87,7 +89,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.POST);
 
         final UpdateSettingsCacheRequest cacheRequest = UpdateSettingsCacheRequest.of(
-                singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+                singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"), null);
         given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -132,7 +134,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
 
         final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
-                singletonList("reqId1"), singletonList("impId1"));
+                singletonList("reqId1"), singletonList("impId1"), null);
         given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -143,6 +145,38 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
                 eq(singletonList("reqId1")), eq(singletonList("impId1")));
     }
 
+    @Test
+    public void shouldAskListenerToUpdateResponsesCache() throws JsonProcessingException {
+        // given
+        given(routingContext.request().method()).willReturn(HttpMethod.POST);
+
+        final UpdateSettingsCacheRequest cacheRequest = UpdateSettingsCacheRequest.of(
+                emptyMap(), emptyMap(), singletonMap("resId1", "resValue1"));
+        given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(cacheNotificationListener).saveResponses(eq(singletonMap("resId1", "resValue1")));
+    }
+
+    @Test
+    public void shouldAskListenerToInvalidateResponsesCache() throws JsonProcessingException {
+        // given
+        given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
+
+        final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
+                emptyList(), emptyList(), singletonList("resId1"));
+        given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(cacheNotificationListener).invalidateResponses(eq(singletonList("resId1")));
+    }
+
     @Test
     public void shouldReturnMethodNotAllowedStatusResponseIfRequestHasNeitherPostOrDeleteMethod() {
         // given
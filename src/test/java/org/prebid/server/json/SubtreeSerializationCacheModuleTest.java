@@ -0,0 +1,124 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SubtreeSerializationCacheModuleTest {
+
+    private final ObjectMapper mapper = ObjectMapperProvider.mapper().copy()
+            .registerModule(new SubtreeSerializationCacheModule());
+
+    @Test
+    public void serializationShouldProduceSameJsonAsWithoutModule() throws Exception {
+        // given
+        final BidRequest bidRequest = givenBidRequest("impId", givenSite());
+
+        // when
+        final String result = mapper.writeValueAsString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(ObjectMapperProvider.mapper().writeValueAsString(bidRequest));
+        assertThat(mapper.writeValueAsBytes(bidRequest))
+                .isEqualTo(ObjectMapperProvider.mapper().writeValueAsBytes(bidRequest));
+    }
+
+    @Test
+    public void serializationShouldReuseSerializedSubtreeOfSameInstance() throws Exception {
+        // given
+        final Site site = givenSite();
+        final String first = mapper.writeValueAsString(givenBidRequest("impId1", site));
+
+        // when
+        final String second = mapper.writeValueAsString(givenBidRequest("impId2", site));
+
+        // then
+        assertThat(second).isEqualTo(first.replace("impId1", "impId2"));
+    }
+
+    @Test
+    public void serializationShouldNotReuseSerializedSubtreeOfSameInstanceModifiedInPlace() throws Exception {
+        // given
+        final Site site = givenSite();
+        mapper.writeValueAsString(givenBidRequest("impId1", site));
+
+        site.getExt().addProperty("changed", TextNode.valueOf("value"));
+
+        // when
+        final JsonNode result = mapper.readTree(mapper.writeValueAsString(givenBidRequest("impId2", site)));
+
+        // then
+        assertThat(result.at("/imp/0/id").textValue()).isEqualTo("impId2");
+        assertThat(result.at("/site/ext/changed").textValue()).isEqualTo("value");
+    }
+
+    @Test
+    public void serializationShouldNotReuseSerializedSubtreeOfEqualInstance() throws Exception {
+        // given
+        mapper.writeValueAsString(givenBidRequest("impId", givenSite()));
+
+        final Site site = givenSite();
+        site.getExt().addProperty("changed", TextNode.valueOf("value"));
+
+        // when
+        final JsonNode result = mapper.readTree(mapper.writeValueAsString(givenBidRequest("impId", site)));
+
+        // then
+        assertThat(result.at("/site/ext/changed").textValue()).isEqualTo("value");
+    }
+
+    @Test
+    public void valueToTreeShouldNotUseSerializedSubtree() throws Exception {
+        // given
+        final BidRequest bidRequest = givenBidRequest("impId", givenSite());
+        mapper.writeValueAsString(bidRequest);
+
+        // when
+        final JsonNode result = mapper.valueToTree(bidRequest);
+
+        // then
+        assertThat(result.get("site").isObject()).isTrue();
+        assertThat(result).isEqualTo(ObjectMapperProvider.mapper().valueToTree(bidRequest));
+    }
+
+    @Test
+    public void prettyPrintingShouldNotUseSerializedSubtree() throws Exception {
+        // given
+        final BidRequest bidRequest = givenBidRequest("impId", givenSite());
+        mapper.writeValueAsString(bidRequest);
+
+        // when
+        final String result = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(
+                ObjectMapperProvider.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(bidRequest));
+    }
+
+    private static BidRequest givenBidRequest(String impId, Site site) {
+        return BidRequest.builder()
+                .id("requestId")
+                .imp(singletonList(Imp.builder().id(impId).build()))
+                .site(site)
+                .device(Device.builder().ua("ua").ip("127.0.0.1").build())
+                .build();
+    }
+
+    private static Site givenSite() {
+        return Site.builder()
+                .page("http://example.com/page")
+                .publisher(Publisher.builder().id("publisherId").build())
+                .ext(ExtSite.of(0, null))
+                .build();
+    }
+}
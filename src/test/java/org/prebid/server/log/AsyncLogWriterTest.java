@@ -0,0 +1,138 @@
+package org.prebid.server.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncLogWriterTest {
+
+    @Mock
+    private Metrics metrics;
+    @Mock(strictness = LENIENT)
+    private Clock clock;
+
+    private final List<String> written = new ArrayList<>();
+
+    private AsyncLogWriter target;
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+
+        target = new AsyncLogWriter(2, 10L, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveQueueSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AsyncLogWriter(0, 10L, metrics, clock))
+                .withMessage("Queue size should be positive");
+    }
+
+    @Test
+    public void writeShouldNotRenderMessageOnCallingThread() {
+        // given
+        final Supplier<String> message = mock(Supplier.class);
+
+        // when
+        target.write(message, written::add);
+
+        // then
+        verifyNoInteractions(message);
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    public void writeQueuedShouldPassRenderedMessagesToWriter() {
+        // given
+        target.write(() -> "a", written::add);
+        target.write(() -> "b", written::add);
+
+        // when
+        target.writeQueued();
+
+        // then
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    public void writeShouldDropMessageWhenQueueIsFull() {
+        // given
+        target.write(() -> "a", written::add);
+        target.write(() -> "b", written::add);
+
+        // when
+        target.write(() -> "c", written::add);
+
+        // then
+        verify(metrics).updateAsyncLogDroppedMetric(MetricName.async_log_queue_full);
+        target.writeQueued();
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    public void writeQueuedShouldDropMessagesExceedingBytesPerSecond() {
+        // given
+        target.write(() -> "123456", written::add);
+        target.write(() -> "123456", written::add);
+
+        // when
+        target.writeQueued();
+
+        // then
+        verify(metrics).updateAsyncLogDroppedMetric(MetricName.async_log_budget_exceeded);
+        assertThat(written).containsExactly("123456");
+    }
+
+    @Test
+    public void writeQueuedShouldWriteMessagesAgainInNextSecond() {
+        // given
+        target.write(() -> "123456", written::add);
+        target.writeQueued();
+
+        given(clock.millis()).willReturn(2000L);
+        target.write(() -> "123456", written::add);
+
+        // when
+        target.writeQueued();
+
+        // then
+        verifyNoInteractions(metrics);
+        assertThat(written).containsExactly("123456", "123456");
+    }
+
+    @Test
+    public void writeQueuedShouldSkipNullAndFailedMessages() {
+        // given
+        target.write(() -> null, written::add);
+        target.write(() -> {
+            throw new IllegalStateException("failed");
+        }, written::add);
+
+        // when
+        target.writeQueued();
+        target.write(() -> "message", written::add);
+        target.writeQueued();
+
+        // then
+        assertThat(written).containsExactly("message");
+    }
+}
@@ -12,10 +12,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +111,87 @@ public class ConditionalLoggerTest {
         verify(logger, times(2)).info(argThat(o -> o.toString().startsWith("Log Message")));
     }
 
+    @Test
+    public void infoShouldCallLoggerWithExpectedCountByTemplate() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            conditionalLogger.info("Log Message {}", 2, () -> index);
+        }
+
+        // then
+        verify(logger, times(5)).info(eq("Log Message {}"), any(Object[].class));
+    }
+
+    @Test
+    public void infoShouldCallLoggerByTemplateWithSameLevelAsByMessageWhenSampled() {
+        // when
+        conditionalLogger.info("Log Message", 1.0d);
+        conditionalLogger.info("Log Message {}", 1.0d, () -> "arg");
+
+        // then
+        verify(logger).warn("Log Message");
+        verify(logger).warn("Log Message {}", "arg");
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    public void infoShouldCallLoggerBySpecifiedKeyWithSameCountByTemplateAsByMessage() {
+        // given
+        final ConditionalLogger templateLogger = new ConditionalLogger("key1", logger);
+        final ConditionalLogger messageLogger = new ConditionalLogger("key2", logger);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            templateLogger.info("Template Message {}", 2, () -> index);
+            messageLogger.info("Log Message " + i, 2);
+        }
+
+        // then
+        verify(logger, times(5)).info(eq("Template Message {}"), any(Object[].class));
+        verify(logger, times(5)).info(argThat(o -> o.toString().startsWith("Log Message")));
+    }
+
+    @Test
+    public void warnShouldCallLoggerWithResolvedArgumentsWhenSampled() {
+        // when
+        conditionalLogger.warn("Log Message {} and {}", 1.0d, () -> "arg1", () -> "arg2");
+
+        // then
+        verify(logger).warn("Log Message {} and {}", "arg1", "arg2");
+    }
+
+    @Test
+    public void warnShouldNotResolveArgumentsWhenNotSampled() {
+        // given
+        final Supplier<String> argument = mock(Supplier.class);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            conditionalLogger.warn("Log Message {}", 0.0d, argument);
+        }
+
+        // then
+        verifyNoInteractions(argument, logger);
+    }
+
+    @Test
+    public void errorShouldResolveArgumentsOnlyForLoggedMessages() {
+        // given
+        final Supplier<String> argument = mock(Supplier.class);
+        given(argument.get()).willReturn("arg");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            conditionalLogger.error("Log Message {}", 5, argument);
+        }
+
+        // then
+        verify(argument, times(2)).get();
+        verify(logger, times(2)).error("Log Message {}", "arg");
+    }
+
     private void doWait(long timeout) {
         final Promise<?> promise = Promise.promise();
         vertx.setTimer(timeout, id -> promise.complete());
@@ -3,6 +3,7 @@ package org.prebid.server.log;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
@@ -16,9 +17,11 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.util.function.UnaryOperator;
 
 import static java.util.Collections.singletonList;
@@ -44,14 +47,20 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private RequestBody requestBody;
 
+    @Mock
+    private Metrics metrics;
+
+    private AsyncLogWriter asyncLogWriter;
+
     private HttpInteractionLogger target;
 
     @BeforeEach
     public void setUp() {
-        target = new HttpInteractionLogger(jacksonMapper);
+        asyncLogWriter = new AsyncLogWriter(100, 0L, metrics, Clock.systemUTC());
+        target = new HttpInteractionLogger(jacksonMapper, asyncLogWriter);
         given(routingContext.request()).willReturn(serverRequest);
         given(routingContext.body()).willReturn(requestBody);
-        given(requestBody.asString()).willReturn("{}");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{}"));
         given(serverRequest.uri()).willReturn("example.com");
         ReflectionTestUtils.setField(target, "logger", logger);
     }
@@ -66,6 +75,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, "responseBody");
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger)
@@ -87,6 +97,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), any(), any());
@@ -102,6 +113,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verifyNoInteractions(logger);
@@ -117,6 +129,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 501, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), eq(501), any());
@@ -132,6 +145,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString(), any(), any());
@@ -146,6 +160,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verifyNoInteractions(logger);
@@ -154,10 +169,10 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Test
     public void maybeLogOpenrtb2AuctionShouldLogOneLineBodyFromContext() {
         // given
-        given(requestBody.asString()).willReturn("""
+        given(requestBody.buffer()).willReturn(Buffer.buffer("""
                 {
                   "param": "value"
-                }""");
+                }"""));
         final AuctionContext givenAuctionContext =
                 givenAuctionContext(accountBuilder -> accountBuilder.id("123"));
         final HttpLogSpec givenSpec = HttpLogSpec.of(null, null, "123", null, 1);
@@ -165,6 +180,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), eq("{\"param\":\"value\"}"), any(), any());
@@ -173,7 +189,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
     @Test
     public void maybeLogOpenrtb2AuctionShouldLogMessageInsteadOfInvalidBody() {
         // given
-        given(requestBody.asString()).willReturn("{");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{"));
         final AuctionContext givenAuctionContext =
                 givenAuctionContext(accountBuilder -> accountBuilder.id("123"));
         final HttpLogSpec givenSpec = HttpLogSpec.of(null, null, "123", null, 1);
@@ -181,6 +197,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Auction(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), eq("Not parseable JSON passed: {"), any(), any());
@@ -196,6 +213,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, "responseBody");
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger)
@@ -216,6 +234,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), any(), any());
@@ -231,6 +250,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verifyNoInteractions(logger);
@@ -246,6 +266,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 501, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), eq(501), any());
@@ -261,6 +282,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), any(), any());
@@ -275,6 +297,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogOpenrtb2Amp(givenAuctionContext, routingContext, 200, null);
+        asyncLogWriter.writeQueued();
 
         // then
         verifyNoInteractions(logger);
@@ -291,6 +314,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info("Request body to {}: \"{}\"", "bidderName", "{}");
@@ -308,6 +332,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -324,6 +349,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -340,6 +366,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verifyNoInteractions(logger);
@@ -358,6 +385,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -376,6 +404,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -394,6 +423,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -412,6 +442,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -435,6 +466,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(),
@@ -457,6 +489,7 @@ public class HttpInteractionLoggerTest extends VertxTest {
         // when
         target.setSpec(givenSpec);
         target.maybeLogBidderRequest(givenAuctionContext, givenBidderRequest);
+        asyncLogWriter.writeQueued();
 
         // then
         verify(logger).info(anyString(), anyString(), anyString());
@@ -438,6 +438,88 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("account.accountId.requests.type.openrtb2-web").getCount()).isOne();
     }
 
+    @Test
+    public void updateAccountRequestMetricsShouldAggregateAccountsOutsideOfTopAccounts() {
+        // given
+        final TopAccountsTracker topAccountsTracker = Mockito.mock(TopAccountsTracker.class);
+        given(topAccountsTracker.resolve(ACCOUNT_ID)).willReturn(ACCOUNT_ID);
+        given(topAccountsTracker.resolve(ACCOUNT_ID_1)).willReturn(TopAccountsTracker.OTHER_ACCOUNT);
+
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver, topAccountsTracker);
+
+        // when
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID_1), MetricName.openrtb2web);
+
+        // then
+        verify(topAccountsTracker).record(ACCOUNT_ID);
+        verify(topAccountsTracker).record(ACCOUNT_ID_1);
+        assertThat(metricRegistry.counter("account.accountId.requests").getCount()).isOne();
+        assertThat(metricRegistry.counter("account.other.requests").getCount()).isOne();
+        assertThat(metricRegistry.getNames()).noneMatch(name -> name.startsWith("account.accountId1."));
+    }
+
+    @Test
+    public void rotateTopAccountsShouldRemoveMetricsOfAccountsNotTrackedAnymore() {
+        // given
+        final TopAccountsTracker topAccountsTracker = Mockito.mock(TopAccountsTracker.class);
+        given(topAccountsTracker.resolve(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(topAccountsTracker.rotate()).willReturn(List.of(ACCOUNT_ID));
+
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver, topAccountsTracker);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID), MetricName.openrtb2web);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID_1), MetricName.openrtb2web);
+
+        // when
+        metrics.rotateTopAccounts();
+
+        // then
+        verify(topAccountsTracker).rotate();
+        assertThat(metricRegistry.getNames())
+                .noneMatch(name -> name.startsWith("account.accountId."))
+                .contains("account.accountId1.requests");
+    }
+
+    @Test
+    public void rotateTopAccountsShouldRemoveMetricsRecreatedAfterPreviousRotation() {
+        // given
+        final TopAccountsTracker topAccountsTracker = Mockito.mock(TopAccountsTracker.class);
+        given(topAccountsTracker.resolve(ACCOUNT_ID_1)).willReturn(ACCOUNT_ID_1);
+        given(topAccountsTracker.resolve(ACCOUNT_ID)).willReturn(ACCOUNT_ID, TopAccountsTracker.OTHER_ACCOUNT);
+        given(topAccountsTracker.rotate()).willReturn(List.of(ACCOUNT_ID), Collections.emptyList());
+
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver, topAccountsTracker);
+        final AccountMetrics accountMetrics = metrics.forAccount(ACCOUNT_ID);
+        metrics.updateAccountRequestMetrics(Account.empty(ACCOUNT_ID_1), MetricName.openrtb2web);
+        metrics.rotateTopAccounts();
+
+        // request in flight still holds metrics of removed account
+        accountMetrics.incCounter(MetricName.requests);
+
+        // when
+        metrics.rotateTopAccounts();
+
+        // then
+        assertThat(metricRegistry.getNames())
+                .noneMatch(name -> name.startsWith("account.accountId."))
+                .contains("account.accountId1.requests");
+    }
+
+    @Test
+    public void shouldCreateTopAccountsGauges() {
+        // given
+        final TopAccountsTracker topAccountsTracker = Mockito.mock(TopAccountsTracker.class);
+        given(topAccountsTracker.trackedAccounts()).willReturn(3);
+        given(topAccountsTracker.memoryUsage()).willReturn(1024L);
+
+        // when
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver, topAccountsTracker);
+
+        // then
+        assertThat(metricRegistry.gauge("tracked_accounts", () -> null).getValue()).isEqualTo(3L);
+        assertThat(metricRegistry.gauge("tracked_accounts_memory", () -> null).getValue()).isEqualTo(1024L);
+    }
+
     @Test
     public void updateAccountDebugRequestMetricsShouldIncrementMetrics() {
         // when
@@ -539,6 +621,73 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.adapter.conversant.request_time").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterAdaptiveTimeoutMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterAdaptiveTimeoutMetrics(RUBICON, 300L, 200L);
+        metrics.updateAdapterAdaptiveTimeoutMetrics(RUBICON, 500L, 0L);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.timeout_chosen").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.histogram("adapter.rubicon.timeout_chosen").getSnapshot().getMax()).isEqualTo(500L);
+        assertThat(metricRegistry.histogram("adapter.rubicon.timeout_saved").getSnapshot().getMax()).isEqualTo(200L);
+    }
+
+    @Test
+    public void updateAdapterRequestShapedMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterRequestShapedMetrics(RUBICON, Account.empty(ACCOUNT_ID));
+        metrics.updateAdapterRequestShapedMetrics(RUBICON, Account.empty(ACCOUNT_ID));
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.shaped").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("account.accountId.adapter.rubicon.requests.shaped").getCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void updateServerConnectionMetricsShouldUpdateMetricsPerProtocol() {
+        // when
+        metrics.updateServerConnectionOpenedMetric("http_2");
+        metrics.updateServerConnectionRequestsMetric("http_2", 10L);
+
+        // then
+        assertThat(metricRegistry.counter("server.connections.http_2.opened").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.histogram("server.connections.http_2.requests").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdmissionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionMetric(MetricName.admitted);
+        metrics.updateAdmissionMetric(MetricName.shed);
+        metrics.updateAdmissionMetric(MetricName.shed);
+
+        // then
+        assertThat(metricRegistry.counter("admission.admitted").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("admission.shed").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateAdmissionLagMetricShouldUpdateTimer() {
+        // when
+        metrics.updateAdmissionLagMetric(10L);
+
+        // then
+        assertThat(metricRegistry.timer("admission.event_loop_lag").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateDebugHttpCallsMetricsShouldIncrementCapturedAndTruncatedBytes() {
+        // when
+        metrics.updateDebugHttpCallsMetrics(100L, 20L);
+        metrics.updateDebugHttpCallsMetrics(50L, 0L);
+
+        // then
+        assertThat(metricRegistry.counter("debug.httpcalls.captured_bytes").getCount()).isEqualTo(150);
+        assertThat(metricRegistry.counter("debug.httpcalls.truncated_bytes").getCount()).isEqualTo(20);
+    }
+
     @Test
     public void updateAdapterRequestBuyerUidScrubbedMetricsShouldIncrementMetrics() {
         // when
@@ -995,6 +1144,20 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.vendorlist.fallback").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updatePrivacyGppMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyGppCacheMetric(true);
+        metrics.updatePrivacyGppCacheMetric(false);
+        metrics.updatePrivacyGppCacheMetric(false);
+        metrics.updatePrivacyGppDecodeTimeMetric(1500L);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.gpp.hit").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("privacy.gpp.miss").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("privacy.gpp.decode_time").getSnapshot().getMax()).isEqualTo(1500L);
+    }
+
     @Test
     public void shouldNotUpdateAccountMetricsIfVerbosityIsNone() {
         // given
@@ -1111,6 +1274,16 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("db_query_time").getCount()).isOne();
     }
 
+    @Test
+    public void shouldUpdatePrometheusScrapeMetrics() {
+        // when
+        metrics.updatePrometheusScrapeMetrics(456L, 1024);
+
+        // then
+        assertThat(metricRegistry.timer("prometheus_scrape_time").getCount()).isOne();
+        assertThat(metricRegistry.histogram("prometheus_scrape_size").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateDatabaseCircuitBreakerGaugeMetric() {
         // when
@@ -1120,6 +1293,15 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("circuit-breaker.db.opened.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateDatabaseCircuitBreakerTransitionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateDatabaseCircuitBreakerTransitionMetric(MetricName.open_transition);
+
+        // then
+        assertThat(metricRegistry.counter("circuit-breaker.db.open_transition.count").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateHttpClientCircuitBreakerGaugeMetric() {
         // when
@@ -1139,6 +1321,15 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("circuit-breaker.http.existing.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateHttpClientCircuitBreakerTransitionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHttpClientCircuitBreakerTransitionMetric(MetricName.half_open_transition);
+
+        // then
+        assertThat(metricRegistry.counter("circuit-breaker.http.half_open_transition.count").getCount()).isOne();
+    }
+
     @Test
     public void shouldCreateGeoLocationCircuitBreakerGaugeMetric() {
         // when
@@ -1277,6 +1468,26 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheRefreshSizeShouldUpdateHistogram() {
+        // when
+        metrics.updateSettingsCacheRefreshSize(MetricName.stored_request, MetricName.update, 12L);
+
+        // then
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.refresh.update.items").getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void updateSettingsCacheRefreshBytesShouldUpdateHistogram() {
+        // when
+        metrics.updateSettingsCacheRefreshBytes(MetricName.stored_request, MetricName.update, 1024L);
+
+        // then
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.refresh.update.bytes").getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     public void updateSettingsCacheRefreshErrorMetricShouldIncrementMetric() {
         // when
@@ -1287,6 +1498,17 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateBidderPreparationMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateBidderPreparationMetrics(10L, 5L);
+
+        // then
+        assertThat(metricRegistry.counter("bidder-preparation.requests").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("bidder-preparation.request_time").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.timer("bidder-preparation.saved_time").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateSettingsCacheEventMetricShouldIncrementMetric() {
         // when
@@ -1562,6 +1784,31 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateCacheWriteBehindMetricsShouldUpdateExpectedMetrics() {
+        // when
+        metrics.updateCacheWriteBehindLag(123L);
+        metrics.updateCacheWriteBehindRetried(2);
+        metrics.updateCacheWriteBehindDropped(3);
+
+        // then
+        assertThat(metricRegistry.timer("prebid_cache.write_behind.lag").getCount()).isOne();
+        assertThat(metricRegistry.counter("prebid_cache.write_behind.retried").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("prebid_cache.write_behind.dropped").getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void updateCacheTransportMetricsShouldUpdateRequestSizeAndCoalescedRequestsHistograms() {
+        // when
+        metrics.updateCacheTransportMetrics(1024, 3);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.transport.request_size").getSnapshot().getMax())
+                .isEqualTo(1024);
+        assertThat(metricRegistry.histogram("prebid_cache.transport.coalesced_requests").getSnapshot().getMax())
+                .isEqualTo(3);
+    }
+
     private void verifyCreatesConfiguredCounterType(Consumer<Metrics> metricsConsumer) {
         final EnumMap<CounterType, Class<? extends Metric>> counterTypeClasses = new EnumMap<>(CounterType.class);
         counterTypeClasses.put(CounterType.counter, Counter.class);
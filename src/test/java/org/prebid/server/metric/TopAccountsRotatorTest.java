@@ -0,0 +1,67 @@
+package org.prebid.server.metric;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TopAccountsRotatorTest {
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Vertx vertx;
+
+    private TopAccountsRotator target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new TopAccountsRotator(metrics, vertx, 1000L);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveRotationInterval() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TopAccountsRotator(metrics, vertx, 0L))
+                .withMessage("Rotation interval should be positive");
+    }
+
+    @Test
+    public void initializeShouldRotateTopAccountsPeriodicallyOnWorker() throws Exception {
+        // given
+        given(vertx.executeBlocking(any(Callable.class))).willReturn(Future.succeededFuture());
+        final Promise<Void> promise = Promise.promise();
+
+        // when
+        target.initialize(promise);
+
+        // then
+        assertThat(promise.future().succeeded()).isTrue();
+
+        final ArgumentCaptor<Handler<Long>> timerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1000L), timerCaptor.capture());
+        timerCaptor.getValue().handle(1L);
+
+        final ArgumentCaptor<Callable<Void>> rotationCaptor = ArgumentCaptor.forClass(Callable.class);
+        verify(vertx).executeBlocking(rotationCaptor.capture());
+        rotationCaptor.getValue().call();
+
+        verify(metrics).rotateTopAccounts();
+    }
+}
@@ -0,0 +1,100 @@
+package org.prebid.server.metric;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TopAccountsTrackerTest {
+
+    private TopAccountsTracker target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new TopAccountsTracker(2, List.of("pinned"));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveTopAccounts() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TopAccountsTracker(0, emptyList()))
+                .withMessage("Top accounts number should be positive");
+    }
+
+    @Test
+    public void resolveShouldReturnAccountsUntilLimitIsReached() {
+        // given
+        target.record("account1");
+        target.record("account2");
+        target.record("account3");
+
+        // when and then
+        assertThat(target.resolve("account1")).isEqualTo("account1");
+        assertThat(target.resolve("account2")).isEqualTo("account2");
+        assertThat(target.resolve("account3")).isEqualTo(TopAccountsTracker.OTHER_ACCOUNT);
+        assertThat(target.trackedAccounts()).isEqualTo(3);
+    }
+
+    @Test
+    public void resolveShouldReturnPinnedAccountRegardlessOfLimit() {
+        // given
+        target.record("account1");
+        target.record("account2");
+        target.record("pinned");
+
+        // when and then
+        assertThat(target.resolve("pinned")).isEqualTo("pinned");
+    }
+
+    @Test
+    public void resolveShouldReturnOtherForUnknownAccount() {
+        // when and then
+        assertThat(target.resolve("unknown")).isEqualTo(TopAccountsTracker.OTHER_ACCOUNT);
+    }
+
+    @Test
+    public void rotateShouldReplaceLessActiveAccounts() {
+        // given
+        target.record("account1");
+        target.record("account2");
+        target.record("account2");
+        for (int i = 0; i < 6; i++) {
+            target.record("account3");
+        }
+
+        // when
+        final List<String> result = target.rotate();
+
+        // then
+        assertThat(result).containsExactly("account1");
+        assertThat(target.resolve("account1")).isEqualTo(TopAccountsTracker.OTHER_ACCOUNT);
+        assertThat(target.resolve("account2")).isEqualTo("account2");
+        assertThat(target.resolve("account3")).isEqualTo("account3");
+    }
+
+    @Test
+    public void recordShouldNotChangeTrackedAccountsUntilRotation() {
+        // given
+        target.record("account1");
+        target.record("account2");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            target.record("account3");
+        }
+
+        // then
+        assertThat(target.resolve("account1")).isEqualTo("account1");
+        assertThat(target.resolve("account3")).isEqualTo(TopAccountsTracker.OTHER_ACCOUNT);
+    }
+
+    @Test
+    public void memoryUsageShouldIncludeSketchSize() {
+        // when and then
+        assertThat(target.memoryUsage()).isGreaterThanOrEqualTo(4L * 2 * 16 * Long.BYTES);
+    }
+}
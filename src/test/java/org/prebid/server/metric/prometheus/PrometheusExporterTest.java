@@ -0,0 +1,207 @@
+package org.prebid.server.metric.prometheus;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.DefaultSampleBuilder;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import io.prometheus.client.dropwizard.samplebuilder.SampleBuilder;
+import io.prometheus.client.exporter.common.TextFormat;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PrometheusExporterTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
+    private MetricRegistry metricRegistry;
+
+    private Clock clock;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    }
+
+    @Test
+    public void renderShouldExposeSameSamplesAsDropwizardExports() throws IOException {
+        // given
+        metricRegistry.counter("requests.ok").inc(3);
+        metricRegistry.register("connections", (Gauge<Integer>) () -> 7);
+        metricRegistry.register("circuit-breaker.opened", (Gauge<Boolean>) () -> true);
+        metricRegistry.register("deadlocks", (Gauge<Set<String>>) Set::of);
+        metricRegistry.meter("bids").mark(5);
+        metricRegistry.histogram("prices").update(100);
+        metricRegistry.timer("request_time").update(250, TimeUnit.MILLISECONDS);
+
+        final PrometheusExporter target = givenTarget(new DefaultSampleBuilder(), 0L);
+
+        // when
+        final Buffer result = target.render();
+
+        // then
+        assertThat(lines(result.toString())).isEqualTo(lines(dropwizardExports(new DefaultSampleBuilder())));
+    }
+
+    @Test
+    public void renderShouldExposeSamplesOfSameFamilyTogether() throws IOException {
+        // given
+        final SampleBuilder sampleBuilder = new NamespaceSubsystemSampleBuilder(
+                "namespace",
+                null,
+                List.of(new MapperConfig("adapter.*.requests", "adapter_requests", Map.of("adapter", "${0}"))));
+
+        metricRegistry.counter("adapter.rubicon.requests").inc();
+        metricRegistry.counter("requests").inc();
+        metricRegistry.counter("adapter.appnexus.requests").inc(2);
+
+        final PrometheusExporter target = givenTarget(sampleBuilder, 0L);
+
+        // when
+        final String result = target.render().toString();
+
+        // then
+        assertThat(lines(result)).isEqualTo(lines(dropwizardExports(sampleBuilder)));
+        assertThat(result.lines().filter(line -> line.startsWith("# TYPE namespace_adapter_requests"))).hasSize(1);
+        assertThat(result).containsSubsequence(
+                "# TYPE namespace_adapter_requests gauge",
+                "namespace_adapter_requests{adapter=",
+                "namespace_adapter_requests{adapter=");
+    }
+
+    @Test
+    public void renderShouldExposeMetricsRegisteredAfterCreationAndSkipRemovedOnes() {
+        // given
+        metricRegistry.counter("removed");
+        final PrometheusExporter target = givenTarget(new DefaultSampleBuilder(), 0L);
+        target.render();
+
+        metricRegistry.remove("removed");
+        metricRegistry.counter("added").inc();
+
+        // when
+        final String result = target.render().toString();
+
+        // then
+        assertThat(result).contains("added 1.0").doesNotContain("removed");
+    }
+
+    @Test
+    public void renderShouldUpdateScrapeMetrics() {
+        // given
+        metricRegistry.counter("requests").inc();
+        final PrometheusExporter target = givenTarget(new DefaultSampleBuilder(), 0L);
+
+        // when
+        final Buffer result = target.render();
+
+        // then
+        verify(metrics).updatePrometheusScrapeMetrics(0L, result.length());
+    }
+
+    @Test
+    public void handleShouldServeSnapshotWhenSnapshotRefreshIsEnabled() {
+        // given
+        metricRegistry.counter("before_snapshot").inc();
+        final PrometheusExporter target = givenTarget(new DefaultSampleBuilder(), 1000L);
+        target.initialize(Promise.promise());
+
+        metricRegistry.counter("after_snapshot").inc();
+
+        final RoutingContext routingContext = givenRoutingContext();
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(vertx).setPeriodic(eq(1000L), any());
+        assertThat(capturedBody(routingContext)).contains("before_snapshot").doesNotContain("after_snapshot");
+    }
+
+    @Test
+    public void handleShouldRenderMetricsWhenSnapshotRefreshIsDisabled() {
+        // given
+        final PrometheusExporter target = givenTarget(new DefaultSampleBuilder(), 0L);
+        target.initialize(Promise.promise());
+
+        metricRegistry.counter("requests").inc();
+
+        final RoutingContext routingContext = givenRoutingContext();
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(vertx, never()).setPeriodic(anyLong(), any());
+        verify(routingContext.response()).putHeader(any(CharSequence.class), eq(TextFormat.CONTENT_TYPE_004));
+        assertThat(capturedBody(routingContext)).contains("requests 1.0");
+        verify(metrics).updatePrometheusScrapeMetrics(anyLong(), anyInt());
+    }
+
+    private PrometheusExporter givenTarget(SampleBuilder sampleBuilder, long snapshotRefreshMs) {
+        return new PrometheusExporter(metricRegistry, sampleBuilder, vertx, snapshotRefreshMs, metrics, clock);
+    }
+
+    private static RoutingContext givenRoutingContext() {
+        final RoutingContext routingContext = mock(RoutingContext.class);
+        final HttpServerResponse response = mock(HttpServerResponse.class);
+        given(routingContext.response()).willReturn(response);
+        given(response.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(response);
+        return routingContext;
+    }
+
+    private static String capturedBody(RoutingContext routingContext) {
+        final ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(routingContext.response()).end(bodyCaptor.capture());
+        return bodyCaptor.getValue().toString();
+    }
+
+    private String dropwizardExports(SampleBuilder sampleBuilder) throws IOException {
+        final CollectorRegistry collectorRegistry = new CollectorRegistry();
+        collectorRegistry.register(new DropwizardExports(metricRegistry, sampleBuilder));
+
+        final StringWriter writer = new StringWriter();
+        TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
+        return writer.toString();
+    }
+
+    private static Set<String> lines(String exposition) {
+        return Set.copyOf(exposition.lines().toList());
+    }
+}
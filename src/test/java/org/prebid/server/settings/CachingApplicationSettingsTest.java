@@ -21,6 +21,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -30,6 +31,7 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -38,6 +40,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,7 +67,8 @@ public class CachingApplicationSettingsTest {
                 metrics,
                 360,
                 100,
-                0);
+                0,
+                true);
     }
 
     @Test
@@ -445,4 +449,103 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(delegateSettings.getStoredResponses(eq(singleton("id")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "value"), emptyList())));
+
+        // when
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> cachedFuture = target.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id", "value"));
+        assertThat(cachedFuture.result().getIdToStoredResponses().get("id"))
+                .isSameAs(future.result().getIdToStoredResponses().get("id"));
+        verify(delegateSettings).getStoredResponses(eq(singleton("id")), same(timeout));
+        verifyNoMoreInteractions(delegateSettings);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit, 1);
+    }
+
+    @Test
+    public void getStoredResponsesShouldAskDelegateOnlyForMissedIdsAndMergeResults() {
+        // given
+        given(delegateSettings.getStoredResponses(eq(singleton("id1")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id1", "value1"), emptyList())));
+        given(delegateSettings.getStoredResponses(eq(singleton("id2")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(emptyMap(), singletonList("id2 not found"))));
+
+        target.getStoredResponses(singleton("id1"), timeout);
+
+        // when
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(Set.of("id1", "id2"), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id1", "value1"));
+        assertThat(future.result().getErrors()).containsOnly("id2 not found");
+        verify(delegateSettings).getStoredResponses(eq(singleton("id2")), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit, 1);
+    }
+
+    @Test
+    public void getStoredResponsesShouldAskDelegateAgainAfterInvalidation() {
+        // given
+        final SettingsCache settingsCache = new SettingsCache(360, 100, 0);
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                settingsCache,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                true);
+
+        given(delegateSettings.getStoredResponses(eq(singleton("id")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "value"), emptyList())));
+
+        target.getStoredResponses(singleton("id"), timeout);
+
+        // when
+        settingsCache.invalidateResponses(singletonList("id"));
+        target.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        verify(delegateSettings, times(2)).getStoredResponses(eq(singleton("id")), same(timeout));
+    }
+
+    @Test
+    public void getStoredResponsesShouldAlwaysAskDelegateWhenStoredResponsesAreNotCached() {
+        // given
+        target = new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                new SettingsCache(360, 100, 0),
+                metrics,
+                360,
+                100,
+                0,
+                false);
+
+        given(delegateSettings.getStoredResponses(eq(singleton("id")), same(timeout)))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "value"), emptyList())));
+
+        // when
+        target.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> future = target.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id", "value"));
+        verify(delegateSettings, times(2)).getStoredResponses(eq(singleton("id")), same(timeout));
+        verifyNoInteractions(metrics);
+    }
 }
@@ -4,6 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -75,4 +80,65 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void updateShouldSaveChangedAndRemoveInvalidatedItems() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // when
+        settingsCache.update(
+                singletonMap("reqId2", "reqValue2"),
+                singletonMap("impId2", "impValue2"),
+                singletonList("reqId1"),
+                singletonList("impId1"));
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1)
+                .containsEntry("reqId2", singleton(StoredItem.of(null, "reqValue2")));
+        assertThat(settingsCache.getImpCache()).hasSize(1)
+                .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
+    }
+
+    @Test
+    public void readShouldRepeatLookupWhenUpdateHappenedMeanwhile() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), emptyMap());
+        final AtomicInteger lookups = new AtomicInteger();
+
+        // when
+        final Set<StoredItem> result = settingsCache.read(() -> {
+            final Set<StoredItem> value = settingsCache.getRequestCache().get("reqId1");
+            if (lookups.incrementAndGet() == 1) {
+                settingsCache.update(singletonMap("reqId1", "reqValue2"), emptyMap(), emptyList(), emptyList());
+            }
+            return value;
+        });
+
+        // then
+        assertThat(lookups).hasValue(2);
+        assertThat(result).containsExactly(StoredItem.of(null, "reqValue2"));
+    }
+
+    @Test
+    public void saveResponsesShouldAddNewResponsesToCache() {
+        // when
+        settingsCache.saveResponses(singletonMap("resId1", "resValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("resId1", "resValue1");
+    }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponses(singletonMap("resId1", "resValue1"));
+
+        // when
+        settingsCache.invalidateResponses(singletonList("resId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).isEmpty();
+    }
 }
@@ -1,6 +1,7 @@
 package org.prebid.server.settings.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -58,11 +59,13 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         final HttpClientResponse initialResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("field1", "field-value1")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("deleted", "true")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(httpClient.get(anyString(), anyLong()))
                 .willReturn(Future.succeededFuture(initialResponse));
@@ -108,7 +111,8 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         updatedResponse = HttpClientResponse.of(200, null,
                 mapper.writeValueAsString(HttpRefreshResponse.of(
                         singletonMap("id1", mapper.createObjectNode().put("changed1", "value-changed2")),
-                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")))));
+                        singletonMap("id2", mapper.createObjectNode().put("field2", "field-value2")),
+                        null)));
 
         given(vertx.setPeriodic(anyLong(), any()))
                 .willAnswer(withSelfAndPassObjectToHandler(1L));
@@ -165,6 +169,33 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
         verify(httpClient).get(startsWith("http://stored-requests.prebid.com?amp=true&last-modified="), anyLong());
     }
 
+    @Test
+    public void shouldSaveAndInvalidateStoredResponses() throws JsonProcessingException {
+        // given
+        final ArrayNode seatBids = mapper.createArrayNode().add(mapper.createObjectNode().put("seat", "a"));
+        final HttpClientResponse initialResponse = HttpClientResponse.of(200, null,
+                mapper.writeValueAsString(HttpRefreshResponse.of(emptyMap(), emptyMap(),
+                        singletonMap("res1", seatBids))));
+        updatedResponse = HttpClientResponse.of(200, null,
+                mapper.writeValueAsString(HttpRefreshResponse.of(emptyMap(), emptyMap(),
+                        singletonMap("res1", mapper.createObjectNode().put("deleted", "true")))));
+
+        given(httpClient.get(anyString(), anyLong()))
+                .willReturn(Future.succeededFuture(initialResponse));
+        given(httpClient.get(contains("?last-modified="), anyLong()))
+                .willReturn(Future.succeededFuture(updatedResponse));
+        given(vertx.setPeriodic(anyLong(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(1L));
+
+        // when
+        createAndInitService(cacheNotificationListener, ENDPOINT_URL,
+                1000, 2000, vertx, httpClient);
+
+        // then
+        verify(cacheNotificationListener).saveResponses(singletonMap("res1", "[{\"seat\":\"a\"}]"));
+        verify(cacheNotificationListener).invalidateResponses(singletonList("res1"));
+    }
+
     private static void createAndInitService(CacheNotificationListener notificationListener,
                                              String url, long refreshPeriod, long timeout,
                                              Vertx vertx, HttpClient httpClient) {
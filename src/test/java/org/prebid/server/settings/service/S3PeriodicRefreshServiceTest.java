@@ -1,6 +1,7 @@
 package org.prebid.server.settings.service;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
@@ -25,8 +27,11 @@ import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.time.Clock;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,7 +42,9 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
@@ -103,8 +110,8 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
     public void initializeShouldCallSaveWithExpectedParameters(VertxTestContext context) {
         // when and then
         createAndInitService(100).onComplete(context.succeeding(ignored -> {
-            verify(cacheNotificationListener, atLeast(1))
-                    .save(singletonMap("id1", "value1"), singletonMap("id2", "value2"));
+            verify(cacheNotificationListener, atLeast(1)).update(
+                    singletonMap("id1", "value1"), singletonMap("id2", "value2"), emptyList(), emptyList());
             verify(metrics, atLeast(1)).updateSettingsCacheRefreshTime(
                     eq(MetricName.stored_request), eq(MetricName.initialize), eq(400L));
 
@@ -139,11 +146,145 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void initializeShouldUpdateRefreshSizeMetrics(VertxTestContext context) {
+        // when and then
+        createAndInitService(100).onComplete(context.succeeding(ignored -> {
+            verify(metrics).updateSettingsCacheRefreshSize(
+                    eq(MetricName.stored_request), eq(MetricName.initialize), eq(2L));
+            verify(metrics).updateSettingsCacheRefreshBytes(
+                    eq(MetricName.stored_request), eq(MetricName.initialize), eq(12L));
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void initializeShouldFetchAllPagesOfTruncatedListing(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(listObjectResponse(true, S3Object.builder().key(STORED_REQ_DIR + "/id1.json").build()));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .marker(STORED_REQ_DIR + "/id1.json")
+                .build())))
+                .willReturn(listObjectResponse(STORED_REQ_DIR + "/id3.json"));
+        givenObject(STORED_REQ_DIR + "/id3.json", "value3");
+
+        // when and then
+        createAndInitService(100).onComplete(context.succeeding(ignored -> {
+            verify(cacheNotificationListener).update(
+                    Map.of("id1", "value1", "id3", "value3"), singletonMap("id2", "value2"), emptyList(), emptyList());
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void refreshShouldDownloadOnlyChangedFilesAndInvalidateDeleted(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(
+                        listObjectResponse(false, givenS3Object(STORED_REQ_DIR + "/id1.json", "v1")),
+                        listObjectResponse(
+                                false,
+                                givenS3Object(STORED_REQ_DIR + "/id1.json", "v1"),
+                                givenS3Object(STORED_REQ_DIR + "/id3.json", "v1")));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(
+                        listObjectResponse(false, givenS3Object(STORED_IMP_DIR + "/id2.json", "v1")),
+                        listObjectResponse(false));
+        givenObject(STORED_REQ_DIR + "/id3.json", "value3");
+
+        final ArgumentCaptor<Handler<Long>> refreshCaptor = ArgumentCaptor.forClass(Handler.class);
+
+        // when
+        createAndInitService(100_000)
+                .onComplete(context.succeeding(ignored -> {
+                    verify(vertx).setPeriodic(eq(100_000L), refreshCaptor.capture());
+                    refreshCaptor.getValue().handle(1L);
+                }));
+
+        // then
+        verify(cacheNotificationListener, timeout(1000)).update(
+                singletonMap("id3", "value3"), emptyMap(), emptyList(), singletonList("id2"));
+        verify(s3AsyncClient).getObject(
+                eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_REQ_DIR + "/id1.json").build()),
+                any(AsyncResponseTransformer.class));
+        verify(metrics, timeout(1000)).updateSettingsCacheRefreshSize(
+                eq(MetricName.stored_request), eq(MetricName.update), eq(2L));
+        context.completeNow();
+    }
+
+    @Test
+    public void refreshShouldNotDownloadAndSaveUnchangedFilesAgain(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(listObjectResponse(false, givenS3Object(STORED_REQ_DIR + "/id1.json", "v1")));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(listObjectResponse(false, givenS3Object(STORED_IMP_DIR + "/id2.json", "v1")));
+
+        final ArgumentCaptor<Handler<Long>> refreshCaptor = ArgumentCaptor.forClass(Handler.class);
+
+        // when
+        createAndInitService(100_000)
+                .onComplete(context.succeeding(ignored -> {
+                    verify(vertx).setPeriodic(eq(100_000L), refreshCaptor.capture());
+                    refreshCaptor.getValue().handle(1L);
+                }));
+
+        // then
+        verify(metrics, timeout(1000)).updateSettingsCacheRefreshSize(
+                eq(MetricName.stored_request), eq(MetricName.update), eq(0L));
+        verify(cacheNotificationListener).update(
+                singletonMap("id1", "value1"), singletonMap("id2", "value2"), emptyList(), emptyList());
+        verifyNoMoreInteractions(cacheNotificationListener);
+        verify(s3AsyncClient).getObject(
+                eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_REQ_DIR + "/id1.json").build()),
+                any(AsyncResponseTransformer.class));
+        verify(s3AsyncClient).getObject(
+                eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_IMP_DIR + "/id2.json").build()),
+                any(AsyncResponseTransformer.class));
+        context.completeNow();
+    }
+
+    private void givenObject(String key, String value) {
+        given(s3AsyncClient.getObject(
+                eq(GetObjectRequest.builder().bucket(BUCKET).key(key).build()),
+                any(AsyncResponseTransformer.class)))
+                .willReturn(getObjectResponse(value));
+    }
+
+    private static S3Object givenS3Object(String key, String eTag) {
+        return S3Object.builder().key(key).eTag(eTag).build();
+    }
+
     private CompletableFuture<ListObjectsResponse> listObjectResponse(String key) {
+        return listObjectResponse(false, S3Object.builder().key(key).build());
+    }
+
+    private CompletableFuture<ListObjectsResponse> listObjectResponse(boolean truncated, S3Object... objects) {
         return CompletableFuture.completedFuture(
                 ListObjectsResponse
                         .builder()
-                        .contents(singletonList(S3Object.builder().key(key).build()))
+                        .contents(objects)
+                        .isTruncated(truncated)
                         .build());
     }
 
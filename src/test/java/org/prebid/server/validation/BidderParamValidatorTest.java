@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -358,6 +359,36 @@ public class BidderParamValidatorTest extends VertxTest {
                 "org/prebid/server/validation/schema//valid/test-schemas.json"));
     }
 
+    @Test
+    public void validateShouldReturnCachedResultForEqualParamsWhenCacheEnabled() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+        final Set<String> firstMessages = bidderParamValidator.validate(
+                VISX, mapper.createObjectNode().put("uid", "1a2b3c"));
+
+        // when
+        final Set<String> secondMessages = bidderParamValidator.validate(
+                VISX, mapper.createObjectNode().put("uid", "1a2b3c"));
+
+        // then
+        assertThat(secondMessages).hasSize(1).isSameAs(firstMessages);
+    }
+
+    @Test
+    public void validateShouldNotBeAffectedByParamsChangedAfterValidationWhenCacheEnabled() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", 10, jacksonMapper);
+        final ObjectNode node = mapper.createObjectNode().put("uid", "1a2b3c");
+        bidderParamValidator.validate(VISX, node);
+
+        // when
+        node.put("uid", "123");
+
+        // then
+        assertThat(bidderParamValidator.validate(VISX, node)).isEmpty();
+        assertThat(bidderParamValidator.validate(VISX, mapper.createObjectNode().put("uid", "1a2b3c"))).hasSize(1);
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenVisxUidNotValid() {
         // given
@@ -0,0 +1,199 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.model.Endpoint;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class AdmissionControllerTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private Context context;
+
+    private AdmissionController target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        target = new AdmissionController(
+                vertx, 200L, 10_000L, 2, 3, 20_000L, 3, 503, metrics, Clock.fixed(Instant.now(), ZoneId.of("UTC")));
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext vertxTestContext) {
+        vertx.close(vertxTestContext.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailWhenShedThresholdsAreLessThanDegradeThresholds() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdmissionController(
+                        vertx, 100L, 100L, 10, 3, 50L, 20, 503, metrics, Clock.systemUTC()))
+                .withMessage("Shed thresholds cannot be less than degrade thresholds: "
+                        + "degrade=(100ms, 10), shed=(50ms, 20)");
+    }
+
+    @Test
+    public void handleShouldAdmitRequestWhenEventLoopIsNotLoaded() throws Exception {
+        // given
+        final RoutingContext routingContext = mock(RoutingContext.class);
+
+        // when
+        onContext(() -> handle(routingContext));
+
+        // then
+        verify(routingContext).next();
+        verify(metrics).updateAdmissionMetric(MetricName.admitted);
+        assertThat(onContext(target::isDegraded)).isFalse();
+        assertThat(onContext(target::maxBidders)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(target.status()).extracting(StatusResponse::getStatus).isEqualTo("UP");
+    }
+
+    @Test
+    public void handleShouldAdmitDegradedRequestWhenTooManyAuctionsInFlight() throws Exception {
+        // given
+        onContext(() -> handle(mock(RoutingContext.class)));
+        onContext(() -> handle(mock(RoutingContext.class)));
+        final RoutingContext routingContext = mock(RoutingContext.class);
+
+        // when
+        onContext(() -> handle(routingContext));
+
+        // then
+        verify(routingContext).next();
+        verify(metrics).updateAdmissionMetric(MetricName.degraded);
+    }
+
+    @Test
+    public void isDegradedShouldReturnTrueWhenTooManyAuctionsInFlight() throws Exception {
+        // given
+        onContext(() -> handle(mock(RoutingContext.class)));
+        onContext(() -> handle(mock(RoutingContext.class)));
+
+        // when and then
+        assertThat(onContext(target::isDegraded)).isTrue();
+        assertThat(onContext(target::maxBidders)).isEqualTo(3);
+        assertThat(target.status()).extracting(StatusResponse::getStatus).isEqualTo("DEGRADED");
+    }
+
+    @Test
+    public void handleShouldShedRequestsWhenTooManyAuctionsInFlight() throws Exception {
+        // given
+        onContext(() -> handle(mock(RoutingContext.class)));
+        onContext(() -> handle(mock(RoutingContext.class)));
+        onContext(() -> handle(mock(RoutingContext.class)));
+
+        final RoutingContext routingContext = mock(RoutingContext.class);
+        final HttpServerResponse response = mock(HttpServerResponse.class);
+        given(routingContext.response()).willReturn(response);
+        given(response.setStatusCode(anyInt())).willReturn(response);
+
+        // when
+        onContext(() -> handle(routingContext));
+
+        // then
+        verify(routingContext, never()).next();
+        verify(response).setStatusCode(503);
+        verify(response).end();
+        verify(metrics).updateAdmissionMetric(MetricName.shed);
+        assertThat(target.status()).extracting(StatusResponse::getStatus).isEqualTo("SHEDDING");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handleShouldAdmitRequestsAgainWhenAuctionsInFlightEnded() throws Exception {
+        // given
+        final RoutingContext firstRoutingContext = mock(RoutingContext.class);
+        onContext(() -> handle(firstRoutingContext));
+        onContext(() -> handle(mock(RoutingContext.class)));
+
+        final ArgumentCaptor<Handler<AsyncResult<Void>>> endHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(firstRoutingContext).addEndHandler(endHandlerCaptor.capture());
+        onContext(() -> {
+            endHandlerCaptor.getValue().handle(Future.succeededFuture());
+            return null;
+        });
+
+        // when
+        onContext(() -> handle(mock(RoutingContext.class)));
+
+        // then
+        verify(metrics, never()).updateAdmissionMetric(MetricName.degraded);
+    }
+
+    @Test
+    public void handleShouldMeasureEventLoopLag() throws Exception {
+        // given
+        onContext(() -> handle(mock(RoutingContext.class)));
+
+        // when
+        onContext(() -> {
+            try {
+                Thread.sleep(500L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        // then
+        verify(metrics, timeout(1000L)).updateAdmissionLagMetric(longThat(lag -> lag >= 100L));
+    }
+
+    @Test
+    public void isDegradedShouldReturnFalseOutsideOfEventLoop() {
+        // when and then
+        assertThat(target.isDegraded()).isFalse();
+    }
+
+    private Void handle(RoutingContext routingContext) {
+        target.handle(routingContext, Endpoint.openrtb2_auction);
+        return null;
+    }
+
+    private <T> T onContext(Supplier<T> supplier) throws Exception {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> result.complete(supplier.get()));
+        return result.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -17,6 +17,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
@@ -130,6 +132,75 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldCloseCircuitOnlyWhenAllHalfOpenProbesSucceed() {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, 2, 0, 0L, 100, clock);
+
+        // when
+        executeWithFail("exception1");
+        waitForClosingInterval();
+        final Future<?> future1 = executeWithSuccess("probe1");
+        final boolean openAfterFirstProbe = circuitBreaker.isOpen();
+        final Future<?> future2 = executeWithSuccess("probe2");
+
+        // then
+        assertThat(future1.succeeded()).isTrue();
+        assertThat(openAfterFirstProbe).isTrue();
+        assertThat(future2.succeeded()).isTrue();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldFailIfCircuitIsHalfOpenedAndProbesAreExhausted() {
+        // given
+        final Promise<String> probePromise = Promise.promise();
+        executeWithFail("exception1");
+        waitForClosingInterval();
+        circuitBreaker.<String>execute(promise -> probePromise.future().onComplete(promise));
+
+        // when
+        final Future<?> future = executeWithSuccess("value");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+    }
+
+    @Test
+    public void executeShouldOpenCircuitWhenErrorRateIsReached() {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 4, 100L, 200L, 1, 50, 0L, 100, clock);
+
+        // when
+        executeWithSuccess("value1");
+        executeWithFail("exception1");
+        executeWithSuccess("value2");
+        final boolean openBeforeRateReached = circuitBreaker.isOpen();
+        executeWithFail("exception2");
+
+        // then
+        assertThat(openBeforeRateReached).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitWhenSlowCallRateIsReached() {
+        // given
+        final Clock slowClock = mock(Clock.class);
+        given(slowClock.millis()).willReturn(0L, 50L, 50L, 50L, 50L, 100L, 100L, 100L);
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100_000L, 200L, 1, 0, 50L, 100, slowClock);
+
+        // when
+        executeWithSuccess("value1");
+        final boolean openAfterFirstCall = circuitBreaker.isOpen();
+        executeWithSuccess("value2");
+
+        // then
+        assertThat(openAfterFirstCall).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
     private Future<String> executeWithSuccess(String result) {
         return execute(operationPromise -> operationPromise.complete(result));
     }
@@ -16,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 
 import java.time.Clock;
@@ -270,6 +271,21 @@ public class CircuitBreakerSecuredDatabaseClientTest {
         }));
     }
 
+    @Test
+    public void executeQueryShouldUpdateCircuitBreakerTransitionMetricWhenCircuitOpened(VertxTestContext context) {
+        // given
+        givenExecuteQueryReturning(singletonList(Future.failedFuture(new RuntimeException("exception1"))));
+
+        // when
+        final Future<?> future = target.executeQuery("query", emptyList(), identity(), timeout);
+
+        // then
+        future.onComplete(context.failing(throwable -> {
+            verify(metrics).updateDatabaseCircuitBreakerTransitionMetric(MetricName.open_transition);
+            context.completeNow();
+        }));
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void givenExecuteQueryReturning(List<Future<T>> results) {
         BDDMockito.BDDMyOngoingStubbing<Future<Object>> given =
@@ -15,6 +15,7 @@ import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -241,6 +242,37 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(gaugeValueProvider.getAsBoolean()).isFalse();
     }
 
+    @Test
+    public void requestShouldUseSameCircuitBreakerForUrlsWithSameSchemeAndAuthority() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://url/path");
+        doRequest("http://url?query=value");
+        doRequest("http://url:8080/path");
+
+        // then
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_url"), any());
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_url_8080"), any());
+    }
+
+    @Test
+    public void requestShouldUpdateCircuitBreakerTransitionMetrics() {
+        // given
+        givenHttpClientReturning(new RuntimeException("exception"), HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest(); // 1 call
+        doWaitForClosingInterval();
+        doRequest(); // 2 call
+
+        // then
+        verify(metrics).updateHttpClientCircuitBreakerTransitionMetric(MetricName.open_transition);
+        verify(metrics).updateHttpClientCircuitBreakerTransitionMetric(MetricName.half_open_transition);
+        verify(metrics).updateHttpClientCircuitBreakerTransitionMetric(MetricName.close_transition);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void givenHttpClientReturning(T... results) {
         BDDMockito.BDDMyOngoingStubbing<Future<HttpClientResponse>> stubbing =
@@ -256,8 +288,12 @@ public class CircuitBreakerSecuredHttpClientTest {
     }
 
     private Future<HttpClientResponse> doRequest() {
+        return doRequest("http://url");
+    }
+
+    private Future<HttpClientResponse> doRequest(String url) {
         final Future<HttpClientResponse> future = httpClient
-                .request(HttpMethod.GET, "http://url", null, (String) null, 0L);
+                .request(HttpMethod.GET, url, null, (String) null, 0L);
 
         final Promise<?> promise = Promise.promise();
         future.onComplete(ar -> promise.complete());